@@ -0,0 +1,66 @@
+#!/usr/bin/env bash
+# Throughput and allocation per request for the suggestion read path.
+#
+# Run once per read path against a freshly started instance, e.g.
+#   SUGGESTIONS_SQL_CLIENT_ENABLED=false java -jar build/quarkus-app/quarkus-run.jar  -> bench/read-path-bench.sh panache
+#   SUGGESTIONS_SQL_CLIENT_ENABLED=true  java -jar build/quarkus-app/quarkus-run.jar  -> bench/read-path-bench.sh sql-client
+#
+# Every request carries a distinct three-letter query, so none is answered by the
+# stock-suggestions cache and each one reaches the database. Allocation comes from
+# jvm_gc_memory_allocated_bytes_total on /q/metrics, sampled before and after.
+#
+# Usage: bench/read-path-bench.sh <label> [base-url] [clients]
+# Requires h2load (nghttp2) and curl.
+set -euo pipefail
+
+LABEL=${1:?label required (e.g. panache or sql-client)}
+BASE_URL=${2:-http://localhost:8090}
+CLIENTS=${3:-50}
+WARMUP=${WARMUP:-2000}
+
+command -v h2load >/dev/null || { echo "h2load not found (install nghttp2-client)" >&2; exit 1; }
+
+uris=$(mktemp)
+for a in {a..z}; do for b in {a..z}; do for c in {a..z}; do
+  echo "$BASE_URL/v1/suggestions?q=$a$b$c&limit=10"
+done; done; done > "$uris"
+
+allocated() {
+  curl -s "$BASE_URL/q/metrics" \
+    | awk '/^jvm_gc_memory_allocated_bytes_total/ { sum += $2 } END { printf "%.0f", sum }'
+}
+
+# h2load -i replays the whole URI list on every client, so each client gets its
+# own slice instead: CLIENTS single-connection h2load processes in parallel.
+run() {
+  local file=$1 lines per dir
+  lines=$(wc -l < "$file")
+  per=$(( (lines + CLIENTS - 1) / CLIENTS ))
+  dir=$(mktemp -d)
+  split -l "$per" "$file" "$dir/slice."
+  for slice in "$dir"/slice.*; do
+    h2load -n "$(wc -l < "$slice")" -c 1 -i "$slice" > "$slice.out" &
+  done
+  wait
+  rm -rf "$dir"
+}
+
+warm=$(mktemp)
+rest=$(mktemp)
+trap 'rm -f "$uris" "$warm" "$rest"' EXIT
+head -n "$WARMUP" "$uris" > "$warm"
+tail -n +"$((WARMUP + 1))" "$uris" > "$rest"
+measured=$(wc -l < "$rest")
+
+# Warm up on the first queries, then measure on the rest (never seen, so never cached)
+run "$warm"
+
+before=$(allocated)
+start=$(date +%s.%N)
+run "$rest"
+end=$(date +%s.%N)
+after=$(allocated)
+
+awk -v label="$LABEL" -v n="$measured" -v s="$start" -v e="$end" -v b="$before" -v a="$after" 'BEGIN {
+  printf "%-10s requests=%d  %.0f req/s  alloc/request=%.0f bytes\n", label, n, n / (e - s), (a - b) / n
+}'
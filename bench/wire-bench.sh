@@ -0,0 +1,45 @@
+#!/usr/bin/env bash
+# Bytes on the wire and p99 latency for the suggestions and exchanges endpoints.
+#
+#   before: HTTP/1.1, no Accept-Encoding (what clients saw without compression / HTTP/2)
+#   after:  h2c with Accept-Encoding: gzip
+#
+# Usage: bench/wire-bench.sh [base-url] [requests] [clients]
+# Requires h2load (nghttp2). Run against a warmed-up instance.
+set -euo pipefail
+
+BASE_URL=${1:-http://localhost:8082}
+REQUESTS=${2:-20000}
+CLIENTS=${3:-50}
+STREAMS=${STREAMS:-10}
+
+ENDPOINTS=(
+  "/v1/suggestions?q=app&limit=10"
+  "/v1/suggestions?q=a&limit=50"
+  "/v1/exchanges"
+  "/v1/exchanges?region=EUROPE"
+)
+
+command -v h2load >/dev/null || { echo "h2load not found (install nghttp2-client)" >&2; exit 1; }
+
+# p99 in ms from an h2load --log-file (columns: start, status, latency in us)
+p99() {
+  sort -n -k3 "$1" | awk '{ l[NR] = $3 } END { i = int(NR * 0.99); if (i < 1) i = 1; printf "%.2f", l[i] / 1000 }'
+}
+
+run() {
+  local label=$1 path=$2; shift 2
+  local log
+  log=$(mktemp)
+  local out
+  out=$(h2load -n "$REQUESTS" -c "$CLIENTS" --log-file="$log" "$@" "$BASE_URL$path")
+  local traffic
+  traffic=$(grep '^traffic:' <<<"$out" | sed 's/^traffic: *//')
+  printf '%-8s %-36s p99=%8sms  %s\n' "$label" "$path" "$(p99 "$log")" "$traffic"
+  rm -f "$log"
+}
+
+for path in "${ENDPOINTS[@]}"; do
+  run before "$path" --h1
+  run after "$path" -m "$STREAMS" -H 'accept-encoding: gzip'
+done
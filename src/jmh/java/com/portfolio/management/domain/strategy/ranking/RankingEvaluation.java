@@ -0,0 +1,208 @@
+package com.portfolio.management.domain.strategy.ranking;
+
+import com.portfolio.management.domain.model.Stock;
+import com.portfolio.management.domain.strategy.priority.AliasMatchStrategy;
+import com.portfolio.management.domain.strategy.priority.ExactIsinMatchStrategy;
+import com.portfolio.management.domain.strategy.priority.ExactNameMatchStrategy;
+import com.portfolio.management.domain.strategy.priority.ExactSymbolMatchStrategy;
+import com.portfolio.management.domain.strategy.priority.FuzzyMatchStrategy;
+import com.portfolio.management.domain.strategy.priority.NameContainsStrategy;
+import com.portfolio.management.domain.strategy.priority.NameStartsWithStrategy;
+import com.portfolio.management.domain.strategy.priority.NameTokenPrefixStrategy;
+import com.portfolio.management.domain.strategy.priority.PriorityStrategy;
+import com.portfolio.management.domain.strategy.priority.SymbolContainsStrategy;
+import com.portfolio.management.domain.strategy.priority.SymbolStartsWithStrategy;
+import com.portfolio.management.infrastructure.adapters.outgoing.repository.snapshot.StockSnapshot;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Offline ranking evaluation: replays a labeled query set through the tiered
+ * and the composite ranker, over the same stock index candidates the service
+ * would rank, and prints mean NDCG@10 and ranking latency for each.
+ * <p>
+ * Stocks are tab-separated symbol, name, exchange, ISIN and popularity score,
+ * e.g. an export of the stocks table:
+ * {@code \copy (SELECT symbol, name, exchange, isin, popularity_score FROM stocks WHERE is_active) TO 'stocks.tsv'}.
+ * Judgments are tab-separated query, symbol and grade (3 = the intended
+ * result, 2 = relevant, 1 = marginal); unjudged results count as 0, and a
+ * symbol listed twice gains only once. Lines starting with # are skipped.
+ * <p>
+ * {@code ./gradlew rankingEval} runs on the small set under
+ * src/jmh/resources/ranking; {@code -PrankingEvalArgs="stocks.tsv judgments.tsv 1.0,0.2,0.2,1.0,50"}
+ * runs on other data and composite weights (tier, position, length,
+ * popularity, popularity half score). Latency is per rank call, candidates
+ * excluded, after a warm-up; alias matches are not evaluated, since the
+ * alias dictionary lives in the database.
+ */
+public final class RankingEvaluation {
+
+    private static final int K = 10;
+    private static final int FETCH_MULTIPLIER = 2;
+    private static final int WARMUP_ROUNDS = 2_000;
+    private static final int MEASURED_ROUNDS = 2_000;
+
+    private RankingEvaluation() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        List<Stock> stocks = readStocks(args.length > 0 ? Files.newBufferedReader(Path.of(args[0])) : resource("stocks.tsv"));
+        Map<String, Map<String, Integer>> judgments =
+                readJudgments(args.length > 1 ? Files.newBufferedReader(Path.of(args[1])) : resource("labeled-queries.tsv"));
+        RelevanceWeights weights = args.length > 2 ? parseWeights(args[2]) : RelevanceWeights.DEFAULTS;
+
+        List<PriorityStrategy> strategies = List.of(new ExactIsinMatchStrategy(), new ExactSymbolMatchStrategy(),
+                new AliasMatchStrategy(query -> Set.of()), new ExactNameMatchStrategy(), new SymbolStartsWithStrategy(),
+                new NameStartsWithStrategy(), new NameTokenPrefixStrategy(), new SymbolContainsStrategy(),
+                new NameContainsStrategy(), new FuzzyMatchStrategy());
+        Comparator<Stock> byPopularity = Comparator.comparingDouble(RankingEvaluation::popularity).reversed()
+                .thenComparing(Stock::symbol);
+        Map<String, SuggestionRanker> rankers = new LinkedHashMap<>();
+        rankers.put("tiered", new TieredRanker(strategies, byPopularity));
+        rankers.put("composite", new CompositeRanker(strategies, RankingEvaluation::popularity, weights));
+
+        StockSnapshot snapshot = StockSnapshot.of(stocks);
+        Map<String, List<Stock>> candidates = new LinkedHashMap<>();
+        judgments.keySet().forEach(query -> candidates.put(query, snapshot.candidates(query, Set.of(), K * FETCH_MULTIPLIER)));
+
+        System.out.printf(Locale.ROOT, "%d stocks, %d judged queries, composite weights %s%n%n",
+                stocks.size(), judgments.size(), weights);
+        System.out.printf(Locale.ROOT, "%-10s %8s %9s %9s %9s%n", "mode", "NDCG@10", "p50 us", "p99 us", "mean us");
+        for (Map.Entry<String, SuggestionRanker> entry : rankers.entrySet()) {
+            SuggestionRanker ranker = entry.getValue();
+            double ndcg = 0;
+            for (Map.Entry<String, List<Stock>> query : candidates.entrySet()) {
+                ndcg += ndcg(ranker.rank(query.getValue(), query.getKey(), K), judgments.get(query.getKey()));
+            }
+            long[] nanos = latencies(ranker, candidates);
+            System.out.printf(Locale.ROOT, "%-10s %8.4f %9.2f %9.2f %9.2f%n", entry.getKey(), ndcg / candidates.size(),
+                    percentile(nanos, 0.50) / 1_000.0, percentile(nanos, 0.99) / 1_000.0,
+                    Arrays.stream(nanos).average().orElse(0) / 1_000.0);
+        }
+
+        System.out.printf("%nTop %d per query (tiered | composite):%n", 3);
+        for (Map.Entry<String, List<Stock>> query : candidates.entrySet()) {
+            System.out.printf(Locale.ROOT, "%-12s %-28s | %s%n", query.getKey(),
+                    symbols(rankers.get("tiered").rank(query.getValue(), query.getKey(), 3)),
+                    symbols(rankers.get("composite").rank(query.getValue(), query.getKey(), 3)));
+        }
+    }
+
+    /**
+     * DCG of the ranking over the DCG of the judged results in grade order,
+     * with gain 2^grade - 1 discounted by log2(position + 1)
+     */
+    static double ndcg(List<Stock> ranked, Map<String, Integer> grades) {
+        double dcg = 0;
+        Set<String> seen = new HashSet<>();
+        for (int i = 0; i < ranked.size(); i++) {
+            String symbol = ranked.get(i).symbol();
+            if (seen.add(symbol)) {
+                dcg += gain(grades.getOrDefault(symbol, 0), i);
+            }
+        }
+        List<Integer> ideal = grades.values().stream().sorted(Comparator.reverseOrder()).limit(K).toList();
+        double idcg = 0;
+        for (int i = 0; i < ideal.size(); i++) {
+            idcg += gain(ideal.get(i), i);
+        }
+        return idcg == 0 ? 0 : dcg / idcg;
+    }
+
+    private static double gain(int grade, int index) {
+        return (Math.pow(2, grade) - 1) / (Math.log(index + 2) / Math.log(2));
+    }
+
+    private static long[] latencies(SuggestionRanker ranker, Map<String, List<Stock>> candidates) {
+        int sink = 0;
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            for (Map.Entry<String, List<Stock>> query : candidates.entrySet()) {
+                sink += ranker.rank(query.getValue(), query.getKey(), K).size();
+            }
+        }
+        long[] nanos = new long[MEASURED_ROUNDS * candidates.size()];
+        int n = 0;
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            for (Map.Entry<String, List<Stock>> query : candidates.entrySet()) {
+                long start = System.nanoTime();
+                sink += ranker.rank(query.getValue(), query.getKey(), K).size();
+                nanos[n++] = System.nanoTime() - start;
+            }
+        }
+        if (sink == 42) {
+            System.out.print("");
+        }
+        Arrays.sort(nanos);
+        return nanos;
+    }
+
+    private static long percentile(long[] sorted, double fraction) {
+        return sorted.length == 0 ? 0 : sorted[Math.min(sorted.length - 1, (int) (fraction * sorted.length))];
+    }
+
+    private static String symbols(List<Stock> stocks) {
+        return String.join(" ", stocks.stream().map(Stock::symbol).toList());
+    }
+
+    private static double popularity(Stock stock) {
+        return stock.popularityScore() == null ? 0.0 : stock.popularityScore();
+    }
+
+    private static List<Stock> readStocks(BufferedReader reader) throws IOException {
+        List<Stock> stocks = new ArrayList<>();
+        try (reader) {
+            for (String[] row : rows(reader)) {
+                stocks.add(new Stock((long) stocks.size() + 1, row[0], row[1], null, row[2], null, null, null, null,
+                        null, row[3], null, 1L, Double.parseDouble(row[4])));
+            }
+        }
+        return stocks;
+    }
+
+    private static Map<String, Map<String, Integer>> readJudgments(BufferedReader reader) throws IOException {
+        Map<String, Map<String, Integer>> judgments = new LinkedHashMap<>();
+        try (reader) {
+            for (String[] row : rows(reader)) {
+                judgments.computeIfAbsent(row[0], ignored -> new LinkedHashMap<>()).put(row[1], Integer.parseInt(row[2]));
+            }
+        }
+        return judgments;
+    }
+
+    private static List<String[]> rows(BufferedReader reader) throws IOException {
+        List<String[]> rows = new ArrayList<>();
+        for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+            if (!line.isBlank() && !line.startsWith("#")) {
+                rows.add(line.split("\t"));
+            }
+        }
+        return rows;
+    }
+
+    private static RelevanceWeights parseWeights(String csv) {
+        double[] values = Arrays.stream(csv.split(",")).mapToDouble(Double::parseDouble).toArray();
+        return new RelevanceWeights(values[0], values[1], values[2], values[3], values[4]);
+    }
+
+    private static BufferedReader resource(String name) {
+        var stream = RankingEvaluation.class.getResourceAsStream("/ranking/" + name);
+        if (stream == null) {
+            throw new IllegalStateException("Missing resource /ranking/" + name);
+        }
+        return new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8));
+    }
+}
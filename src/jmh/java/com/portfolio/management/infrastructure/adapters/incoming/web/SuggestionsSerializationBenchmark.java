@@ -0,0 +1,74 @@
+package com.portfolio.management.infrastructure.adapters.incoming.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.management.domain.model.Stock;
+import com.portfolio.management.infrastructure.adapters.incoming.web.dto.SuggestionsPayload;
+import com.portfolio.management.infrastructure.adapters.incoming.web.dto.SuggestionsResponse;
+import com.portfolio.management.infrastructure.adapters.incoming.web.mapper.StockMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One suggestions response, DTO path versus streaming writer. Run with the gc
+ * profiler (the default in build.gradle): gc.alloc.rate.norm is bytes
+ * allocated per response.
+ * <p>
+ * Output goes to a discarding stream so only serialization is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SuggestionsSerializationBenchmark {
+
+    @Param({"10", "50"})
+    int results;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final StockMapper stockMapper = Mappers.getMapper(StockMapper.class);
+    private final SuggestionsPayloadWriter writer = new SuggestionsPayloadWriter(new WireFormatMappers(objectMapper));
+    // ObjectMapper closes its target, which would make nullOutputStream() throw on the next call
+    private final OutputStream sink = new OutputStream() {
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+    };
+
+    private List<Stock> stocks;
+
+    @Setup
+    public void setUp() {
+        stocks = new ArrayList<>(results);
+        for (int i = 0; i < results; i++) {
+            stocks.add(Stock.of((long) i, "SYM" + i, "Company " + i + " Holdings Inc.", "USD", "NASDAQ", "XNAS",
+                    "United States", "Common Stock", "BBG00000000" + i, "ESXXXX", "US000000000" + i, "00000000" + i, 1L));
+        }
+    }
+
+    @Benchmark
+    public void dtoAndJackson() throws IOException {
+        var response = new SuggestionsResponse(stockMapper.toTickerSuggestionDtoList(stocks), "comp", stocks.size());
+        objectMapper.writeValue(sink, response);
+    }
+
+    @Benchmark
+    public void streamingWriter() throws IOException {
+        writer.write(new SuggestionsPayload(stocks, "comp", stocks.size()), WireFormat.JSON, sink);
+    }
+}
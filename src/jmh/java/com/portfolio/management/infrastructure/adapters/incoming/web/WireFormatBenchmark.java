@@ -0,0 +1,69 @@
+package com.portfolio.management.infrastructure.adapters.incoming.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.management.domain.model.Stock;
+import com.portfolio.management.infrastructure.adapters.incoming.web.dto.SuggestionsPayload;
+import com.portfolio.management.infrastructure.adapters.incoming.web.dto.SuggestionsResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encode (server side, through the streaming writer) and decode (caller side,
+ * into the documented DTO) of one suggestions response per wire format. The
+ * encoded size of each format is printed once per trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class WireFormatBenchmark {
+
+    @Param({"JSON", "CBOR", "SMILE"})
+    WireFormat format;
+
+    @Param({"10", "50"})
+    int results;
+
+    private final WireFormatMappers mappers = new WireFormatMappers(new ObjectMapper());
+    private final SuggestionsPayloadWriter writer = new SuggestionsPayloadWriter(mappers);
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream(16 * 1024);
+
+    private SuggestionsPayload payload;
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        List<Stock> stocks = new ArrayList<>(results);
+        for (int i = 0; i < results; i++) {
+            stocks.add(Stock.of((long) i, "SYM" + i, "Company " + i + " Holdings Inc.", "USD", "NASDAQ", "XNAS",
+                    "United States", "Common Stock", "BBG00000000" + i, "ESXXXX", "US000000000" + i, "00000000" + i, 1L));
+        }
+        payload = new SuggestionsPayload(stocks, "comp", stocks.size());
+        encoded = encode();
+        System.out.printf("%n%s, %d results: %d bytes%n", format, results, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        out.reset();
+        writer.write(payload, format, out);
+        return out.toByteArray();
+    }
+
+    @Benchmark
+    public SuggestionsResponse decode() throws IOException {
+        return mappers.mapper(format).readValue(encoded, SuggestionsResponse.class);
+    }
+}
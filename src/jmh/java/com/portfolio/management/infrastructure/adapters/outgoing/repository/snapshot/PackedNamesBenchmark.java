@@ -0,0 +1,82 @@
+package com.portfolio.management.infrastructure.adapters.outgoing.repository.snapshot;
+
+import com.portfolio.management.domain.model.Stock;
+import com.portfolio.management.domain.strategy.priority.NameContainsStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Name substring search over the whole universe: the packed SWAR scan, the
+ * per-name check on pre-lowered names the snapshot does without it, and
+ * {@link NameContainsStrategy}, which upper-cases every name per query.
+ * "zz" matches nothing, so every byte is scanned; "bank" matches one name
+ * in seven.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PackedNamesBenchmark {
+
+    private static final String[] WORDS = {"American", "Global", "Pacific", "Energy", "Capital", "Technologies",
+            "Resources", "Pharmaceuticals", "Industries", "Financial", "Nordic", "Société", "Holdings", "Group"};
+
+    @Param({"150000"})
+    int stocks;
+
+    @Param({"bank", "zz", "pharmaceuticals inc"})
+    String query;
+
+    private List<Stock> universe;
+    private String[] lowerNames;
+    private PackedNames packed;
+    private final NameContainsStrategy strategy = new NameContainsStrategy();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        var random = new Random(7);
+        universe = new ArrayList<>(stocks);
+        lowerNames = new String[stocks];
+        for (int i = 0; i < stocks; i++) {
+            String name = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)]
+                    + (i % 7 == 0 ? " Bank" : "") + (i % 3 == 0 ? " Inc." : " Corporation");
+            universe.add(new Stock((long) i, "S" + Integer.toString(i, 36).toUpperCase(Locale.ROOT), name, "USD",
+                    "EX" + i % 60, null, null, "Common Stock", null, null, null, null, 1L, random.nextDouble() * 100));
+            lowerNames[i] = name.toLowerCase(Locale.ROOT);
+        }
+        packed = PackedNames.of(lowerNames);
+    }
+
+    @Benchmark
+    public StockBitmap packedScan() {
+        return packed.containing(query);
+    }
+
+    @Benchmark
+    public StockBitmap perNameContains() {
+        StockBitmap.Builder matches = StockBitmap.builder();
+        for (int ordinal = 0; ordinal < lowerNames.length; ordinal++) {
+            if (lowerNames[ordinal].contains(query)) {
+                matches.add(ordinal);
+            }
+        }
+        return matches.build();
+    }
+
+    @Benchmark
+    public List<Stock> nameContainsStrategy() {
+        return strategy.matches(universe, query);
+    }
+}
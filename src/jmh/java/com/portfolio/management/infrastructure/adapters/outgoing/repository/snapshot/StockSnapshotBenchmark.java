@@ -0,0 +1,83 @@
+package com.portfolio.management.infrastructure.adapters.outgoing.repository.snapshot;
+
+import com.portfolio.management.domain.model.Stock;
+import com.portfolio.management.domain.model.StockFacets;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Multi-facet advanced search and facet counts on the bitmap index, next to
+ * the same filter as a linear scan over every stock (what a sequential scan
+ * with LIKE predicates does, minus the round trip).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StockSnapshotBenchmark {
+
+    private static final String[] TYPES = {"Common Stock", "ETF", "Preferred Stock", "REIT", "Warrant", "Unit",
+            "Depositary Receipt", "Closed-end Fund", "Mutual Fund", "Bond"};
+
+    @Param({"100000"})
+    int stocks;
+
+    private List<Stock> universe;
+    private StockSnapshot snapshot;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        var random = new Random(7);
+        universe = new ArrayList<>(stocks);
+        for (int i = 0; i < stocks; i++) {
+            // Skewed like real listings: a few venues and currencies hold most stocks
+            int exchange = (int) Math.min(59, Math.abs(random.nextGaussian()) * 12);
+            int currency = Math.min(exchange / 2, 29);
+            universe.add(new Stock((long) i, "S" + Integer.toString(i, 36).toUpperCase(Locale.ROOT),
+                    "Company " + i + (i % 7 == 0 ? " Bank" : " Holdings"), "CUR" + currency, "EX" + exchange, null,
+                    "Country" + (exchange % 40), TYPES[random.nextInt(TYPES.length)], null, null, null, null, 1L,
+                    random.nextDouble() * 100));
+        }
+        snapshot = StockSnapshot.of(universe);
+    }
+
+    @Benchmark
+    public List<Stock> facetSearch() {
+        return snapshot.search(null, null, "EX7", "Country7", "CUR3", null, 100);
+    }
+
+    @Benchmark
+    public List<Stock> facetAndTextSearch() {
+        return snapshot.search(null, "bank", "EX1", null, null, null, 100);
+    }
+
+    @Benchmark
+    public StockFacets facetCounts() {
+        return snapshot.facets(null, null, null, null, "CUR1", null);
+    }
+
+    @Benchmark
+    public List<Stock> linearScan() {
+        List<Stock> matches = new ArrayList<>();
+        for (Stock stock : universe) {
+            if (stock.exchange().toLowerCase(Locale.ROOT).contains("ex7")
+                    && stock.country().toLowerCase(Locale.ROOT).contains("country7")
+                    && stock.currency().toLowerCase(Locale.ROOT).contains("cur3")) {
+                matches.add(stock);
+            }
+        }
+        return matches;
+    }
+}
@@ -0,0 +1,75 @@
+package com.portfolio.management.application.service;
+
+import com.portfolio.management.domain.model.Errors;
+import com.portfolio.management.domain.model.Stock;
+import com.portfolio.management.domain.model.SuggestionField;
+import com.portfolio.management.domain.port.incoming.BrowseAdvancedSearchUseCase;
+import com.portfolio.management.domain.port.outgoing.StockPort;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.jboss.logging.Logger;
+
+/**
+ * Application service implementing the BrowseAdvancedSearchUseCase. Results
+ * come back in the repository's browse order untouched: re-ranking a page
+ * would break the keyset position the next page continues from.
+ */
+@ApplicationScoped
+public class AdvancedSearchBrowseService implements BrowseAdvancedSearchUseCase {
+
+    private static final Logger LOG = Logger.getLogger(AdvancedSearchBrowseService.class);
+
+    private final StockPort stockPort;
+
+    public AdvancedSearchBrowseService(StockPort stockPort) {
+        this.stockPort = stockPort;
+    }
+
+    @Override
+    public Uni<Result> execute(Query query) {
+        var search = query.search();
+        if (!search.hasSearchCriteria()) {
+            return Uni.createFrom().item(new Result.ValidationError(
+                    Errors.of("search_criteria", "At least one search parameter must be provided", "NO_SEARCH_CRITERIA")));
+        }
+
+        String searchDescription = search.getSearchDescription();
+        // The next cursor is built from id, symbol and popularity, so those are always loaded
+        return stockPort.findPageByAdvancedSearch(
+                        search.symbol(),
+                        search.companyName(),
+                        search.exchange(),
+                        search.country(),
+                        search.currency(),
+                        search.isin(),
+                        query.after(),
+                        search.limit(),
+                        SuggestionField.withRanking(search.fields()))
+                .<Result>map(page -> new Result.Success(page.stocks(), searchDescription, page.next(), page.stocks().size()))
+                .onFailure().recoverWithItem(throwable -> {
+                    LOG.errorf(throwable, "Repository error browsing %s after %s", searchDescription, query.after());
+                    return new Result.SystemError(
+                            Errors.of("repository", "Failed to retrieve advanced search page", "REPOSITORY_ERROR"));
+                });
+    }
+
+    @Override
+    public Multi<Stock> stream(Query query) {
+        var search = query.search();
+        if (!search.hasSearchCriteria()) {
+            return Multi.createFrom().failure(
+                    new IllegalArgumentException("At least one search parameter must be provided"));
+        }
+        LOG.infof("Streaming %s after %s", search.getSearchDescription(), query.after());
+        return stockPort.streamByAdvancedSearch(
+                search.symbol(),
+                search.companyName(),
+                search.exchange(),
+                search.country(),
+                search.currency(),
+                search.isin(),
+                query.after(),
+                search.fields());
+    }
+}
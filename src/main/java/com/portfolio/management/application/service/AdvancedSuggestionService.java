@@ -2,7 +2,9 @@ package com.portfolio.management.application.service;
 
 import com.portfolio.management.domain.model.Errors;
 import com.portfolio.management.domain.model.Stock;
+import com.portfolio.management.domain.model.SuggestionField;
 import com.portfolio.management.domain.port.incoming.GetSuggestionsAdvancedUseCase;
+import com.portfolio.management.domain.port.outgoing.PopularityOverlayPort;
 import com.portfolio.management.domain.port.outgoing.StockPort;
 import com.portfolio.management.domain.strategy.priority.PriorityStrategy;
 import com.portfolio.management.domain.strategy.priority.util.QueryFieldExtractor;
@@ -27,9 +29,16 @@ public class AdvancedSuggestionService implements GetSuggestionsAdvancedUseCase
 
     private final StockPort stockPort;
     private final List<PriorityStrategy> priorityStrategies;
+    private final PopularityOverlayPort popularityOverlayPort;
+    private final Comparator<Stock> popularityRanking;
 
-    public AdvancedSuggestionService(StockPort stockPort, Instance<PriorityStrategy> strategyInstances) {
+    public AdvancedSuggestionService(StockPort stockPort,
+                                     Instance<PriorityStrategy> strategyInstances,
+                                     PopularityOverlayPort popularityOverlayPort) {
         this.stockPort = stockPort;
+        this.popularityOverlayPort = popularityOverlayPort;
+        this.popularityRanking = Comparator.comparingDouble(this::rankingScore).reversed()
+                .thenComparing(Stock::symbol);
         this.priorityStrategies = strategyInstances.stream()
                 .sorted(Comparator.comparingInt(PriorityStrategy::priority))
                 .toList();
@@ -78,7 +87,8 @@ public class AdvancedSuggestionService implements GetSuggestionsAdvancedUseCase
                         query.country(),
                         query.currency(),
                         query.isin(),
-                        limit * FETCH_MULTIPLIER)
+                        limit * FETCH_MULTIPLIER,
+                        SuggestionField.withRanking(query.fields()))
                 .onItem().transform(candidates -> {
                     LOG.infof("Found %d candidate stocks for advanced search: %s", candidates.size(), searchDescription);
                     return applyPriorityStrategies(candidates, query, searchDescription, limit);
@@ -110,8 +120,7 @@ public class AdvancedSuggestionService implements GetSuggestionsAdvancedUseCase
             int remainingCapacity = totalLimit - prioritizedResults.size();
 
             matches.stream()
-                    .sorted(Comparator.comparing(Stock::popularityScore, Comparator.nullsLast(Comparator.reverseOrder()))
-                            .thenComparing(Stock::symbol))
+                    .sorted(popularityRanking)
                     .limit(remainingCapacity)
                     .forEach(prioritizedResults::add);
 
@@ -129,4 +138,12 @@ public class AdvancedSuggestionService implements GetSuggestionsAdvancedUseCase
         return new Result.Success(finalResults, searchDescription, finalResults.size());
     }
 
-}
\ No newline at end of file
+    /**
+     * Live overlay score when a recent transaction moved it, otherwise the score
+     * the candidate was loaded (and possibly cached) with; unscored stocks rank last.
+     */
+    private double rankingScore(Stock stock) {
+        double stored = stock.popularityScore() == null ? Double.NEGATIVE_INFINITY : stock.popularityScore();
+        return popularityOverlayPort.scoreOr(stock.symbol(), stock.exchange(), stored);
+    }
+}
@@ -54,11 +54,7 @@ public class ExchangeService implements GetExchangesUseCase, GetExchangeUseCase
         Uni<java.util.List<com.portfolio.management.domain.model.Exchange>> exchangesUni;
 
         if (query.isRegionQuery()) {
-            exchangesUni = switch (query.regionFilter()) {
-                case US -> repository.findUSExchanges();
-                case EUROPE -> repository.findEuropeanExchanges();
-                case ASIA -> repository.findAsianExchanges();
-            };
+            exchangesUni = repository.findByRegion(query.regionFilter());
         } else if (query.isCountryQuery()) {
             exchangesUni = repository.findByCountry(query.country());
         } else if (query.isCurrencyQuery()) {
@@ -79,6 +79,9 @@ public class FetchAndStoreStockDataService implements FetchAndStoreStockDataUseC
                 .invoke(stocksCleared -> Log.infof("%d stocks cleared", stocksCleared))
                 .flatMap(ignored -> storeStocksInBatches(fetchedStocks))
                 .flatMap(ignored -> popularityPort.recomputeStockScores())
+                .invoke(report -> Log.infof("Popularity recompute after reload: %d rows scanned, %d updated, " +
+                                "%d already current (~%d bytes of row/index churn avoided)",
+                        report.rowsScanned(), report.rowsUpdated(), report.rowsSkipped(), report.estimatedBytesAvoided()))
                 .flatMap(ignored -> stockPort.analyzeTable())
                 .replaceWith(() -> new Result.Success(true, fetchedStocks.size(), "Successfully fetched and stored stocks"));
     }
@@ -0,0 +1,48 @@
+package com.portfolio.management.application.service;
+
+import com.portfolio.management.domain.strategy.ranking.RankingMode;
+import com.portfolio.management.domain.strategy.ranking.RelevanceWeights;
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+@ConfigMapping(prefix = "app.suggestions.ranking")
+public interface RankingConfig {
+
+    /**
+     * tiered keeps strict strategy tiers; composite ranks on one weighted
+     * score. Identifier lookups are ordered by popularity either way.
+     */
+    @WithDefault("tiered")
+    RankingMode mode();
+
+    /**
+     * Composite score weights; ignored in tiered mode. Defaults match
+     * {@link RelevanceWeights#DEFAULTS}.
+     */
+    Weights weights();
+
+    interface Weights {
+
+        @WithDefault("1.0")
+        double tier();
+
+        @WithDefault("0.2")
+        double position();
+
+        @WithDefault("0.2")
+        double length();
+
+        @WithDefault("1.0")
+        double popularity();
+
+        /**
+         * Popularity score earning half the popularity weight
+         */
+        @WithDefault("50")
+        double popularityHalfScore();
+
+        default RelevanceWeights toRelevanceWeights() {
+            return new RelevanceWeights(tier(), position(), length(), popularity(), popularityHalfScore());
+        }
+    }
+}
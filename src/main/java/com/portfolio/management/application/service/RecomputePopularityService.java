@@ -0,0 +1,35 @@
+package com.portfolio.management.application.service;
+
+import com.portfolio.management.domain.port.incoming.RecomputePopularityUseCase;
+import com.portfolio.management.domain.port.outgoing.PopularityPort;
+import io.quarkus.logging.Log;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+
+@ApplicationScoped
+public class RecomputePopularityService implements RecomputePopularityUseCase {
+
+    private final PopularityPort popularityPort;
+
+    public RecomputePopularityService(PopularityPort popularityPort) {
+        this.popularityPort = popularityPort;
+    }
+
+    @Override
+    public Uni<Result> execute() {
+        return popularityPort.recomputeDirtyStockScores()
+                .onItem().invoke(report -> {
+                    if (report.rowsScanned() > 0) {
+                        Log.infof("Dirty popularity recompute: %d rows scanned, %d updated, %d skipped " +
+                                        "(~%d bytes of row/index churn avoided) in %d chunks",
+                                report.rowsScanned(), report.rowsUpdated(), report.rowsSkipped(),
+                                report.estimatedBytesAvoided(), report.chunks());
+                    }
+                })
+                .onItem().transform(report -> (Result) new Result.Success(report))
+                .onFailure().recoverWithItem(throwable -> {
+                    Log.errorf(throwable, "Failed to recompute dirty popularity scores");
+                    return new Result.Error("Failed to recompute popularity scores: " + throwable.getMessage());
+                });
+    }
+}
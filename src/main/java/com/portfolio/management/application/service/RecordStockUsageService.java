@@ -1,6 +1,8 @@
 package com.portfolio.management.application.service;
 
 import com.portfolio.management.domain.port.incoming.RecordStockUsageUseCase;
+import com.portfolio.management.domain.port.outgoing.PopularityBroadcastPort;
+import com.portfolio.management.domain.port.outgoing.PopularityOverlayPort;
 import com.portfolio.management.domain.port.outgoing.PopularityPort;
 import io.quarkus.logging.Log;
 import io.smallrye.mutiny.Uni;
@@ -10,9 +12,15 @@ import jakarta.enterprise.context.ApplicationScoped;
 public class RecordStockUsageService implements RecordStockUsageUseCase {
 
     private final PopularityPort popularityPort;
+    private final PopularityOverlayPort popularityOverlayPort;
+    private final PopularityBroadcastPort popularityBroadcastPort;
 
-    public RecordStockUsageService(PopularityPort popularityPort) {
+    public RecordStockUsageService(PopularityPort popularityPort,
+                                   PopularityOverlayPort popularityOverlayPort,
+                                   PopularityBroadcastPort popularityBroadcastPort) {
         this.popularityPort = popularityPort;
+        this.popularityOverlayPort = popularityOverlayPort;
+        this.popularityBroadcastPort = popularityBroadcastPort;
     }
 
     @Override
@@ -23,7 +31,13 @@ public class RecordStockUsageService implements RecordStockUsageUseCase {
 
         String symbol = command.ticker().trim().toUpperCase();
 
+        // Published only once the rows hold the new score, so search ranks on it right away
+        // without evicting cached candidate lists: here at once, on the other replicas by broadcast.
         return popularityPort.incrementUsage(symbol, command.exchange(), command.currency())
+                .onItem().invoke(scores -> {
+                    popularityOverlayPort.update(scores);
+                    popularityBroadcastPort.publish(scores);
+                })
                 .onItem().transform(ignored -> (Result) new Result.Success())
                 .onFailure().recoverWithItem(throwable -> {
                     Log.errorf(throwable, "Failed to record stock usage for ticker: %s", symbol);
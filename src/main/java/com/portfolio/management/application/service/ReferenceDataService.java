@@ -0,0 +1,51 @@
+package com.portfolio.management.application.service;
+
+import com.portfolio.management.domain.model.Errors;
+import com.portfolio.management.domain.model.ReferenceData;
+import com.portfolio.management.domain.port.incoming.GetReferenceDataUseCase;
+import com.portfolio.management.domain.port.outgoing.CurrencyRepository;
+import com.portfolio.management.domain.port.outgoing.ExchangeRepository;
+import com.portfolio.management.domain.port.outgoing.StockTypeRepository;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Named;
+import org.jboss.logging.Logger;
+
+/**
+ * Application service implementing the GetReferenceDataUseCase. The three
+ * lists are exactly what the unfiltered list endpoints return.
+ */
+@ApplicationScoped
+public class ReferenceDataService implements GetReferenceDataUseCase {
+
+    private static final Logger LOG = Logger.getLogger(ReferenceDataService.class);
+
+    private final ExchangeRepository exchangeRepository;
+    private final CurrencyRepository currencyRepository;
+    private final StockTypeRepository stockTypeRepository;
+
+    public ReferenceDataService(@Named("database-exchange-repository") ExchangeRepository exchangeRepository,
+                                @Named("database-currency-repository") CurrencyRepository currencyRepository,
+                                @Named("database-stocktype-repository") StockTypeRepository stockTypeRepository) {
+        this.exchangeRepository = exchangeRepository;
+        this.currencyRepository = currencyRepository;
+        this.stockTypeRepository = stockTypeRepository;
+    }
+
+    @Override
+    public Uni<Result> execute() {
+        // Sequential on purpose: on a cold start each list may load through the same
+        // reactive session, which does not allow concurrent queries
+        return exchangeRepository.findAll()
+                .chain(exchanges -> currencyRepository.findAll()
+                        .chain(currencies -> stockTypeRepository.findAll()
+                                .map(stockTypes -> (Result) new Result.Success(
+                                        new ReferenceData(exchanges, currencies, stockTypes)))))
+                .onFailure().recoverWithItem(throwable -> {
+                    LOG.errorf(throwable, "Error loading reference data");
+                    return new Result.SystemError(
+                            Errors.of("system", "An unexpected error occurred while retrieving reference data", "SYSTEM_ERROR")
+                    );
+                });
+    }
+}
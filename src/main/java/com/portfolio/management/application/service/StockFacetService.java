@@ -0,0 +1,36 @@
+package com.portfolio.management.application.service;
+
+import com.portfolio.management.domain.model.Errors;
+import com.portfolio.management.domain.port.incoming.GetStockFacetsUseCase;
+import com.portfolio.management.domain.port.outgoing.StockPort;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.jboss.logging.Logger;
+
+/**
+ * Application service implementing the GetStockFacetsUseCase
+ */
+@ApplicationScoped
+public class StockFacetService implements GetStockFacetsUseCase {
+
+    private static final Logger LOG = Logger.getLogger(StockFacetService.class);
+
+    private final StockPort stockPort;
+
+    public StockFacetService(StockPort stockPort) {
+        this.stockPort = stockPort;
+    }
+
+    @Override
+    public Uni<Result> execute(Query query) {
+        return stockPort.countFacets(query.symbol(), query.companyName(), query.exchange(), query.country(),
+                        query.currency(), query.isin())
+                .onItem().transform(facets -> (Result) new Result.Success(facets))
+                .onFailure().recoverWithItem(throwable -> {
+                    LOG.errorf(throwable, "Error counting stock facets for %s", query);
+                    return new Result.SystemError(
+                            Errors.of("repository", "Failed to count stock facets", "REPOSITORY_ERROR")
+                    );
+                });
+    }
+}
@@ -1,18 +1,30 @@
 package com.portfolio.management.application.service;
 
 import com.portfolio.management.domain.model.Errors;
+import com.portfolio.management.domain.model.SecurityIdentifier;
 import com.portfolio.management.domain.model.Stock;
+import com.portfolio.management.domain.model.SuggestionField;
 import com.portfolio.management.domain.port.incoming.GetSuggestionsUseCase;
+import com.portfolio.management.domain.port.outgoing.PopularityOverlayPort;
 import com.portfolio.management.domain.port.outgoing.StockPort;
 import com.portfolio.management.domain.strategy.priority.PriorityStrategy;
+import com.portfolio.management.domain.strategy.ranking.CompositeRanker;
+import com.portfolio.management.domain.strategy.ranking.RankingMode;
+import com.portfolio.management.domain.strategy.ranking.SuggestionRanker;
+import com.portfolio.management.domain.strategy.ranking.TieredRanker;
 import io.smallrye.mutiny.Uni;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.inject.Instance;
 import org.jboss.logging.Logger;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Application service implementing the GetSuggestionsUseCase
@@ -24,14 +36,35 @@ public class SuggestionService implements GetSuggestionsUseCase {
 
     private static final int FETCH_MULTIPLIER = 2;
 
-    private final StockPort stockPort;
-    private final List<PriorityStrategy> priorityStrategies;
+    /**
+     * Grouping by ISIN keeps one listing per instrument, so it ranks a larger
+     * candidate set to still fill the limit when most candidates are
+     * listings of a few instruments
+     */
+    private static final int GROUPED_FETCH_MULTIPLIER = 4;
 
-    public SuggestionService(StockPort stockPort, Instance<PriorityStrategy> strategyInstances) {
+    private final StockPort stockPort;
+    private final PopularityOverlayPort popularityOverlayPort;
+    private final Comparator<Stock> popularityRanking;
+    private final SuggestionRanker ranker;
+
+    /**
+     * Candidates are ranked in strict strategy tiers, or on one composite
+     * relevance score when app.suggestions.ranking.mode is composite
+     */
+    public SuggestionService(StockPort stockPort,
+                             Instance<PriorityStrategy> strategyInstances,
+                             PopularityOverlayPort popularityOverlayPort,
+                             RankingConfig rankingConfig) {
         this.stockPort = stockPort;
-        this.priorityStrategies = strategyInstances.stream()
-                .sorted(Comparator.comparingInt(PriorityStrategy::priority))
-                .toList();
+        this.popularityOverlayPort = popularityOverlayPort;
+        this.popularityRanking = Comparator.comparingDouble(this::rankingScore).reversed()
+                .thenComparing(Stock::symbol);
+        List<PriorityStrategy> strategies = strategyInstances.stream().toList();
+        this.ranker = rankingConfig.mode() == RankingMode.COMPOSITE
+                ? new CompositeRanker(strategies, this::rankingScore, rankingConfig.weights().toRelevanceWeights())
+                : new TieredRanker(strategies, popularityRanking);
+        LOG.infof("Ranking suggestions with %s over %d priority strategies", rankingConfig.mode(), strategies.size());
     }
 
     @Override
@@ -70,12 +103,24 @@ public class SuggestionService implements GetSuggestionsUseCase {
     private Uni<Result> searchSuggestions(Query query) {
         String queryInput = query.input().trim();
         int limit = query.limit();
-
-        return stockPort.findCandidateStocks(queryInput, limit * FETCH_MULTIPLIER)
-                .onItem().transform(candidates -> {
-                    LOG.infof("Found %d candidate stocks for query: %s", candidates.size(), queryInput);
-                    return applyPriorityStrategies(candidates, queryInput, limit);
-                })
+        Set<SuggestionField> fields = SuggestionField.withRanking(query.fields());
+        boolean grouped = query.groupByIsin();
+
+        // A pasted ISIN, CUSIP or FIGI names its listings exactly: look them up
+        // by key and skip the LIKE scan; text search only if none are listed
+        Uni<Result> search = SecurityIdentifier.parse(queryInput)
+                .map(identifier -> stockPort.findByIdentifier(identifier, fields)
+                        .flatMap(listings -> {
+                            if (listings.isEmpty()) {
+                                return searchCandidates(queryInput, limit, fields, grouped);
+                            }
+                            LOG.infof("Query %s is a %s listed %d times", queryInput, identifier.kind(), listings.size());
+                            List<Stock> ranked = listings.stream().sorted(popularityRanking).toList();
+                            return toResult(ranked, queryInput, limit, fields, grouped);
+                        }))
+                .orElseGet(() -> searchCandidates(queryInput, limit, fields, grouped));
+
+        return search
                 .onFailure().recoverWithItem(throwable -> {
                     LOG.errorf(throwable, "Repository error for query: %s", queryInput);
                     return new Result.SystemError(
@@ -84,32 +129,86 @@ public class SuggestionService implements GetSuggestionsUseCase {
                 });
     }
 
-    private Result applyPriorityStrategies(List<Stock> candidates, String query, int totalLimit) {
-        LinkedHashSet<Stock> prioritizedResults = new LinkedHashSet<>();
+    private Uni<Result> searchCandidates(String queryInput, int limit, Set<SuggestionField> fields, boolean grouped) {
+        int fetchLimit = limit * (grouped ? GROUPED_FETCH_MULTIPLIER : FETCH_MULTIPLIER);
+        return stockPort.findCandidateStocks(queryInput, fetchLimit, fields)
+                .flatMap(candidates -> {
+                    LOG.infof("Found %d candidate stocks for query: %s", candidates.size(), queryInput);
+                    // Grouping ranks every candidate: the listings it folds away leave room for other instruments
+                    List<Stock> ranked = applyPriorityStrategies(candidates, queryInput, grouped ? candidates.size() : limit);
+                    return toResult(ranked, queryInput, limit, fields, grouped);
+                });
+    }
 
-        for (PriorityStrategy strategy : priorityStrategies) {
-            if (prioritizedResults.size() >= totalLimit) break;
+    private List<Stock> applyPriorityStrategies(List<Stock> candidates, String query, int totalLimit) {
+        List<Stock> finalResults = ranker.rank(candidates, query, totalLimit);
+        LOG.infof("Ranked %d of %d candidates for query: %s", finalResults.size(), candidates.size(), query);
+        return finalResults;
+    }
 
-            List<Stock> matches = strategy.matches(candidates, query);
-            int remainingCapacity = totalLimit - prioritizedResults.size();
+    private Uni<Result> toResult(List<Stock> ranked, String query, int limit, Set<SuggestionField> fields,
+                                 boolean grouped) {
+        if (!grouped) {
+            List<Stock> results = ranked.stream().limit(limit).toList();
+            return Uni.createFrom().item(new Result.Success(results, query, results.size()));
+        }
+        return groupByIsin(ranked, query, limit, fields);
+    }
 
-            matches.stream()
-                    .sorted(Comparator.comparing(Stock::popularityScore, Comparator.nullsLast(Comparator.reverseOrder()))
-                            .thenComparing(Stock::symbol))
-                    .limit(remainingCapacity)
-                    .forEach(prioritizedResults::add);
+    /**
+     * Keeps the best-ranked listing of each ISIN, up to {@code limit}, then
+     * puts each instrument's most popular listing (its score carries the
+     * exchange tier) in that slot with the other listings attached. One pass
+     * over the ranked listings plus one lookup of the kept ISINs in the
+     * listing index built with the snapshot, so the cost follows the results,
+     * not the candidates squared. Stocks without an ISIN are never grouped.
+     */
+    private Uni<Result> groupByIsin(List<Stock> ranked, String query, int limit, Set<SuggestionField> fields) {
+        List<Stock> kept = new ArrayList<>(limit);
+        Set<String> isins = new LinkedHashSet<>();
+        for (Stock stock : ranked) {
+            if (kept.size() >= limit) break;
+            String isin = isinKey(stock);
+            if (isin == null || isins.add(isin)) {
+                kept.add(stock);
+            }
+        }
+        if (isins.isEmpty()) {
+            return Uni.createFrom().item(new Result.Success(kept, query, kept.size()));
+        }
+        return stockPort.findListingsByIsin(isins, fields)
+                .map(listingsByIsin -> attachListings(kept, listingsByIsin, query));
+    }
 
-            LOG.debugf("Strategy '%s' (priority %d, field %s) contributed %d matches, total so far: %d",
-                    strategy.description(), strategy.priority(), strategy.searchField(),
-                    Math.min(matches.size(), remainingCapacity), prioritizedResults.size());
+    private Result attachListings(List<Stock> kept, Map<String, List<Stock>> listingsByIsin, String query) {
+        List<Stock> suggestions = new ArrayList<>(kept.size());
+        Map<String, List<Stock>> otherListings = new HashMap<>();
+        for (Stock stock : kept) {
+            String isin = isinKey(stock);
+            List<Stock> listings = isin == null ? null : listingsByIsin.get(isin);
+            if (listings == null || listings.size() < 2) {
+                suggestions.add(stock);
+                continue;
+            }
+            List<Stock> byPopularity = listings.stream().sorted(popularityRanking).toList();
+            suggestions.add(byPopularity.getFirst());
+            otherListings.put(isin, byPopularity.subList(1, byPopularity.size()));
         }
+        LOG.debugf("Grouped %d suggestions by ISIN, %d with other listings, for query: %s",
+                suggestions.size(), otherListings.size(), query);
+        return new Result.Success(suggestions, query, suggestions.size(), otherListings);
+    }
 
-        List<Stock> finalResults = prioritizedResults.stream()
-                .limit(totalLimit)
-                .toList();
+    private static String isinKey(Stock stock) {
+        return stock.isin() == null || stock.isin().isBlank() ? null : stock.isin().trim().toUpperCase(Locale.ROOT);
+    }
 
-        LOG.infof("Applied %d priority strategies, final results: %d for query: %s",
-                priorityStrategies.size(), finalResults.size(), query);
-        return new Result.Success(finalResults, query, finalResults.size());
+    /**
+     * Live overlay score when a recent transaction moved it, otherwise the score
+     * the candidate was loaded (and possibly cached) with; unscored stocks rank last.
+     */
+    private double rankingScore(Stock stock) {
+        double stored = stock.popularityScore() == null ? Double.NEGATIVE_INFINITY : stock.popularityScore();
+        return popularityOverlayPort.scoreOr(stock.symbol(), stock.exchange(), stored);
     }
 }
@@ -0,0 +1,45 @@
+package com.portfolio.management.application.service;
+
+import com.portfolio.management.domain.model.Errors;
+import com.portfolio.management.domain.port.incoming.GetTrendingStocksUseCase;
+import com.portfolio.management.domain.port.incoming.RecordTrendingUsageUseCase;
+import com.portfolio.management.domain.port.outgoing.TrendingPort;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.jboss.logging.Logger;
+
+/**
+ * Application service implementing the GetTrendingStocksUseCase and the
+ * RecordTrendingUsageUseCase that feeds it
+ */
+@ApplicationScoped
+public class TrendingService implements GetTrendingStocksUseCase, RecordTrendingUsageUseCase {
+
+    private static final Logger LOG = Logger.getLogger(TrendingService.class);
+
+    private final TrendingPort trendingPort;
+
+    public TrendingService(TrendingPort trendingPort) {
+        this.trendingPort = trendingPort;
+    }
+
+    @Override
+    public Uni<Result> execute(Query query) {
+        return Uni.createFrom().item(() -> (Result) new Result.Success(
+                        trendingPort.topTrending(query.window(), query.limit()), query.window(), 0))
+                .onFailure().recoverWithItem(throwable -> {
+                    LOG.errorf(throwable, "Error reading trending stocks for window %s", query.window().code());
+                    return new Result.SystemError(
+                            Errors.of("system", "An unexpected error occurred while reading trending stocks", "SYSTEM_ERROR")
+                    );
+                });
+    }
+
+    @Override
+    public void execute(Command command) {
+        if (command.ticker() == null || command.ticker().isBlank()) {
+            return;
+        }
+        trendingPort.recordUsage(command.ticker().trim().toUpperCase());
+    }
+}
@@ -0,0 +1,11 @@
+package com.portfolio.management.domain.model;
+
+/**
+ * Freshly recomputed popularity score of one listing (a symbol on one exchange)
+ */
+public record ListingPopularity(
+        String symbol,
+        String exchange,
+        double score
+) {
+}
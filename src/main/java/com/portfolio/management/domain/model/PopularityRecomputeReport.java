@@ -0,0 +1,46 @@
+package com.portfolio.management.domain.model;
+
+/**
+ * Outcome of a popularity recompute pass. rowsScanned is every stock whose score
+ * was evaluated; rowsUpdated is the subset whose score actually changed and got
+ * a new row version. The difference is the dead-tuple churn (and index entry
+ * churn) the IS DISTINCT FROM guard avoided.
+ */
+public record PopularityRecomputeReport(
+        long rowsScanned,
+        long rowsUpdated,
+        int chunks,
+        long approxRowBytes
+) {
+
+    public static PopularityRecomputeReport empty() {
+        return new PopularityRecomputeReport(0, 0, 0, 0);
+    }
+
+    /**
+     * Rows evaluated but left untouched because their score was already current
+     */
+    public long rowsSkipped() {
+        return rowsScanned - rowsUpdated;
+    }
+
+    /**
+     * Estimated heap + index bytes not rewritten, using the table's average
+     * on-disk footprint per row at the time of the pass
+     */
+    public long estimatedBytesAvoided() {
+        return rowsSkipped() * approxRowBytes;
+    }
+
+    public PopularityRecomputeReport plus(PopularityRecomputeReport other) {
+        return new PopularityRecomputeReport(
+                rowsScanned + other.rowsScanned,
+                rowsUpdated + other.rowsUpdated,
+                chunks + other.chunks,
+                Math.max(approxRowBytes, other.approxRowBytes));
+    }
+
+    public PopularityRecomputeReport withApproxRowBytes(long bytes) {
+        return new PopularityRecomputeReport(rowsScanned, rowsUpdated, chunks, bytes);
+    }
+}
@@ -0,0 +1,20 @@
+package com.portfolio.management.domain.model;
+
+import java.util.List;
+
+/**
+ * Every active exchange, currency and stock type, as a client needs them to
+ * populate pickers and filters at startup
+ */
+public record ReferenceData(
+        List<Exchange> exchanges,
+        List<Currency> currencies,
+        List<StockType> stockTypes
+) {
+
+    public ReferenceData {
+        if (exchanges == null || currencies == null || stockTypes == null) {
+            throw new IllegalArgumentException("Reference data lists cannot be null");
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.portfolio.management.domain.model;
+
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * A security identifier recognised in free-text search input: an ISIN, a
+ * CUSIP or a FIGI whose shape and check digit are both valid. Such input
+ * names at most a few listings exactly, so it is looked up rather than
+ * matched as text.
+ * <p>
+ * The check digit is what keeps ordinary queries out: a random 12-character
+ * string shaped like an ISIN passes the Luhn check only one time in ten, and
+ * real tickers and company names are not shaped like any of the three.
+ */
+public record SecurityIdentifier(Kind kind, String value) {
+
+    public enum Kind {
+        /**
+         * ISO 6166: two-letter country prefix, nine alphanumerics, Luhn check digit
+         */
+        ISIN,
+        /**
+         * Eight alphanumerics (plus *, @, #), modulus-10 double-add-double check digit
+         */
+        CUSIP,
+        /**
+         * Bloomberg Open Symbology: two consonants, G, eight consonants or digits,
+         * check digit computed like a CUSIP's
+         */
+        FIGI
+    }
+
+    public SecurityIdentifier {
+        if (kind == null || value == null) {
+            throw new IllegalArgumentException("Identifier kind and value cannot be null");
+        }
+    }
+
+    /**
+     * The identifier {@code input} spells, trimmed and upper-cased, or empty
+     * when it is not one. FIGI is tried before ISIN since both are 12
+     * characters and the FIGI shape is the stricter of the two.
+     */
+    public static Optional<SecurityIdentifier> parse(String input) {
+        if (input == null) {
+            return Optional.empty();
+        }
+        String value = input.trim().toUpperCase(Locale.ROOT);
+        if (value.length() == 12 && isFigi(value)) {
+            return Optional.of(new SecurityIdentifier(Kind.FIGI, value));
+        }
+        if (value.length() == 12 && isIsin(value)) {
+            return Optional.of(new SecurityIdentifier(Kind.ISIN, value));
+        }
+        if (value.length() == 9 && isCusip(value)) {
+            return Optional.of(new SecurityIdentifier(Kind.CUSIP, value));
+        }
+        return Optional.empty();
+    }
+
+    static boolean isIsin(String value) {
+        if (!isLetter(value.charAt(0)) || !isLetter(value.charAt(1)) || !isDigit(value.charAt(11))) {
+            return false;
+        }
+        // Letters expand to two digits (A=10 ... Z=35); Luhn runs over the expanded string
+        int sum = 0;
+        boolean doubled = false;
+        for (int i = value.length() - 1; i >= 0; i--) {
+            int code = value(value.charAt(i));
+            if (code < 0 || code > 35) {
+                return false;
+            }
+            // Digits are consumed right to left, so a letter's low digit comes first
+            sum += luhn(code % 10, doubled);
+            doubled = !doubled;
+            if (code >= 10) {
+                sum += luhn(code / 10, doubled);
+                doubled = !doubled;
+            }
+        }
+        return sum % 10 == 0;
+    }
+
+    static boolean isCusip(String value) {
+        for (int i = 0; i < 8; i++) {
+            if (value(value.charAt(i)) < 0) {
+                return false;
+            }
+        }
+        return isDigit(value.charAt(8)) && doubleAddDouble(value, 8) == value.charAt(8) - '0';
+    }
+
+    static boolean isFigi(String value) {
+        if (!isConsonant(value.charAt(0)) || !isConsonant(value.charAt(1)) || value.charAt(2) != 'G') {
+            return false;
+        }
+        // Prefixes reserved so a FIGI can never be mistaken for an ISIN
+        String prefix = value.substring(0, 2);
+        if (prefix.equals("BS") || prefix.equals("BM") || prefix.equals("GG") || prefix.equals("GB")
+                || prefix.equals("GH") || prefix.equals("KY") || prefix.equals("VG")) {
+            return false;
+        }
+        for (int i = 3; i < 11; i++) {
+            char c = value.charAt(i);
+            if (!isDigit(c) && !isConsonant(c)) {
+                return false;
+            }
+        }
+        return isDigit(value.charAt(11)) && doubleAddDouble(value, 11) == value.charAt(11) - '0';
+    }
+
+    /**
+     * CUSIP-style check digit over the first {@code length} characters: every
+     * second value doubled, the digits of each value summed
+     */
+    private static int doubleAddDouble(String value, int length) {
+        int sum = 0;
+        for (int i = 0; i < length; i++) {
+            int code = value(value.charAt(i));
+            if (i % 2 == 1) {
+                code *= 2;
+            }
+            sum += code / 10 + code % 10;
+        }
+        return (10 - sum % 10) % 10;
+    }
+
+    private static int luhn(int digit, boolean doubled) {
+        if (!doubled) {
+            return digit;
+        }
+        int twice = digit * 2;
+        return twice > 9 ? twice - 9 : twice;
+    }
+
+    /**
+     * 0-9 for digits, 10-35 for letters, 36-38 for the CUSIP specials *, @ and #; -1 otherwise
+     */
+    private static int value(char c) {
+        if (isDigit(c)) {
+            return c - '0';
+        }
+        if (isLetter(c)) {
+            return c - 'A' + 10;
+        }
+        return switch (c) {
+            case '*' -> 36;
+            case '@' -> 37;
+            case '#' -> 38;
+            default -> -1;
+        };
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isLetter(char c) {
+        return c >= 'A' && c <= 'Z';
+    }
+
+    private static boolean isConsonant(char c) {
+        return isLetter(c) && "AEIOU".indexOf(c) < 0;
+    }
+}
@@ -0,0 +1,7 @@
+package com.portfolio.management.domain.model;
+
+/**
+ * A curated name users search by for a listing symbol, e.g. "facebook" for META
+ */
+public record StockAlias(String alias, String symbol) {
+}
@@ -0,0 +1,22 @@
+package com.portfolio.management.domain.model;
+
+/**
+ * Keyset position in the browse order (popularity score descending, symbol
+ * ascending, id ascending): the sort key of the last stock a page returned.
+ * The next page starts strictly after it, so no page is ever read with OFFSET.
+ */
+public record StockCursor(double popularityScore, String symbol, long id) {
+
+    public StockCursor {
+        if (symbol == null) {
+            throw new IllegalArgumentException("Cursor symbol cannot be null");
+        }
+    }
+
+    /**
+     * The position right after {@code stock}, which must carry id, symbol and popularity score
+     */
+    public static StockCursor after(Stock stock) {
+        return new StockCursor(stock.popularityScore(), stock.symbol(), stock.id());
+    }
+}
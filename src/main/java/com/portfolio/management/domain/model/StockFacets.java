@@ -0,0 +1,15 @@
+package com.portfolio.management.domain.model;
+
+import java.util.Map;
+
+/**
+ * How many active stocks matching a search hold each exchange, country,
+ * currency and type value, for narrowing a search from a filter UI. Each map
+ * is ordered by count descending and leaves out values no match holds.
+ */
+public record StockFacets(int total,
+                          Map<String, Integer> exchanges,
+                          Map<String, Integer> countries,
+                          Map<String, Integer> currencies,
+                          Map<String, Integer> types) {
+}
@@ -0,0 +1,30 @@
+package com.portfolio.management.domain.model;
+
+import java.util.List;
+
+/**
+ * One keyset page of stocks; {@code next} is null on the last page
+ */
+public record StockPage(List<Stock> stocks, StockCursor next) {
+
+    public StockPage {
+        stocks = List.copyOf(stocks);
+    }
+
+    /**
+     * Builds a page from rows fetched with one row of lookahead: if more than
+     * {@code limit} came back there is a next page, starting after the last
+     * row kept.
+     */
+    public static StockPage fromLookahead(List<Stock> rows, int limit) {
+        if (rows.size() <= limit) {
+            return new StockPage(rows, null);
+        }
+        List<Stock> page = rows.subList(0, limit);
+        return new StockPage(page, StockCursor.after(page.getLast()));
+    }
+
+    public boolean hasNext() {
+        return next != null;
+    }
+}
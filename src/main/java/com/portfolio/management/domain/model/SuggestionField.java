@@ -0,0 +1,67 @@
+package com.portfolio.management.domain.model;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Stock fields a suggestion response can carry. Callers narrow a response to
+ * the fields they display; the repository then loads only those columns plus
+ * whatever ranking needs.
+ */
+public enum SuggestionField {
+    ID,
+    SYMBOL,
+    NAME,
+    EXCHANGE,
+    TYPE,
+    COUNTRY,
+    CURRENCY,
+    ISIN;
+
+    public static final Set<SuggestionField> ALL = Collections.unmodifiableSet(EnumSet.allOf(SuggestionField.class));
+
+    /**
+     * Fields the priority strategies, the popularity overlay and de-duplication
+     * read, so they are loaded whatever the caller asked for. Popularity
+     * itself is not a response field and is always loaded.
+     */
+    public static final Set<SuggestionField> RANKING =
+            Collections.unmodifiableSet(EnumSet.of(ID, SYMBOL, NAME, EXCHANGE, ISIN));
+
+    /**
+     * Resolves a field from its response name (symbol, name, ...), case-insensitive
+     */
+    public static Optional<SuggestionField> fromName(String name) {
+        if (name == null) {
+            return Optional.empty();
+        }
+        String normalized = name.trim();
+        for (SuggestionField field : values()) {
+            if (field.name().equalsIgnoreCase(normalized)) {
+                return Optional.of(field);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * The requested fields plus the ranking fields: what a search must load
+     */
+    public static Set<SuggestionField> withRanking(Set<SuggestionField> requested) {
+        EnumSet<SuggestionField> fields = EnumSet.copyOf(RANKING);
+        fields.addAll(requested);
+        return Collections.unmodifiableSet(fields);
+    }
+
+    /**
+     * Normalizes a requested field set: null or empty means every field
+     */
+    public static Set<SuggestionField> orAll(Set<SuggestionField> requested) {
+        if (requested == null || requested.isEmpty()) {
+            return ALL;
+        }
+        return Collections.unmodifiableSet(EnumSet.copyOf(requested));
+    }
+}
@@ -0,0 +1,10 @@
+package com.portfolio.management.domain.model;
+
+/**
+ * A ticker observed in the usage feed, with its approximate event count over a
+ * trending window. Counts are approximate in both directions: the Count-Min
+ * sketch they come from can overestimate, while races between writers and
+ * with a recycled bucket can lose a few counts.
+ */
+public record TrendingStock(String symbol, long count) {
+}
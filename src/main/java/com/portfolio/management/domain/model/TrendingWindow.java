@@ -0,0 +1,55 @@
+package com.portfolio.management.domain.model;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Sliding windows over which "trending now" usage is tracked. Each window is
+ * split into a fixed number of buckets that rotate as time advances, so a
+ * window's memory is constant regardless of event volume.
+ */
+public enum TrendingWindow {
+    FIVE_MINUTES("5m", Duration.ofMinutes(5), 10),
+    ONE_HOUR("1h", Duration.ofHours(1), 12),
+    ONE_DAY("24h", Duration.ofHours(24), 24);
+
+    private final String code;
+    private final Duration length;
+    private final int buckets;
+
+    TrendingWindow(String code, Duration length, int buckets) {
+        this.code = code;
+        this.length = length;
+        this.buckets = buckets;
+    }
+
+    public String code() {
+        return code;
+    }
+
+    public Duration length() {
+        return length;
+    }
+
+    public int buckets() {
+        return buckets;
+    }
+
+    public long bucketMillis() {
+        return length.toMillis() / buckets;
+    }
+
+    /**
+     * Resolves a window from its short code (5m, 1h, 24h), case-insensitive
+     */
+    public static Optional<TrendingWindow> fromCode(String code) {
+        if (code == null) {
+            return Optional.empty();
+        }
+        String normalized = code.trim().toLowerCase();
+        return Arrays.stream(values())
+                .filter(window -> window.code.equals(normalized))
+                .findFirst();
+    }
+}
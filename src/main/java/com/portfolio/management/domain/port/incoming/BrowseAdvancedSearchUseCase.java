@@ -0,0 +1,66 @@
+package com.portfolio.management.domain.port.incoming;
+
+import com.portfolio.management.domain.model.Errors;
+import com.portfolio.management.domain.model.Stock;
+import com.portfolio.management.domain.model.StockCursor;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+
+import java.util.List;
+
+/**
+ * Use case for walking every stock an advanced search matches, not just the
+ * best-ranked few: keyset pages in a stable browse order (popularity score
+ * descending, symbol, id), or one unbounded stream for bulk consumers.
+ * Unlike {@link GetSuggestionsAdvancedUseCase}, no priority strategy reorders
+ * the results, since a page boundary has to be a position in a single order.
+ */
+public interface BrowseAdvancedSearchUseCase {
+
+    /**
+     * Placeholder search limit for {@link #stream} queries, which are unbounded
+     */
+    int STREAM_LIMIT = 100;
+
+    Uni<Result> execute(Query query);
+
+    /**
+     * Every match from {@code query.after()} on, in browse order; the search limit is ignored
+     */
+    Multi<Stock> stream(Query query);
+
+    /**
+     * @param search criteria, page size and response fields
+     * @param after  position to continue from; null to start at the top
+     */
+    record Query(GetSuggestionsAdvancedUseCase.Query search, StockCursor after) {
+
+        public Query {
+            if (search == null) {
+                throw new IllegalArgumentException("Search cannot be null");
+            }
+        }
+    }
+
+    sealed interface Result {
+
+        /**
+         * @param next position of the following page; null when this is the last one
+         */
+        record Success(List<Stock> suggestions, String query, StockCursor next, int count) implements Result {
+
+            public Success {
+                if (suggestions == null) {
+                    throw new IllegalArgumentException("Suggestions cannot be null");
+                }
+                count = suggestions.size();
+            }
+        }
+
+        record ValidationError(Errors errors) implements Result {
+        }
+
+        record SystemError(Errors errors) implements Result {
+        }
+    }
+}
@@ -38,6 +38,10 @@ public interface GetCurrenciesUseCase {
         public boolean isCountryQuery() {
             return countryCode != null && !countryCode.trim().isEmpty();
         }
+        
+        public boolean isUnfiltered() {
+            return !isSearchQuery() && !isCountryQuery() && !majorOnly;
+        }
     }
 
     sealed interface Result {
@@ -50,6 +50,10 @@ public interface GetExchangesUseCase {
         public boolean isRegionQuery() {
             return regionFilter != null;
         }
+        
+        public boolean isUnfiltered() {
+            return !isSearchQuery() && !isCountryQuery() && !isCurrencyQuery() && !isRegionQuery();
+        }
     }
     
     enum RegionFilter {
@@ -0,0 +1,29 @@
+package com.portfolio.management.domain.port.incoming;
+
+import com.portfolio.management.domain.model.Errors;
+import com.portfolio.management.domain.model.ReferenceData;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Use case for loading all reference data (exchanges, currencies, stock
+ * types) in one call, so clients can bootstrap with a single request
+ */
+public interface GetReferenceDataUseCase {
+
+    Uni<Result> execute();
+
+    sealed interface Result {
+
+        record Success(ReferenceData referenceData) implements Result {
+
+            public Success {
+                if (referenceData == null) {
+                    throw new IllegalArgumentException("Reference data cannot be null");
+                }
+            }
+        }
+
+        record SystemError(Errors errors) implements Result {
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.portfolio.management.domain.port.incoming;
+
+import com.portfolio.management.domain.model.Errors;
+import com.portfolio.management.domain.model.StockFacets;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Use case for counting, per exchange, country, currency and type, the stocks
+ * an advanced search would match, so a filter UI can show what each choice
+ * narrows down to
+ */
+public interface GetStockFacetsUseCase {
+
+    Uni<Result> execute(Query query);
+
+    /**
+     * Same criteria as an advanced search; all may be blank, which counts every active stock
+     */
+    record Query(String symbol, String companyName, String exchange, String country, String currency, String isin) {
+    }
+
+    sealed interface Result {
+
+        record Success(StockFacets facets) implements Result {
+
+            public Success {
+                if (facets == null) {
+                    throw new IllegalArgumentException("Facets cannot be null");
+                }
+            }
+        }
+
+        record SystemError(Errors errors) implements Result {
+        }
+    }
+}
@@ -22,6 +22,10 @@ public interface GetStockTypesUseCase {
         public boolean isSearchQuery() {
             return searchTerm != null && !searchTerm.trim().isEmpty();
         }
+        
+        public boolean isUnfiltered() {
+            return !isSearchQuery();
+        }
     }
 
     sealed interface Result {
@@ -2,9 +2,11 @@ package com.portfolio.management.domain.port.incoming;
 
 import com.portfolio.management.domain.model.Errors;
 import com.portfolio.management.domain.model.Stock;
+import com.portfolio.management.domain.model.SuggestionField;
 import io.smallrye.mutiny.Uni;
 
 import java.util.List;
+import java.util.Set;
 
 /**
  * Use case for getting ticker suggestions based on search criteria
@@ -14,13 +16,27 @@ public interface GetSuggestionsAdvancedUseCase {
     Uni<Result> execute(Query query);
 
 
+    /**
+     * @param fields response fields the caller wants; null or empty means all
+     */
     record Query(String symbol, String companyName, String exchange, String country, String currency, String isin,
-                 int limit) {
+                 int limit, Set<SuggestionField> fields) {
 
         public Query {
             if (limit <= 0 || limit > 100) {
                 throw new IllegalArgumentException("Limit must be between 1 and 100");
             }
+            fields = SuggestionField.orAll(fields);
+        }
+
+        public Query(String symbol,
+                     String companyName,
+                     String exchange,
+                     String country,
+                     String currency,
+                     String isin,
+                     int limit) {
+            this(symbol, companyName, exchange, country, currency, isin, limit, SuggestionField.ALL);
         }
 
         public Query(String symbol,
@@ -2,9 +2,12 @@ package com.portfolio.management.domain.port.incoming;
 
 import com.portfolio.management.domain.model.Errors;
 import com.portfolio.management.domain.model.Stock;
+import com.portfolio.management.domain.model.SuggestionField;
 import io.smallrye.mutiny.Uni;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Use case for getting ticker suggestions based on user input
@@ -14,7 +17,12 @@ public interface GetSuggestionsUseCase {
     Uni<Result> execute(Query query);
 
 
-    record Query(String input, int limit) {
+    /**
+     * @param fields      response fields the caller wants; null or empty means all
+     * @param groupByIsin one suggestion per ISIN, its other listings attached,
+     *                    instead of one per listing
+     */
+    record Query(String input, int limit, Set<SuggestionField> fields, boolean groupByIsin) {
 
         public Query {
             if (input == null) {
@@ -23,6 +31,15 @@ public interface GetSuggestionsUseCase {
             if (limit <= 0 || limit > 50) {
                 throw new IllegalArgumentException("Limit must be between 1 and 50");
             }
+            fields = SuggestionField.orAll(fields);
+        }
+
+        public Query(String input, int limit, Set<SuggestionField> fields) {
+            this(input, limit, fields, false);
+        }
+
+        public Query(String input, int limit) {
+            this(input, limit, SuggestionField.ALL);
         }
 
         public Query(String input) {
@@ -32,13 +49,24 @@ public interface GetSuggestionsUseCase {
 
     sealed interface Result {
 
-        record Success(List<Stock> suggestions, String query, int count) implements Result {
+        /**
+         * @param otherListings when grouped by ISIN, the other listings of each
+         *                      suggestion keyed by its upper-case ISIN, most
+         *                      popular first; empty otherwise
+         */
+        record Success(List<Stock> suggestions, String query, int count,
+                       Map<String, List<Stock>> otherListings) implements Result {
 
             public Success {
                 if (suggestions == null) {
                     throw new IllegalArgumentException("Suggestions cannot be null");
                 }
                 count = suggestions.size();
+                otherListings = otherListings == null ? Map.of() : Map.copyOf(otherListings);
+            }
+
+            public Success(List<Stock> suggestions, String query, int count) {
+                this(suggestions, query, count, Map.of());
             }
         }
 
@@ -0,0 +1,45 @@
+package com.portfolio.management.domain.port.incoming;
+
+import com.portfolio.management.domain.model.Errors;
+import com.portfolio.management.domain.model.TrendingStock;
+import com.portfolio.management.domain.model.TrendingWindow;
+import io.smallrye.mutiny.Uni;
+
+import java.util.List;
+
+/**
+ * Use case for getting the tickers trending in the transaction feed, for
+ * suggesting something before the user has typed a meaningful query
+ */
+public interface GetTrendingStocksUseCase {
+
+    Uni<Result> execute(Query query);
+
+    record Query(TrendingWindow window, int limit) {
+
+        public Query {
+            if (window == null) {
+                throw new IllegalArgumentException("Window cannot be null");
+            }
+            if (limit <= 0 || limit > 50) {
+                throw new IllegalArgumentException("Limit must be between 1 and 50");
+            }
+        }
+    }
+
+    sealed interface Result {
+
+        record Success(List<TrendingStock> trending, TrendingWindow window, int count) implements Result {
+
+            public Success {
+                if (trending == null) {
+                    throw new IllegalArgumentException("Trending cannot be null");
+                }
+                count = trending.size();
+            }
+        }
+
+        record SystemError(Errors errors) implements Result {
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.portfolio.management.domain.port.incoming;
+
+import com.portfolio.management.domain.model.PopularityRecomputeReport;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Use case for folding the usage signal recorded since the last pass into
+ * stocks' popularity scores, touching only stocks whose inputs changed.
+ */
+public interface RecomputePopularityUseCase {
+
+    Uni<Result> execute();
+
+    sealed interface Result {
+        record Success(PopularityRecomputeReport report) implements Result {
+        }
+
+        record Error(String message) implements Result {
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.portfolio.management.domain.port.incoming;
+
+/**
+ * Use case for counting one observed transaction towards the trending
+ * tickers. Unlike RecordStockUsageUseCase it must see every event on every
+ * replica, since each replica answers trending requests from its own
+ * in-process counts; it is in-memory and never fails the caller.
+ */
+public interface RecordTrendingUsageUseCase {
+
+    void execute(Command command);
+
+    record Command(String ticker) {
+    }
+}
@@ -1,6 +1,7 @@
 package com.portfolio.management.domain.port.outgoing;
 
 import com.portfolio.management.domain.model.Exchange;
+import com.portfolio.management.domain.port.incoming.GetExchangesUseCase;
 import io.smallrye.mutiny.Uni;
 
 import java.util.List;
@@ -53,22 +54,11 @@ public interface ExchangeRepository {
     Uni<List<Exchange>> findByCurrencyCode(String currencyCode);
     
     /**
-     * Find US exchanges
-     * @return List of US exchanges
+     * Find exchanges in a region
+     * @param region Region filter
+     * @return List of exchanges whose region is the given one
      */
-    Uni<List<Exchange>> findUSExchanges();
-    
-    /**
-     * Find European exchanges
-     * @return List of European exchanges
-     */
-    Uni<List<Exchange>> findEuropeanExchanges();
-    
-    /**
-     * Find Asian exchanges
-     * @return List of Asian exchanges
-     */
-    Uni<List<Exchange>> findAsianExchanges();
+    Uni<List<Exchange>> findByRegion(GetExchangesUseCase.RegionFilter region);
     
     /**
      * Count total active exchanges
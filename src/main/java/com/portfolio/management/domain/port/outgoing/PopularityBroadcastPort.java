@@ -0,0 +1,19 @@
+package com.portfolio.management.domain.port.outgoing;
+
+import com.portfolio.management.domain.model.ListingPopularity;
+
+import java.util.List;
+
+/**
+ * Outgoing port that hands freshly recomputed listing scores to every other
+ * replica, so each one's popularity overlay ranks on them - not only the
+ * replica whose consumer-group member happened to read the event.
+ */
+public interface PopularityBroadcastPort {
+
+    /**
+     * Publishes the scores to every replica, this one included; best-effort
+     * and fire-and-forget, so a failure never fails the recorded usage.
+     */
+    void publish(List<ListingPopularity> scores);
+}
@@ -0,0 +1,31 @@
+package com.portfolio.management.domain.port.outgoing;
+
+import com.portfolio.management.domain.model.ListingPopularity;
+
+import java.util.List;
+
+/**
+ * Outgoing port for the in-process popularity overlay: listing scores pushed
+ * the moment a transaction is recorded, consulted when ranking suggestions so
+ * that candidate lists served from cache reflect usage without being evicted.
+ * <p>
+ * The replica that records the usage updates its overlay directly; every
+ * other replica gets the same scores through PopularityBroadcastPort. A
+ * replica that misses a broadcast (pub/sub is at-most-once) sees the score
+ * only once its stock snapshot refreshes and the cached candidate lists
+ * expire.
+ */
+public interface PopularityOverlayPort {
+
+    /**
+     * Publishes freshly recomputed scores, replacing any previous overlay value
+     * for the same listing.
+     */
+    void update(List<ListingPopularity> scores);
+
+    /**
+     * Returns the overlay score for the listing, or fallback if the overlay
+     * holds nothing newer than what the database (and so any cache) already has.
+     */
+    double scoreOr(String symbol, String exchange, double fallback);
+}
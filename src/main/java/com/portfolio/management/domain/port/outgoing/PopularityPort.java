@@ -1,7 +1,11 @@
 package com.portfolio.management.domain.port.outgoing;
 
+import com.portfolio.management.domain.model.ListingPopularity;
+import com.portfolio.management.domain.model.PopularityRecomputeReport;
 import io.smallrye.mutiny.Uni;
 
+import java.util.List;
+
 /**
  * Outgoing port for the popularity signal that blends a curated static baseline
  * (exchange/currency tiers, household-name tickers) with observed transaction
@@ -13,13 +17,27 @@ public interface PopularityPort {
      * Recomputes stocks.popularity_score for every stock from the current
      * stock_popularity/exchange tiers. Must run after ingestion reloads the
      * stocks table (which wipes and reinserts every row) so popularity survives
-     * the reload.
+     * the reload. Runs in id-range chunks and only rewrites rows whose score
+     * actually changes; also clears the dirty set, since everything was covered.
+     */
+    Uni<PopularityRecomputeReport> recomputeStockScores();
+
+    /**
+     * Recomputes popularity_score only for stocks listed on an exchange whose
+     * tier moved since the last pass, one exchange per transaction, skipping
+     * rows whose score is already current.
      */
-    Uni<Void> recomputeStockScores();
+    Uni<PopularityRecomputeReport> recomputeDirtyStockScores();
 
     /**
      * Records one observed transaction for a symbol: increments its usage count,
      * recomputes its stock score, and nudges its exchange/currency popularity.
+     * Stock scores use the exchange's popularity rounded down to a tier, so
+     * the nudge marks the exchange dirty only when it moves that tier; its
+     * listed stocks are then rescored by the next
+     * {@link #recomputeDirtyStockScores()} pass.
+     *
+     * @return the symbol's recomputed score on every exchange it is listed on
      */
-    Uni<Void> incrementUsage(String symbol, String exchange, String currency);
+    Uni<List<ListingPopularity>> incrementUsage(String symbol, String exchange, String currency);
 }
@@ -0,0 +1,17 @@
+package com.portfolio.management.domain.port.outgoing;
+
+import java.util.Set;
+
+/**
+ * Outgoing port for the curated alias dictionary: names users search by that
+ * appear in no symbol or provider name ("google", "facebook", "tsmc"). Held
+ * in memory, so lookups are synchronous and cost no database round trip.
+ */
+public interface StockAliasPort {
+
+    /**
+     * Upper-case symbols named through an alias appearing in the query as
+     * whole words; empty when it names none or the dictionary is not loaded.
+     */
+    Set<String> symbolsFor(String query);
+}
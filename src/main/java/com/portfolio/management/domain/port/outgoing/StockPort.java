@@ -1,10 +1,18 @@
 package com.portfolio.management.domain.port.outgoing;
 
+import com.portfolio.management.domain.model.SecurityIdentifier;
 import com.portfolio.management.domain.model.Stock;
+import com.portfolio.management.domain.model.StockCursor;
+import com.portfolio.management.domain.model.StockFacets;
+import com.portfolio.management.domain.model.StockPage;
 import com.portfolio.management.domain.model.StocksBatchProcessingResult;
+import com.portfolio.management.domain.model.SuggestionField;
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 public interface StockPort {
 
@@ -12,9 +20,54 @@ public interface StockPort {
 
     Uni<StocksBatchProcessingResult> saveBatch(List<Stock> stocks);
 
-    Uni<List<Stock>> findCandidateStocks(String query, int limit);
+    /**
+     * Candidate stocks for a typeahead query. Only {@code fields} and the
+     * popularity score are loaded; every other Stock component is null.
+     */
+    Uni<List<Stock>> findCandidateStocks(String query, int limit, Set<SuggestionField> fields);
+
+    /**
+     * Active listings carrying a security identifier, by popularity score
+     * descending then symbol, loaded like {@link #findCandidateStocks}
+     */
+    Uni<List<Stock>> findByIdentifier(SecurityIdentifier identifier, Set<SuggestionField> fields);
 
-    Uni<List<Stock>> findByAdvancedSearch(String symbol, String companyName, String exchange, String region, String currency, String isin, int limit);
+    /**
+     * Every active listing of each upper-case ISIN, keyed by that ISIN, each
+     * list by popularity score descending then symbol; ISINs with no listing
+     * are absent. Loaded like {@link #findCandidateStocks}.
+     */
+    Uni<Map<String, List<Stock>>> findListingsByIsin(Set<String> isins, Set<SuggestionField> fields);
+
+    /**
+     * Stocks matching every given criterion, loaded like {@link #findCandidateStocks}
+     */
+    Uni<List<Stock>> findByAdvancedSearch(String symbol, String companyName, String exchange, String region, String currency, String isin,
+                                          int limit, Set<SuggestionField> fields);
+
+    /**
+     * One page of the stocks matching every given criterion, in browse order
+     * (popularity score descending, symbol, id), starting after {@code after}
+     * or at the top when it is null. Loaded like {@link #findCandidateStocks}.
+     */
+    Uni<StockPage> findPageByAdvancedSearch(String symbol, String companyName, String exchange, String region, String currency,
+                                            String isin, StockCursor after, int limit, Set<SuggestionField> fields);
+
+    /**
+     * Every stock matching the criteria after {@code after} (or from the top),
+     * in browse order, from the same source as {@link #findPageByAdvancedSearch}
+     * so a page's cursor continues it; produced a batch at a time so memory
+     * stays bounded however many match
+     */
+    Multi<Stock> streamByAdvancedSearch(String symbol, String companyName, String exchange, String region, String currency,
+                                        String isin, StockCursor after, Set<SuggestionField> fields);
+
+    /**
+     * Per-value exchange, country, currency and type counts over the stocks
+     * matching every non-blank criterion; all criteria may be blank
+     */
+    Uni<StockFacets> countFacets(String symbol, String companyName, String exchange, String region, String currency,
+                                 String isin);
 
     Uni<Long> deleteAll();
 
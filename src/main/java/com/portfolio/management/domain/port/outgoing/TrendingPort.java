@@ -0,0 +1,24 @@
+package com.portfolio.management.domain.port.outgoing;
+
+import com.portfolio.management.domain.model.TrendingStock;
+import com.portfolio.management.domain.model.TrendingWindow;
+
+import java.util.List;
+
+/**
+ * Outgoing port for the live "trending now" usage signal. Unlike PopularityPort
+ * this is in-process and approximate: it answers from fixed-memory sketches and
+ * never touches the database, so it is synchronous.
+ */
+public interface TrendingPort {
+
+    /**
+     * Records one observed usage of a symbol in every trending window
+     */
+    void recordUsage(String symbol);
+
+    /**
+     * Returns up to {@code limit} heaviest symbols in the window, most used first
+     */
+    List<TrendingStock> topTrending(TrendingWindow window, int limit);
+}
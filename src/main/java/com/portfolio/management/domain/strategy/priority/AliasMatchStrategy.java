@@ -0,0 +1,50 @@
+package com.portfolio.management.domain.strategy.priority;
+
+import com.portfolio.management.domain.model.Stock;
+import com.portfolio.management.domain.port.outgoing.StockAliasPort;
+import jakarta.enterprise.context.ApplicationScoped;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Strategy for symbols the query names through a curated alias ("google",
+ * "facebook", "berkshire b"), ranked as an exact match right after the
+ * symbol itself
+ */
+@ApplicationScoped
+public class AliasMatchStrategy implements PriorityStrategy {
+
+    private final StockAliasPort stockAliasPort;
+
+    public AliasMatchStrategy(StockAliasPort stockAliasPort) {
+        this.stockAliasPort = stockAliasPort;
+    }
+
+    @Override
+    public List<Stock> matches(List<Stock> stocks, String query) {
+        Set<String> symbols = stockAliasPort.symbolsFor(query);
+        if (symbols.isEmpty()) {
+            return List.of();
+        }
+        return stocks.stream()
+                .filter(stock -> stock.symbol() != null && symbols.contains(stock.symbol().toUpperCase(Locale.ROOT)))
+                .toList();
+    }
+
+    @Override
+    public int priority() {
+        return 2;
+    }
+
+    @Override
+    public String description() {
+        return "Alias names symbol";
+    }
+
+    @Override
+    public SearchField searchField() {
+        return SearchField.SYMBOL;
+    }
+}
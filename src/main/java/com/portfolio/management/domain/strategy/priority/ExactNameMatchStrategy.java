@@ -24,7 +24,7 @@ public class ExactNameMatchStrategy implements PriorityStrategy {
 
     @Override
     public int priority() {
-        return 2;
+        return 3;
     }
 
     @Override
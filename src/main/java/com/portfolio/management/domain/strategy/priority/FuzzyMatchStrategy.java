@@ -0,0 +1,76 @@
+package com.portfolio.management.domain.strategy.priority;
+
+import com.portfolio.management.domain.model.Stock;
+import com.portfolio.management.domain.strategy.priority.util.LevenshteinAutomaton;
+import com.portfolio.management.domain.strategy.priority.util.NameTokenizer;
+import jakarta.enterprise.context.ApplicationScoped;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Typo-tolerant fallback: every query word is within a small edit distance of
+ * (or a prefix of) a symbol or name word, so "microsfot" matches Microsoft
+ * and "nvida" matches NVDA. Runs last, so it only fills what the strict
+ * tiers leave of the limit.
+ */
+@ApplicationScoped
+public class FuzzyMatchStrategy implements PriorityStrategy {
+
+    @Override
+    public List<Stock> matches(List<Stock> stocks, String query) {
+        List<String> queryTokens = NameTokenizer.tokens(query);
+        List<LevenshteinAutomaton> automata = new ArrayList<>(queryTokens.size());
+        boolean fuzzy = false;
+        for (String token : queryTokens) {
+            var automaton = new LevenshteinAutomaton(token, LevenshteinAutomaton.maxEdits(token.length()));
+            fuzzy |= automaton.maxEdits() > 0;
+            automata.add(automaton);
+        }
+        if (!fuzzy) {
+            return List.of();
+        }
+        return stocks.stream()
+                .filter(stock -> matchesAll(words(stock), queryTokens, automata))
+                .toList();
+    }
+
+    private static List<String> words(Stock stock) {
+        List<String> words = new ArrayList<>(NameTokenizer.tokens(stock.symbol()));
+        words.addAll(NameTokenizer.tokens(stock.name()));
+        return words;
+    }
+
+    private static boolean matchesAll(List<String> words, List<String> queryTokens, List<LevenshteinAutomaton> automata) {
+        for (int i = 0; i < queryTokens.size(); i++) {
+            String queryToken = queryTokens.get(i);
+            LevenshteinAutomaton automaton = automata.get(i);
+            boolean found = false;
+            for (String word : words) {
+                if (word.startsWith(queryToken) || automaton.distance(word) <= automaton.maxEdits()) {
+                    found = true;
+                    break;
+                }
+            }
+            if (!found) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int priority() {
+        return 9;
+    }
+
+    @Override
+    public String description() {
+        return "Symbol or name within edit distance of query";
+    }
+
+    @Override
+    public SearchField searchField() {
+        return SearchField.NAME;
+    }
+}
@@ -24,7 +24,7 @@ public class NameContainsStrategy implements PriorityStrategy {
 
     @Override
     public int priority() {
-        return 6;
+        return 8;
     }
 
     @Override
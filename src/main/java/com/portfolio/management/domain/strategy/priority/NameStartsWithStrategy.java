@@ -24,7 +24,7 @@ public class NameStartsWithStrategy implements PriorityStrategy {
 
     @Override
     public int priority() {
-        return 4;
+        return 5;
     }
 
     @Override
@@ -0,0 +1,43 @@
+package com.portfolio.management.domain.strategy.priority;
+
+import com.portfolio.management.domain.model.Stock;
+import com.portfolio.management.domain.strategy.priority.util.NameTokenizer;
+import jakarta.enterprise.context.ApplicationScoped;
+
+import java.util.List;
+
+/**
+ * Strategy for names whose words start with the query's words, in any order:
+ * "bank amer" matches "Bank of America Corp", "motors gen" matches "General
+ * Motors Company". Ranks between the starts-with and the contains tiers.
+ */
+@ApplicationScoped
+public class NameTokenPrefixStrategy implements PriorityStrategy {
+
+    @Override
+    public List<Stock> matches(List<Stock> stocks, String query) {
+        List<String> queryTokens = NameTokenizer.tokens(query);
+        if (queryTokens.isEmpty()) {
+            return List.of();
+        }
+        return stocks.stream()
+                .filter(stock -> stock.name() != null
+                        && NameTokenizer.prefixMatchesAll(NameTokenizer.tokens(stock.name()), queryTokens))
+                .toList();
+    }
+
+    @Override
+    public int priority() {
+        return 6;
+    }
+
+    @Override
+    public String description() {
+        return "Name words start with query words";
+    }
+
+    @Override
+    public SearchField searchField() {
+        return SearchField.NAME;
+    }
+}
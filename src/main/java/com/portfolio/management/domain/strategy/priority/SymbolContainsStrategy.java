@@ -24,7 +24,7 @@ public class SymbolContainsStrategy implements PriorityStrategy {
 
     @Override
     public int priority() {
-        return 5;
+        return 7;
     }
 
     @Override
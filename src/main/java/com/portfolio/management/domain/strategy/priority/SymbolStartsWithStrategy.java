@@ -24,7 +24,7 @@ public class SymbolStartsWithStrategy implements PriorityStrategy {
 
     @Override
     public int priority() {
-        return 3;
+        return 4;
     }
 
     @Override
@@ -0,0 +1,106 @@
+package com.portfolio.management.domain.strategy.priority.util;
+
+/**
+ * Accepts the words within a bounded Levenshtein distance of a query word.
+ * <p>
+ * A state is one row of the edit-distance table: entry j is the distance
+ * between the characters consumed so far and the first j characters of the
+ * query word. Feeding a character computes the next row. Once every entry
+ * exceeds the budget no continuation can come back within it, so a walk over
+ * a sorted dictionary drops every word sharing that prefix at once, and words
+ * sharing a prefix share the rows computed for it.
+ */
+public class LevenshteinAutomaton {
+
+    private final String term;
+    private final int maxEdits;
+
+    /**
+     * @param term     The query word, lower-case
+     * @param maxEdits The largest distance accepted
+     */
+    public LevenshteinAutomaton(String term, int maxEdits) {
+        this.term = term;
+        this.maxEdits = maxEdits;
+    }
+
+    /**
+     * Edit budget for a query word of the given length: none below three
+     * characters, where one edit reaches most of the dictionary, one up to
+     * five, two from six
+     *
+     * @param length The query word's length
+     * @return The largest distance worth accepting
+     */
+    public static int maxEdits(int length) {
+        if (length < 3) {
+            return 0;
+        }
+        return length < 6 ? 1 : 2;
+    }
+
+    public int maxEdits() {
+        return maxEdits;
+    }
+
+    /**
+     * State before any character: the cost of inserting the first j query characters
+     */
+    public int[] start() {
+        int[] row = new int[term.length() + 1];
+        for (int j = 0; j < row.length; j++) {
+            row[j] = j;
+        }
+        return row;
+    }
+
+    public int[] step(int[] state, char c) {
+        int[] next = new int[state.length];
+        next[0] = state[0] + 1;
+        for (int j = 1; j < state.length; j++) {
+            int substitution = state[j - 1] + (term.charAt(j - 1) == c ? 0 : 1);
+            next[j] = Math.min(substitution, Math.min(state[j] + 1, next[j - 1] + 1));
+        }
+        return next;
+    }
+
+    /**
+     * Whether some continuation of the consumed characters can still be accepted
+     */
+    public boolean canMatch(int[] state) {
+        for (int distance : state) {
+            if (distance <= maxEdits) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Distance of the consumed characters to the query word
+     */
+    public int distance(int[] state) {
+        return state[state.length - 1];
+    }
+
+    /**
+     * Distance of {@code word} to the query word, or {@code maxEdits + 1} when
+     * it exceeds the budget
+     *
+     * @param word The word to compare, lower-case
+     * @return The edit distance, capped at one past the budget
+     */
+    public int distance(String word) {
+        if (Math.abs(word.length() - term.length()) > maxEdits) {
+            return maxEdits + 1;
+        }
+        int[] state = start();
+        for (int i = 0; i < word.length(); i++) {
+            state = step(state, word.charAt(i));
+            if (!canMatch(state)) {
+                return maxEdits + 1;
+            }
+        }
+        return Math.min(distance(state), maxEdits + 1);
+    }
+}
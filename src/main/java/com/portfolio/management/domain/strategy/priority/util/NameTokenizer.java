@@ -0,0 +1,60 @@
+package com.portfolio.management.domain.strategy.priority.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Splits company names and queries into lower-case word tokens
+ */
+public class NameTokenizer {
+
+    /**
+     * Maximal runs of letters and digits, lower-cased, in order of appearance;
+     * punctuation and whitespace separate tokens, so "AT&T Inc." is [at, t, inc]
+     *
+     * @param text The name or query to split, may be null
+     * @return The tokens, empty for null or blank input
+     */
+    public static List<String> tokens(String text) {
+        if (text == null) {
+            return List.of();
+        }
+        List<String> tokens = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean wordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                tokens.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Whether every query token is a prefix of some name token, in any order,
+     * so "motors gen" matches "General Motors Company"
+     *
+     * @param nameTokens  The name's tokens
+     * @param queryTokens The query's tokens, not empty
+     * @return True when every query token prefix-matches a name token
+     */
+    public static boolean prefixMatchesAll(List<String> nameTokens, List<String> queryTokens) {
+        for (String queryToken : queryTokens) {
+            boolean found = false;
+            for (String nameToken : nameTokens) {
+                if (nameToken.startsWith(queryToken)) {
+                    found = true;
+                    break;
+                }
+            }
+            if (!found) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
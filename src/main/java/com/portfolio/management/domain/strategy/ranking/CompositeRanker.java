@@ -0,0 +1,135 @@
+package com.portfolio.management.domain.strategy.ranking;
+
+import com.portfolio.management.domain.model.Stock;
+import com.portfolio.management.domain.strategy.priority.PriorityStrategy;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * One score per candidate instead of strict tiers, so a very popular prefix
+ * match ("app" for AAPL) can outrank an obscure exact name match. The score
+ * is a weighted sum of four features, each in [0, 1]:
+ * <ul>
+ *     <li>tier: 1 for the highest-priority strategy, falling linearly to
+ *     1/n for the lowest of n</li>
+ *     <li>position: 1 / (1 + index) of the earliest occurrence of the query
+ *     in the symbol or name, 0 when it occurs in neither (alias, ISIN and
+ *     fuzzy matches)</li>
+ *     <li>length: query length over name length, so "Apple Inc." beats
+ *     "Apple Hospitality REIT"</li>
+ *     <li>popularity: s / (s + h) for popularity score s and the configured
+ *     half score h</li>
+ * </ul>
+ * Strategies still decide which candidates match and at which tier; scoring
+ * and top-K selection are then one pass over the candidates with a heap
+ * holding at most {@code limit} entries. Equal scores fall back to symbol
+ * order.
+ */
+public class CompositeRanker implements SuggestionRanker {
+
+    private static final Comparator<Scored> WORST_FIRST = Comparator.comparingDouble(Scored::score)
+            .thenComparing(scored -> scored.stock().symbol(), Comparator.nullsFirst(Comparator.<String>reverseOrder()));
+
+    private final List<PriorityStrategy> strategies;
+    private final ToDoubleFunction<Stock> popularity;
+    private final RelevanceWeights weights;
+
+    /**
+     * @param strategies The priority strategies, any order
+     * @param popularity Popularity score of a stock; non-positive or
+     *                   non-finite values count as zero
+     * @param weights    Feature weights
+     */
+    public CompositeRanker(List<PriorityStrategy> strategies, ToDoubleFunction<Stock> popularity,
+                           RelevanceWeights weights) {
+        this.strategies = strategies.stream()
+                .sorted(Comparator.comparingInt(PriorityStrategy::priority))
+                .toList();
+        this.popularity = popularity;
+        this.weights = weights;
+    }
+
+    @Override
+    public List<Stock> rank(List<Stock> candidates, String query, int limit) {
+        if (limit <= 0 || candidates.isEmpty()) {
+            return List.of();
+        }
+        // Best tier per candidate: strategies in priority order, first match wins
+        Map<Stock, Integer> tiers = new IdentityHashMap<>();
+        for (int tier = 0; tier < strategies.size(); tier++) {
+            for (Stock stock : strategies.get(tier).matches(candidates, query)) {
+                tiers.putIfAbsent(stock, tier);
+            }
+        }
+
+        String needle = query.trim().toLowerCase(Locale.ROOT);
+        PriorityQueue<Scored> best = new PriorityQueue<>(limit + 1, WORST_FIRST);
+        for (Stock stock : candidates) {
+            Integer tier = tiers.get(stock);
+            if (tier == null) {
+                continue;
+            }
+            best.offer(new Scored(stock, score(stock, tier, needle)));
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+
+        List<Scored> ranked = new ArrayList<>(best);
+        ranked.sort(WORST_FIRST.reversed());
+        return ranked.stream().map(Scored::stock).toList();
+    }
+
+    /**
+     * Weighted feature sum for a candidate matched at {@code tier} (0 = highest priority)
+     */
+    double score(Stock stock, int tier, String needle) {
+        double tierScore = 1.0 - (double) tier / strategies.size();
+        return weights.tier() * tierScore
+                + weights.position() * positionScore(stock, needle)
+                + weights.length() * lengthScore(stock, needle)
+                + weights.popularity() * popularityScore(stock);
+    }
+
+    private static double positionScore(Stock stock, String needle) {
+        int index = earliest(indexOf(stock.symbol(), needle), indexOf(stock.name(), needle));
+        return index < 0 ? 0.0 : 1.0 / (1 + index);
+    }
+
+    private static double lengthScore(Stock stock, String needle) {
+        String name = stock.name() != null ? stock.name() : stock.symbol();
+        if (name == null || name.isEmpty() || needle.isEmpty()) {
+            return 0.0;
+        }
+        return Math.min(1.0, (double) needle.length() / name.length());
+    }
+
+    private double popularityScore(Stock stock) {
+        double score = popularity.applyAsDouble(stock);
+        if (!(score > 0) || Double.isInfinite(score)) {
+            return 0.0;
+        }
+        return score / (score + weights.popularityHalfScore());
+    }
+
+    private static int indexOf(String value, String needle) {
+        return value == null || needle.isEmpty() ? -1 : value.toLowerCase(Locale.ROOT).indexOf(needle);
+    }
+
+    private static int earliest(int first, int second) {
+        if (first < 0) {
+            return second;
+        }
+        return second < 0 ? first : Math.min(first, second);
+    }
+
+    private record Scored(Stock stock, double score) {
+    }
+}
@@ -0,0 +1,16 @@
+package com.portfolio.management.domain.strategy.ranking;
+
+/**
+ * How typeahead candidates are ordered
+ */
+public enum RankingMode {
+    /**
+     * Strategy tier first, popularity only within a tier: see {@link TieredRanker}
+     */
+    TIERED,
+    /**
+     * One weighted score over tier, match position, name length and
+     * popularity: see {@link CompositeRanker}
+     */
+    COMPOSITE
+}
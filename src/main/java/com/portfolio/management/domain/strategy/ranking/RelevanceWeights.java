@@ -0,0 +1,27 @@
+package com.portfolio.management.domain.strategy.ranking;
+
+/**
+ * Weights of the {@link CompositeRanker} score. Every feature is scaled to
+ * [0, 1], so a weight is the most that feature can add.
+ *
+ * @param tier                Weight of the best matching strategy's tier
+ * @param position            Weight of how early in the symbol or name the query occurs
+ * @param length              Weight of how much of the name the query covers
+ * @param popularity          Weight of the popularity score
+ * @param popularityHalfScore Popularity score that earns half the popularity
+ *                            weight; higher scores approach the full weight
+ */
+public record RelevanceWeights(double tier, double position, double length, double popularity,
+                               double popularityHalfScore) {
+
+    public static final RelevanceWeights DEFAULTS = new RelevanceWeights(1.0, 0.2, 0.2, 1.0, 50.0);
+
+    public RelevanceWeights {
+        if (tier < 0 || position < 0 || length < 0 || popularity < 0) {
+            throw new IllegalArgumentException("Relevance weights cannot be negative");
+        }
+        if (popularityHalfScore <= 0) {
+            throw new IllegalArgumentException("Popularity half score must be positive");
+        }
+    }
+}
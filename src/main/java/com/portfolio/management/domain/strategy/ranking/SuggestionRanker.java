@@ -0,0 +1,19 @@
+package com.portfolio.management.domain.strategy.ranking;
+
+import com.portfolio.management.domain.model.Stock;
+
+import java.util.List;
+
+/**
+ * Orders typeahead candidates for a query
+ */
+public interface SuggestionRanker {
+
+    /**
+     * @param candidates Stocks loaded for the query
+     * @param query      The trimmed search input
+     * @param limit      How many to return at most
+     * @return Up to {@code limit} candidates matched by some priority strategy, best first
+     */
+    List<Stock> rank(List<Stock> candidates, String query, int limit);
+}
@@ -0,0 +1,45 @@
+package com.portfolio.management.domain.strategy.ranking;
+
+import com.portfolio.management.domain.model.Stock;
+import com.portfolio.management.domain.strategy.priority.PriorityStrategy;
+
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * Strict tiers: every match of a higher-priority strategy ranks above every
+ * match of a lower one, and popularity orders stocks only within a tier. An
+ * exact match therefore always wins, however obscure.
+ */
+public class TieredRanker implements SuggestionRanker {
+
+    private final List<PriorityStrategy> strategies;
+    private final Comparator<Stock> popularityRanking;
+
+    /**
+     * @param strategies        The priority strategies, any order
+     * @param popularityRanking Order within a tier, most popular first
+     */
+    public TieredRanker(List<PriorityStrategy> strategies, Comparator<Stock> popularityRanking) {
+        this.strategies = strategies.stream()
+                .sorted(Comparator.comparingInt(PriorityStrategy::priority))
+                .toList();
+        this.popularityRanking = popularityRanking;
+    }
+
+    @Override
+    public List<Stock> rank(List<Stock> candidates, String query, int limit) {
+        LinkedHashSet<Stock> ranked = new LinkedHashSet<>();
+        for (PriorityStrategy strategy : strategies) {
+            if (ranked.size() >= limit) break;
+
+            int remainingCapacity = limit - ranked.size();
+            strategy.matches(candidates, query).stream()
+                    .sorted(popularityRanking)
+                    .limit(remainingCapacity)
+                    .forEach(ranked::add);
+        }
+        return ranked.stream().limit(limit).toList();
+    }
+}
@@ -0,0 +1,89 @@
+package com.portfolio.management.infrastructure.adapters.incoming.postgres;
+
+import com.portfolio.management.infrastructure.adapters.outgoing.repository.snapshot.AliasStore;
+import com.portfolio.management.infrastructure.adapters.outgoing.repository.snapshot.ReferenceDataStore;
+import com.portfolio.management.infrastructure.adapters.outgoing.repository.snapshot.StockSnapshotStore;
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.logging.Log;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * Maps a table_changed notification to the in-memory state built from that
+ * table: reference-data tables rebuild their snapshot, stocks rebuilds the
+ * stock snapshot and then drops the suggestion caches (in that order, so a
+ * cache miss cannot refill from the old snapshot); stock_aliases recompiles
+ * the alias automaton and drops the same caches. Nothing else is touched,
+ * so an edit to one exchange does not cost every replica a cold suggestion
+ * cache.
+ */
+@ApplicationScoped
+public class TableChangeHandler {
+
+    static final String EXCHANGES = "exchanges";
+    static final String CURRENCIES = "currencies";
+    static final String STOCK_TYPES = "stock_types";
+    static final String STOCKS = "stocks";
+    static final String STOCK_ALIASES = "stock_aliases";
+
+    private final ReferenceDataStore referenceDataStore;
+    private final StockSnapshotStore stockSnapshotStore;
+    private final AliasStore aliasStore;
+    private final Cache suggestionsCache;
+    private final Cache advancedSearchCache;
+
+    public TableChangeHandler(ReferenceDataStore referenceDataStore,
+                              StockSnapshotStore stockSnapshotStore,
+                              AliasStore aliasStore,
+                              @CacheName("stock-suggestions") Cache suggestionsCache,
+                              @CacheName("stock-advanced-search") Cache advancedSearchCache) {
+        this.referenceDataStore = referenceDataStore;
+        this.stockSnapshotStore = stockSnapshotStore;
+        this.aliasStore = aliasStore;
+        this.suggestionsCache = suggestionsCache;
+        this.advancedSearchCache = advancedSearchCache;
+    }
+
+    public Uni<Void> onTableChanged(String table) {
+        if (table == null) {
+            return Uni.createFrom().voidItem();
+        }
+        return switch (table) {
+            case EXCHANGES -> referenceDataStore.refreshExchanges().replaceWithVoid();
+            case CURRENCIES -> referenceDataStore.refreshCurrencies().replaceWithVoid();
+            case STOCK_TYPES -> referenceDataStore.refreshStockTypes().replaceWithVoid();
+            case STOCKS -> refreshStocks();
+            case STOCK_ALIASES -> refreshAliases();
+            default -> {
+                Log.debugf("Ignoring change notification for unknown table %s", table);
+                yield Uni.createFrom().voidItem();
+            }
+        };
+    }
+
+    /**
+     * Notifications sent while the listening connection was down are lost,
+     * so after a reconnect everything is treated as changed.
+     */
+    public Uni<Void> onMissedNotifications() {
+        return referenceDataStore.refreshAll()
+                .chain(() -> aliasStore.refresh().replaceWithVoid())
+                .chain(this::refreshStocks);
+    }
+
+    private Uni<Void> refreshAliases() {
+        return aliasStore.refresh()
+                .chain(this::invalidateStockCaches);
+    }
+
+    private Uni<Void> refreshStocks() {
+        return stockSnapshotStore.refreshIfLoaded()
+                .chain(this::invalidateStockCaches);
+    }
+
+    private Uni<Void> invalidateStockCaches() {
+        return suggestionsCache.invalidateAll()
+                .chain(advancedSearchCache::invalidateAll);
+    }
+}
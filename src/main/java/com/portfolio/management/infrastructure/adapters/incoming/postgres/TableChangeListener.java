@@ -0,0 +1,127 @@
+package com.portfolio.management.infrastructure.adapters.incoming.postgres;
+
+import io.quarkus.logging.Log;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import io.smallrye.common.vertx.VertxContext;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Context;
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.pgclient.pubsub.PgSubscriber;
+import io.vertx.pgclient.PgConnectOptions;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * LISTENs on the table_changed channel fed by the triggers in changelog 007
+ * and hands each notification to TableChangeHandler. This lets every replica
+ * pick up a reference-data or stock change within one round trip instead of
+ * on its own TTL schedule, which in turn is what allows those TTLs to be long.
+ * <p>
+ * LISTEN needs a dedicated connection, so this does not borrow from the
+ * reactive pool. The subscriber reconnects with capped backoff; because
+ * NOTIFY is fire-and-forget, every re-subscribe after the first is treated as
+ * "anything may have changed". Like the Redis consumer it fails open: if
+ * Postgres is unreachable the scheduled snapshot refresh and cache TTLs
+ * still bound staleness.
+ */
+@ApplicationScoped
+public class TableChangeListener {
+
+    static final String CHANNEL = "table_changed";
+
+    private static final long MAX_RECONNECT_DELAY_MS = 30_000L;
+
+    private final Vertx vertx;
+    private final TableChangeHandler tableChangeHandler;
+    private final boolean enabled;
+    private final String reactiveUrl;
+    private final String username;
+    private final String password;
+
+    private final AtomicBoolean subscribedOnce = new AtomicBoolean(false);
+    private PgSubscriber subscriber;
+
+    public TableChangeListener(Vertx vertx,
+                               TableChangeHandler tableChangeHandler,
+                               @ConfigProperty(name = "app.table-change-listener.enabled", defaultValue = "true")
+                               boolean enabled,
+                               @ConfigProperty(name = "quarkus.datasource.reactive.url") String reactiveUrl,
+                               @ConfigProperty(name = "quarkus.datasource.username") String username,
+                               @ConfigProperty(name = "quarkus.datasource.password") String password) {
+        this.vertx = vertx;
+        this.tableChangeHandler = tableChangeHandler;
+        this.enabled = enabled;
+        this.reactiveUrl = reactiveUrl;
+        this.username = username;
+        this.password = password;
+    }
+
+    void onStart(@Observes StartupEvent event) {
+        if (!enabled) {
+            Log.info("Table change listener disabled (app.table-change-listener.enabled=false); " +
+                    "snapshots and caches will refresh on their schedules only");
+            return;
+        }
+
+        PgConnectOptions options = PgConnectOptions.fromUri(reactiveUrl)
+                .setUser(username)
+                .setPassword(password);
+        subscriber = PgSubscriber.subscriber(vertx, options)
+                .reconnectPolicy(TableChangeListener::reconnectDelay);
+        subscriber.channel(CHANNEL)
+                .subscribeHandler(this::onSubscribed)
+                .handler(this::onNotification);
+
+        subscriber.connect().subscribe().with(
+                ignored -> Log.infof("Listening for table changes on channel %s", CHANNEL),
+                failure -> Log.errorf(failure, "Failed to LISTEN on channel %s - snapshots and caches " +
+                        "will refresh on their schedules only", CHANNEL));
+    }
+
+    void onStop(@Observes ShutdownEvent event) {
+        if (subscriber != null) {
+            subscriber.closeAndForget();
+        }
+    }
+
+    void onNotification(String table) {
+        Log.debugf("Table %s changed", table);
+        dispatch(() -> tableChangeHandler.onTableChanged(table), "Failed to apply change to table " + table);
+    }
+
+    void onSubscribed() {
+        if (subscribedOnce.compareAndSet(false, true)) {
+            return;
+        }
+        Log.infof("Re-subscribed to channel %s, refreshing everything it covers", CHANNEL);
+        dispatch(tableChangeHandler::onMissedNotifications, "Failed to refresh after re-subscribing");
+    }
+
+    static long reconnectDelay(int retries) {
+        return Math.min(MAX_RECONNECT_DELAY_MS, 500L << Math.min(retries, 6));
+    }
+
+    private void dispatch(Supplier<Uni<Void>> action, String failureMessage) {
+        // Snapshot rebuilds read through Panache's @WithSession, which requires a Vert.x
+        // duplicated context.
+        Uni.createFrom().voidItem()
+                .emitOn(duplicatedContextExecutor())
+                .chain(ignored -> action.get())
+                .subscribe().with(
+                        ignored -> { },
+                        failure -> Log.warn(failureMessage, failure));
+    }
+
+    private static Executor duplicatedContextExecutor() {
+        Context context = VertxContext.getOrCreateDuplicatedContext();
+        return context == null
+                ? Runnable::run
+                : action -> context.runOnContext(ignored -> action.run());
+    }
+}
@@ -0,0 +1,212 @@
+package com.portfolio.management.infrastructure.adapters.incoming.redis;
+
+import io.quarkus.logging.Log;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Drops redelivered transaction:created events by eventId before they reach
+ * the use case, so an XAUTOCLAIM or publisher retry does not double-count
+ * tx_count and repeat the popularity writes.
+ * <p>
+ * Fixed memory: a rotating pair of Bloom filters. Lookups check both
+ * generations, inserts go to the current one, and once the current one has
+ * absorbed expectedEvents ids (or outlived generationTtl) it becomes the
+ * previous generation and the old previous is cleared and reused. Every id is
+ * therefore remembered for at least one full generation, and the bit arrays
+ * never grow.
+ * <p>
+ * A false positive drops a genuine event - harmless for a ranking signal at
+ * the configured rate - while a false negative cannot happen within the
+ * remembered horizon. State is in-process, so a restart forgets it and other
+ * replicas never see it; ids it has not seen are checked against
+ * SharedEventLedger as well, which covers both.
+ */
+@ApplicationScoped
+public class EventDeduplicator {
+
+    private final boolean enabled;
+    private final int expectedEvents;
+    private final long generationTtlMillis;
+    private final int hashFunctions;
+    private final Clock clock;
+
+    private Generation current;
+    private Generation previous;
+    private long duplicatesDropped;
+
+    @Inject
+    public EventDeduplicator(RedisStreamConfig config) {
+        this(config.dedup().enabled(),
+                config.dedup().expectedEvents(),
+                config.dedup().falsePositiveRate(),
+                config.dedup().generationTtl(),
+                Clock.systemUTC());
+    }
+
+    EventDeduplicator(boolean enabled, int expectedEvents, double falsePositiveRate,
+                      Duration generationTtl, Clock clock) {
+        if (expectedEvents <= 0) {
+            throw new IllegalArgumentException("Expected events per generation must be positive");
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("False positive rate must be between 0 and 1");
+        }
+        this.enabled = enabled;
+        this.expectedEvents = expectedEvents;
+        this.generationTtlMillis = generationTtl.toMillis();
+        this.clock = clock;
+
+        long bits = optimalBits(expectedEvents, falsePositiveRate);
+        this.hashFunctions = optimalHashFunctions(expectedEvents, bits);
+        long now = clock.millis();
+        this.current = new Generation(bits, now);
+        this.previous = new Generation(bits, now);
+
+        if (enabled) {
+            Log.infof("Event dedup filter: %d KiB for 2 x %d ids, k=%d, design false positive rate %.2e",
+                    memoryBytes() / 1024, expectedEvents, hashFunctions, falsePositiveRate);
+        }
+    }
+
+    /**
+     * Records the id and reports whether it was seen for the first time.
+     * Returns true for a null id or when dedup is disabled, so such events
+     * are always processed.
+     */
+    public synchronized boolean markSeen(UUID eventId) {
+        if (!enabled || eventId == null) {
+            return true;
+        }
+        rotateIfDue();
+
+        long h1 = fmix64(eventId.getMostSignificantBits() ^ Long.rotateLeft(eventId.getLeastSignificantBits(), 32));
+        long h2 = fmix64(eventId.getLeastSignificantBits() + 0x9E3779B97F4A7C15L) | 1L;
+
+        if (previous.mightContain(h1, h2, hashFunctions) || current.mightContain(h1, h2, hashFunctions)) {
+            duplicatesDropped++;
+            return false;
+        }
+        current.put(h1, h2, hashFunctions);
+        return true;
+    }
+
+    public synchronized Stats stats() {
+        double currentRate = current.falsePositiveRate(hashFunctions);
+        double previousRate = previous.falsePositiveRate(hashFunctions);
+        return new Stats(
+                memoryBytes(),
+                hashFunctions,
+                current.insertions,
+                previous.insertions,
+                1 - (1 - currentRate) * (1 - previousRate),
+                duplicatesDropped);
+    }
+
+    private long memoryBytes() {
+        return (long) (current.words.length + previous.words.length) * Long.BYTES;
+    }
+
+    private void rotateIfDue() {
+        long now = clock.millis();
+        if (current.insertions < expectedEvents && now - current.startedAtMillis < generationTtlMillis) {
+            return;
+        }
+        Generation retired = previous;
+        previous = current;
+        current = retired.reset(now);
+        Log.debugf("Rotated event dedup filter: %s", stats());
+    }
+
+    static long optimalBits(long expectedEvents, double falsePositiveRate) {
+        double bits = -expectedEvents * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2));
+        long words = (long) Math.ceil(bits / Long.SIZE);
+        return Math.max(1, words) * Long.SIZE;
+    }
+
+    static int optimalHashFunctions(long expectedEvents, long bits) {
+        return Math.max(1, (int) Math.round((double) bits / expectedEvents * Math.log(2)));
+    }
+
+    private static long fmix64(long h) {
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    /**
+     * Point-in-time view of the filter. estimatedFalsePositiveRate is measured
+     * from the current fill of both generations, so it reads well below the
+     * design rate until the generations approach capacity.
+     */
+    public record Stats(
+            long memoryBytes,
+            int hashFunctions,
+            long currentInsertions,
+            long previousInsertions,
+            double estimatedFalsePositiveRate,
+            long duplicatesDropped
+    ) {
+    }
+
+    private static final class Generation {
+        private final long[] words;
+        private final long bits;
+        private long bitsSet;
+        private long insertions;
+        private long startedAtMillis;
+
+        private Generation(long bits, long startedAtMillis) {
+            this.words = new long[(int) (bits / Long.SIZE)];
+            this.bits = bits;
+            this.startedAtMillis = startedAtMillis;
+        }
+
+        private boolean mightContain(long h1, long h2, int k) {
+            long combined = h1;
+            for (int i = 0; i < k; i++) {
+                long index = Long.remainderUnsigned(combined, bits);
+                if ((words[(int) (index >>> 6)] & (1L << index)) == 0) {
+                    return false;
+                }
+                combined += h2;
+            }
+            return true;
+        }
+
+        private void put(long h1, long h2, int k) {
+            long combined = h1;
+            for (int i = 0; i < k; i++) {
+                long index = Long.remainderUnsigned(combined, bits);
+                int word = (int) (index >>> 6);
+                long mask = 1L << index;
+                if ((words[word] & mask) == 0) {
+                    words[word] |= mask;
+                    bitsSet++;
+                }
+                combined += h2;
+            }
+            insertions++;
+        }
+
+        private double falsePositiveRate(int k) {
+            return Math.pow((double) bitsSet / bits, k);
+        }
+
+        private Generation reset(long now) {
+            Arrays.fill(words, 0L);
+            bitsSet = 0;
+            insertions = 0;
+            startedAtMillis = now;
+            return this;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.portfolio.management.infrastructure.adapters.incoming.redis;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.portfolio.management.domain.model.ListingPopularity;
+import com.portfolio.management.domain.port.outgoing.PopularityOverlayPort;
+import io.quarkus.logging.Log;
+import io.quarkus.redis.datasource.ReactiveRedisDataSource;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import io.smallrye.mutiny.subscription.Cancellable;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Subscribes to the listing scores every replica publishes after recording
+ * a usage event and applies them to this replica's popularity overlay, so
+ * ranking reflects usage recorded anywhere in the consumer group.
+ * <p>
+ * The publishing replica receives its own scores too; applying them again is
+ * harmless, as the overlay keeps the last score per listing. The
+ * subscription resubscribes with capped backoff; updates published while it
+ * is down are lost, and those listings rank on snapshot scores until the
+ * snapshot catches up. Like the stream consumer it fails open.
+ */
+@ApplicationScoped
+public class PopularityBroadcastListener {
+
+    private static final TypeReference<List<ListingPopularity>> SCORES = new TypeReference<>() {
+    };
+
+    private final ReactiveRedisDataSource redisDataSource;
+    private final PopularityOverlayPort popularityOverlayPort;
+    private final RedisStreamConfig config;
+    private final String channel;
+
+    private Cancellable subscription;
+
+    public PopularityBroadcastListener(ReactiveRedisDataSource redisDataSource,
+                                       PopularityOverlayPort popularityOverlayPort,
+                                       RedisStreamConfig config,
+                                       @ConfigProperty(name = "app.popularity.broadcast-channel",
+                                               defaultValue = "suggestions:popularity")
+                                       String channel) {
+        this.redisDataSource = redisDataSource;
+        this.popularityOverlayPort = popularityOverlayPort;
+        this.config = config;
+        this.channel = channel;
+    }
+
+    void onStart(@Observes StartupEvent event) {
+        if (!config.enabled()) {
+            return;
+        }
+        subscription = redisDataSource.pubsub(SCORES).subscribe(channel)
+                .onFailure().invoke(failure ->
+                        Log.warnf(failure, "Lost subscription to channel %s, resubscribing", channel))
+                .onFailure().retry().withBackOff(Duration.ofMillis(500), Duration.ofSeconds(30)).indefinitely()
+                .subscribe().with(
+                        this::onScores,
+                        failure -> Log.errorf(failure, "Subscription to channel %s terminated", channel));
+        Log.infof("Listening for listing score broadcasts on channel %s", channel);
+    }
+
+    void onStop(@Observes ShutdownEvent event) {
+        if (subscription != null) {
+            subscription.cancel();
+        }
+    }
+
+    void onScores(List<ListingPopularity> scores) {
+        popularityOverlayPort.update(scores);
+    }
+}
@@ -3,6 +3,8 @@ package com.portfolio.management.infrastructure.adapters.incoming.redis;
 import io.smallrye.config.ConfigMapping;
 import io.smallrye.config.WithDefault;
 
+import java.time.Duration;
+
 @ConfigMapping(prefix = "app.redis")
 public interface RedisStreamConfig {
 
@@ -37,4 +39,64 @@ public interface RedisStreamConfig {
      */
     @WithDefault("50")
     Integer readCount();
+
+    /**
+     * Only every Nth processed message is logged, and only at debug level.
+     */
+    @WithDefault("100")
+    int logSampleEvery();
+
+    /**
+     * How often XPENDING is polled to refresh the pending-entries gauge.
+     */
+    @WithDefault("15s")
+    Duration pendingPollInterval();
+
+    /**
+     * Duplicate-delivery suppression keyed on the envelope's eventId.
+     */
+    Dedup dedup();
+
+    interface Dedup {
+
+        @WithDefault("true")
+        boolean enabled();
+
+        /**
+         * Ids one filter generation absorbs before rotating; with two
+         * generations the filter remembers between one and two of these.
+         */
+        @WithDefault("100000")
+        int expectedEvents();
+
+        /**
+         * Target false positive rate of one full generation. Each false
+         * positive silently drops a genuine event.
+         */
+        @WithDefault("0.0001")
+        double falsePositiveRate();
+
+        /**
+         * Maximum age of a generation before it rotates even if not full, so
+         * a quiet stream still ages its ids out.
+         */
+        @WithDefault("PT1H")
+        Duration generationTtl();
+
+        /**
+         * Whether ids the in-process filter has not seen are also claimed in
+         * Redis, catching replays after a restart and entries claimed from
+         * another consumer.
+         */
+        @WithDefault("true")
+        boolean shared();
+
+        /**
+         * How long a claimed id is kept in Redis. Covers the two generations
+         * the in-process filter remembers, plus time for a crashed replica's
+         * pending entries to be replayed or claimed.
+         */
+        @WithDefault("PT6H")
+        Duration sharedTtl();
+    }
 }
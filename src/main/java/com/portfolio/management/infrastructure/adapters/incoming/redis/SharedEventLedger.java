@@ -0,0 +1,63 @@
+package com.portfolio.management.infrastructure.adapters.incoming.redis;
+
+import io.quarkus.redis.datasource.ReactiveRedisDataSource;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Records handled transaction:created eventIds in Redis, shared by every
+ * replica and surviving restarts, so a message replayed after a crash or
+ * XAUTOCLAIMed by another consumer is still recognised.
+ * <p>
+ * A claim is one {@code SET <prefix><eventId> 1 NX EX <ttl>} on the
+ * connection the stream is read from: it succeeds only for the first
+ * consumer to handle the id, and the key expires on its own. The in-process
+ * EventDeduplicator stays in front of it and answers redeliveries to the
+ * same replica without a round trip.
+ * <p>
+ * The consumer treats a failed claim as a first sighting - a rare
+ * double-counted event is preferred over dropping events while Redis is
+ * unreachable. An id is claimed before the use case runs, so a crash
+ * between the two loses that one event rather than counting it twice.
+ */
+@ApplicationScoped
+public class SharedEventLedger {
+
+    static final String KEY_PREFIX = "suggestions:dedup:" + TransactionCreatedConsumer.STREAM_NAME + ":";
+
+    private final ReactiveRedisDataSource redisDataSource;
+    private final boolean enabled;
+    private final String ttlSeconds;
+
+    @Inject
+    public SharedEventLedger(ReactiveRedisDataSource redisDataSource, RedisStreamConfig config) {
+        this(redisDataSource, config.dedup().enabled() && config.dedup().shared(), config.dedup().sharedTtl());
+    }
+
+    SharedEventLedger(ReactiveRedisDataSource redisDataSource, boolean enabled, Duration ttl) {
+        if (ttl.toSeconds() <= 0) {
+            throw new IllegalArgumentException("Shared dedup TTL must be at least one second");
+        }
+        this.redisDataSource = redisDataSource;
+        this.enabled = enabled;
+        this.ttlSeconds = Long.toString(ttl.toSeconds());
+    }
+
+    /**
+     * Claims the id and reports whether no consumer had claimed it before.
+     * Emits true for a null id or when shared dedup is disabled; fails when
+     * Redis does, leaving the fallback to the caller.
+     */
+    public Uni<Boolean> claim(UUID eventId) {
+        if (!enabled || eventId == null) {
+            return Uni.createFrom().item(true);
+        }
+        // SET ... NX replies nil, surfaced as a null Response, when the key already exists
+        return redisDataSource.execute("SET", KEY_PREFIX + eventId, "1", "NX", "EX", ttlSeconds)
+                .onItem().transform(response -> response != null);
+    }
+}
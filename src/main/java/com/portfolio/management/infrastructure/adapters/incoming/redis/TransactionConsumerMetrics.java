@@ -0,0 +1,152 @@
+package com.portfolio.management.infrastructure.adapters.incoming.redis;
+
+import com.portfolio.management.domain.port.incoming.RecordStockUsageUseCase;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.enterprise.context.ApplicationScoped;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Micrometer instrumentation for the transaction:created consumer, scraped
+ * from /q/metrics. Throughput is the rate of suggestions.consumer.messages
+ * (tagged by outcome); lag is measured from the publisher's occurredAt, so it
+ * includes time spent in the stream as well as in this service.
+ * <p>
+ * Every meter is registered once up front, so the per-message path only does
+ * counter increments and timer records on pre-resolved instances.
+ */
+@ApplicationScoped
+public class TransactionConsumerMetrics {
+
+    static final String MESSAGES = "suggestions.consumer.messages";
+    static final String STAGE_LATENCY = "suggestions.consumer.stage.latency";
+    static final String LAG = "suggestions.consumer.lag";
+    static final String FAILURES = "suggestions.consumer.failures";
+    static final String PENDING = "suggestions.consumer.pending";
+    static final String DEDUP_MEMORY = "suggestions.consumer.dedup.memory";
+    static final String DEDUP_FALSE_POSITIVE_RATE = "suggestions.consumer.dedup.false.positive.rate";
+
+    enum Outcome {
+        SUCCESS, IGNORED, DUPLICATE, ERROR, UNPARSEABLE
+    }
+
+    enum Stage {
+        PARSE, RECORD, ACK
+    }
+
+    enum Failure {
+        READ, ACK, DEDUP
+    }
+
+    private final Clock clock;
+    private final Map<Outcome, Counter> messages = new EnumMap<>(Outcome.class);
+    private final Map<Stage, Timer> stageLatency = new EnumMap<>(Stage.class);
+    private final Map<Failure, Counter> failures = new EnumMap<>(Failure.class);
+    private final Timer lag;
+    private final AtomicLong pendingDepth = new AtomicLong();
+
+    public TransactionConsumerMetrics(MeterRegistry registry, EventDeduplicator eventDeduplicator) {
+        this(registry, eventDeduplicator, Clock.systemUTC());
+    }
+
+    TransactionConsumerMetrics(MeterRegistry registry, EventDeduplicator eventDeduplicator, Clock clock) {
+        this.clock = clock;
+        String stream = TransactionCreatedConsumer.STREAM_NAME;
+
+        for (Outcome outcome : Outcome.values()) {
+            messages.put(outcome, Counter.builder(MESSAGES)
+                    .description("Stream messages handled, by outcome")
+                    .tag("stream", stream)
+                    .tag("outcome", tagValue(outcome))
+                    .register(registry));
+        }
+        for (Stage stage : Stage.values()) {
+            stageLatency.put(stage, Timer.builder(STAGE_LATENCY)
+                    .description("Time spent in each per-message processing stage")
+                    .tag("stream", stream)
+                    .tag("stage", tagValue(stage))
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(Duration.ofNanos(10_000))
+                    .maximumExpectedValue(Duration.ofSeconds(5))
+                    .register(registry));
+        }
+        for (Failure failure : Failure.values()) {
+            failures.put(failure, Counter.builder(FAILURES)
+                    .description("Redis round trips that failed and were skipped")
+                    .tag("stream", stream)
+                    .tag("operation", tagValue(failure))
+                    .register(registry));
+        }
+        this.lag = Timer.builder(LAG)
+                .description("Delay between the event occurring and this service finishing with it")
+                .tag("stream", stream)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofHours(1))
+                .register(registry);
+
+        Gauge.builder(PENDING, pendingDepth, AtomicLong::get)
+                .description("Entries delivered to the consumer group but not yet acknowledged (XPENDING)")
+                .tag("stream", stream)
+                .register(registry);
+        Gauge.builder(DEDUP_MEMORY, eventDeduplicator, dedup -> dedup.stats().memoryBytes())
+                .description("Bytes held by the eventId dedup filter")
+                .baseUnit("bytes")
+                .register(registry);
+        Gauge.builder(DEDUP_FALSE_POSITIVE_RATE, eventDeduplicator, dedup -> dedup.stats().estimatedFalsePositiveRate())
+                .description("False positive rate of the eventId dedup filter estimated from its current fill")
+                .register(registry);
+    }
+
+    void recordOutcome(RecordStockUsageUseCase.Result result) {
+        Outcome outcome = switch (result) {
+            case RecordStockUsageUseCase.Result.Success ignored -> Outcome.SUCCESS;
+            case RecordStockUsageUseCase.Result.Ignored ignored -> Outcome.IGNORED;
+            case RecordStockUsageUseCase.Result.Error ignored -> Outcome.ERROR;
+        };
+        messages.get(outcome).increment();
+    }
+
+    void recordDuplicate() {
+        messages.get(Outcome.DUPLICATE).increment();
+    }
+
+    void recordUnparseable() {
+        messages.get(Outcome.UNPARSEABLE).increment();
+    }
+
+    void recordStage(Stage stage, long startNanos) {
+        stageLatency.get(stage).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    void recordLag(Instant occurredAt) {
+        if (occurredAt == null) {
+            return;
+        }
+        long lagMillis = clock.millis() - occurredAt.toEpochMilli();
+        if (lagMillis >= 0) {
+            lag.record(lagMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    void recordFailure(Failure failure) {
+        failures.get(failure).increment();
+    }
+
+    void updatePendingDepth(long depth) {
+        pendingDepth.set(depth);
+    }
+
+    private static String tagValue(Enum<?> value) {
+        return value.name().toLowerCase();
+    }
+}
@@ -8,6 +8,7 @@ import io.quarkus.redis.datasource.ReactiveRedisDataSource;
 import io.quarkus.redis.datasource.stream.ReactiveStreamCommands;
 import io.quarkus.redis.datasource.stream.StreamMessage;
 import io.quarkus.redis.datasource.stream.XReadGroupArgs;
+import io.quarkus.scheduler.Scheduled;
 import io.smallrye.common.vertx.VertxContext;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
@@ -21,6 +22,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Consumes transaction:created from Redis Streams to feed the popularity
@@ -31,6 +33,13 @@ import java.util.concurrent.atomic.AtomicBoolean;
  * result (success, ignored, error, or parse failure) is reached - there is
  * no DLQ or replay ladder, since a rare double-counted or dropped
  * transaction is immaterial to a ranking signal fed through log(1+count).
+ * Redeliveries that carry an already-seen eventId are still acknowledged but
+ * never reach the use case: the in-process EventDeduplicator catches those
+ * delivered to this replica again, and SharedEventLedger those replayed
+ * after a restart or claimed from another consumer.
+ * <p>
+ * Throughput, lag, stage latency and pending depth are exported through
+ * TransactionConsumerMetrics; per-message logging is debug-level and sampled.
  */
 @ApplicationScoped
 public class TransactionCreatedConsumer {
@@ -41,19 +50,29 @@ public class TransactionCreatedConsumer {
     private final RedisStreamConfig config;
     private final ObjectMapper objectMapper;
     private final ReactiveRedisDataSource redisDataSource;
+    private final EventDeduplicator eventDeduplicator;
+    private final SharedEventLedger sharedEventLedger;
+    private final TransactionConsumerMetrics metrics;
 
     private ReactiveStreamCommands<String, String, String> streamCommands;
     private final AtomicBoolean running = new AtomicBoolean(false);
     private final AtomicBoolean drainingPending = new AtomicBoolean(true);
+    private final AtomicLong processedCount = new AtomicLong();
 
     public TransactionCreatedConsumer(RecordStockUsageUseCase recordStockUsageUseCase,
                                       RedisStreamConfig config,
                                       ObjectMapper objectMapper,
-                                      ReactiveRedisDataSource redisDataSource) {
+                                      ReactiveRedisDataSource redisDataSource,
+                                      EventDeduplicator eventDeduplicator,
+                                      SharedEventLedger sharedEventLedger,
+                                      TransactionConsumerMetrics metrics) {
         this.recordStockUsageUseCase = recordStockUsageUseCase;
         this.config = config;
         this.objectMapper = objectMapper;
         this.redisDataSource = redisDataSource;
+        this.eventDeduplicator = eventDeduplicator;
+        this.sharedEventLedger = sharedEventLedger;
+        this.metrics = metrics;
     }
 
     @PostConstruct
@@ -72,7 +91,7 @@ public class TransactionCreatedConsumer {
 
         return createPipeline()
                 .subscribe().with(
-                        messageId -> Log.infof("Processed message %s from stream %s", messageId, STREAM_NAME),
+                        this::logSampled,
                         failure -> Log.errorf(failure, "Consumer pipeline for stream %s terminated", STREAM_NAME),
                         () -> Log.warnf("Consumer pipeline for stream %s completed unexpectedly", STREAM_NAME));
     }
@@ -81,6 +100,23 @@ public class TransactionCreatedConsumer {
         running.set(false);
     }
 
+    /**
+     * Refreshes the pending-entries gauge from XPENDING. Polled rather than
+     * queried per batch so the read loop never pays for it.
+     */
+    @Scheduled(every = "${app.redis.pending-poll-interval:15s}", concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    Uni<Void> samplePendingDepth() {
+        if (!running.get()) {
+            return Uni.createFrom().voidItem();
+        }
+        return streamCommands.xpending(STREAM_NAME, config.group())
+                .onItem().invoke(summary -> metrics.updatePendingDepth(summary.getPendingCount()))
+                .onFailure().invoke(throwable ->
+                        Log.debugf(throwable, "Failed to read pending depth of stream %s", STREAM_NAME))
+                .onFailure().recoverWithNull()
+                .replaceWithVoid();
+    }
+
     private Multi<String> createPipeline() {
         return Multi.createBy().repeating()
                 .uni(this::fetchMessages)
@@ -92,8 +128,8 @@ public class TransactionCreatedConsumer {
 
     private Uni<List<StreamMessage<String, String, String>>> fetchMessages() {
         // First drain this consumer's own pending entries (offset "0"), then switch
-        // to live reads (">"); XAUTOCLAIM of other consumers' entries is out of scope
-        // for a single-instance deployment.
+        // to live reads (">"). Entries another consumer XAUTOCLAIMs from this one are
+        // kept from being counted twice by SharedEventLedger.
         String offset = drainingPending.get() ? "0" : ">";
         Map<String, String> streamOffsets = Map.of(STREAM_NAME, offset);
         XReadGroupArgs args = new XReadGroupArgs()
@@ -107,8 +143,10 @@ public class TransactionCreatedConsumer {
                         Log.infof("Pending entries drained for stream %s, switching to live reads", STREAM_NAME);
                     }
                 })
-                .onFailure().invoke(throwable ->
-                        Log.errorf(throwable, "Failed to read from stream %s", STREAM_NAME))
+                .onFailure().invoke(throwable -> {
+                    metrics.recordFailure(TransactionConsumerMetrics.Failure.READ);
+                    Log.errorf(throwable, "Failed to read from stream %s", STREAM_NAME);
+                })
                 .onFailure().recoverWithItem(List.of());
     }
 
@@ -120,11 +158,13 @@ public class TransactionCreatedConsumer {
         // duplicated context.
         return Uni.createFrom().voidItem()
                 .emitOn(duplicatedContextExecutor())
-                .onItem().transformToUni(ignored -> parseCommand(fields))
-                .onItem().transformToUni(recordStockUsageUseCase::execute)
+                .onItem().transformToUni(ignored -> parseEnvelope(fields))
+                .onItem().transformToUni(this::recordUnlessDuplicate)
                 .onItem().invoke(result -> logResult(messageId, result))
-                .onFailure().invoke(throwable ->
-                        Log.warnf(throwable, "Skipping message %s on stream %s", messageId, STREAM_NAME))
+                .onFailure().invoke(throwable -> {
+                    metrics.recordUnparseable();
+                    Log.warnf(throwable, "Skipping message %s on stream %s", messageId, STREAM_NAME);
+                })
                 .onFailure().recoverWithItem((RecordStockUsageUseCase.Result) null)
                 .onItem().transformToUni(ignored -> acknowledge(messageId));
     }
@@ -136,27 +176,67 @@ public class TransactionCreatedConsumer {
                 : action -> context.runOnContext(ignored -> action.run());
     }
 
-    private Uni<RecordStockUsageUseCase.Command> parseCommand(Map<String, String> fields) {
-        return Uni.createFrom().item(() -> {
-            String payload = fields.get("payload");
-            if (payload == null) {
-                throw new IllegalArgumentException("Missing 'payload' field in stream message");
-            }
+    private Uni<RecordStockUsageUseCase.Result> recordUnlessDuplicate(EventEnvelope envelope) {
+        if (!eventDeduplicator.markSeen(envelope.eventId())) {
+            return duplicate(envelope);
+        }
+        return sharedEventLedger.claim(envelope.eventId())
+                .onFailure().invoke(throwable -> {
+                    metrics.recordFailure(TransactionConsumerMetrics.Failure.DEDUP);
+                    Log.warnf(throwable, "Failed to claim event %s, processing it unchecked", envelope.eventId());
+                })
+                .onFailure().recoverWithItem(true)
+                .onItem().transformToUni(first -> first ? record(envelope) : duplicate(envelope));
+    }
+
+    private Uni<RecordStockUsageUseCase.Result> duplicate(EventEnvelope envelope) {
+        metrics.recordDuplicate();
+        return Uni.createFrom().item(
+                new RecordStockUsageUseCase.Result.Ignored("duplicate event " + envelope.eventId()));
+    }
 
-            EventEnvelope envelope;
+    private Uni<RecordStockUsageUseCase.Result> record(EventEnvelope envelope) {
+        var data = envelope.payload();
+        long start = System.nanoTime();
+        return recordStockUsageUseCase.execute(
+                        new RecordStockUsageUseCase.Command(data.ticker(), data.exchange(), data.currency()))
+                .onItem().invoke(result -> {
+                    metrics.recordStage(TransactionConsumerMetrics.Stage.RECORD, start);
+                    metrics.recordOutcome(result);
+                    metrics.recordLag(envelope.occurredAt());
+                });
+    }
+
+    private Uni<EventEnvelope> parseEnvelope(Map<String, String> fields) {
+        return Uni.createFrom().item(() -> {
+            long start = System.nanoTime();
             try {
-                envelope = objectMapper.readValue(payload, EventEnvelope.class);
-            } catch (Exception e) {
-                throw new IllegalArgumentException("Failed to deserialize event envelope", e);
+                return readEnvelope(fields);
+            } finally {
+                metrics.recordStage(TransactionConsumerMetrics.Stage.PARSE, start);
             }
+        });
+    }
 
-            var data = envelope.payload();
-            if (data == null || data.ticker() == null || data.ticker().isBlank()) {
-                throw new IllegalArgumentException("Missing ticker in transaction created payload");
-            }
+    private EventEnvelope readEnvelope(Map<String, String> fields) {
+        String payload = fields.get("payload");
+        if (payload == null) {
+            throw new IllegalArgumentException("Missing 'payload' field in stream message");
+        }
 
-            return new RecordStockUsageUseCase.Command(data.ticker(), data.exchange(), data.currency());
-        });
+        EventEnvelope envelope;
+        try {
+            envelope = objectMapper.readValue(payload, EventEnvelope.class);
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Failed to deserialize event envelope", e);
+        }
+
+        var data = envelope.payload();
+        if (data == null || data.ticker() == null || data.ticker().isBlank()) {
+            throw new IllegalArgumentException("Missing ticker in transaction created payload");
+        }
+
+        return envelope;
     }
 
     private void logResult(String messageId, RecordStockUsageUseCase.Result result) {
@@ -170,11 +250,22 @@ public class TransactionCreatedConsumer {
         }
     }
 
+    private void logSampled(String messageId) {
+        long processed = processedCount.incrementAndGet();
+        if (Log.isDebugEnabled() && processed % Math.max(1, config.logSampleEvery()) == 0) {
+            Log.debugf("Processed message %s from stream %s (%d since start)", messageId, STREAM_NAME, processed);
+        }
+    }
+
     private Uni<String> acknowledge(String messageId) {
+        long start = System.nanoTime();
         return streamCommands.xack(STREAM_NAME, config.group(), messageId)
                 .onItem().transform(count -> messageId)
-                .onFailure().invoke(throwable ->
-                        Log.errorf(throwable, "Failed to acknowledge message %s on stream %s", messageId, STREAM_NAME))
+                .onItem().invoke(() -> metrics.recordStage(TransactionConsumerMetrics.Stage.ACK, start))
+                .onFailure().invoke(throwable -> {
+                    metrics.recordFailure(TransactionConsumerMetrics.Failure.ACK);
+                    Log.errorf(throwable, "Failed to acknowledge message %s on stream %s", messageId, STREAM_NAME);
+                })
                 .onFailure().recoverWithItem(messageId);
     }
 }
@@ -0,0 +1,123 @@
+package com.portfolio.management.infrastructure.adapters.incoming.redis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.management.domain.port.incoming.RecordTrendingUsageUseCase;
+import com.portfolio.management.infrastructure.adapters.incoming.redis.dto.EventEnvelope;
+import io.quarkus.logging.Log;
+import io.quarkus.redis.datasource.ReactiveRedisDataSource;
+import io.quarkus.redis.datasource.stream.ReactiveStreamCommands;
+import io.quarkus.redis.datasource.stream.StreamMessage;
+import io.quarkus.redis.datasource.stream.XReadArgs;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.Cancellable;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Tails transaction:created with a plain XREAD, outside the consumer group,
+ * so every replica counts every event towards its trending tickers. The
+ * consumer group hands each event to one replica only, which would leave
+ * each replica's counts a different fraction of the feed and make trending
+ * answers depend on which replica a request lands on.
+ * <p>
+ * Reading starts at the stream position of startup time, and each read
+ * continues from the last entry seen, so nothing is acknowledged and no
+ * pending state is kept. Trending counts are approximate anyway: an event
+ * published twice is counted twice, and events added while the reader is
+ * down are not counted at all.
+ */
+@ApplicationScoped
+public class TrendingStreamReader {
+
+    private final RecordTrendingUsageUseCase recordTrendingUsageUseCase;
+    private final RedisStreamConfig config;
+    private final ObjectMapper objectMapper;
+    private final ReactiveRedisDataSource redisDataSource;
+    private final Clock clock;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private ReactiveStreamCommands<String, String, String> streamCommands;
+    private Cancellable subscription;
+    private volatile String lastId;
+
+    public TrendingStreamReader(RecordTrendingUsageUseCase recordTrendingUsageUseCase,
+                                RedisStreamConfig config,
+                                ObjectMapper objectMapper,
+                                ReactiveRedisDataSource redisDataSource) {
+        this(recordTrendingUsageUseCase, config, objectMapper, redisDataSource, Clock.systemUTC());
+    }
+
+    TrendingStreamReader(RecordTrendingUsageUseCase recordTrendingUsageUseCase,
+                         RedisStreamConfig config,
+                         ObjectMapper objectMapper,
+                         ReactiveRedisDataSource redisDataSource,
+                         Clock clock) {
+        this.recordTrendingUsageUseCase = recordTrendingUsageUseCase;
+        this.config = config;
+        this.objectMapper = objectMapper;
+        this.redisDataSource = redisDataSource;
+        this.clock = clock;
+    }
+
+    void onStart(@Observes StartupEvent event) {
+        if (!config.enabled() || !running.compareAndSet(false, true)) {
+            return;
+        }
+        streamCommands = redisDataSource.stream(String.class, String.class, String.class);
+        // A stream id is <milliseconds>-<sequence>, so this skips everything added before startup
+        lastId = clock.millis() + "-0";
+        subscription = Multi.createBy().repeating()
+                .uni(this::fetchMessages)
+                .whilst(ignored -> running.get())
+                .onItem().transformToMulti(messages -> Multi.createFrom().iterable(messages))
+                .concatenate()
+                .subscribe().with(
+                        this::record,
+                        failure -> Log.errorf(failure, "Trending reader for stream %s terminated",
+                                TransactionCreatedConsumer.STREAM_NAME));
+        Log.infof("Counting trending tickers from every entry of stream %s", TransactionCreatedConsumer.STREAM_NAME);
+    }
+
+    void onStop(@Observes ShutdownEvent event) {
+        running.set(false);
+        if (subscription != null) {
+            subscription.cancel();
+        }
+    }
+
+    private Uni<List<StreamMessage<String, String, String>>> fetchMessages() {
+        XReadArgs args = new XReadArgs()
+                .count(config.readCount())
+                .block(Duration.ofMillis(config.blockMs()));
+        return streamCommands.xread(Map.of(TransactionCreatedConsumer.STREAM_NAME, lastId), args)
+                .onFailure().invoke(throwable ->
+                        Log.warnf(throwable, "Failed to read stream %s for trending", TransactionCreatedConsumer.STREAM_NAME))
+                .onFailure().recoverWithUni(() -> Uni.createFrom().item(List.<StreamMessage<String, String, String>>of())
+                        .onItem().delayIt().by(Duration.ofSeconds(1)));
+    }
+
+    void record(StreamMessage<String, String, String> message) {
+        lastId = message.id();
+        String payload = message.payload().get("payload");
+        if (payload == null) {
+            return;
+        }
+        try {
+            EventEnvelope envelope = objectMapper.readValue(payload, EventEnvelope.class);
+            if (envelope.payload() != null) {
+                recordTrendingUsageUseCase.execute(new RecordTrendingUsageUseCase.Command(envelope.payload().ticker()));
+            }
+        } catch (Exception e) {
+            Log.debugf(e, "Skipping unparseable message %s for trending", message.id());
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.portfolio.management.infrastructure.adapters.incoming.scheduler;
+
+import com.portfolio.management.domain.port.incoming.RecomputePopularityUseCase;
+import io.quarkus.scheduler.Scheduled;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * Periodically drains the popularity dirty set. Overlapping runs are skipped
+ * rather than queued: a slow pass just means the next one has more keys.
+ */
+@ApplicationScoped
+public class PopularityRecomputeJob {
+
+    private final RecomputePopularityUseCase recomputePopularityUseCase;
+
+    public PopularityRecomputeJob(RecomputePopularityUseCase recomputePopularityUseCase) {
+        this.recomputePopularityUseCase = recomputePopularityUseCase;
+    }
+
+    @Scheduled(every = "${app.popularity.dirty-recompute-interval}",
+            delayed = "${app.popularity.dirty-recompute-interval}",
+            concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    Uni<Void> recomputeDirtyScores() {
+        return recomputePopularityUseCase.execute().replaceWithVoid();
+    }
+}
@@ -0,0 +1,44 @@
+package com.portfolio.management.infrastructure.adapters.incoming.web;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.MessageBodyWriter;
+import jakarta.ws.rs.ext.Provider;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+/**
+ * Writes any entity as CBOR or Smile for callers that asked for it. JSON
+ * stays with the default Jackson writer; entities with a dedicated writer
+ * (suggestions, pre-rendered bodies) never reach this one.
+ */
+@Provider
+@Produces({WireFormat.APPLICATION_CBOR, WireFormat.APPLICATION_SMILE})
+public class BinaryFormatWriter implements MessageBodyWriter<Object> {
+
+    private final WireFormatMappers mappers;
+
+    public BinaryFormatWriter(WireFormatMappers mappers) {
+        this.mappers = mappers;
+    }
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return WireFormat.of(mediaType) != WireFormat.JSON;
+    }
+
+    @Override
+    public void writeTo(Object entity, Class<?> type, Type genericType, Annotation[] annotations,
+                        MediaType mediaType, MultivaluedMap<String, Object> httpHeaders,
+                        OutputStream entityStream) throws IOException {
+        mappers.mapper(WireFormat.of(mediaType))
+                .writer()
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .writeValue(entityStream, entity);
+    }
+}
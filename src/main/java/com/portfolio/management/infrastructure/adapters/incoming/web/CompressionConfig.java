@@ -0,0 +1,28 @@
+package com.portfolio.management.infrastructure.adapters.incoming.web;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+import java.util.Map;
+
+@ConfigMapping(prefix = "app.compression")
+public interface CompressionConfig {
+
+    /**
+     * Smallest body, in bytes, that gets compressed when the endpoint group has
+     * no threshold of its own. Below roughly one packet gzip saves no round
+     * trips, and its header and trailer can make the body larger.
+     */
+    @WithDefault("1024")
+    int defaultMinSize();
+
+    /**
+     * Per endpoint group thresholds, keyed by {@link CompressionThreshold#value()}
+     */
+    Map<String, Integer> minSize();
+
+    default int minSizeFor(String group) {
+        Integer configured = group == null ? null : minSize().get(group);
+        return configured != null ? configured : defaultMinSize();
+    }
+}
@@ -0,0 +1,25 @@
+package com.portfolio.management.infrastructure.adapters.incoming.web;
+
+import jakarta.ws.rs.NameBinding;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks an endpoint whose JSON bodies are only worth compressing above a size
+ * threshold. The value names the endpoint group whose threshold applies
+ * ({@code app.compression.min-size."<value>"}); an unnamed or unconfigured
+ * group falls back to {@code app.compression.default-min-size}.
+ * <p>
+ * The endpoint must also be {@link io.quarkus.vertx.http.Compressed} so the
+ * HTTP layer compresses it at all; this only opts small bodies back out.
+ */
+@NameBinding
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface CompressionThreshold {
+
+    String value() default "";
+}
@@ -0,0 +1,154 @@
+package com.portfolio.management.infrastructure.adapters.incoming.web;
+
+import jakarta.ws.rs.container.ResourceInfo;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.ext.Provider;
+import jakarta.ws.rs.ext.WriterInterceptor;
+import jakarta.ws.rs.ext.WriterInterceptorContext;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Method;
+
+/**
+ * Keeps small bodies of {@link CompressionThreshold} resources uncompressed.
+ * <p>
+ * The body is held back until it either reaches the group's threshold, at
+ * which point it streams through untouched and the HTTP layer compresses it,
+ * or ends below it, at which point the response is marked
+ * {@code Content-Encoding: identity} before a byte is written. Only bodies
+ * under the threshold are ever buffered in full.
+ * <p>
+ * Responses that already carry a content coding (the pre-gzipped reference
+ * data bodies) pass straight through.
+ */
+@Provider
+@CompressionThreshold
+public class CompressionThresholdInterceptor implements WriterInterceptor {
+
+    static final String IDENTITY = "identity";
+
+    private final CompressionConfig config;
+
+    @Context
+    ResourceInfo resourceInfo;
+
+    public CompressionThresholdInterceptor(CompressionConfig config) {
+        this.config = config;
+    }
+
+    @Override
+    public void aroundWriteTo(WriterInterceptorContext context) throws IOException {
+        if (context.getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)) {
+            context.proceed();
+            return;
+        }
+
+        OutputStream original = context.getOutputStream();
+        var thresholdStream = new ThresholdOutputStream(original, config.minSizeFor(group()),
+                () -> context.getHeaders().putSingle(HttpHeaders.CONTENT_ENCODING, IDENTITY));
+        context.setOutputStream(thresholdStream);
+        try {
+            context.proceed();
+            thresholdStream.finish();
+        } finally {
+            context.setOutputStream(original);
+        }
+    }
+
+    /**
+     * The annotation sits on the controller interface method; the resource
+     * method reported at runtime may be the implementing class's override.
+     */
+    private String group() {
+        Method method = resourceInfo == null ? null : resourceInfo.getResourceMethod();
+        if (method == null) {
+            return null;
+        }
+        CompressionThreshold annotation = method.getAnnotation(CompressionThreshold.class);
+        for (Class<?> type : method.getDeclaringClass().getInterfaces()) {
+            if (annotation != null) {
+                break;
+            }
+            try {
+                annotation = type.getMethod(method.getName(), method.getParameterTypes())
+                        .getAnnotation(CompressionThreshold.class);
+            } catch (NoSuchMethodException ignored) {
+                // not declared by this interface
+            }
+        }
+        return annotation == null || annotation.value().isEmpty() ? null : annotation.value();
+    }
+
+    /**
+     * Buffers writes until {@code threshold} bytes have been seen, then switches
+     * to pass-through. Flushes are held back while buffering, since flushing the
+     * target would commit the response headers before the decision is made.
+     */
+    static final class ThresholdOutputStream extends OutputStream {
+
+        private final OutputStream target;
+        private final int threshold;
+        private final Runnable belowThreshold;
+        private ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+
+        ThresholdOutputStream(OutputStream target, int threshold, Runnable belowThreshold) {
+            this.target = target;
+            this.threshold = threshold;
+            this.belowThreshold = belowThreshold;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (buffer == null) {
+                target.write(b, off, len);
+                return;
+            }
+            if (buffer.size() + len < threshold) {
+                buffer.write(b, off, len);
+                return;
+            }
+            buffer.writeTo(target);
+            buffer = null;
+            target.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (buffer == null) {
+                target.flush();
+            }
+        }
+
+        /**
+         * Ends the buffering phase. If the threshold was never reached the
+         * body is too small to compress: the callback marks it so, then the
+         * buffered bytes are written. Idempotent.
+         */
+        void finish() throws IOException {
+            if (buffer == null) {
+                return;
+            }
+            belowThreshold.run();
+            buffer.writeTo(target);
+            buffer = null;
+        }
+
+        boolean buffering() {
+            return buffer != null;
+        }
+
+        @Override
+        public void close() throws IOException {
+            finish();
+            target.close();
+        }
+    }
+}
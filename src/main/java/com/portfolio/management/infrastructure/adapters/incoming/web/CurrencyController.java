@@ -2,8 +2,10 @@ package com.portfolio.management.infrastructure.adapters.incoming.web;
 
 import com.portfolio.management.infrastructure.adapters.incoming.web.dto.CurrencyResponse;
 import com.portfolio.management.infrastructure.adapters.incoming.web.dto.ErrorResponse;
+import io.quarkus.vertx.http.Compressed;
 import io.smallrye.mutiny.Uni;
 import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import org.eclipse.microprofile.openapi.annotations.Operation;
@@ -26,6 +28,9 @@ import org.eclipse.microprofile.openapi.annotations.tags.Tag;
 public interface CurrencyController {
 
     @GET
+    @Produces({MediaType.APPLICATION_JSON, WireFormat.APPLICATION_CBOR, WireFormat.APPLICATION_SMILE})
+    @Compressed
+    @CompressionThreshold("currencies")
     @Operation(
             summary = "Get all currencies",
             description = "Retrieve all available currencies with optional filtering"
@@ -57,6 +62,10 @@ public interface CurrencyController {
                             )
                     )
             ),
+            @APIResponse(
+                    responseCode = "304",
+                    description = "Not modified: the unfiltered list still matches the If-None-Match ETag"
+            ),
             @APIResponse(
                     responseCode = "400",
                     description = "Invalid request parameters",
@@ -98,10 +107,26 @@ public interface CurrencyController {
                     example = "false"
             )
             @QueryParam("majorOnly")
-            Boolean majorOnly
+            Boolean majorOnly,
+
+            @Parameter(
+                    name = "If-None-Match",
+                    description = "ETag from a previous unfiltered response; answered with 304 when unchanged"
+            )
+            @HeaderParam(HttpHeaders.IF_NONE_MATCH)
+            String ifNoneMatch,
+
+            @Parameter(hidden = true)
+            @HeaderParam(HttpHeaders.ACCEPT_ENCODING)
+            String acceptEncoding,
+
+            @Parameter(hidden = true)
+            @HeaderParam(HttpHeaders.ACCEPT)
+            String accept
     );
 
     @GET
+    @Produces({MediaType.APPLICATION_JSON, WireFormat.APPLICATION_CBOR, WireFormat.APPLICATION_SMILE})
     @Path("/{id}")
     @Operation(
             summary = "Get currency by ID",
@@ -153,6 +178,7 @@ public interface CurrencyController {
     );
 
     @GET
+    @Produces({MediaType.APPLICATION_JSON, WireFormat.APPLICATION_CBOR, WireFormat.APPLICATION_SMILE})
     @Path("/code/{code}")
     @Operation(
             summary = "Get currency by code",
@@ -23,21 +23,27 @@ public class CurrencyResource implements CurrencyController {
     private final GetCurrencyUseCase getCurrencyUseCase;
     private final CurrencyWebMapper currencyMapper;
     private final ErrorMapper errorMapper;
+    private final PrecompressedBodyCache bodyCache;
 
     public CurrencyResource(GetCurrenciesUseCase getCurrenciesUseCase,
                            GetCurrencyUseCase getCurrencyUseCase,
                            CurrencyWebMapper currencyMapper,
-                           ErrorMapper errorMapper) {
+                           ErrorMapper errorMapper,
+                           PrecompressedBodyCache bodyCache) {
         this.getCurrenciesUseCase = getCurrenciesUseCase;
         this.getCurrencyUseCase = getCurrencyUseCase;
         this.currencyMapper = currencyMapper;
         this.errorMapper = errorMapper;
+        this.bodyCache = bodyCache;
     }
 
     @Override
     public Uni<Response> getCurrencies(String search,
                                       String countryCode,
-                                      Boolean majorOnly) {
+                                      Boolean majorOnly,
+                                      String ifNoneMatch,
+                                      String acceptEncoding,
+                                      String accept) {
         
         LOG.infof("GET /currencies - search: %s, countryCode: %s, majorOnly: %s", search, countryCode, majorOnly);
         
@@ -51,6 +57,12 @@ public class CurrencyResource implements CurrencyController {
             .map(result -> switch (result) {
                 case GetCurrenciesUseCase.Result.Success success -> {
                     LOG.infof("Successfully retrieved %d currencies", success.count());
+                    if (query.isUnfiltered()) {
+                        yield bodyCache.get("currencies", WireFormat.negotiate(accept),
+                                        () -> currencyMapper.toCurrencyResponse(success.currencies()),
+                                        success.currencies())
+                                .toResponse(ifNoneMatch, acceptEncoding);
+                    }
                     yield Response.ok(currencyMapper.toCurrencyResponse(success.currencies())).build();
                 }
                 case GetCurrenciesUseCase.Result.ValidationError validationError -> {
@@ -0,0 +1,55 @@
+package com.portfolio.management.infrastructure.adapters.incoming.web;
+
+import com.portfolio.management.domain.model.StockCursor;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * Opaque wire form of a {@link StockCursor}: URL-safe base64 of a version
+ * byte, the score's exact double bits, the id and the UTF-8 symbol. Clients
+ * pass it back untouched; the layout is free to change with the version byte.
+ */
+final class CursorToken {
+
+    private static final byte VERSION = 1;
+    private static final int HEADER_BYTES = 1 + Double.BYTES + Long.BYTES;
+
+    private CursorToken() {
+    }
+
+    static String encode(StockCursor cursor) {
+        byte[] symbol = cursor.symbol().getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + symbol.length)
+                .put(VERSION)
+                .putDouble(cursor.popularityScore())
+                .putLong(cursor.id())
+                .put(symbol);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    /**
+     * Empty for anything this version did not produce
+     */
+    static Optional<StockCursor> decode(String token) {
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(token.trim());
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+        if (bytes.length <= HEADER_BYTES || bytes[0] != VERSION) {
+            return Optional.empty();
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, 1, bytes.length - 1);
+        double score = buffer.getDouble();
+        long id = buffer.getLong();
+        if (Double.isNaN(score)) {
+            return Optional.empty();
+        }
+        String symbol = new String(bytes, HEADER_BYTES, bytes.length - HEADER_BYTES, StandardCharsets.UTF_8);
+        return Optional.of(new StockCursor(score, symbol, id));
+    }
+}
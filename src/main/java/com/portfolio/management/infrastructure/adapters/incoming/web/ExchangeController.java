@@ -2,8 +2,10 @@ package com.portfolio.management.infrastructure.adapters.incoming.web;
 
 import com.portfolio.management.infrastructure.adapters.incoming.web.dto.ErrorResponse;
 import com.portfolio.management.infrastructure.adapters.incoming.web.dto.ExchangeResponse;
+import io.quarkus.vertx.http.Compressed;
 import io.smallrye.mutiny.Uni;
 import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import org.eclipse.microprofile.openapi.annotations.Operation;
@@ -26,6 +28,9 @@ import org.eclipse.microprofile.openapi.annotations.tags.Tag;
 public interface ExchangeController {
 
     @GET
+    @Produces({MediaType.APPLICATION_JSON, WireFormat.APPLICATION_CBOR, WireFormat.APPLICATION_SMILE})
+    @Compressed
+    @CompressionThreshold("exchanges")
     @Operation(
             summary = "Get all exchanges",
             description = "Retrieve all available stock exchanges with optional filtering"
@@ -58,6 +63,10 @@ public interface ExchangeController {
                             )
                     )
             ),
+            @APIResponse(
+                    responseCode = "304",
+                    description = "Not modified: the unfiltered list still matches the If-None-Match ETag"
+            ),
             @APIResponse(
                     responseCode = "400",
                     description = "Invalid request parameters",
@@ -101,19 +110,35 @@ public interface ExchangeController {
             String currency,
 
             @Parameter(
-                    name = "country",
-                    description = "Filter exchanges by country",
+                    name = "region",
+                    description = "Filter exchanges by region",
                     schema = @Schema(
                             type = SchemaType.STRING,
                             enumeration = {"US", "EUROPE", "ASIA"}
                     ),
                     example = "US"
             )
-            @QueryParam("country")
-            String region
+            @QueryParam("region")
+            String region,
+
+            @Parameter(
+                    name = "If-None-Match",
+                    description = "ETag from a previous unfiltered response; answered with 304 when unchanged"
+            )
+            @HeaderParam(HttpHeaders.IF_NONE_MATCH)
+            String ifNoneMatch,
+
+            @Parameter(hidden = true)
+            @HeaderParam(HttpHeaders.ACCEPT_ENCODING)
+            String acceptEncoding,
+
+            @Parameter(hidden = true)
+            @HeaderParam(HttpHeaders.ACCEPT)
+            String accept
     );
 
     @GET
+    @Produces({MediaType.APPLICATION_JSON, WireFormat.APPLICATION_CBOR, WireFormat.APPLICATION_SMILE})
     @Path("/{id}")
     @Operation(
             summary = "Get exchange by ID",
@@ -165,6 +190,7 @@ public interface ExchangeController {
     );
 
     @GET
+    @Produces({MediaType.APPLICATION_JSON, WireFormat.APPLICATION_CBOR, WireFormat.APPLICATION_SMILE})
     @Path("/code/{code}")
     @Operation(
             summary = "Get exchange by code",
@@ -21,24 +21,30 @@ public class ExchangeResource implements ExchangeController {
     private final GetExchangeUseCase getExchangeUseCase;
     private final ExchangeWebMapper exchangeMapper;
     private final ErrorMapper errorMapper;
+    private final PrecompressedBodyCache bodyCache;
 
     public ExchangeResource(GetExchangesUseCase getExchangesUseCase,
                             GetExchangeUseCase getExchangeUseCase,
                             ExchangeWebMapper exchangeMapper,
-                            ErrorMapper errorMapper) {
+                            ErrorMapper errorMapper,
+                            PrecompressedBodyCache bodyCache) {
         this.getExchangesUseCase = getExchangesUseCase;
         this.getExchangeUseCase = getExchangeUseCase;
         this.exchangeMapper = exchangeMapper;
         this.errorMapper = errorMapper;
+        this.bodyCache = bodyCache;
     }
 
     @Override
     public Uni<Response> getExchanges(String search,
                                       String country,
                                       String currency,
-                                      String region) {
+                                      String region,
+                                      String ifNoneMatch,
+                                      String acceptEncoding,
+                                      String accept) {
 
-        LOG.infof("GET /exchanges - search: %s, country: %s, currency: %s, country: %s",
+        LOG.infof("GET /exchanges - search: %s, country: %s, currency: %s, region: %s",
                 search, country, currency, region);
 
         GetExchangesUseCase.RegionFilter regionFilter = null;
@@ -46,10 +52,10 @@ public class ExchangeResource implements ExchangeController {
             try {
                 regionFilter = GetExchangesUseCase.RegionFilter.valueOf(region.trim().toUpperCase());
             } catch (IllegalArgumentException e) {
-                LOG.warnf("Invalid country filter: %s", region);
+                LOG.warnf("Invalid region filter: %s", region);
                 return Uni.createFrom().item(
                         Response.status(Response.Status.BAD_REQUEST)
-                                .entity(errorMapper.toErrorResponse("country", "Invalid country. Valid values: US, EUROPE, ASIA", "INVALID_REGION"))
+                                .entity(errorMapper.toErrorResponse("region", "Invalid region. Valid values: US, EUROPE, ASIA", "INVALID_REGION"))
                                 .build()
                 );
             }
@@ -61,6 +67,12 @@ public class ExchangeResource implements ExchangeController {
                 .map(result -> switch (result) {
                     case GetExchangesUseCase.Result.Success success -> {
                         LOG.infof("Successfully retrieved %d exchanges", success.count());
+                        if (query.isUnfiltered()) {
+                            yield bodyCache.get("exchanges", WireFormat.negotiate(accept),
+                                            () -> exchangeMapper.toExchangeResponse(success.exchanges()),
+                                            success.exchanges())
+                                    .toResponse(ifNoneMatch, acceptEncoding);
+                        }
                         yield Response.ok(exchangeMapper.toExchangeResponse(success.exchanges())).build();
                     }
                     case GetExchangesUseCase.Result.ValidationError validationError -> {
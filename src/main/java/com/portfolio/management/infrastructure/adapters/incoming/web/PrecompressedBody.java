@@ -0,0 +1,175 @@
+package com.portfolio.management.infrastructure.adapters.incoming.web;
+
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A body rendered once and kept as bytes, with a gzip variant alongside.
+ * Serving it is a header check and a byte copy: no mapping, no Jackson, no
+ * per-request compression.
+ * <p>
+ * The ETag is derived from the uncompressed bytes, so every replica that holds
+ * the same data hands out the same validator and a client can revalidate
+ * against any of them. Each content coding gets its own strong ETag (as RFC
+ * 9110 requires), but If-None-Match accepts either, since both encode the same
+ * document.
+ */
+public final class PrecompressedBody {
+
+    static final String GZIP = "gzip";
+    static final String CACHE_CONTROL = "no-cache";
+    static final String VARY = HttpHeaders.ACCEPT + ", " + HttpHeaders.ACCEPT_ENCODING;
+
+    private final MediaType mediaType;
+    private final byte[] identity;
+    private final byte[] gzip;
+    private final String identityEtag;
+    private final String gzipEtag;
+
+    private PrecompressedBody(MediaType mediaType, byte[] identity, byte[] gzip, String digest) {
+        this.mediaType = mediaType;
+        this.identity = identity;
+        this.gzip = gzip;
+        this.identityEtag = '"' + digest + '"';
+        this.gzipEtag = '"' + digest + "-" + GZIP + '"';
+    }
+
+    /**
+     * Wraps an already serialized JSON document. The gzip variant is dropped
+     * when it would not be smaller than the original.
+     */
+    public static PrecompressedBody of(byte[] json) {
+        return of(json, MediaType.APPLICATION_JSON_TYPE);
+    }
+
+    /**
+     * Wraps an already serialized document of the given type. Different
+     * encodings of the same data get different ETags, since the digest is over
+     * the bytes.
+     */
+    public static PrecompressedBody of(byte[] body, MediaType mediaType) {
+        byte[] compressed = gzip(body);
+        return new PrecompressedBody(mediaType, body, compressed.length < body.length ? compressed : null, digest(body));
+    }
+
+    public Response toResponse(String ifNoneMatch, String acceptEncoding) {
+        boolean useGzip = gzip != null && acceptsGzip(acceptEncoding);
+        String etag = useGzip ? gzipEtag : identityEtag;
+
+        if (matches(ifNoneMatch)) {
+            return Response.notModified()
+                    .header(HttpHeaders.ETAG, etag)
+                    .header(HttpHeaders.VARY, VARY)
+                    .header(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL)
+                    .build();
+        }
+
+        Response.ResponseBuilder builder = Response.ok(useGzip ? gzip : identity, mediaType)
+                .header(HttpHeaders.ETAG, etag)
+                .header(HttpHeaders.VARY, VARY)
+                .header(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        if (useGzip) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, GZIP);
+        }
+        return builder.build();
+    }
+
+    public String etag() {
+        return identityEtag;
+    }
+
+    int identityLength() {
+        return identity.length;
+    }
+
+    int gzipLength() {
+        return gzip == null ? -1 : gzip.length;
+    }
+
+    /**
+     * Weak comparison, as required for If-None-Match: a W/ prefix is ignored.
+     */
+    boolean matches(String ifNoneMatch) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(identityEtag) || tag.equals(gzipEtag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return false;
+        }
+        for (String part : acceptEncoding.split(",")) {
+            String[] tokens = part.split(";");
+            String coding = tokens[0].trim().toLowerCase(Locale.ROOT);
+            if (!coding.equals(GZIP) && !coding.equals("*")) {
+                continue;
+            }
+            return !hasZeroQuality(tokens);
+        }
+        return false;
+    }
+
+    private static boolean hasZeroQuality(String[] tokens) {
+        for (int i = 1; i < tokens.length; i++) {
+            String parameter = tokens[i].trim();
+            if (parameter.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2)) == 0.0;
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, bytes.length / 4));
+        try (GZIPOutputStream gzipOut = new GZIPOutputStream(out)) {
+            gzipOut.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static String digest(byte[] bytes) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(bytes);
+            // 128 bits is plenty for a validator and keeps the header short
+            return HexFormat.of().formatHex(hash, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "PrecompressedBody[" + identityEtag + ", " + identity.length + " bytes, gzip "
+                + (gzip == null ? "skipped" : gzip.length + " bytes") + "]";
+    }
+}
@@ -0,0 +1,73 @@
+package com.portfolio.management.infrastructure.adapters.incoming.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.quarkus.logging.Log;
+import jakarta.enterprise.context.ApplicationScoped;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+
+/**
+ * One rendered body per endpoint and wire format, reused for as long as the
+ * data behind it is the same. "The same" is identity of the source objects:
+ * reference-data snapshots hand out the same immutable list until they are
+ * rebuilt, so a rebuilt snapshot is a new data version and anything else is a
+ * cache hit that costs one reference comparison.
+ * <p>
+ * Only unfiltered endpoints belong here; filtered variants would just evict
+ * each other from the single slot.
+ */
+@ApplicationScoped
+public class PrecompressedBodyCache {
+
+    private final WireFormatMappers mappers;
+    private final Map<String, AtomicReferenceArray<Slot>> slots = new ConcurrentHashMap<>();
+
+    public PrecompressedBodyCache(WireFormatMappers mappers) {
+        this.mappers = mappers;
+    }
+
+    /**
+     * Returns the body rendered in {@code format} for these sources, rendering
+     * the DTO from {@code dto} only when the sources changed since the last call
+     * for key and format. Two concurrent misses may both render; the bodies are
+     * identical, so the last write winning is harmless.
+     */
+    public PrecompressedBody get(String key, WireFormat format, Supplier<?> dto, Object... sources) {
+        AtomicReferenceArray<Slot> formats = slots.computeIfAbsent(key,
+                ignored -> new AtomicReferenceArray<>(WireFormat.values().length));
+        Slot slot = formats.get(format.ordinal());
+        if (slot != null && slot.isFor(sources)) {
+            return slot.body();
+        }
+        PrecompressedBody body = render(format, dto.get());
+        formats.set(format.ordinal(), new Slot(sources, body));
+        Log.debugf("Rendered %s %s body: %s", key, format, body);
+        return body;
+    }
+
+    private PrecompressedBody render(WireFormat format, Object dto) {
+        try {
+            return PrecompressedBody.of(mappers.mapper(format).writeValueAsBytes(dto), format.mediaType());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize " + dto.getClass().getSimpleName(), e);
+        }
+    }
+
+    private record Slot(Object[] sources, PrecompressedBody body) {
+
+        boolean isFor(Object[] candidates) {
+            if (candidates.length != sources.length) {
+                return false;
+            }
+            for (int i = 0; i < sources.length; i++) {
+                if (sources[i] != candidates[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
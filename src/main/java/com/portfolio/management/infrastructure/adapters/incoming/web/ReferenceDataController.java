@@ -0,0 +1,75 @@
+package com.portfolio.management.infrastructure.adapters.incoming.web;
+
+import com.portfolio.management.infrastructure.adapters.incoming.web.dto.ErrorResponse;
+import com.portfolio.management.infrastructure.adapters.incoming.web.dto.ReferenceDataResponse;
+import io.quarkus.vertx.http.Compressed;
+import io.smallrye.mutiny.Uni;
+import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.media.Content;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import org.eclipse.microprofile.openapi.annotations.parameters.Parameter;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponses;
+import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+
+/**
+ * REST API interface for the reference data bootstrap bundle
+ */
+@Path("/v1/reference-data")
+@Produces(MediaType.APPLICATION_JSON)
+@Consumes(MediaType.APPLICATION_JSON)
+@Tag(name = "Reference Data", description = "API for loading all reference data in a single request")
+public interface ReferenceDataController {
+
+    @GET
+    @Produces({MediaType.APPLICATION_JSON, WireFormat.APPLICATION_CBOR, WireFormat.APPLICATION_SMILE})
+    @Compressed
+    @CompressionThreshold("reference-data")
+    @Operation(
+            summary = "Get all reference data",
+            description = "Retrieve every active exchange, currency and stock type in one versioned payload. " +
+                    "Cache it client-side and revalidate with If-None-Match."
+    )
+    @APIResponses({
+            @APIResponse(
+                    responseCode = "200",
+                    description = "Reference data retrieved successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ReferenceDataResponse.class)
+                    )
+            ),
+            @APIResponse(
+                    responseCode = "304",
+                    description = "Not modified: the bundle still matches the If-None-Match ETag"
+            ),
+            @APIResponse(
+                    responseCode = "500",
+                    description = "Internal server error",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    Uni<Response> getReferenceData(
+            @Parameter(
+                    name = "If-None-Match",
+                    description = "ETag from a previous response; answered with 304 when unchanged"
+            )
+            @HeaderParam(HttpHeaders.IF_NONE_MATCH)
+            String ifNoneMatch,
+
+            @Parameter(hidden = true)
+            @HeaderParam(HttpHeaders.ACCEPT_ENCODING)
+            String acceptEncoding,
+
+            @Parameter(hidden = true)
+            @HeaderParam(HttpHeaders.ACCEPT)
+            String accept
+    );
+}
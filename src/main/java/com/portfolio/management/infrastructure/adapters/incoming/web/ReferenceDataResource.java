@@ -0,0 +1,74 @@
+package com.portfolio.management.infrastructure.adapters.incoming.web;
+
+import com.portfolio.management.domain.model.ReferenceData;
+import com.portfolio.management.domain.port.incoming.GetReferenceDataUseCase;
+import com.portfolio.management.infrastructure.adapters.incoming.web.dto.ReferenceDataResponse;
+import com.portfolio.management.infrastructure.adapters.incoming.web.mapper.CurrencyWebMapper;
+import com.portfolio.management.infrastructure.adapters.incoming.web.mapper.ErrorMapper;
+import com.portfolio.management.infrastructure.adapters.incoming.web.mapper.ExchangeWebMapper;
+import com.portfolio.management.infrastructure.adapters.incoming.web.mapper.StockTypeWebMapper;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.ws.rs.core.Response;
+import org.jboss.logging.Logger;
+
+/**
+ * REST endpoint for the reference data bundle. The body is rendered and
+ * compressed once per data version (see PrecompressedBodyCache); a version
+ * changes when any of the three underlying snapshots is rebuilt.
+ */
+@ApplicationScoped
+public class ReferenceDataResource implements ReferenceDataController {
+
+    private static final Logger LOG = Logger.getLogger(ReferenceDataResource.class);
+
+    private final GetReferenceDataUseCase getReferenceDataUseCase;
+    private final ExchangeWebMapper exchangeMapper;
+    private final CurrencyWebMapper currencyMapper;
+    private final StockTypeWebMapper stockTypeMapper;
+    private final ErrorMapper errorMapper;
+    private final PrecompressedBodyCache bodyCache;
+
+    public ReferenceDataResource(GetReferenceDataUseCase getReferenceDataUseCase,
+                                 ExchangeWebMapper exchangeMapper,
+                                 CurrencyWebMapper currencyMapper,
+                                 StockTypeWebMapper stockTypeMapper,
+                                 ErrorMapper errorMapper,
+                                 PrecompressedBodyCache bodyCache) {
+        this.getReferenceDataUseCase = getReferenceDataUseCase;
+        this.exchangeMapper = exchangeMapper;
+        this.currencyMapper = currencyMapper;
+        this.stockTypeMapper = stockTypeMapper;
+        this.errorMapper = errorMapper;
+        this.bodyCache = bodyCache;
+    }
+
+    @Override
+    public Uni<Response> getReferenceData(String ifNoneMatch, String acceptEncoding, String accept) {
+        LOG.debug("GET /reference-data");
+
+        return getReferenceDataUseCase.execute()
+                .map(result -> switch (result) {
+                    case GetReferenceDataUseCase.Result.Success success -> {
+                        ReferenceData data = success.referenceData();
+                        yield bodyCache.get("reference-data", WireFormat.negotiate(accept),
+                                        () -> toResponse(data),
+                                        data.exchanges(), data.currencies(), data.stockTypes())
+                                .toResponse(ifNoneMatch, acceptEncoding);
+                    }
+                    case GetReferenceDataUseCase.Result.SystemError systemError -> {
+                        LOG.errorf("System error: %s", systemError.errors());
+                        yield Response.status(Response.Status.INTERNAL_SERVER_ERROR)
+                                .entity(errorMapper.toErrorResponse(systemError.errors()))
+                                .build();
+                    }
+                });
+    }
+
+    private ReferenceDataResponse toResponse(ReferenceData data) {
+        return new ReferenceDataResponse(
+                exchangeMapper.toExchangeResponse(data.exchanges()),
+                currencyMapper.toCurrencyResponse(data.currencies()),
+                stockTypeMapper.toStockTypeResponse(data.stockTypes()));
+    }
+}
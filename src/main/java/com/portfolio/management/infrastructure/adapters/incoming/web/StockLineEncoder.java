@@ -0,0 +1,39 @@
+package com.portfolio.management.infrastructure.adapters.incoming.web;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.management.domain.model.Stock;
+import com.portfolio.management.domain.model.SuggestionField;
+import jakarta.enterprise.context.ApplicationScoped;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Set;
+
+/**
+ * Encodes one stock as a single JSON line for NDJSON streaming, in the same
+ * per-stock shape (and field selection) SuggestionsPayloadWriter uses inside
+ * a suggestions array.
+ */
+@ApplicationScoped
+public class StockLineEncoder {
+
+    private final JsonFactory factory;
+
+    public StockLineEncoder(ObjectMapper objectMapper) {
+        this.factory = objectMapper.getFactory();
+    }
+
+    public byte[] encode(Stock stock, Set<SuggestionField> fields) {
+        var bytes = new ByteArrayOutputStream(256);
+        try (JsonGenerator generator = factory.createGenerator(bytes, JsonEncoding.UTF8)) {
+            SuggestionsPayloadWriter.writeStock(generator, stock, fields);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+}
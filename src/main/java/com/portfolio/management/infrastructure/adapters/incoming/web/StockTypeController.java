@@ -2,8 +2,10 @@ package com.portfolio.management.infrastructure.adapters.incoming.web;
 
 import com.portfolio.management.infrastructure.adapters.incoming.web.dto.ErrorResponse;
 import com.portfolio.management.infrastructure.adapters.incoming.web.dto.StockTypeResponse;
+import io.quarkus.vertx.http.Compressed;
 import io.smallrye.mutiny.Uni;
 import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import org.eclipse.microprofile.openapi.annotations.Operation;
@@ -25,6 +27,9 @@ import org.eclipse.microprofile.openapi.annotations.tags.Tag;
 public interface StockTypeController {
 
     @GET
+    @Produces({MediaType.APPLICATION_JSON, WireFormat.APPLICATION_CBOR, WireFormat.APPLICATION_SMILE})
+    @Compressed
+    @CompressionThreshold("stock-types")
     @Operation(
             summary = "Get all stock types",
             description = "Retrieve all available stock types with optional filtering"
@@ -55,6 +60,10 @@ public interface StockTypeController {
                             )
                     )
             ),
+            @APIResponse(
+                    responseCode = "304",
+                    description = "Not modified: the unfiltered list still matches the If-None-Match ETag"
+            ),
             @APIResponse(
                     responseCode = "400",
                     description = "Invalid request parameters",
@@ -79,10 +88,26 @@ public interface StockTypeController {
                     example = "Common"
             )
             @QueryParam("search")
-            String search
+            String search,
+
+            @Parameter(
+                    name = "If-None-Match",
+                    description = "ETag from a previous unfiltered response; answered with 304 when unchanged"
+            )
+            @HeaderParam(HttpHeaders.IF_NONE_MATCH)
+            String ifNoneMatch,
+
+            @Parameter(hidden = true)
+            @HeaderParam(HttpHeaders.ACCEPT_ENCODING)
+            String acceptEncoding,
+
+            @Parameter(hidden = true)
+            @HeaderParam(HttpHeaders.ACCEPT)
+            String accept
     );
 
     @GET
+    @Produces({MediaType.APPLICATION_JSON, WireFormat.APPLICATION_CBOR, WireFormat.APPLICATION_SMILE})
     @Path("/{id}")
     @Operation(
             summary = "Get stock type by ID",
@@ -134,6 +159,7 @@ public interface StockTypeController {
     );
 
     @GET
+    @Produces({MediaType.APPLICATION_JSON, WireFormat.APPLICATION_CBOR, WireFormat.APPLICATION_SMILE})
     @Path("/code/{code}")
     @Operation(
             summary = "Get stock type by code",
@@ -23,19 +23,22 @@ public class StockTypeResource implements StockTypeController {
     private final GetStockTypeUseCase getStockTypeUseCase;
     private final StockTypeWebMapper stockTypeMapper;
     private final ErrorMapper errorMapper;
+    private final PrecompressedBodyCache bodyCache;
 
     public StockTypeResource(GetStockTypesUseCase getStockTypesUseCase,
                             GetStockTypeUseCase getStockTypeUseCase,
                             StockTypeWebMapper stockTypeMapper,
-                            ErrorMapper errorMapper) {
+                            ErrorMapper errorMapper,
+                            PrecompressedBodyCache bodyCache) {
         this.getStockTypesUseCase = getStockTypesUseCase;
         this.getStockTypeUseCase = getStockTypeUseCase;
         this.stockTypeMapper = stockTypeMapper;
         this.errorMapper = errorMapper;
+        this.bodyCache = bodyCache;
     }
 
     @Override
-    public Uni<Response> getStockTypes(String search) {
+    public Uni<Response> getStockTypes(String search, String ifNoneMatch, String acceptEncoding, String accept) {
         
         LOG.infof("GET /stock-types - search: %s", search);
         
@@ -45,6 +48,12 @@ public class StockTypeResource implements StockTypeController {
             .map(result -> switch (result) {
                 case GetStockTypesUseCase.Result.Success success -> {
                     LOG.infof("Successfully retrieved %d stock types", success.count());
+                    if (query.isUnfiltered()) {
+                        yield bodyCache.get("stock-types", WireFormat.negotiate(accept),
+                                        () -> stockTypeMapper.toStockTypeResponse(success.stockTypes()),
+                                        success.stockTypes())
+                                .toResponse(ifNoneMatch, acceptEncoding);
+                    }
                     yield Response.ok(stockTypeMapper.toStockTypeResponse(success.stockTypes())).build();
                 }
                 case GetStockTypesUseCase.Result.ValidationError validationError -> {
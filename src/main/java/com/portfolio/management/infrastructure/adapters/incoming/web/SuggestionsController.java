@@ -1,7 +1,11 @@
 package com.portfolio.management.infrastructure.adapters.incoming.web;
 
 import com.portfolio.management.infrastructure.adapters.incoming.web.dto.ErrorResponse;
+import com.portfolio.management.infrastructure.adapters.incoming.web.dto.StockFacetsResponse;
 import com.portfolio.management.infrastructure.adapters.incoming.web.dto.SuggestionsResponse;
+import com.portfolio.management.infrastructure.adapters.incoming.web.dto.TrendingResponse;
+import io.quarkus.vertx.http.Compressed;
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
@@ -17,6 +21,8 @@ import org.eclipse.microprofile.openapi.annotations.parameters.Parameter;
 import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
 import org.eclipse.microprofile.openapi.annotations.responses.APIResponses;
 import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+import org.jboss.resteasy.reactive.RestStreamElementType;
+import org.jboss.resteasy.reactive.common.util.RestMediaType;
 
 /**
  * REST API interface for Ticker Suggestions operations
@@ -34,6 +40,9 @@ public interface SuggestionsController {
                     "Optimized for frontend typeahead/autocomplete functionality with fast response times."
     )
     @GET
+    @Produces({MediaType.APPLICATION_JSON, WireFormat.APPLICATION_CBOR, WireFormat.APPLICATION_SMILE})
+    @Compressed
+    @CompressionThreshold("suggestions")
     @APIResponses({
             @APIResponse(
                     responseCode = "200",
@@ -92,6 +101,32 @@ public interface SuggestionsController {
                                                     }
                                                     """
                                     ),
+                                    @ExampleObject(
+                                            name = "Grouped by ISIN",
+                                            summary = "One suggestion per instrument",
+                                            description = "Example response for 'apple' with groupBy=isin",
+                                            value = """
+                                                    {
+                                                      "suggestions": [
+                                                        {
+                                                          "symbol": "AAPL",
+                                                          "name": "Apple Inc.",
+                                                          "exchange": "NASDAQ",
+                                                          "type": "Common Stock",
+                                                          "country": "US",
+                                                          "currency": "USD",
+                                                          "isin": "US0378331005",
+                                                          "otherListings": [
+                                                            {"symbol": "APC", "exchange": "XETR", "currency": "EUR"},
+                                                            {"symbol": "APC", "exchange": "Munich", "currency": "EUR"}
+                                                          ]
+                                                        }
+                                                      ],
+                                                      "query": "apple",
+                                                      "count": 1
+                                                    }
+                                                    """
+                                    ),
                                     @ExampleObject(
                                             name = "No results",
                                             summary = "No matching tickers found",
@@ -203,7 +238,27 @@ public interface SuggestionsController {
             @Min(1)
             @Max(50)
             @DefaultValue("10")
-            int limit
+            int limit,
+
+            @Parameter(
+                    description = "Comma-separated response fields to return, e.g. 'symbol,name,exchange'. " +
+                            "Valid values: id, symbol, name, exchange, type, country, currency, isin. Default is all.",
+                    required = false,
+                    example = "symbol,name,exchange"
+            )
+            @QueryParam("fields")
+            String fields,
+
+            @Parameter(
+                    description = "Set to 'isin' to return one suggestion per instrument: its most popular listing, " +
+                            "with the instrument's other listings (id, symbol, exchange, currency) in otherListings. " +
+                            "Default is one suggestion per listing.",
+                    required = false,
+                    example = "isin",
+                    schema = @Schema(type = SchemaType.STRING, enumeration = {"isin"})
+            )
+            @QueryParam("groupBy")
+            String groupBy
     );
 
     @Operation(
@@ -213,6 +268,9 @@ public interface SuggestionsController {
                     "Performs partial matching on all text fields."
     )
     @GET
+    @Produces({MediaType.APPLICATION_JSON, WireFormat.APPLICATION_CBOR, WireFormat.APPLICATION_SMILE})
+    @Compressed
+    @CompressionThreshold("suggestions")
     @Path("/search")
     @APIResponses({
             @APIResponse(
@@ -360,6 +418,304 @@ public interface SuggestionsController {
             @Min(1)
             @Max(100)
             @DefaultValue("20")
+            int limit,
+
+            @Parameter(
+                    description = "Comma-separated response fields to return, e.g. 'symbol,name,exchange'. " +
+                            "Valid values: id, symbol, name, exchange, type, country, currency, isin. Default is all.",
+                    required = false,
+                    example = "symbol,name,exchange"
+            )
+            @QueryParam("fields")
+            String fields
+    );
+
+    @Operation(
+            summary = "Browse every advanced search match",
+            description = "Walks all stocks matching the advanced search criteria, ordered by popularity score " +
+                    "(descending), then symbol, then id. Each page carries an opaque nextCursor; pass it back as " +
+                    "cursor for the following page. Pages are read by keyset, never by OFFSET, so deep pages cost " +
+                    "the same as the first. Unlike /search, results are not re-ranked by match quality. " +
+                    "With Accept: application/x-ndjson every match (from cursor, if given) is streamed instead, " +
+                    "one stock per line, read from a database cursor with bounded memory."
+    )
+    @GET
+    @Produces({MediaType.APPLICATION_JSON, WireFormat.APPLICATION_CBOR, WireFormat.APPLICATION_SMILE})
+    @Compressed
+    @CompressionThreshold("suggestions")
+    @Path("/search/browse")
+    @APIResponses({
+            @APIResponse(
+                    responseCode = "200",
+                    description = "One page of matches, or the NDJSON stream of all of them",
+                    content = {
+                            @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = SuggestionsResponse.class),
+                                    examples = @ExampleObject(
+                                            name = "First page",
+                                            value = """
+                                                    {
+                                                      "suggestions": [
+                                                        { "id": 1, "symbol": "AAPL", "name": "Apple Inc.", "exchange": "NASDAQ" }
+                                                      ],
+                                                      "query": "Advanced search country:US",
+                                                      "count": 1,
+                                                      "nextCursor": "AUAjAAAAAAAAAAAAAAAAAAFBQVBM"
+                                                    }
+                                                    """
+                                    )
+                            ),
+                            @Content(
+                                    mediaType = RestMediaType.APPLICATION_NDJSON,
+                                    examples = @ExampleObject(
+                                            name = "Stream",
+                                            value = """
+                                                    {"id":1,"symbol":"AAPL","name":"Apple Inc.","exchange":"NASDAQ"}
+                                                    {"id":2,"symbol":"MSFT","name":"Microsoft Corporation","exchange":"NASDAQ"}
+                                                    """
+                                    )
+                            )
+                    }
+            ),
+            @APIResponse(
+                    responseCode = "400",
+                    description = "No search criteria, or an invalid cursor or fields value",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    Uni<Response> browseSearch(
+            @Parameter(description = "Partial symbol to search for. Case-insensitive partial matching.", example = "AAPL")
+            @QueryParam("symbol")
+            String symbol,
+
+            @Parameter(description = "Partial company name to search for. Case-insensitive partial matching.", example = "Apple")
+            @QueryParam("companyName")
+            String companyName,
+
+            @Parameter(description = "Exchange to search for. Case-insensitive partial matching.", example = "NASDAQ")
+            @QueryParam("exchange")
+            String exchange,
+
+            @Parameter(description = "Region/country to search for. Case-insensitive partial matching.", example = "US")
+            @QueryParam("country")
+            String country,
+
+            @Parameter(description = "Currency to search for. Case-insensitive partial matching.", example = "USD")
+            @QueryParam("currency")
+            String currency,
+
+            @Parameter(description = "ISIN to search for. Exact match only, case-insensitive.", example = "US0378331005")
+            @QueryParam("isin")
+            String isin,
+
+            @Parameter(description = "nextCursor of the previous page; omit for the first page (or to stream from the top)")
+            @QueryParam("cursor")
+            String cursor,
+
+            @Parameter(
+                    description = "Page size. Must be between 1 and 100.",
+                    required = false,
+                    schema = @Schema(type = SchemaType.INTEGER, minimum = "1", maximum = "100", defaultValue = "100"),
+                    example = "100"
+            )
+            @QueryParam("limit")
+            @Min(1)
+            @Max(100)
+            @DefaultValue("100")
+            int limit,
+
+            @Parameter(
+                    description = "Comma-separated response fields to return, e.g. 'symbol,name,exchange'. " +
+                            "Valid values: id, symbol, name, exchange, type, country, currency, isin. Default is all.",
+                    required = false,
+                    example = "symbol,name,exchange"
+            )
+            @QueryParam("fields")
+            String fields
+    );
+
+    /**
+     * NDJSON variant of {@link #browseSearch}, selected by Accept; documented there
+     */
+    @Operation(hidden = true)
+    @GET
+    @Produces(RestMediaType.APPLICATION_NDJSON)
+    @RestStreamElementType(MediaType.APPLICATION_JSON)
+    @Compressed
+    @Path("/search/browse")
+    Multi<byte[]> streamSearch(
+            @Parameter(description = "Partial symbol to search for. Case-insensitive partial matching.", example = "AAPL")
+            @QueryParam("symbol")
+            String symbol,
+
+            @Parameter(description = "Partial company name to search for. Case-insensitive partial matching.", example = "Apple")
+            @QueryParam("companyName")
+            String companyName,
+
+            @Parameter(description = "Exchange to search for. Case-insensitive partial matching.", example = "NASDAQ")
+            @QueryParam("exchange")
+            String exchange,
+
+            @Parameter(description = "Region/country to search for. Case-insensitive partial matching.", example = "US")
+            @QueryParam("country")
+            String country,
+
+            @Parameter(description = "Currency to search for. Case-insensitive partial matching.", example = "USD")
+            @QueryParam("currency")
+            String currency,
+
+            @Parameter(description = "ISIN to search for. Exact match only, case-insensitive.", example = "US0378331005")
+            @QueryParam("isin")
+            String isin,
+
+            @Parameter(description = "nextCursor of the previous page; omit for the first page (or to stream from the top)")
+            @QueryParam("cursor")
+            String cursor,
+
+            @Parameter(
+                    description = "Comma-separated response fields to return, e.g. 'symbol,name,exchange'. " +
+                            "Valid values: id, symbol, name, exchange, type, country, currency, isin. Default is all.",
+                    required = false,
+                    example = "symbol,name,exchange"
+            )
+            @QueryParam("fields")
+            String fields
+    );
+
+    @Operation(
+            summary = "Facet counts for an advanced search",
+            description = "Number of active stocks matching the advanced search criteria per exchange, country, " +
+                    "currency and type value, for filter UIs. Every criterion is optional; with none, the whole " +
+                    "universe is counted. Served from the in-memory stock index."
+    )
+    @GET
+    @Compressed
+    @CompressionThreshold("suggestions")
+    @Path("/search/facets")
+    @APIResponses({
+            @APIResponse(
+                    responseCode = "200",
+                    description = "Facet counts for the criteria",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = StockFacetsResponse.class),
+                            examples = @ExampleObject(
+                                    name = "US dollar stocks",
+                                    summary = "Facets for currency=USD",
+                                    value = """
+                                            {
+                                              "total": 5120,
+                                              "exchanges": { "NASDAQ": 3210, "NYSE": 1910 },
+                                              "countries": { "United States": 5120 },
+                                              "currencies": { "USD": 5120 },
+                                              "types": { "Common Stock": 4380, "ETF": 740 }
+                                            }
+                                            """
+                            )
+                    )
+            ),
+            @APIResponse(
+                    responseCode = "500",
+                    description = "Internal server error",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    Uni<Response> searchFacets(
+            @Parameter(description = "Partial symbol, as for /search", required = false, example = "AA")
+            @QueryParam("symbol")
+            String symbol,
+
+            @Parameter(description = "Partial company name, as for /search", required = false, example = "Bank")
+            @QueryParam("companyName")
+            String companyName,
+
+            @Parameter(description = "Exchange, case-insensitive partial matching", required = false, example = "NASDAQ")
+            @QueryParam("exchange")
+            String exchange,
+
+            @Parameter(description = "Country, case-insensitive partial matching", required = false, example = "US")
+            @QueryParam("country")
+            String country,
+
+            @Parameter(description = "Currency, case-insensitive partial matching", required = false, example = "USD")
+            @QueryParam("currency")
+            String currency,
+
+            @Parameter(description = "ISIN, exact match, case-insensitive", required = false, example = "US0378331005")
+            @QueryParam("isin")
+            String isin
+    );
+
+    @Operation(
+            summary = "Trending tickers",
+            description = "Tickers most used in the transaction feed over a sliding window (5m, 1h or 24h). " +
+                    "Served from in-memory sketches, so it is cheap enough to call on focus, before the user " +
+                    "has typed anything. Counts are approximate and per instance."
+    )
+    @GET
+    @Compressed
+    @CompressionThreshold("suggestions")
+    @Path("/trending")
+    @APIResponses({
+            @APIResponse(
+                    responseCode = "200",
+                    description = "Trending tickers for the window",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = TrendingResponse.class),
+                            examples = @ExampleObject(
+                                    name = "Last hour",
+                                    summary = "Trending over the last hour",
+                                    value = """
+                                            {
+                                              "window": "1h",
+                                              "trending": [
+                                                { "symbol": "NVDA", "count": 42 },
+                                                { "symbol": "AAPL", "count": 31 }
+                                              ],
+                                              "count": 2
+                                            }
+                                            """
+                            )
+                    )
+            ),
+            @APIResponse(
+                    responseCode = "400",
+                    description = "Unknown window",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    Uni<Response> getTrending(
+            @Parameter(
+                    description = "Sliding window to rank over",
+                    required = false,
+                    example = "1h",
+                    schema = @Schema(type = SchemaType.STRING, enumeration = {"5m", "1h", "24h"}, defaultValue = "1h")
+            )
+            @QueryParam("window")
+            @DefaultValue("1h")
+            String window,
+
+            @Parameter(
+                    description = "Maximum number of tickers to return. Must be between 1 and 50.",
+                    required = false,
+                    example = "10",
+                    schema = @Schema(type = SchemaType.INTEGER, minimum = "1", maximum = "50", defaultValue = "10")
+            )
+            @QueryParam("limit")
+            @Min(1)
+            @Max(50)
+            @DefaultValue("10")
             int limit
     );
 }
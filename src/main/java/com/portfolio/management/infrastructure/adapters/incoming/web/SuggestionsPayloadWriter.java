@@ -0,0 +1,191 @@
+package com.portfolio.management.infrastructure.adapters.incoming.web;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.portfolio.management.domain.model.Stock;
+import com.portfolio.management.domain.model.SuggestionField;
+import com.portfolio.management.infrastructure.adapters.incoming.web.dto.SuggestionsPayload;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.MessageBodyWriter;
+import jakarta.ws.rs.ext.Provider;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Streams {@link SuggestionsPayload} straight from the domain stocks into the
+ * response, skipping the TickerSuggestionDto list and reflective record
+ * serialization. Field names are pre-encoded once, so each one is a byte copy;
+ * the generator's buffers come from Jackson's per-thread recycler.
+ * <p>
+ * The output matches what Jackson writes for
+ * {@link com.portfolio.management.infrastructure.adapters.incoming.web.dto.SuggestionsResponse}
+ * field for field, nulls included. Adding a field to that DTO means adding it
+ * here too. Stock fields outside {@link SuggestionsPayload#fields()} are left
+ * out entirely rather than written as null, in attached other listings too.
+ * The same token stream is written as CBOR or Smile when the caller
+ * negotiated a binary {@link WireFormat}.
+ */
+@Provider
+@Produces({MediaType.APPLICATION_JSON, WireFormat.APPLICATION_CBOR, WireFormat.APPLICATION_SMILE})
+public class SuggestionsPayloadWriter implements MessageBodyWriter<SuggestionsPayload> {
+
+    private static final SerializableString SUGGESTIONS = new SerializedString("suggestions");
+    private static final SerializableString QUERY = new SerializedString("query");
+    private static final SerializableString COUNT = new SerializedString("count");
+    private static final SerializableString NEXT_CURSOR = new SerializedString("nextCursor");
+    private static final SerializableString ID = new SerializedString("id");
+    private static final SerializableString SYMBOL = new SerializedString("symbol");
+    private static final SerializableString NAME = new SerializedString("name");
+    private static final SerializableString EXCHANGE = new SerializedString("exchange");
+    private static final SerializableString TYPE = new SerializedString("type");
+    private static final SerializableString COUNTRY = new SerializedString("country");
+    private static final SerializableString CURRENCY = new SerializedString("currency");
+    private static final SerializableString ISIN = new SerializedString("isin");
+    private static final SerializableString OTHER_LISTINGS = new SerializedString("otherListings");
+
+    /**
+     * What an attached listing carries, narrowed further to the requested fields
+     */
+    private static final Set<SuggestionField> LISTING_FIELDS =
+            EnumSet.of(SuggestionField.ID, SuggestionField.SYMBOL, SuggestionField.EXCHANGE, SuggestionField.CURRENCY);
+
+    private final WireFormatMappers mappers;
+
+    public SuggestionsPayloadWriter(WireFormatMappers mappers) {
+        this.mappers = mappers;
+    }
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return SuggestionsPayload.class.isAssignableFrom(type);
+    }
+
+    @Override
+    public void writeTo(SuggestionsPayload payload, Class<?> type, Type genericType, Annotation[] annotations,
+                        MediaType mediaType, MultivaluedMap<String, Object> httpHeaders,
+                        OutputStream entityStream) throws IOException {
+        write(payload, WireFormat.of(mediaType), entityStream);
+    }
+
+    void write(SuggestionsPayload payload, WireFormat format, OutputStream out) throws IOException {
+        try (JsonGenerator generator = mappers.mapper(format).getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            // The container owns the stream; closing the generator only flushes it
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartObject();
+
+            generator.writeFieldName(SUGGESTIONS);
+            if (payload.suggestions() == null) {
+                generator.writeNull();
+            } else {
+                generator.writeStartArray();
+                Set<SuggestionField> fields = payload.fields();
+                Set<SuggestionField> listingFields = EnumSet.noneOf(SuggestionField.class);
+                listingFields.addAll(fields);
+                listingFields.retainAll(LISTING_FIELDS);
+                for (Stock stock : payload.suggestions()) {
+                    writeSuggestion(generator, stock, fields, otherListings(payload.otherListings(), stock),
+                            listingFields);
+                }
+                generator.writeEndArray();
+            }
+
+            generator.writeFieldName(QUERY);
+            writeString(generator, payload.query());
+            generator.writeFieldName(COUNT);
+            generator.writeNumber(payload.count());
+            if (payload.nextCursor() != null) {
+                generator.writeFieldName(NEXT_CURSOR);
+                generator.writeString(payload.nextCursor());
+            }
+
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * One stock as an object of the requested fields; also used for NDJSON lines
+     */
+    static void writeStock(JsonGenerator generator, Stock stock, Set<SuggestionField> fields) throws IOException {
+        writeSuggestion(generator, stock, fields, List.of(), fields);
+    }
+
+    /**
+     * A stock as {@link #writeStock} writes it, followed by its other listings
+     * in the compact listing shape when it has any
+     */
+    private static void writeSuggestion(JsonGenerator generator, Stock stock, Set<SuggestionField> fields,
+                                        List<Stock> otherListings, Set<SuggestionField> listingFields)
+            throws IOException {
+        if (stock == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        writeFields(generator, stock, fields);
+        if (!otherListings.isEmpty()) {
+            generator.writeFieldName(OTHER_LISTINGS);
+            generator.writeStartArray();
+            for (Stock listing : otherListings) {
+                generator.writeStartObject();
+                writeFields(generator, listing, listingFields);
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+        }
+        generator.writeEndObject();
+    }
+
+    private static List<Stock> otherListings(Map<String, List<Stock>> byIsin, Stock stock) {
+        if (byIsin.isEmpty() || stock == null || stock.isin() == null) {
+            return List.of();
+        }
+        return byIsin.getOrDefault(stock.isin().trim().toUpperCase(Locale.ROOT), List.of());
+    }
+
+    private static void writeFields(JsonGenerator generator, Stock stock, Set<SuggestionField> fields)
+            throws IOException {
+        if (fields.contains(SuggestionField.ID)) {
+            generator.writeFieldName(ID);
+            if (stock.id() == null) {
+                generator.writeNull();
+            } else {
+                generator.writeNumber(stock.id());
+            }
+        }
+        writeField(generator, fields, SuggestionField.SYMBOL, SYMBOL, stock.symbol());
+        writeField(generator, fields, SuggestionField.NAME, NAME, stock.name());
+        writeField(generator, fields, SuggestionField.EXCHANGE, EXCHANGE, stock.exchange());
+        writeField(generator, fields, SuggestionField.TYPE, TYPE, stock.type());
+        writeField(generator, fields, SuggestionField.COUNTRY, COUNTRY, stock.country());
+        writeField(generator, fields, SuggestionField.CURRENCY, CURRENCY, stock.currency());
+        writeField(generator, fields, SuggestionField.ISIN, ISIN, stock.isin());
+    }
+
+    private static void writeField(JsonGenerator generator, Set<SuggestionField> fields, SuggestionField field,
+                                   SerializableString name, String value) throws IOException {
+        if (fields.contains(field)) {
+            generator.writeFieldName(name);
+            writeString(generator, value);
+        }
+    }
+
+    private static void writeString(JsonGenerator generator, String value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeString(value);
+        }
+    }
+}
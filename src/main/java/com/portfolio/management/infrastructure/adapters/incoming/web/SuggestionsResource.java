@@ -1,16 +1,31 @@
 package com.portfolio.management.infrastructure.adapters.incoming.web;
 
+import com.portfolio.management.domain.model.StockCursor;
+import com.portfolio.management.domain.model.SuggestionField;
+import com.portfolio.management.domain.model.TrendingWindow;
+import com.portfolio.management.domain.port.incoming.BrowseAdvancedSearchUseCase;
+import com.portfolio.management.domain.port.incoming.GetStockFacetsUseCase;
 import com.portfolio.management.domain.port.incoming.GetSuggestionsAdvancedUseCase;
 import com.portfolio.management.domain.port.incoming.GetSuggestionsUseCase;
+import com.portfolio.management.domain.port.incoming.GetTrendingStocksUseCase;
 import com.portfolio.management.infrastructure.adapters.incoming.web.dto.ErrorResponse;
-import com.portfolio.management.infrastructure.adapters.incoming.web.dto.SuggestionsResponse;
+import com.portfolio.management.infrastructure.adapters.incoming.web.dto.StockFacetsResponse;
+import com.portfolio.management.infrastructure.adapters.incoming.web.dto.SuggestionsPayload;
 import com.portfolio.management.infrastructure.adapters.incoming.web.mapper.ErrorMapper;
-import com.portfolio.management.infrastructure.adapters.incoming.web.mapper.StockMapper;
+import com.portfolio.management.infrastructure.adapters.incoming.web.mapper.TrendingWebMapper;
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.ws.rs.BadRequestException;
 import jakarta.ws.rs.core.Response;
 import org.jboss.logging.Logger;
 
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 /**
  * REST endpoint for ticker/symbol suggestions
  */
@@ -21,48 +36,71 @@ public class SuggestionsResource implements SuggestionsController {
 
     private final GetSuggestionsUseCase getSuggestionsUseCase;
     private final GetSuggestionsAdvancedUseCase getSuggestionsAdvancedUseCase;
-    private final StockMapper suggestionMapper;
+    private final BrowseAdvancedSearchUseCase browseAdvancedSearchUseCase;
+    private final GetStockFacetsUseCase getStockFacetsUseCase;
+    private final GetTrendingStocksUseCase getTrendingStocksUseCase;
+    private final TrendingWebMapper trendingMapper;
     private final ErrorMapper errorMapper;
+    private final StockLineEncoder stockLineEncoder;
 
     public SuggestionsResource(GetSuggestionsUseCase getSuggestionsUseCase,
                                GetSuggestionsAdvancedUseCase getSuggestionsAdvancedUseCase,
-                               StockMapper suggestionMapper,
-                               ErrorMapper errorMapper) {
+                               BrowseAdvancedSearchUseCase browseAdvancedSearchUseCase,
+                               GetStockFacetsUseCase getStockFacetsUseCase,
+                               GetTrendingStocksUseCase getTrendingStocksUseCase,
+                               TrendingWebMapper trendingMapper,
+                               ErrorMapper errorMapper,
+                               StockLineEncoder stockLineEncoder) {
         this.getSuggestionsUseCase = getSuggestionsUseCase;
         this.getSuggestionsAdvancedUseCase = getSuggestionsAdvancedUseCase;
-        this.suggestionMapper = suggestionMapper;
+        this.browseAdvancedSearchUseCase = browseAdvancedSearchUseCase;
+        this.getStockFacetsUseCase = getStockFacetsUseCase;
+        this.getTrendingStocksUseCase = getTrendingStocksUseCase;
+        this.trendingMapper = trendingMapper;
         this.errorMapper = errorMapper;
+        this.stockLineEncoder = stockLineEncoder;
     }
 
     @Override
-    public Uni<Response> getSuggestions(String query, int limit) {
-        LOG.infof("Received suggestion request - query: %s, limit: %d", query, limit);
+    public Uni<Response> getSuggestions(String query, int limit, String fields, String groupBy) {
+        LOG.infof("Received suggestion request - query: %s, limit: %d, fields: %s, groupBy: %s",
+                query, limit, fields, groupBy);
+
+        var projection = parseFields(fields);
+        if (projection.isEmpty()) {
+            return Uni.createFrom().item(invalidFields(fields));
+        }
+        boolean groupByIsin = !isBlank(groupBy);
+        if (groupByIsin && !"isin".equalsIgnoreCase(groupBy.trim())) {
+            var errorResponse = ErrorResponse.of("Invalid groupBy. Valid values: isin");
+            return Uni.createFrom().item(Response.status(Response.Status.BAD_REQUEST).entity(errorResponse).build());
+        }
 
-        return Uni.createFrom().item(() -> new GetSuggestionsUseCase.Query(query, limit))
+        return Uni.createFrom().item(() -> new GetSuggestionsUseCase.Query(query, limit, projection.get(), groupByIsin))
                 .flatMap(getSuggestionsUseCase::execute)
-                .onItem().transform(result -> switch (result) {
-                            case GetSuggestionsUseCase.Result.Success success -> mapToHttpResponse(success);
-                            case GetSuggestionsUseCase.Result.SystemError systemError -> mapToHttpResponse(systemError);
-                            case GetSuggestionsUseCase.Result.ValidationError validationError ->
-                                    mapToHttpResponse(validationError);
-                        }
-                );
+                .onItem().transform(result -> mapToHttpResponse(result, projection.get()));
     }
 
     @Override
-    public Uni<Response> advancedSearch(String symbol, String companyName, String exchange, String country, String currency, String isin, int limit) {
+    public Uni<Response> advancedSearch(String symbol, String companyName, String exchange, String country, String currency, String isin, int limit, String fields) {
         // Validate at least one search parameter is provided
         if (isBlank(symbol) && isBlank(companyName) && isBlank(exchange) && isBlank(country) && isBlank(currency) && isBlank(isin)) {
             var errorResponse = ErrorResponse.of("At least one search parameter must be provided");
             return Uni.createFrom().item(Response.status(Response.Status.BAD_REQUEST).entity(errorResponse).build());
         }
 
+        var projection = parseFields(fields);
+        if (projection.isEmpty()) {
+            return Uni.createFrom().item(invalidFields(fields));
+        }
+
         LOG.infof("Advanced search request - symbol: %s, companyName: %s, exchange: %s, country: %s, currency: %s, isin: %s, limit: %d",
                 symbol, companyName, exchange, country, currency, isin, limit);
 
-        return Uni.createFrom().item(() -> new GetSuggestionsAdvancedUseCase.Query(symbol, companyName, exchange, country, currency, isin, limit))
+        return Uni.createFrom().item(() -> new GetSuggestionsAdvancedUseCase.Query(
+                        symbol, companyName, exchange, country, currency, isin, limit, projection.get()))
                 .flatMap(getSuggestionsAdvancedUseCase::execute)
-                .onItem().transform(this::mapToHttpResponse)
+                .onItem().transform(result -> mapToHttpResponse(result, projection.get()))
                 .onFailure().recoverWithItem(throwable -> {
                     LOG.errorf(throwable, "Unexpected error processing suggestion request");
                     return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
@@ -71,16 +109,115 @@ public class SuggestionsResource implements SuggestionsController {
                 });
     }
 
-    private Response mapToHttpResponse(GetSuggestionsUseCase.Result result) {
+    @Override
+    public Uni<Response> browseSearch(String symbol, String companyName, String exchange, String country, String currency,
+                                      String isin, String cursor, int limit, String fields) {
+        var rejection = validateBrowse(symbol, companyName, exchange, country, currency, isin, cursor, fields);
+        if (rejection != null) {
+            return Uni.createFrom().item(rejection);
+        }
+        var projection = parseFields(fields).orElseThrow();
+
+        return Uni.createFrom().item(() -> new BrowseAdvancedSearchUseCase.Query(
+                        new GetSuggestionsAdvancedUseCase.Query(
+                                symbol, companyName, exchange, country, currency, isin, limit, projection),
+                        parseCursor(cursor).orElse(null)))
+                .flatMap(browseAdvancedSearchUseCase::execute)
+                .onItem().transform(result -> switch (result) {
+                    case BrowseAdvancedSearchUseCase.Result.Success(var suggestions, var query, var next, var count) ->
+                            Response.ok(new SuggestionsPayload(suggestions, query, count, projection,
+                                    next == null ? null : CursorToken.encode(next))).build();
+                    case BrowseAdvancedSearchUseCase.Result.ValidationError(var errors) -> {
+                        var errorDetails = errorMapper.toErrorDetailList(errors.errors());
+                        var errorResponse = ErrorResponse.of(errorDetails, "Validation failed");
+                        yield Response.status(Response.Status.BAD_REQUEST).entity(errorResponse).build();
+                    }
+                    case BrowseAdvancedSearchUseCase.Result.SystemError(var errors) -> {
+                        var errorDetails = errorMapper.toErrorDetailList(errors.errors());
+                        var errorResponse = ErrorResponse.of(errorDetails, "System error occurred");
+                        yield Response.status(Response.Status.INTERNAL_SERVER_ERROR).entity(errorResponse).build();
+                    }
+                })
+                .onFailure().recoverWithItem(throwable -> {
+                    LOG.errorf(throwable, "Unexpected error processing browse request");
+                    return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
+                            .entity(ErrorResponse.of("An unexpected error occurred"))
+                            .build();
+                });
+    }
+
+    @Override
+    public Multi<byte[]> streamSearch(String symbol, String companyName, String exchange, String country,
+                                      String currency, String isin, String cursor, String fields) {
+        var rejection = validateBrowse(symbol, companyName, exchange, country, currency, isin, cursor, fields);
+        if (rejection != null) {
+            // Fails before the first line, so the client still gets a plain 400
+            return Multi.createFrom().failure(new BadRequestException(rejection));
+        }
+        var projection = parseFields(fields).orElseThrow();
+        var query = new BrowseAdvancedSearchUseCase.Query(
+                new GetSuggestionsAdvancedUseCase.Query(symbol, companyName, exchange, country, currency, isin,
+                        BrowseAdvancedSearchUseCase.STREAM_LIMIT, projection),
+                parseCursor(cursor).orElse(null));
+
+        return browseAdvancedSearchUseCase.stream(query)
+                .map(stock -> stockLineEncoder.encode(stock, projection));
+    }
+
+    @Override
+    public Uni<Response> searchFacets(String symbol, String companyName, String exchange, String country,
+                                      String currency, String isin) {
+        return getStockFacetsUseCase.execute(
+                        new GetStockFacetsUseCase.Query(symbol, companyName, exchange, country, currency, isin))
+                .onItem().transform(result -> switch (result) {
+                    case GetStockFacetsUseCase.Result.Success(var facets) -> Response.ok(new StockFacetsResponse(
+                            facets.total(), facets.exchanges(), facets.countries(), facets.currencies(), facets.types()))
+                            .build();
+                    case GetStockFacetsUseCase.Result.SystemError(var errors) -> {
+                        var errorDetails = errorMapper.toErrorDetailList(errors.errors());
+                        var errorResponse = ErrorResponse.of(errorDetails, "System error occurred");
+                        yield Response.status(Response.Status.INTERNAL_SERVER_ERROR).entity(errorResponse).build();
+                    }
+                })
+                .onFailure().recoverWithItem(throwable -> {
+                    LOG.errorf(throwable, "Unexpected error processing facet request");
+                    return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
+                            .entity(ErrorResponse.of("An unexpected error occurred"))
+                            .build();
+                });
+    }
+
+    @Override
+    public Uni<Response> getTrending(String window, int limit) {
+        var trendingWindow = TrendingWindow.fromCode(window);
+        if (trendingWindow.isEmpty()) {
+            var errorResponse = ErrorResponse.of("Invalid window. Valid values: 5m, 1h, 24h");
+            return Uni.createFrom().item(Response.status(Response.Status.BAD_REQUEST).entity(errorResponse).build());
+        }
+
+        return Uni.createFrom().item(() -> new GetTrendingStocksUseCase.Query(trendingWindow.get(), limit))
+                .flatMap(getTrendingStocksUseCase::execute)
+                .onItem().transform(result -> switch (result) {
+                    case GetTrendingStocksUseCase.Result.Success(var trending, var resultWindow, var count) ->
+                            Response.ok(trendingMapper.toTrendingResponse(resultWindow, trending)).build();
+                    case GetTrendingStocksUseCase.Result.SystemError(var errors) -> {
+                        var errorDetails = errorMapper.toErrorDetailList(errors.errors());
+                        var errorResponse = ErrorResponse.of(errorDetails, "System error occurred");
+                        yield Response.status(Response.Status.INTERNAL_SERVER_ERROR).entity(errorResponse).build();
+                    }
+                })
+                .onFailure().recoverWithItem(throwable -> {
+                    LOG.errorf(throwable, "Unexpected error processing trending request");
+                    return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
+                            .entity(ErrorResponse.of("An unexpected error occurred"))
+                            .build();
+                });
+    }
+
+    private Response mapToHttpResponse(GetSuggestionsUseCase.Result result, Set<SuggestionField> fields) {
         return switch (result) {
-            case GetSuggestionsUseCase.Result.Success(var suggestions, var query, var count) -> {
-                var response = new SuggestionsResponse(
-                        suggestionMapper.toTickerSuggestionDtoList(suggestions),
-                        query,
-                        count
-                );
-                yield Response.ok(response).build();
-            }
+            case GetSuggestionsUseCase.Result.Success(var suggestions, var query, var count, var otherListings) ->
+                    Response.ok(new SuggestionsPayload(suggestions, query, count, fields, null, otherListings)).build();
 
             case GetSuggestionsUseCase.Result.ValidationError(var errors) -> {
                 var errorDetails = errorMapper.toErrorDetailList(errors.errors());
@@ -97,16 +234,10 @@ public class SuggestionsResource implements SuggestionsController {
     }
 
 
-    private Response mapToHttpResponse(GetSuggestionsAdvancedUseCase.Result result) {
+    private Response mapToHttpResponse(GetSuggestionsAdvancedUseCase.Result result, Set<SuggestionField> fields) {
         return switch (result) {
-            case GetSuggestionsAdvancedUseCase.Result.Success(var suggestions, var query, var count) -> {
-                var response = new SuggestionsResponse(
-                        suggestionMapper.toTickerSuggestionDtoList(suggestions),
-                        query,
-                        count
-                );
-                yield Response.ok(response).build();
-            }
+            case GetSuggestionsAdvancedUseCase.Result.Success(var suggestions, var query, var count) ->
+                    Response.ok(new SuggestionsPayload(suggestions, query, count, fields)).build();
 
             case GetSuggestionsAdvancedUseCase.Result.ValidationError(var errors) -> {
                 var errorDetails = errorMapper.toErrorDetailList(errors.errors());
@@ -122,6 +253,61 @@ public class SuggestionsResource implements SuggestionsController {
         };
     }
 
+    /**
+     * The 400 response for a browse request that cannot run, or null when it can
+     */
+    private Response validateBrowse(String symbol, String companyName, String exchange, String country, String currency,
+                                    String isin, String cursor, String fields) {
+        if (isBlank(symbol) && isBlank(companyName) && isBlank(exchange) && isBlank(country) && isBlank(currency) && isBlank(isin)) {
+            var errorResponse = ErrorResponse.of("At least one search parameter must be provided");
+            return Response.status(Response.Status.BAD_REQUEST).entity(errorResponse).build();
+        }
+        if (parseFields(fields).isEmpty()) {
+            return invalidFields(fields);
+        }
+        if (!isBlank(cursor) && parseCursor(cursor).isEmpty()) {
+            var errorResponse = errorMapper.toErrorResponse("cursor",
+                    "Invalid cursor. Pass back the nextCursor of a previous page unchanged.", "INVALID_CURSOR");
+            return Response.status(Response.Status.BAD_REQUEST).entity(errorResponse).build();
+        }
+        return null;
+    }
+
+    private Optional<StockCursor> parseCursor(String cursor) {
+        return isBlank(cursor) ? Optional.empty() : CursorToken.decode(cursor);
+    }
+
+    /**
+     * Parses the comma-separated fields parameter. Blank means every field;
+     * empty when any entry is not a known field.
+     */
+    private Optional<Set<SuggestionField>> parseFields(String fields) {
+        if (isBlank(fields)) {
+            return Optional.of(SuggestionField.ALL);
+        }
+        Set<SuggestionField> parsed = EnumSet.noneOf(SuggestionField.class);
+        for (String name : fields.split(",")) {
+            if (name.isBlank()) {
+                continue;
+            }
+            var field = SuggestionField.fromName(name);
+            if (field.isEmpty()) {
+                return Optional.empty();
+            }
+            parsed.add(field.get());
+        }
+        return Optional.of(SuggestionField.orAll(parsed));
+    }
+
+    private Response invalidFields(String fields) {
+        var valid = Arrays.stream(SuggestionField.values())
+                .map(field -> field.name().toLowerCase())
+                .collect(Collectors.joining(", "));
+        var errorResponse = errorMapper.toErrorResponse("fields",
+                "Invalid fields '" + fields + "'. Valid values: " + valid, "INVALID_FIELDS");
+        return Response.status(Response.Status.BAD_REQUEST).entity(errorResponse).build();
+    }
+
     private boolean isBlank(String str) {
         return str == null || str.trim().isEmpty();
     }
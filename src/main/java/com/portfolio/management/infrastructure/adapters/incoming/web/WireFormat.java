@@ -0,0 +1,98 @@
+package com.portfolio.management.infrastructure.adapters.incoming.web;
+
+import jakarta.ws.rs.core.MediaType;
+
+import java.util.Locale;
+
+/**
+ * Encodings the suggestion and reference-data endpoints can answer in. The
+ * binary ones carry the same document model as JSON, so the DTOs and the
+ * field names are shared; only the bytes differ.
+ */
+public enum WireFormat {
+
+    JSON(MediaType.APPLICATION_JSON_TYPE),
+    CBOR(new MediaType("application", "cbor")),
+    SMILE(new MediaType("application", "x-jackson-smile"));
+
+    /**
+     * Constants for {@code @Produces}; must match the media types above
+     */
+    public static final String APPLICATION_CBOR = "application/cbor";
+    public static final String APPLICATION_SMILE = "application/x-jackson-smile";
+
+    private final MediaType mediaType;
+
+    WireFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    /**
+     * The format a writer was selected for. Anything other than the two binary
+     * types is JSON.
+     */
+    public static WireFormat of(MediaType mediaType) {
+        if (mediaType != null) {
+            for (WireFormat format : values()) {
+                if (format.mediaType.isCompatible(mediaType) && !mediaType.isWildcardType()
+                        && !mediaType.isWildcardSubtype()) {
+                    return format;
+                }
+            }
+        }
+        return JSON;
+    }
+
+    /**
+     * Picks the format with the highest quality in an Accept header. Wildcard
+     * ranges count for JSON, ties go to the range listed first, and a missing
+     * or unparseable header means JSON.
+     */
+    public static WireFormat negotiate(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return JSON;
+        }
+        WireFormat best = JSON;
+        double bestQuality = -1;
+        for (String range : accept.split(",")) {
+            String[] tokens = range.split(";");
+            WireFormat format = forRange(tokens[0].trim().toLowerCase(Locale.ROOT));
+            if (format == null) {
+                continue;
+            }
+            double quality = quality(tokens);
+            if (quality > bestQuality) {
+                best = format;
+                bestQuality = quality;
+            }
+        }
+        return bestQuality > 0 ? best : JSON;
+    }
+
+    private static WireFormat forRange(String range) {
+        return switch (range) {
+            case MediaType.APPLICATION_JSON, MediaType.WILDCARD, "application/*" -> JSON;
+            case APPLICATION_CBOR -> CBOR;
+            case APPLICATION_SMILE -> SMILE;
+            default -> null;
+        };
+    }
+
+    private static double quality(String[] tokens) {
+        for (int i = 1; i < tokens.length; i++) {
+            String parameter = tokens[i].trim();
+            if (parameter.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2));
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+}
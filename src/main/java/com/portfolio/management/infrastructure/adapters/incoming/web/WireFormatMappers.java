@@ -0,0 +1,30 @@
+package com.portfolio.management.infrastructure.adapters.incoming.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import jakarta.enterprise.context.ApplicationScoped;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * One ObjectMapper per {@link WireFormat}. The binary mappers are copies of
+ * the application's JSON mapper with a different factory, so modules and
+ * serialization features stay identical across formats.
+ */
+@ApplicationScoped
+public class WireFormatMappers {
+
+    private final Map<WireFormat, ObjectMapper> mappers = new EnumMap<>(WireFormat.class);
+
+    public WireFormatMappers(ObjectMapper objectMapper) {
+        mappers.put(WireFormat.JSON, objectMapper);
+        mappers.put(WireFormat.CBOR, objectMapper.copyWith(new CBORFactory()));
+        mappers.put(WireFormat.SMILE, objectMapper.copyWith(new SmileFactory()));
+    }
+
+    public ObjectMapper mapper(WireFormat format) {
+        return mappers.get(format);
+    }
+}
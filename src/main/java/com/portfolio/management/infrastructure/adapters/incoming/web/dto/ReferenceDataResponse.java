@@ -0,0 +1,25 @@
+package com.portfolio.management.infrastructure.adapters.incoming.web.dto;
+
+import io.quarkus.runtime.annotations.RegisterForReflection;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+
+/**
+ * Response DTO bundling all reference data. Each section has the same shape
+ * as the corresponding unfiltered list endpoint.
+ */
+@RegisterForReflection
+@Schema(
+    name = "ReferenceDataResponse",
+    description = "All active exchanges, currencies and stock types in one payload"
+)
+public record ReferenceDataResponse(
+    @Schema(description = "Same body as GET /v1/exchanges")
+    ExchangeResponse exchanges,
+
+    @Schema(description = "Same body as GET /v1/currencies")
+    CurrencyResponse currencies,
+
+    @Schema(description = "Same body as GET /v1/stock-types")
+    StockTypeResponse stockTypes
+) {
+}
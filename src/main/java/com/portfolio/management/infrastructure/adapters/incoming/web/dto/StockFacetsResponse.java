@@ -0,0 +1,48 @@
+package com.portfolio.management.infrastructure.adapters.incoming.web.dto;
+
+import io.quarkus.runtime.annotations.RegisterForReflection;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+
+import java.util.Map;
+
+/**
+ * Response DTO for facet counts over an advanced search
+ */
+@RegisterForReflection
+@Schema(
+        name = "StockFacetsResponse",
+        description = "Number of matching stocks per exchange, country, currency and type value"
+)
+public record StockFacetsResponse(
+        @Schema(
+                description = "Number of active stocks matching the criteria",
+                example = "5120",
+                minimum = "0"
+        )
+        int total,
+
+        @Schema(
+                description = "Matching stocks per exchange, most first; values with no match are left out",
+                example = "{\"NASDAQ\":3210,\"NYSE\":1910}"
+        )
+        Map<String, Integer> exchanges,
+
+        @Schema(
+                description = "Matching stocks per country, most first",
+                example = "{\"United States\":5120}"
+        )
+        Map<String, Integer> countries,
+
+        @Schema(
+                description = "Matching stocks per currency, most first",
+                example = "{\"USD\":5120}"
+        )
+        Map<String, Integer> currencies,
+
+        @Schema(
+                description = "Matching stocks per instrument type, most first",
+                example = "{\"Common Stock\":4380,\"ETF\":740}"
+        )
+        Map<String, Integer> types
+) {
+}
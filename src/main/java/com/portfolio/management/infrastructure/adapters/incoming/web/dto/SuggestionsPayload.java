@@ -0,0 +1,45 @@
+package com.portfolio.management.infrastructure.adapters.incoming.web.dto;
+
+import com.portfolio.management.domain.model.Stock;
+import com.portfolio.management.domain.model.SuggestionField;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Suggestions as they leave the resource: the domain stocks themselves, no
+ * per-result DTO copy. Written by SuggestionsPayloadWriter in exactly the JSON
+ * shape of {@link SuggestionsResponse}, which remains the documented schema.
+ * Only the per-stock {@code fields} the caller asked for are written;
+ * {@code nextCursor} only when a browse page has a successor, and
+ * {@code otherListings} (keyed by upper-case ISIN) only on suggestions
+ * grouped by ISIN that have some.
+ */
+public record SuggestionsPayload(
+        List<Stock> suggestions,
+        String query,
+        int count,
+        Set<SuggestionField> fields,
+        String nextCursor,
+        Map<String, List<Stock>> otherListings
+) {
+
+    public SuggestionsPayload {
+        fields = SuggestionField.orAll(fields);
+        otherListings = otherListings == null ? Map.of() : otherListings;
+    }
+
+    public SuggestionsPayload(List<Stock> suggestions, String query, int count) {
+        this(suggestions, query, count, SuggestionField.ALL);
+    }
+
+    public SuggestionsPayload(List<Stock> suggestions, String query, int count, Set<SuggestionField> fields) {
+        this(suggestions, query, count, fields, null);
+    }
+
+    public SuggestionsPayload(List<Stock> suggestions, String query, int count, Set<SuggestionField> fields,
+                              String nextCursor) {
+        this(suggestions, query, count, fields, nextCursor, Map.of());
+    }
+}
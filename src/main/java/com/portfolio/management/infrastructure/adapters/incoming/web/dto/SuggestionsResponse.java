@@ -1,5 +1,6 @@
 package com.portfolio.management.infrastructure.adapters.incoming.web.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.quarkus.runtime.annotations.RegisterForReflection;
 import org.eclipse.microprofile.openapi.annotations.media.Schema;
 
@@ -31,9 +32,20 @@ public record SuggestionsResponse(
                 example = "1",
                 minimum = "0"
         )
-        int count
+        int count,
+
+        @Schema(
+                description = "Opaque token for the next page; only on browse pages that have one",
+                example = "AUAjAAAAAAAAAAAAAAAAAAFBQVBM"
+        )
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        String nextCursor
 ) {
 
+    public SuggestionsResponse(List<TickerSuggestionDto> suggestions, String query, int count) {
+        this(suggestions, query, count, null);
+    }
+
     @RegisterForReflection
     @Schema(
             name = "TickerSuggestionDto",
@@ -89,7 +101,33 @@ public record SuggestionsResponse(
                     description = "International Securities Identification Number",
                     example = "US0378331005"
             )
-            String isin
+            String isin,
+
+            @Schema(
+                    description = "Other listings of the same ISIN, most popular first; only with groupBy=isin"
+            )
+            @JsonInclude(JsonInclude.Include.NON_EMPTY)
+            List<ListingDto> otherListings
+    ) {
+    }
+
+    @RegisterForReflection
+    @Schema(
+            name = "ListingDto",
+            description = "Another listing of a suggested instrument, reduced to what tells listings apart"
+    )
+    public record ListingDto(
+            @Schema(description = "Stock unique identifier", example = "42")
+            Long id,
+
+            @Schema(description = "Ticker symbol on this exchange", example = "APC")
+            String symbol,
+
+            @Schema(description = "Stock exchange of this listing", example = "XETR")
+            String exchange,
+
+            @Schema(description = "Trading currency of this listing", example = "EUR")
+            String currency
     ) {
     }
 }
@@ -0,0 +1,59 @@
+package com.portfolio.management.infrastructure.adapters.incoming.web.dto;
+
+import io.quarkus.runtime.annotations.RegisterForReflection;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * Response DTO for trending tickers
+ */
+@RegisterForReflection
+@Schema(
+        name = "TrendingResponse",
+        description = "Tickers most used in the transaction feed over a sliding window"
+)
+public record TrendingResponse(
+        @Schema(
+                description = "Sliding window the ranking covers",
+                example = "1h",
+                enumeration = {"5m", "1h", "24h"}
+        )
+        String window,
+
+        @Schema(
+                description = "Trending tickers, most used first",
+                example = "[{\"symbol\":\"NVDA\",\"count\":42}]"
+        )
+        List<TrendingTickerDto> trending,
+
+        @Schema(
+                description = "Number of tickers returned (same as trending.length)",
+                example = "1",
+                minimum = "0"
+        )
+        int count
+) {
+
+    @RegisterForReflection
+    @Schema(
+            name = "TrendingTickerDto",
+            description = "Individual trending ticker with its approximate usage count"
+    )
+    public record TrendingTickerDto(
+            @Schema(
+                    description = "Stock ticker symbol",
+                    example = "NVDA",
+                    required = true
+            )
+            String symbol,
+
+            @Schema(
+                    description = "Approximate number of transactions in the window (may slightly overestimate)",
+                    example = "42",
+                    required = true
+            )
+            long count
+    ) {
+    }
+}
@@ -3,6 +3,7 @@ package com.portfolio.management.infrastructure.adapters.incoming.web.mapper;
 import com.portfolio.management.domain.model.Stock;
 import com.portfolio.management.infrastructure.adapters.incoming.web.dto.SuggestionsResponse;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 import java.util.List;
 
@@ -15,8 +16,10 @@ import static org.mapstruct.MappingConstants.ComponentModel.JAKARTA_CDI;
 public interface StockMapper {
 
     /**
-     * Maps TickerSuggestion domain model to TickerSuggestionDto
+     * Maps TickerSuggestion domain model to TickerSuggestionDto; other listings
+     * come from ISIN grouping, not from the stock itself
      */
+    @Mapping(target = "otherListings", ignore = true)
     SuggestionsResponse.TickerSuggestionDto toTickerSuggestionDto(Stock tickerSuggestion);
 
     /**
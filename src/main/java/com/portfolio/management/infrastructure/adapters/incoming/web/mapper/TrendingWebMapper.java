@@ -0,0 +1,26 @@
+package com.portfolio.management.infrastructure.adapters.incoming.web.mapper;
+
+import com.portfolio.management.domain.model.TrendingStock;
+import com.portfolio.management.domain.model.TrendingWindow;
+import com.portfolio.management.infrastructure.adapters.incoming.web.dto.TrendingResponse;
+import org.mapstruct.Mapper;
+
+import java.util.List;
+
+import static org.mapstruct.MappingConstants.ComponentModel.JAKARTA_CDI;
+
+/**
+ * MapStruct mapper for converting trending stocks to web DTOs
+ */
+@Mapper(componentModel = JAKARTA_CDI)
+public interface TrendingWebMapper {
+
+    TrendingResponse.TrendingTickerDto toTrendingTickerDto(TrendingStock trendingStock);
+
+    List<TrendingResponse.TrendingTickerDto> toTrendingTickerDtoList(List<TrendingStock> trendingStocks);
+
+    default TrendingResponse toTrendingResponse(TrendingWindow window, List<TrendingStock> trendingStocks) {
+        List<TrendingResponse.TrendingTickerDto> dtoList = toTrendingTickerDtoList(trendingStocks);
+        return new TrendingResponse(window.code(), dtoList, dtoList.size());
+    }
+}
@@ -0,0 +1,194 @@
+package com.portfolio.management.infrastructure.adapters.outgoing.popularity;
+
+import com.portfolio.management.domain.model.ListingPopularity;
+import com.portfolio.management.domain.port.outgoing.PopularityOverlayPort;
+import io.quarkus.logging.Log;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Open-addressed (symbol, exchange) -> score table with primitive score and
+ * expiry columns, so ranking lookups neither box nor allocate a key.
+ * <p>
+ * An entry only needs to outlive the stale copies of its score: the score is
+ * published after the database row holds it, but candidates come from the
+ * stock snapshot, which reads that row at most one stock-index refresh
+ * interval later, and the search caches then keep those candidates for up to
+ * one cache TTL more. The TTL must therefore cover the refresh interval plus
+ * the stock-suggestions expiry - a shorter one is logged at startup - and the
+ * table stays the size of the set of symbols traded within that window.
+ * Expired entries are dropped whenever the table is rebuilt.
+ * <p>
+ * Scores arrive from this replica's transaction consumer and, for events
+ * read by another replica's consumer-group member, from the Redis score
+ * broadcast (PopularityBroadcastListener). A broadcast missed while that
+ * subscription is down leaves the listing on its snapshot score, for at most
+ * the refresh interval plus the cache TTL described above. Ranking reads are
+ * optimistic and only fall back to a read lock if they overlap a write.
+ */
+@ApplicationScoped
+public class InMemoryPopularityOverlay implements PopularityOverlayPort {
+
+    private static final int MIN_CAPACITY = 64;
+
+    private final long ttlMillis;
+    private final Clock clock;
+    private final StampedLock lock = new StampedLock();
+
+    private Table table = new Table(MIN_CAPACITY);
+
+    @Inject
+    public InMemoryPopularityOverlay(@ConfigProperty(name = "app.popularity.overlay-ttl", defaultValue = "PT40M")
+                                     Duration ttl,
+                                     @ConfigProperty(name = "app.suggestions.stock-index.refresh-interval",
+                                             defaultValue = "PT10M")
+                                     Duration snapshotRefreshInterval,
+                                     @ConfigProperty(name = "quarkus.cache.caffeine.stock-suggestions.expire-after-write",
+                                             defaultValue = "PT30M")
+                                     Duration cacheTtl) {
+        this(ttl, Clock.systemUTC());
+        Duration stalest = snapshotRefreshInterval.plus(cacheTtl);
+        if (ttl.compareTo(stalest) < 0) {
+            Log.warnf("Popularity overlay TTL %s is shorter than the stock-index refresh interval plus the "
+                    + "suggestion cache TTL (%s); live scores can expire while stale ones are still served", ttl, stalest);
+        }
+    }
+
+    InMemoryPopularityOverlay(Duration ttl, Clock clock) {
+        this.ttlMillis = ttl.toMillis();
+        this.clock = clock;
+    }
+
+    @Override
+    public void update(List<ListingPopularity> scores) {
+        if (scores == null || scores.isEmpty()) {
+            return;
+        }
+        long now = clock.millis();
+        long stamp = lock.writeLock();
+        try {
+            for (ListingPopularity score : scores) {
+                if (score.symbol() == null) {
+                    continue;
+                }
+                if ((table.used + 1) * 4L > table.symbols.length * 3L) {
+                    table = table.rebuild(now);
+                }
+                table.put(score.symbol(), score.exchange(), score.score(), now + ttlMillis);
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public double scoreOr(String symbol, String exchange, double fallback) {
+        if (symbol == null) {
+            return fallback;
+        }
+        long now = clock.millis();
+        long stamp = lock.tryOptimisticRead();
+        double score = table.get(symbol, exchange, now, fallback);
+        if (lock.validate(stamp)) {
+            return score;
+        }
+        stamp = lock.readLock();
+        try {
+            return table.get(symbol, exchange, now, fallback);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    int size() {
+        long stamp = lock.readLock();
+        try {
+            return table.used;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private static final class Table {
+        private final String[] symbols;
+        private final String[] exchanges;
+        private final double[] scores;
+        private final long[] expiresAt;
+        private final int mask;
+        private int used;
+
+        private Table(int capacity) {
+            this.symbols = new String[capacity];
+            this.exchanges = new String[capacity];
+            this.scores = new double[capacity];
+            this.expiresAt = new long[capacity];
+            this.mask = capacity - 1;
+        }
+
+        private double get(String symbol, String exchange, long now, double fallback) {
+            int slot = hash(symbol, exchange) & mask;
+            for (int probes = 0; probes <= mask; probes++) {
+                String candidate = symbols[slot];
+                if (candidate == null) {
+                    return fallback;
+                }
+                if (candidate.equals(symbol) && Objects.equals(exchanges[slot], exchange)) {
+                    return expiresAt[slot] > now ? scores[slot] : fallback;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return fallback;
+        }
+
+        private void put(String symbol, String exchange, double score, long expiry) {
+            int slot = hash(symbol, exchange) & mask;
+            while (symbols[slot] != null
+                    && !(symbols[slot].equals(symbol) && Objects.equals(exchanges[slot], exchange))) {
+                slot = (slot + 1) & mask;
+            }
+            if (symbols[slot] == null) {
+                used++;
+            }
+            exchanges[slot] = exchange;
+            scores[slot] = score;
+            expiresAt[slot] = expiry;
+            symbols[slot] = symbol;
+        }
+
+        /**
+         * Copies live entries into a table sized for twice their count, which
+         * both drops expired entries and leaves room to grow.
+         */
+        private Table rebuild(long now) {
+            int live = 0;
+            for (int i = 0; i < symbols.length; i++) {
+                if (symbols[i] != null && expiresAt[i] > now) {
+                    live++;
+                }
+            }
+            int capacity = MIN_CAPACITY;
+            while (capacity < (live + 1) * 2) {
+                capacity <<= 1;
+            }
+            Table rebuilt = new Table(capacity);
+            for (int i = 0; i < symbols.length; i++) {
+                if (symbols[i] != null && expiresAt[i] > now) {
+                    rebuilt.put(symbols[i], exchanges[i], scores[i], expiresAt[i]);
+                }
+            }
+            return rebuilt;
+        }
+
+        private static int hash(String symbol, String exchange) {
+            int h = symbol.hashCode() * 31 + Objects.hashCode(exchange);
+            return h ^ (h >>> 16);
+        }
+    }
+}
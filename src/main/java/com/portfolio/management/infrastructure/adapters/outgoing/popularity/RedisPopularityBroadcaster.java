@@ -0,0 +1,64 @@
+package com.portfolio.management.infrastructure.adapters.outgoing.popularity;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.portfolio.management.domain.model.ListingPopularity;
+import com.portfolio.management.domain.port.outgoing.PopularityBroadcastPort;
+import io.quarkus.logging.Log;
+import io.quarkus.redis.datasource.ReactiveRedisDataSource;
+import io.quarkus.redis.datasource.pubsub.ReactivePubSubCommands;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.List;
+
+/**
+ * Publishes recomputed listing scores on a Redis pub/sub channel that every
+ * replica subscribes to (PopularityBroadcastListener), feeding each one's
+ * popularity overlay.
+ * <p>
+ * Score-only updates send no table_changed notification (changelog 007) and
+ * each stream event is read by one consumer-group member only, so without
+ * this the other replicas would rank on snapshot scores until the next
+ * snapshot refresh plus the suggestion cache TTL. Pub/sub is at-most-once: a
+ * replica disconnected at publish time misses that update and falls back to
+ * the same bound.
+ */
+@ApplicationScoped
+public class RedisPopularityBroadcaster implements PopularityBroadcastPort {
+
+    private static final TypeReference<List<ListingPopularity>> SCORES = new TypeReference<>() {
+    };
+
+    private final ReactivePubSubCommands<List<ListingPopularity>> pubSub;
+    private final String channel;
+    private final boolean enabled;
+
+    @Inject
+    public RedisPopularityBroadcaster(ReactiveRedisDataSource redisDataSource,
+                                      @ConfigProperty(name = "app.popularity.broadcast-channel",
+                                              defaultValue = "suggestions:popularity")
+                                      String channel,
+                                      @ConfigProperty(name = "app.redis.enabled", defaultValue = "true")
+                                      boolean enabled) {
+        this(enabled ? redisDataSource.pubsub(SCORES) : null, channel, enabled);
+    }
+
+    RedisPopularityBroadcaster(ReactivePubSubCommands<List<ListingPopularity>> pubSub, String channel,
+                               boolean enabled) {
+        this.pubSub = pubSub;
+        this.channel = channel;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public void publish(List<ListingPopularity> scores) {
+        if (!enabled || scores == null || scores.isEmpty()) {
+            return;
+        }
+        pubSub.publish(channel, scores).subscribe().with(
+                ignored -> { },
+                failure -> Log.warnf(failure, "Failed to broadcast %d listing scores on channel %s",
+                        scores.size(), channel));
+    }
+}
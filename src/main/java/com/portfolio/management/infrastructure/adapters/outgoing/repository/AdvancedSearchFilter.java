@@ -0,0 +1,88 @@
+package com.portfolio.management.infrastructure.adapters.outgoing.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+
+/**
+ * The advanced-search criteria as an ordered list of column conditions, shared
+ * by the HQL and the native SQL read paths. Conditions always come out in the
+ * same column order, so a given combination of criteria always produces the
+ * same statement text and hits the same cached prepared statement.
+ * <p>
+ * The six filterable properties have the same name as their column, so the
+ * rendered conditions are valid in both HQL and SQL.
+ */
+public final class AdvancedSearchFilter {
+
+    private final List<String> conditions;
+    private final List<String> parameters;
+
+    private AdvancedSearchFilter(List<String> conditions, List<String> parameters) {
+        this.conditions = conditions;
+        this.parameters = parameters;
+    }
+
+    /**
+     * Blank criteria are ignored; throws IllegalArgumentException when none is left.
+     * isin is a precise identifier, not free text: exact match only, never LIKE.
+     */
+    public static AdvancedSearchFilter of(String symbol, String companyName, String exchange, String country,
+                                          String currency, String isin) {
+        List<String> conditions = new ArrayList<>(6);
+        List<String> parameters = new ArrayList<>(6);
+        addContains(conditions, parameters, "symbol", symbol);
+        addContains(conditions, parameters, "name", companyName);
+        addContains(conditions, parameters, "exchange", exchange);
+        addContains(conditions, parameters, "country", country);
+        addContains(conditions, parameters, "currency", currency);
+        if (isin != null && !isin.trim().isEmpty()) {
+            conditions.add("upper(isin) = upper(%s)");
+            parameters.add(isin.trim());
+        }
+        if (conditions.isEmpty()) {
+            throw new IllegalArgumentException("At least one search parameter must be non-null and non-empty");
+        }
+        return new AdvancedSearchFilter(List.copyOf(conditions), List.copyOf(parameters));
+    }
+
+    private static void addContains(List<String> conditions, List<String> parameters, String column, String value) {
+        if (value != null && !value.trim().isEmpty()) {
+            conditions.add("lower(" + column + ") LIKE lower(%s)");
+            parameters.add("%" + value.trim() + "%");
+        }
+    }
+
+    /**
+     * The conditions joined with AND, the n-th parameter (1-based) rendered by
+     * {@code placeholder}: {@code ?n} for HQL, {@code $n} for the PG client.
+     */
+    public String conditions(IntFunction<String> placeholder) {
+        StringBuilder sql = new StringBuilder();
+        for (int i = 0; i < conditions.size(); i++) {
+            if (i > 0) {
+                sql.append(" AND ");
+            }
+            sql.append(conditions.get(i).formatted(placeholder.apply(i + 1)));
+        }
+        return sql.toString();
+    }
+
+    /**
+     * Condition for rows strictly after a keyset position in browse order
+     * (score descending, symbol ascending, id ascending). The cursor's score,
+     * symbol and id are parameters {@code first}, {@code first + 1} and
+     * {@code first + 2}.
+     */
+    public static String after(String score, String symbol, String id, IntFunction<String> placeholder, int first) {
+        String p = placeholder.apply(first);
+        String s = placeholder.apply(first + 1);
+        String i = placeholder.apply(first + 2);
+        return "(" + score + " < " + p + " OR (" + score + " = " + p
+                + " AND (" + symbol + " > " + s + " OR (" + symbol + " = " + s + " AND " + id + " > " + i + "))))";
+    }
+
+    public List<String> parameters() {
+        return parameters;
+    }
+}
@@ -5,6 +5,11 @@ import io.quarkus.hibernate.reactive.panache.PanacheRepositoryBase;
 import io.smallrye.mutiny.Uni;
 import jakarta.enterprise.context.ApplicationScoped;
 
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Repository backing the stock_popularity survivor table and the popularity_score
  * columns it feeds on stocks/exchanges/currencies. Uses native SQL rather than
@@ -13,47 +18,94 @@ import jakarta.enterprise.context.ApplicationScoped;
 @ApplicationScoped
 public class DatabaseStockPopularityRepository implements PanacheRepositoryBase<StockPopularityEntity, String> {
 
+    public static final String DIRTY_EXCHANGE = "EXCHANGE";
+
+    /**
+     * Exchange popularity as it enters stock scores: rounded down to a power of
+     * 1.25, so the tier of every listing on an exchange moves only when its
+     * popularity grows by a quarter, not on each of the +1 bumps per
+     * transaction event that would otherwise rewrite every one of them.
+     */
+    private static final String EXCHANGE_TIER =
+            "CASE WHEN %1$s > 1 THEN POWER(1.25, FLOOR(LN(%1$s) / LN(1.25))) ELSE GREATEST(%1$s, 0) END";
+
     /**
      * score = static_score + 0.25 * exchange tier + 10 * ln(1 + tx_count).
-     * Recomputed via a subquery join (rather than a multi-table UPDATE...FROM)
-     * because Postgres can't express two independent LEFT JOINs against the
-     * target table directly in an UPDATE's FROM clause.
+     * Every recompute statement scores candidates in a CTE and only rewrites rows
+     * whose stored score differs: under MVCC an unchanged-value UPDATE still writes
+     * a new row version plus new GIN trigram entries, which is what used to double
+     * the table after each ingestion.
+     */
+    private static final String SCORED_CANDIDATES = """
+            SELECT st.id AS stock_id,
+                   st.exchange AS exchange,
+                   COALESCE(sp.static_score, 0)
+                       + 0.25 * %s
+                       + 10 * LN(1 + COALESCE(sp.tx_count, 0)) AS new_score
+            FROM stocks st
+            LEFT JOIN stock_popularity sp ON sp.symbol = st.symbol
+            LEFT JOIN exchanges e ON e.code = st.exchange
+            """.formatted(EXCHANGE_TIER.formatted("COALESCE(e.popularity_score, 0)"));
+
+    private static final String GUARDED_UPDATE_CTE = """
+            , updated AS (
+                UPDATE stocks s
+                SET popularity_score = c.new_score
+                FROM candidates c
+                WHERE c.stock_id = s.id
+                  AND s.popularity_score IS DISTINCT FROM c.new_score
+                RETURNING 1
+            )
+            """;
+
+    private static final String GUARDED_UPDATE =
+            GUARDED_UPDATE_CTE + "SELECT (SELECT count(*) FROM candidates), (SELECT count(*) FROM updated)";
+
+    private static final String RECOMPUTE_ID_RANGE_UPDATE =
+            "WITH candidates AS (" + SCORED_CANDIDATES + " WHERE st.id > :fromId AND st.id <= :toId)" + GUARDED_UPDATE;
+
+    private static final String RECOMPUTE_EXCHANGES_UPDATE =
+            "WITH candidates AS (" + SCORED_CANDIDATES + " WHERE st.exchange IN (:keys))" + GUARDED_UPDATE;
+
+    /**
+     * Returns the fresh score of every listing of the symbol, changed or not, so
+     * the caller can publish it to the in-process ranking overlay. The UPDATE CTE
+     * runs to completion even though the outer query does not read it.
+     */
+    private static final String RECOMPUTE_ONE_SCORE_UPDATE =
+            "WITH candidates AS (" + SCORED_CANDIDATES + " WHERE st.symbol = :symbol)" + GUARDED_UPDATE_CTE
+                    + "SELECT c.exchange, c.new_score FROM candidates c";
+
+    private static final String STOCK_ID_BOUNDS =
+            "SELECT COALESCE(min(id), 0), COALESCE(max(id), 0) FROM stocks";
+
+    /**
+     * Average on-disk bytes per stocks row, heap plus indexes, used to turn the
+     * count of skipped rows into a bloat estimate.
      */
-    private static final String RECOMPUTE_ALL_SCORES_UPDATE = """
-            UPDATE stocks s
-            SET popularity_score = COALESCE(joined.static_score, 0)
-                                  + 0.25 * COALESCE(joined.exchange_score, 0)
-                                  + 10 * LN(1 + COALESCE(joined.tx_count, 0))
-            FROM (
-                SELECT st.id AS stock_id,
-                       sp.static_score,
-                       sp.tx_count,
-                       e.popularity_score AS exchange_score
-                FROM stocks st
-                LEFT JOIN stock_popularity sp ON sp.symbol = st.symbol
-                LEFT JOIN exchanges e ON e.code = st.exchange
-            ) AS joined
-            WHERE joined.stock_id = s.id
+    private static final String APPROX_ROW_BYTES = """
+            SELECT CAST(pg_total_relation_size('stocks') / GREATEST(reltuples, 1) AS BIGINT)
+            FROM pg_class
+            WHERE relname = 'stocks'
+            """;
+
+    private static final String DB_CLOCK = "SELECT CAST(clock_timestamp() AS TIMESTAMP)";
+
+    private static final String SELECT_DIRTY_KEYS = """
+            SELECT key FROM popularity_dirty_keys
+            WHERE kind = :kind AND marked_at <= :watermark
+            ORDER BY key
+            LIMIT :limit
             """;
 
-    private static final String RECOMPUTE_ONE_SCORE_UPDATE = """
-            UPDATE stocks s
-            SET popularity_score = COALESCE(joined.static_score, 0)
-                                  + 0.25 * COALESCE(joined.exchange_score, 0)
-                                  + 10 * LN(1 + COALESCE(joined.tx_count, 0))
-            FROM (
-                SELECT st.id AS stock_id,
-                       sp.static_score,
-                       sp.tx_count,
-                       e.popularity_score AS exchange_score
-                FROM stocks st
-                LEFT JOIN stock_popularity sp ON sp.symbol = st.symbol
-                LEFT JOIN exchanges e ON e.code = st.exchange
-                WHERE st.symbol = :symbol
-            ) AS joined
-            WHERE joined.stock_id = s.id
+    private static final String CLEAR_DIRTY_KEYS = """
+            DELETE FROM popularity_dirty_keys
+            WHERE kind = :kind AND key IN (:keys) AND marked_at <= :watermark
             """;
 
+    private static final String CLEAR_ALL_DIRTY_KEYS =
+            "DELETE FROM popularity_dirty_keys WHERE marked_at <= :watermark";
+
     private static final String UPSERT_INCREMENT = """
             INSERT INTO stock_popularity (symbol, static_score, tx_count, updated_at)
             VALUES (:symbol, 0, 1, now())
@@ -62,22 +114,114 @@ public class DatabaseStockPopularityRepository implements PanacheRepositoryBase<
                     updated_at = now()
             """;
 
-    private static final String BUMP_EXCHANGE_POPULARITY =
-            "UPDATE exchanges SET popularity_score = popularity_score + 1 WHERE code = :exchange OR name = :exchange";
+    /**
+     * Bumps the exchange and, only when that moves its tier, marks it dirty in
+     * the same round trip: the tier feeds the score of every stock listed on
+     * it, so those stocks are left to the next dirty pass rather than rescored
+     * inline per event. A bump within the tier changes no stock score and
+     * marks nothing. Marks by code, since that is what stocks join on;
+     * clock_timestamp() rather than now(), so the pass watermark keeps keys
+     * re-marked while it runs.
+     */
+    private static final String BUMP_EXCHANGE_POPULARITY = """
+            WITH bumped AS (
+                UPDATE exchanges SET popularity_score = popularity_score + 1
+                WHERE code = :exchange OR name = :exchange
+                RETURNING code, popularity_score
+            )
+            INSERT INTO popularity_dirty_keys (kind, key, marked_at)
+            SELECT 'EXCHANGE', code, clock_timestamp() FROM bumped
+            WHERE %s <> %s
+            ON CONFLICT (kind, key) DO UPDATE SET marked_at = clock_timestamp()
+            """.formatted(EXCHANGE_TIER.formatted("popularity_score"), EXCHANGE_TIER.formatted("(popularity_score - 1)"));
 
     private static final String BUMP_CURRENCY_POPULARITY =
             "UPDATE currencies SET popularity_score = popularity_score + 1 WHERE code = :currency";
 
-    public Uni<Void> recomputeAllStockScores() {
+    public Uni<long[]> findStockIdBounds() {
         return getSession()
-                .chain(session -> session.createNativeQuery(RECOMPUTE_ALL_SCORES_UPDATE).executeUpdate())
-                .replaceWithVoid();
+                .chain(session -> session.createNativeQuery(STOCK_ID_BOUNDS).getSingleResult())
+                .map(row -> {
+                    Object[] columns = (Object[]) row;
+                    return new long[]{toLong(columns[0]), toLong(columns[1])};
+                });
     }
 
-    public Uni<Void> recomputeStockScore(String symbol) {
+    /**
+     * Rescores stocks with fromId < id <= toId. Returns {rowsScanned, rowsUpdated}.
+     */
+    public Uni<long[]> recomputeIdRange(long fromId, long toId) {
+        return getSession()
+                .chain(session -> session.createNativeQuery(RECOMPUTE_ID_RANGE_UPDATE)
+                        .setParameter("fromId", fromId)
+                        .setParameter("toId", toId)
+                        .getSingleResult())
+                .map(DatabaseStockPopularityRepository::toCounts);
+    }
+
+    /**
+     * Rescores stocks listed on the given dirty exchanges. Returns {rowsScanned, rowsUpdated}.
+     */
+    public Uni<long[]> recomputeExchanges(List<String> keys) {
+        return getSession()
+                .chain(session -> session.createNativeQuery(RECOMPUTE_EXCHANGES_UPDATE)
+                        .setParameter("keys", keys)
+                        .getSingleResult())
+                .map(DatabaseStockPopularityRepository::toCounts);
+    }
+
+    /**
+     * @return the symbol's fresh score per listing exchange
+     */
+    public Uni<Map<String, Double>> recomputeStockScore(String symbol) {
         return getSession()
                 .chain(session -> session.createNativeQuery(RECOMPUTE_ONE_SCORE_UPDATE)
                         .setParameter("symbol", symbol)
+                        .getResultList())
+                .map(rows -> {
+                    Map<String, Double> scoresByExchange = new LinkedHashMap<>();
+                    for (Object row : rows) {
+                        Object[] columns = (Object[]) row;
+                        scoresByExchange.merge((String) columns[0], toDouble(columns[1]), Math::max);
+                    }
+                    return scoresByExchange;
+                });
+    }
+
+    public Uni<Long> approxRowBytes() {
+        return getSession()
+                .chain(session -> session.createNativeQuery(APPROX_ROW_BYTES).getSingleResultOrNull())
+                .map(DatabaseStockPopularityRepository::toLong);
+    }
+
+    public Uni<LocalDateTime> databaseClock() {
+        return getSession()
+                .chain(session -> session.createNativeQuery(DB_CLOCK, LocalDateTime.class).getSingleResult());
+    }
+
+    public Uni<List<String>> findDirtyKeys(String kind, LocalDateTime watermark, int limit) {
+        return getSession()
+                .chain(session -> session.createNativeQuery(SELECT_DIRTY_KEYS, String.class)
+                        .setParameter("kind", kind)
+                        .setParameter("watermark", watermark)
+                        .setParameter("limit", limit)
+                        .getResultList());
+    }
+
+    public Uni<Void> clearDirtyKeys(String kind, List<String> keys, LocalDateTime watermark) {
+        return getSession()
+                .chain(session -> session.createNativeQuery(CLEAR_DIRTY_KEYS)
+                        .setParameter("kind", kind)
+                        .setParameter("keys", keys)
+                        .setParameter("watermark", watermark)
+                        .executeUpdate())
+                .replaceWithVoid();
+    }
+
+    public Uni<Void> clearAllDirtyKeys(LocalDateTime watermark) {
+        return getSession()
+                .chain(session -> session.createNativeQuery(CLEAR_ALL_DIRTY_KEYS)
+                        .setParameter("watermark", watermark)
                         .executeUpdate())
                 .replaceWithVoid();
     }
@@ -105,4 +249,17 @@ public class DatabaseStockPopularityRepository implements PanacheRepositoryBase<
                         .executeUpdate())
                 .replaceWithVoid();
     }
+
+    private static long[] toCounts(Object row) {
+        Object[] columns = (Object[]) row;
+        return new long[]{toLong(columns[0]), toLong(columns[1])};
+    }
+
+    private static double toDouble(Object value) {
+        return value == null ? 0.0 : ((Number) value).doubleValue();
+    }
+
+    private static long toLong(Object value) {
+        return value == null ? 0L : ((Number) value).longValue();
+    }
 }
@@ -1,23 +1,25 @@
 package com.portfolio.management.infrastructure.adapters.outgoing.repository;
 
+import com.portfolio.management.domain.model.SecurityIdentifier;
+import com.portfolio.management.domain.model.Stock;
+import com.portfolio.management.domain.model.StockCursor;
+import com.portfolio.management.domain.model.StockPage;
 import com.portfolio.management.infrastructure.adapters.outgoing.repository.persistence.entity.StockEntity;
 import io.quarkus.hibernate.reactive.panache.PanacheRepository;
+import io.quarkus.hibernate.reactive.panache.common.WithSession;
 import io.smallrye.mutiny.Uni;
 import jakarta.enterprise.context.ApplicationScoped;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collection;
 import java.util.List;
-import java.util.Map;
 
 /**
- * Repository for StockEntity using Reactive Panache
+ * Repository for StockEntity using Reactive Panache. The search methods open
+ * their own session, so callers need not.
  */
 @ApplicationScoped
-public class DatabaseStockRepository implements PanacheRepository<StockEntity> {
-
-    public static final int MAX_CANDIDATE_LIMIT = 300;
-    public static final int MAX_ADVANCED_SEARCH_LIMIT = 100;
+public class DatabaseStockRepository implements PanacheRepository<StockEntity>, StockSearchRepository {
 
     /**
      * Single query: filters candidates by symbol/name LIKE, then ranks them by match
@@ -41,7 +43,9 @@ public class DatabaseStockRepository implements PanacheRepository<StockEntity> {
               symbol asc
             """;
 
-    public Uni<List<StockEntity>> findCandidateStocks(String query, int limit) {
+    @Override
+    @WithSession
+    public Uni<List<Stock>> findCandidateStocks(String query, int limit, StockProjection projection) {
         String trimmedQuery = query.trim();
         int maxLimit = Math.max(1, Math.min(limit, MAX_CANDIDATE_LIMIT));
 
@@ -49,82 +53,80 @@ public class DatabaseStockRepository implements PanacheRepository<StockEntity> {
         String exactParam = trimmedQuery.toUpperCase();
         String prefixParam = trimmedQuery.toLowerCase() + "%";
 
-        return find(FIND_CANDIDATES_QUERY, likeParam, exactParam, prefixParam)
-                .page(0, maxLimit)
-                .list();
+        return project(projection, FIND_CANDIDATES_QUERY, List.of(likeParam, exactParam, prefixParam), maxLimit);
     }
 
-    public Uni<List<StockEntity>> findByAdvancedSearch(
-            String symbol, String companyName, String exchange, String country, String currency, String isin, int limit) {
-
-        Map<String, String> searchCriteria = new HashMap<>();
-        if (symbol != null) searchCriteria.put("symbol", symbol);
-        if (companyName != null) searchCriteria.put("name", companyName);
-        if (exchange != null) searchCriteria.put("exchange", exchange);
-        if (country != null) searchCriteria.put("country", country);
-        if (currency != null) searchCriteria.put("currency", currency);
-        if (isin != null) searchCriteria.put("isin", isin);
-
-        return findByAdvancedSearch(searchCriteria, limit);
+    @Override
+    @WithSession
+    public Uni<List<Stock>> findByIdentifier(SecurityIdentifier identifier, StockProjection projection) {
+        String property = switch (identifier.kind()) {
+            case ISIN -> "isin";
+            case CUSIP -> "cusip";
+            case FIGI -> "figiCode";
+        };
+        return project(projection,
+                "from StockEntity where isActive = true AND upper(" + property + ") = ?1 ORDER BY popularityScore DESC, symbol ASC",
+                List.of(identifier.value()), MAX_CANDIDATE_LIMIT);
     }
 
-    private Uni<List<StockEntity>> findByAdvancedSearch(Map<String, String> searchCriteria, int limit) {
-        return Uni.createFrom().item(() -> validateAndBuildQuery(searchCriteria))
-                .flatMap(queryData -> find(queryData.query(), queryData.parameters().toArray())
-                        .page(0, Math.max(1, Math.min(limit, MAX_ADVANCED_SEARCH_LIMIT)))
-                        .list());
+    @Override
+    @WithSession
+    public Uni<List<Stock>> findByIsins(Collection<String> isins, StockProjection projection) {
+        return project(projection,
+                "from StockEntity where isActive = true AND upper(isin) in ?1 ORDER BY popularityScore DESC, symbol ASC",
+                List.of(List.copyOf(isins)), MAX_CANDIDATE_LIMIT);
     }
 
-    private QueryData validateAndBuildQuery(Map<String, String> searchCriteria) {
-        if (searchCriteria == null || searchCriteria.isEmpty()) {
-            throw new IllegalArgumentException("Search criteria cannot be null or empty");
-        }
-
-        boolean hasValidCriteria = searchCriteria.values().stream()
-                .anyMatch(value -> value != null && !value.trim().isEmpty());
-
-        if (!hasValidCriteria) {
-            throw new IllegalArgumentException("At least one search parameter must be non-null and non-empty");
-        }
-
-        StringBuilder query = new StringBuilder("isActive = true");
-        List<String> parameters = new ArrayList<>();
-        int paramIndex = 1;
-
-        // Map field names to entity properties
-        Map<String, String> fieldMapping = Map.of(
-                "symbol", "symbol",
-                "name", "name",
-                "exchange", "exchange",
-                "country", "country",
-                "currency", "currency",
-                "isin", "isin"
-        );
-
-        // isin is a precise identifier, not free text: exact match only, never LIKE.
-        for (Map.Entry<String, String> entry : searchCriteria.entrySet()) {
-            String field = entry.getKey();
-            String value = entry.getValue();
-
-            if (value != null && !value.trim().isEmpty() && fieldMapping.containsKey(field)) {
-                String entityField = fieldMapping.get(field);
-                if ("isin".equals(field)) {
-                    query.append(" AND upper(").append(entityField).append(") = upper(?").append(paramIndex).append(")");
-                    parameters.add(value.trim());
-                } else {
-                    query.append(" AND lower(").append(entityField).append(") LIKE lower(?").append(paramIndex).append(")");
-                    parameters.add("%" + value.trim() + "%");
-                }
-                paramIndex++;
-            }
-        }
-
-        query.append(" ORDER BY popularityScore DESC, symbol ASC");
+    @Override
+    @WithSession
+    public Uni<List<Stock>> findByAdvancedSearch(
+            String symbol, String companyName, String exchange, String country, String currency, String isin, int limit,
+            StockProjection projection) {
+
+        return Uni.createFrom().item(() -> AdvancedSearchFilter.of(symbol, companyName, exchange, country, currency, isin))
+                .flatMap(filter -> project(projection,
+                        "from StockEntity where isActive = true AND " + filter.conditions(n -> "?" + n)
+                                + " ORDER BY popularityScore DESC, symbol ASC",
+                        filter.parameters(), Math.max(1, Math.min(limit, MAX_ADVANCED_SEARCH_LIMIT))));
+    }
 
-        return new QueryData(query.toString(), parameters);
+    @Override
+    @WithSession
+    public Uni<StockPage> findPageByAdvancedSearch(
+            String symbol, String companyName, String exchange, String country, String currency, String isin,
+            StockCursor after, int limit, StockProjection projection) {
+
+        int pageSize = Math.max(1, Math.min(limit, MAX_ADVANCED_SEARCH_LIMIT));
+        return Uni.createFrom().item(() -> AdvancedSearchFilter.of(symbol, companyName, exchange, country, currency, isin))
+                .flatMap(filter -> {
+                    List<Object> parameters = new ArrayList<>(filter.parameters());
+                    StringBuilder query = new StringBuilder("from StockEntity where isActive = true AND ")
+                            .append(filter.conditions(n -> "?" + n));
+                    if (after != null) {
+                        query.append(" AND ").append(AdvancedSearchFilter.after(
+                                "popularityScore", "symbol", "id", n -> "?" + n, parameters.size() + 1));
+                        parameters.add(after.popularityScore());
+                        parameters.add(after.symbol());
+                        parameters.add(after.id());
+                    }
+                    query.append(" ORDER BY popularityScore DESC, symbol ASC, id ASC");
+                    return project(projection, query.toString(), parameters, pageSize + 1);
+                })
+                .map(rows -> StockPage.fromLookahead(rows, pageSize));
     }
 
-    private record QueryData(String query, List<String> parameters) {
+    /**
+     * Runs a positional-parameter HQL query as a tuple select of the projected
+     * columns and maps each row straight to a Stock, skipping entity hydration.
+     */
+    private Uni<List<Stock>> project(StockProjection projection, String fromQuery, List<?> parameters, int maxResults) {
+        return getSession().chain(session -> {
+            var query = session.createSelectionQuery(projection.select(fromQuery), Object[].class);
+            for (int i = 0; i < parameters.size(); i++) {
+                query.setParameter(i + 1, parameters.get(i));
+            }
+            return query.setMaxResults(maxResults).getResultList();
+        }).map(rows -> rows.stream().map(projection::toStock).toList());
     }
 
     public Uni<Long> clearAll() {
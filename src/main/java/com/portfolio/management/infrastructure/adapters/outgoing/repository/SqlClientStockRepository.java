@@ -0,0 +1,229 @@
+package com.portfolio.management.infrastructure.adapters.outgoing.repository;
+
+import com.portfolio.management.domain.model.SecurityIdentifier;
+import com.portfolio.management.domain.model.Stock;
+import com.portfolio.management.domain.model.StockAlias;
+import com.portfolio.management.domain.model.StockCursor;
+import com.portfolio.management.domain.model.StockPage;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.pgclient.PgPool;
+import io.vertx.mutiny.sqlclient.Row;
+import io.vertx.mutiny.sqlclient.RowSet;
+import io.vertx.mutiny.sqlclient.Tuple;
+import jakarta.enterprise.context.ApplicationScoped;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Suggestion reads straight on the reactive PG client: no HQL translation, no
+ * Hibernate session, no persistence context. Statements are sent as prepared
+ * queries and, with {@code quarkus.datasource.reactive.cache-prepared-statements},
+ * are parsed and planned once per connection. Rows become Stocks directly.
+ * <p>
+ * The SQL mirrors {@link DatabaseStockRepository}'s HQL clause for clause, so
+ * both read paths return the same rows in the same order.
+ */
+@ApplicationScoped
+public class SqlClientStockRepository implements StockSearchRepository {
+
+    /**
+     * Same ranking as DatabaseStockRepository's candidate query; the limit is $4
+     */
+    private static final String FIND_CANDIDATES_FROM = """
+            FROM stocks
+            WHERE is_active = true
+              AND (lower(symbol) LIKE $1 OR lower(name) LIKE $1)
+            ORDER BY
+              CASE
+                WHEN upper(symbol) = $2 THEN 0
+                WHEN upper(name) = $2 THEN 1
+                WHEN lower(symbol) LIKE $3 THEN 2
+                WHEN lower(name) LIKE $3 THEN 3
+                ELSE 4
+              END,
+              popularity_score DESC,
+              symbol ASC
+            LIMIT $4
+            """;
+
+    static final int STREAM_FETCH_SIZE = 500;
+
+    /**
+     * Every suggestion field plus the identifiers the snapshot looks up by,
+     * which no suggestion projection selects
+     */
+    private static final String ALL_ACTIVE_SQL = """
+            SELECT id, symbol, name, currency, exchange, country, type, figi_code, isin, cusip, popularity_score
+            FROM stocks WHERE is_active = true""";
+
+    private final PgPool pool;
+
+    /**
+     * Candidate statement text per projection. There are only as many
+     * projections as combinations of the non-ranking fields.
+     */
+    private final Map<StockProjection, String> candidateStatements = new ConcurrentHashMap<>();
+
+    public SqlClientStockRepository(PgPool pool) {
+        this.pool = pool;
+    }
+
+    @Override
+    public Uni<List<Stock>> findCandidateStocks(String query, int limit, StockProjection projection) {
+        String trimmedQuery = query.trim();
+        int maxLimit = Math.max(1, Math.min(limit, MAX_CANDIDATE_LIMIT));
+
+        String lowerQuery = trimmedQuery.toLowerCase();
+        Tuple parameters = Tuple.of("%" + lowerQuery + "%", trimmedQuery.toUpperCase(), lowerQuery + "%", maxLimit);
+
+        String sql = candidateStatements.computeIfAbsent(projection, p -> p.sqlSelect(FIND_CANDIDATES_FROM));
+        return execute(projection, sql, parameters);
+    }
+
+    @Override
+    public Uni<List<Stock>> findByIdentifier(SecurityIdentifier identifier, StockProjection projection) {
+        String column = switch (identifier.kind()) {
+            case ISIN -> "isin";
+            case CUSIP -> "cusip";
+            case FIGI -> "figi_code";
+        };
+        String sql = projection.sqlSelect("FROM stocks WHERE is_active = true AND upper(" + column + ") = $1"
+                + " ORDER BY popularity_score DESC, symbol ASC LIMIT $2");
+        return execute(projection, sql, Tuple.of(identifier.value(), MAX_CANDIDATE_LIMIT));
+    }
+
+    @Override
+    public Uni<List<Stock>> findByIsins(Collection<String> isins, StockProjection projection) {
+        String sql = projection.sqlSelect("FROM stocks WHERE is_active = true AND upper(isin) = ANY($1)"
+                + " ORDER BY popularity_score DESC, symbol ASC LIMIT $2");
+        return execute(projection, sql, Tuple.of(isins.toArray(String[]::new), MAX_CANDIDATE_LIMIT));
+    }
+
+    @Override
+    public Uni<List<Stock>> findByAdvancedSearch(
+            String symbol, String companyName, String exchange, String country, String currency, String isin, int limit,
+            StockProjection projection) {
+
+        return Uni.createFrom().item(() -> AdvancedSearchFilter.of(symbol, companyName, exchange, country, currency, isin))
+                .flatMap(filter -> {
+                    List<Object> values = new ArrayList<>(filter.parameters());
+                    values.add(Math.max(1, Math.min(limit, MAX_ADVANCED_SEARCH_LIMIT)));
+                    String sql = projection.sqlSelect("FROM stocks WHERE is_active = true AND "
+                            + filter.conditions(n -> "$" + n)
+                            + " ORDER BY popularity_score DESC, symbol ASC LIMIT $" + values.size());
+                    return execute(projection, sql, Tuple.from(values));
+                });
+    }
+
+    @Override
+    public Uni<StockPage> findPageByAdvancedSearch(
+            String symbol, String companyName, String exchange, String country, String currency, String isin,
+            StockCursor after, int limit, StockProjection projection) {
+
+        int pageSize = Math.max(1, Math.min(limit, MAX_ADVANCED_SEARCH_LIMIT));
+        return Uni.createFrom().item(() -> AdvancedSearchFilter.of(symbol, companyName, exchange, country, currency, isin))
+                .flatMap(filter -> {
+                    List<Object> values = new ArrayList<>(filter.parameters());
+                    String from = browseFrom(filter, after, values);
+                    values.add(pageSize + 1);
+                    return execute(projection, projection.sqlSelect(from + " LIMIT $" + values.size()), Tuple.from(values));
+                })
+                .map(rows -> StockPage.fromLookahead(rows, pageSize));
+    }
+
+    /**
+     * Every match after {@code after} (or from the top) in browse order, read
+     * through a server-side cursor {@value #STREAM_FETCH_SIZE} rows at a time.
+     * Rows are only fetched as the subscriber requests them, so a slow
+     * consumer holds at most one batch in memory.
+     */
+    public Multi<Stock> streamByAdvancedSearch(
+            String symbol, String companyName, String exchange, String country, String currency, String isin,
+            StockCursor after, StockProjection projection) {
+
+        return Uni.createFrom().item(() -> AdvancedSearchFilter.of(symbol, companyName, exchange, country, currency, isin))
+                .onItem().transformToMulti(filter -> {
+                    List<Object> values = new ArrayList<>(filter.parameters());
+                    String sql = projection.sqlSelect(browseFrom(filter, after, values));
+                    Tuple parameters = Tuple.from(values);
+                    // A cursor only lives inside a transaction. Closing the connection
+                    // rolls the (read-only) transaction back and returns it to the pool.
+                    return pool.getConnection().onItem().transformToMulti(connection ->
+                            connection.begin().onItem().transformToMulti(transaction ->
+                                            connection.prepare(sql).onItem().transformToMulti(statement ->
+                                                    statement.createStream(STREAM_FETCH_SIZE, parameters).toMulti()))
+                                    .onTermination().call(connection::close));
+                })
+                .map(projection::toStock);
+    }
+
+    /**
+     * Every active stock with every suggestion field, FIGI and CUSIP, in one
+     * round trip, for the in-memory stock snapshot
+     */
+    public Uni<List<Stock>> findAllActive() {
+        return pool.preparedQuery(ALL_ACTIVE_SQL)
+                .execute(Tuple.tuple())
+                .map(rows -> {
+                    List<Stock> stocks = new ArrayList<>(rows.size());
+                    for (Row row : rows) {
+                        stocks.add(new Stock(row.getLong(0), row.getString(1), row.getString(2), row.getString(3),
+                                row.getString(4), null, row.getString(5), row.getString(6), row.getString(7), null,
+                                row.getString(8), row.getString(9), null, row.getDouble(10)));
+                    }
+                    return Collections.unmodifiableList(stocks);
+                });
+    }
+
+    /**
+     * The whole curated alias dictionary, for the alias automaton
+     */
+    public Uni<List<StockAlias>> findAllAliases() {
+        return pool.preparedQuery("SELECT alias, symbol FROM stock_aliases")
+                .execute(Tuple.tuple())
+                .map(rows -> {
+                    List<StockAlias> aliases = new ArrayList<>(rows.size());
+                    for (Row row : rows) {
+                        aliases.add(new StockAlias(row.getString(0), row.getString(1)));
+                    }
+                    return Collections.unmodifiableList(aliases);
+                });
+    }
+
+    /**
+     * FROM, WHERE and ORDER BY of a browse read, appending the keyset
+     * parameters to {@code values} when continuing after a cursor
+     */
+    private static String browseFrom(AdvancedSearchFilter filter, StockCursor after, List<Object> values) {
+        StringBuilder sql = new StringBuilder("FROM stocks WHERE is_active = true AND ")
+                .append(filter.conditions(n -> "$" + n));
+        if (after != null) {
+            sql.append(" AND ").append(AdvancedSearchFilter.after(
+                    "popularity_score", "symbol", "id", n -> "$" + n, values.size() + 1));
+            values.add(after.popularityScore());
+            values.add(after.symbol());
+            values.add(after.id());
+        }
+        return sql.append(" ORDER BY popularity_score DESC, symbol ASC, id ASC").toString();
+    }
+
+    private Uni<List<Stock>> execute(StockProjection projection, String sql, Tuple parameters) {
+        return pool.preparedQuery(sql)
+                .execute(parameters)
+                .map(rows -> toStocks(projection, rows));
+    }
+
+    private static List<Stock> toStocks(StockProjection projection, RowSet<Row> rows) {
+        List<Stock> stocks = new ArrayList<>(rows.size());
+        for (Row row : rows) {
+            stocks.add(projection.toStock(row));
+        }
+        return Collections.unmodifiableList(stocks);
+    }
+}
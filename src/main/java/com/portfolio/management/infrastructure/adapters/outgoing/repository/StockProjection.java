@@ -0,0 +1,128 @@
+package com.portfolio.management.infrastructure.adapters.outgoing.repository;
+
+import com.portfolio.management.domain.model.Stock;
+import com.portfolio.management.domain.model.SuggestionField;
+import io.vertx.mutiny.sqlclient.Row;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.IntFunction;
+
+/**
+ * Tuple select over StockEntity for a set of suggestion fields. Rows come back
+ * as Object[] and become Stocks directly: no managed entity, no persistence
+ * context entry, no columns nobody reads (figi, cfi, cusip, mic, timestamps,
+ * data version). Components outside the projection are null.
+ * <p>
+ * Popularity is always selected, since ranking reads it. The same projection
+ * renders as native SQL for the reactive PG client read path.
+ */
+public final class StockProjection {
+
+    /**
+     * Entity property and table column per selectable column, in Stock component order
+     */
+    private enum Column {
+        ID("id", "id"),
+        SYMBOL("symbol", "symbol"),
+        NAME("name", "name"),
+        CURRENCY("currency", "currency"),
+        EXCHANGE("exchange", "exchange"),
+        COUNTRY("country", "country"),
+        TYPE("type", "type"),
+        ISIN("isin", "isin"),
+        POPULARITY("popularityScore", "popularity_score");
+
+        private final String property;
+        private final String column;
+
+        Column(String property, String column) {
+            this.property = property;
+            this.column = column;
+        }
+    }
+
+    private final List<Column> columns;
+    private final String selectClause;
+    private final String sqlSelectClause;
+
+    private StockProjection(List<Column> columns) {
+        this.columns = columns;
+        this.selectClause = "select " + String.join(", ", columns.stream().map(column -> column.property).toList()) + " ";
+        this.sqlSelectClause = "SELECT " + String.join(", ", columns.stream().map(column -> column.column).toList()) + " ";
+    }
+
+    public static StockProjection of(Set<SuggestionField> fields) {
+        List<Column> columns = new ArrayList<>(Column.values().length);
+        for (Column column : Column.values()) {
+            if (column == Column.POPULARITY || fields.contains(SuggestionField.valueOf(column.name()))) {
+                columns.add(column);
+            }
+        }
+        return new StockProjection(List.copyOf(columns));
+    }
+
+    /**
+     * Prefixes an HQL {@code from ...} query with this projection's select list
+     */
+    public String select(String fromQuery) {
+        return selectClause + fromQuery;
+    }
+
+    /**
+     * Prefixes a native SQL {@code FROM ...} statement with this projection's column list
+     */
+    public String sqlSelect(String fromSql) {
+        return sqlSelectClause + fromSql;
+    }
+
+    public Stock toStock(Object[] row) {
+        return toStock(row.length, i -> row[i]);
+    }
+
+    /**
+     * Maps a PG client row selected with {@link #sqlSelect}; bigint and float8
+     * decode to Long and Double, as they do through Hibernate.
+     */
+    public Stock toStock(Row row) {
+        return toStock(row.size(), row::getValue);
+    }
+
+    private Stock toStock(int width, IntFunction<Object> values) {
+        Long id = null;
+        String symbol = null, name = null, currency = null, exchange = null, country = null, type = null, isin = null;
+        Double popularityScore = null;
+        for (int i = 0; i < width; i++) {
+            Object value = values.apply(i);
+            switch (columns.get(i)) {
+                case ID -> id = (Long) value;
+                case SYMBOL -> symbol = (String) value;
+                case NAME -> name = (String) value;
+                case CURRENCY -> currency = (String) value;
+                case EXCHANGE -> exchange = (String) value;
+                case COUNTRY -> country = (String) value;
+                case TYPE -> type = (String) value;
+                case ISIN -> isin = (String) value;
+                case POPULARITY -> popularityScore = (Double) value;
+            }
+        }
+        return new Stock(id, symbol, name, currency, exchange, null, country, type, null, null, isin, null, null,
+                popularityScore);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof StockProjection other && columns.equals(other.columns);
+    }
+
+    @Override
+    public int hashCode() {
+        return columns.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "StockProjection" + columns;
+    }
+}
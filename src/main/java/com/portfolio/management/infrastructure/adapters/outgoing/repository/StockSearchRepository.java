@@ -0,0 +1,50 @@
+package com.portfolio.management.infrastructure.adapters.outgoing.repository;
+
+import com.portfolio.management.domain.model.SecurityIdentifier;
+import com.portfolio.management.domain.model.Stock;
+import com.portfolio.management.domain.model.StockCursor;
+import com.portfolio.management.domain.model.StockPage;
+import io.smallrye.mutiny.Uni;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Read-only suggestion queries. Implemented over Hibernate Reactive Panache
+ * ({@link DatabaseStockRepository}) and directly over the reactive PG client
+ * ({@link SqlClientStockRepository}); both return identical rows in identical
+ * order, so the persistence adapter can switch between them by configuration.
+ */
+public interface StockSearchRepository {
+
+    int MAX_CANDIDATE_LIMIT = 300;
+    int MAX_ADVANCED_SEARCH_LIMIT = 100;
+
+    Uni<List<Stock>> findCandidateStocks(String query, int limit, StockProjection projection);
+
+    /**
+     * Active listings carrying {@code identifier} (already upper-case), by
+     * popularity score descending then symbol: an index lookup on the
+     * identifier column, never a LIKE scan
+     */
+    Uni<List<Stock>> findByIdentifier(SecurityIdentifier identifier, StockProjection projection);
+
+    /**
+     * Active listings carrying any of the (upper-case) {@code isins}, by
+     * popularity score descending then symbol, up to MAX_CANDIDATE_LIMIT rows
+     */
+    Uni<List<Stock>> findByIsins(Collection<String> isins, StockProjection projection);
+
+    Uni<List<Stock>> findByAdvancedSearch(String symbol, String companyName, String exchange, String country,
+                                          String currency, String isin, int limit, StockProjection projection);
+
+    /**
+     * One page in browse order (popularity score descending, symbol, id)
+     * after {@code after}, or from the top when it is null. Reads one row past
+     * {@code limit} to tell whether a next page exists; never uses OFFSET.
+     * The projection must include id and symbol.
+     */
+    Uni<StockPage> findPageByAdvancedSearch(String symbol, String companyName, String exchange, String country,
+                                            String currency, String isin, StockCursor after, int limit,
+                                            StockProjection projection);
+}
@@ -33,9 +33,11 @@ public interface CategoryMapper {
     
     // Exchange mappings
     @Mapping(target = "isActive", source = "isActive")
+    @Mapping(target = "regionCode", source = "region")
     Exchange toExchange(ExchangeEntity entity);
     
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "isActive", source = "isActive")
+    @Mapping(target = "region", source = "regionCode")
     ExchangeEntity toExchangeEntity(Exchange exchange);
 }
@@ -2,9 +2,8 @@ package com.portfolio.management.infrastructure.adapters.outgoing.repository.per
 
 import com.portfolio.management.domain.model.Currency;
 import com.portfolio.management.domain.port.outgoing.CurrencyRepository;
-import com.portfolio.management.infrastructure.adapters.outgoing.repository.DatabaseCurrencyRepository;
-import com.portfolio.management.infrastructure.adapters.outgoing.repository.mapper.CategoryMapper;
-import io.quarkus.hibernate.reactive.panache.common.WithSession;
+import com.portfolio.management.infrastructure.adapters.outgoing.repository.snapshot.CurrencySnapshot;
+import com.portfolio.management.infrastructure.adapters.outgoing.repository.snapshot.ReferenceDataStore;
 import io.smallrye.mutiny.Uni;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Named;
@@ -13,75 +12,51 @@ import java.util.List;
 import java.util.Optional;
 
 /**
- * Persistence adapter for Currency repository following hexagonal architecture
+ * Persistence adapter for Currency repository following hexagonal architecture.
+ * Every read is answered from the in-memory currency snapshot.
  */
 @ApplicationScoped
 @Named("database-currency-repository")
 public class CurrencyPersistenceAdapter implements CurrencyRepository {
 
-    private final DatabaseCurrencyRepository currencyRepository;
-    private final CategoryMapper categoryMapper;
+    private final ReferenceDataStore referenceDataStore;
 
-    public CurrencyPersistenceAdapter(
-            DatabaseCurrencyRepository currencyRepository,
-            CategoryMapper categoryMapper) {
-        this.currencyRepository = currencyRepository;
-        this.categoryMapper = categoryMapper;
+    public CurrencyPersistenceAdapter(ReferenceDataStore referenceDataStore) {
+        this.referenceDataStore = referenceDataStore;
     }
 
     @Override
-    @WithSession
     public Uni<List<Currency>> findAll() {
-        return currencyRepository.findAllActive()
-                .map(entities -> entities.stream()
-                        .map(categoryMapper::toCurrency)
-                        .toList());
+        return referenceDataStore.currencies().map(CurrencySnapshot::all);
     }
 
     @Override
-    @WithSession
     public Uni<List<Currency>> search(String query) {
-        return currencyRepository.searchActive(query)
-                .map(entities -> entities.stream()
-                        .map(categoryMapper::toCurrency)
-                        .toList());
+        return referenceDataStore.currencies().map(snapshot -> snapshot.search(query));
     }
 
     @Override
-    @WithSession
     public Uni<Optional<Currency>> findByCode(String code) {
-        return currencyRepository.findActiveByCode(code)
-                .map(optEntity -> optEntity.map(categoryMapper::toCurrency));
+        return referenceDataStore.currencies().map(snapshot -> snapshot.byCode(code));
     }
 
     @Override
-    @WithSession
     public Uni<Optional<Currency>> findById(Long id) {
-        return currencyRepository.findActiveById(id)
-                .map(optEntity -> optEntity.map(categoryMapper::toCurrency));
+        return referenceDataStore.currencies().map(snapshot -> snapshot.byId(id));
     }
 
     @Override
-    @WithSession
     public Uni<List<Currency>> findByCountryCode(String countryCode) {
-        return currencyRepository.findActiveByCountryCode(countryCode)
-                .map(entities -> entities.stream()
-                        .map(categoryMapper::toCurrency)
-                        .toList());
+        return referenceDataStore.currencies().map(snapshot -> snapshot.byCountryCode(countryCode));
     }
 
     @Override
-    @WithSession
     public Uni<List<Currency>> findMajorCurrencies() {
-        return currencyRepository.findMajorCurrencies()
-                .map(entities -> entities.stream()
-                        .map(categoryMapper::toCurrency)
-                        .toList());
+        return referenceDataStore.currencies().map(CurrencySnapshot::major);
     }
 
     @Override
-    @WithSession
     public Uni<Long> count() {
-        return currencyRepository.countActive();
+        return referenceDataStore.currencies().map(CurrencySnapshot::count);
     }
 }
@@ -1,9 +1,10 @@
 package com.portfolio.management.infrastructure.adapters.outgoing.repository.persistence;
 
 import com.portfolio.management.domain.model.Exchange;
+import com.portfolio.management.domain.port.incoming.GetExchangesUseCase;
 import com.portfolio.management.domain.port.outgoing.ExchangeRepository;
-import com.portfolio.management.infrastructure.adapters.outgoing.repository.DatabaseExchangeRepository;
-import com.portfolio.management.infrastructure.adapters.outgoing.repository.mapper.CategoryMapper;
+import com.portfolio.management.infrastructure.adapters.outgoing.repository.snapshot.ExchangeSnapshot;
+import com.portfolio.management.infrastructure.adapters.outgoing.repository.snapshot.ReferenceDataStore;
 import io.smallrye.mutiny.Uni;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Named;
@@ -12,92 +13,56 @@ import java.util.List;
 import java.util.Optional;
 
 /**
- * Persistence adapter for Exchange repository following hexagonal architecture
+ * Persistence adapter for Exchange repository following hexagonal architecture.
+ * Every read is answered from the in-memory exchange snapshot.
  */
 @ApplicationScoped
 @Named("database-exchange-repository")
 public class ExchangePersistenceAdapter implements ExchangeRepository {
     
-    private final DatabaseExchangeRepository exchangeRepository;
-    private final CategoryMapper categoryMapper;
+    private final ReferenceDataStore referenceDataStore;
     
-    public ExchangePersistenceAdapter(
-            DatabaseExchangeRepository exchangeRepository,
-            CategoryMapper categoryMapper) {
-        this.exchangeRepository = exchangeRepository;
-        this.categoryMapper = categoryMapper;
+    public ExchangePersistenceAdapter(ReferenceDataStore referenceDataStore) {
+        this.referenceDataStore = referenceDataStore;
     }
     
     @Override
     public Uni<List<Exchange>> findAll() {
-        return exchangeRepository.findAllActive()
-                .map(entities -> entities.stream()
-                        .map(categoryMapper::toExchange)
-                        .toList());
+        return referenceDataStore.exchanges().map(ExchangeSnapshot::all);
     }
     
     @Override
     public Uni<List<Exchange>> search(String query) {
-        return exchangeRepository.searchActive(query)
-                .map(entities -> entities.stream()
-                        .map(categoryMapper::toExchange)
-                        .toList());
+        return referenceDataStore.exchanges().map(snapshot -> snapshot.search(query));
     }
     
     @Override
     public Uni<Optional<Exchange>> findByCode(String code) {
-        return exchangeRepository.findActiveByCode(code)
-                .map(optEntity -> optEntity.map(categoryMapper::toExchange));
+        return referenceDataStore.exchanges().map(snapshot -> snapshot.byCode(code));
     }
     
     @Override
     public Uni<Optional<Exchange>> findById(Long id) {
-        return exchangeRepository.findActiveById(id)
-                .map(optEntity -> optEntity.map(categoryMapper::toExchange));
+        return referenceDataStore.exchanges().map(snapshot -> snapshot.byId(id));
     }
     
     @Override
     public Uni<List<Exchange>> findByCountry(String country) {
-        return exchangeRepository.findActiveByCountry(country)
-                .map(entities -> entities.stream()
-                        .map(categoryMapper::toExchange)
-                        .toList());
+        return referenceDataStore.exchanges().map(snapshot -> snapshot.byCountry(country));
     }
     
     @Override
     public Uni<List<Exchange>> findByCurrencyCode(String currencyCode) {
-        return exchangeRepository.findActiveByCurrencyCode(currencyCode)
-                .map(entities -> entities.stream()
-                        .map(categoryMapper::toExchange)
-                        .toList());
+        return referenceDataStore.exchanges().map(snapshot -> snapshot.byCurrencyCode(currencyCode));
     }
     
     @Override
-    public Uni<List<Exchange>> findUSExchanges() {
-        return exchangeRepository.findUSExchanges()
-                .map(entities -> entities.stream()
-                        .map(categoryMapper::toExchange)
-                        .toList());
-    }
-    
-    @Override
-    public Uni<List<Exchange>> findEuropeanExchanges() {
-        return exchangeRepository.findEuropeanExchanges()
-                .map(entities -> entities.stream()
-                        .map(categoryMapper::toExchange)
-                        .toList());
-    }
-    
-    @Override
-    public Uni<List<Exchange>> findAsianExchanges() {
-        return exchangeRepository.findAsianExchanges()
-                .map(entities -> entities.stream()
-                        .map(categoryMapper::toExchange)
-                        .toList());
+    public Uni<List<Exchange>> findByRegion(GetExchangesUseCase.RegionFilter region) {
+        return referenceDataStore.exchanges().map(snapshot -> snapshot.byRegion(region));
     }
     
     @Override
     public Uni<Long> count() {
-        return exchangeRepository.countActive();
+        return referenceDataStore.exchanges().map(ExchangeSnapshot::count);
     }
 }
@@ -1,33 +1,129 @@
 package com.portfolio.management.infrastructure.adapters.outgoing.repository.persistence;
 
+import com.portfolio.management.domain.model.ListingPopularity;
+import com.portfolio.management.domain.model.PopularityRecomputeReport;
 import com.portfolio.management.domain.port.outgoing.PopularityPort;
 import com.portfolio.management.infrastructure.adapters.outgoing.repository.DatabaseStockPopularityRepository;
+import io.quarkus.hibernate.reactive.panache.Panache;
+import io.quarkus.hibernate.reactive.panache.common.WithSession;
 import io.quarkus.hibernate.reactive.panache.common.WithTransaction;
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import jakarta.enterprise.context.ApplicationScoped;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.portfolio.management.infrastructure.adapters.outgoing.repository.DatabaseStockPopularityRepository.DIRTY_EXCHANGE;
 
 @ApplicationScoped
 public class PopularityPersistenceAdapter implements PopularityPort {
 
     private final DatabaseStockPopularityRepository databaseStockPopularityRepository;
+    private final int recomputeChunkSize;
 
-    public PopularityPersistenceAdapter(DatabaseStockPopularityRepository databaseStockPopularityRepository) {
+    public PopularityPersistenceAdapter(DatabaseStockPopularityRepository databaseStockPopularityRepository,
+                                        @ConfigProperty(name = "app.popularity.recompute-chunk-size", defaultValue = "5000")
+                                        int recomputeChunkSize) {
         this.databaseStockPopularityRepository = databaseStockPopularityRepository;
+        this.recomputeChunkSize = Math.max(1, recomputeChunkSize);
     }
 
+    /**
+     * One short transaction per id-range chunk rather than one statement over the
+     * whole table, so autovacuum can reclaim the (now much fewer) dead versions
+     * between chunks instead of after a single long-running update.
+     */
     @Override
-    @WithTransaction
-    public Uni<Void> recomputeStockScores() {
-        return databaseStockPopularityRepository.recomputeAllStockScores();
+    @WithSession
+    public Uni<PopularityRecomputeReport> recomputeStockScores() {
+        return databaseStockPopularityRepository.databaseClock()
+                .chain(watermark -> databaseStockPopularityRepository.findStockIdBounds()
+                        .chain(bounds -> Multi.createFrom().iterable(idRanges(bounds[0], bounds[1], recomputeChunkSize))
+                                .onItem().transformToUniAndConcatenate(range -> Panache.withTransaction(() ->
+                                        databaseStockPopularityRepository.recomputeIdRange(range[0], range[1])))
+                                .map(PopularityPersistenceAdapter::toChunkReport)
+                                .collect().asList()
+                                .map(PopularityPersistenceAdapter::sum))
+                        .call(() -> Panache.withTransaction(() ->
+                                databaseStockPopularityRepository.clearAllDirtyKeys(watermark))))
+                .chain(this::withApproxRowBytes);
+    }
+
+    /**
+     * Symbols are rescored inline by {@link #incrementUsage}; what is left to
+     * this pass is exchanges whose tier moved, which touches every listing on
+     * them. One exchange can list tens of thousands of stocks, so exchanges go
+     * one per transaction.
+     */
+    @Override
+    @WithSession
+    public Uni<PopularityRecomputeReport> recomputeDirtyStockScores() {
+        return databaseStockPopularityRepository.databaseClock()
+                .chain(this::drainDirtyExchanges)
+                .chain(this::withApproxRowBytes);
     }
 
     @Override
     @WithTransaction
-    public Uni<Void> incrementUsage(String symbol, String exchange, String currency) {
+    public Uni<List<ListingPopularity>> incrementUsage(String symbol, String exchange, String currency) {
         return databaseStockPopularityRepository.upsertIncrement(symbol)
                 .chain(() -> databaseStockPopularityRepository.recomputeStockScore(symbol))
-                .chain(() -> bumpExchangeIfPresent(exchange))
-                .chain(() -> bumpCurrencyIfPresent(currency));
+                .call(() -> bumpExchangeIfPresent(exchange))
+                .call(() -> bumpCurrencyIfPresent(currency))
+                .map(scoresByExchange -> scoresByExchange.entrySet().stream()
+                        .map(entry -> new ListingPopularity(symbol, entry.getKey(), entry.getValue()))
+                        .toList());
+    }
+
+    /**
+     * Keys re-marked after the watermark are neither selected nor cleared, so they
+     * stay dirty for the next pass and the drain loop always terminates.
+     */
+    private Uni<PopularityRecomputeReport> drainDirtyExchanges(LocalDateTime watermark) {
+        return Multi.createBy().repeating()
+                .uni(() -> Panache.withTransaction(() ->
+                        databaseStockPopularityRepository.findDirtyKeys(DIRTY_EXCHANGE, watermark, 1)
+                                .chain(keys -> keys.isEmpty()
+                                        ? Uni.createFrom().item(PopularityRecomputeReport.empty())
+                                        : databaseStockPopularityRepository.recomputeExchanges(keys)
+                                        .call(() -> databaseStockPopularityRepository.clearDirtyKeys(DIRTY_EXCHANGE, keys, watermark))
+                                        .map(PopularityPersistenceAdapter::toChunkReport))))
+                .until(report -> report.chunks() == 0)
+                .collect().asList()
+                .map(PopularityPersistenceAdapter::sum);
+    }
+
+    private Uni<PopularityRecomputeReport> withApproxRowBytes(PopularityRecomputeReport report) {
+        if (report.rowsSkipped() == 0) {
+            return Uni.createFrom().item(report);
+        }
+        return databaseStockPopularityRepository.approxRowBytes()
+                .map(report::withApproxRowBytes);
+    }
+
+    static List<long[]> idRanges(long minId, long maxId, int chunkSize) {
+        List<long[]> ranges = new ArrayList<>();
+        if (maxId < minId || (minId == 0 && maxId == 0)) {
+            return ranges;
+        }
+        long from = minId - 1;
+        while (from < maxId) {
+            long to = Math.min(from + chunkSize, maxId);
+            ranges.add(new long[]{from, to});
+            from = to;
+        }
+        return ranges;
+    }
+
+    private static PopularityRecomputeReport toChunkReport(long[] counts) {
+        return new PopularityRecomputeReport(counts[0], counts[1], 1, 0);
+    }
+
+    private static PopularityRecomputeReport sum(List<PopularityRecomputeReport> reports) {
+        return reports.stream().reduce(PopularityRecomputeReport.empty(), PopularityRecomputeReport::plus);
     }
 
     private Uni<Void> bumpExchangeIfPresent(String exchange) {
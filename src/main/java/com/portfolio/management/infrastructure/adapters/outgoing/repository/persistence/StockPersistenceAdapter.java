@@ -1,11 +1,21 @@
 package com.portfolio.management.infrastructure.adapters.outgoing.repository.persistence;
 
+import com.portfolio.management.domain.model.SecurityIdentifier;
 import com.portfolio.management.domain.model.Stock;
+import com.portfolio.management.domain.model.StockCursor;
+import com.portfolio.management.domain.model.StockFacets;
+import com.portfolio.management.domain.model.StockPage;
 import com.portfolio.management.domain.model.StockProcessingResult;
 import com.portfolio.management.domain.model.StocksBatchProcessingResult;
+import com.portfolio.management.domain.model.SuggestionField;
+import com.portfolio.management.domain.port.outgoing.StockAliasPort;
 import com.portfolio.management.domain.port.outgoing.StockPort;
 import com.portfolio.management.infrastructure.adapters.outgoing.repository.DatabaseStockRepository;
+import com.portfolio.management.infrastructure.adapters.outgoing.repository.SqlClientStockRepository;
+import com.portfolio.management.infrastructure.adapters.outgoing.repository.StockProjection;
+import com.portfolio.management.infrastructure.adapters.outgoing.repository.StockSearchRepository;
 import com.portfolio.management.infrastructure.adapters.outgoing.repository.mapper.StockMapper;
+import com.portfolio.management.infrastructure.adapters.outgoing.repository.snapshot.StockSnapshotStore;
 import io.quarkus.cache.CacheInvalidateAll;
 import io.quarkus.cache.CacheResult;
 import io.quarkus.hibernate.reactive.panache.common.WithSession;
@@ -14,18 +24,56 @@ import io.quarkus.logging.Log;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import jakarta.enterprise.context.ApplicationScoped;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 
 @ApplicationScoped
 public class StockPersistenceAdapter implements StockPort {
 
     private final StockMapper stockMapper;
     private final DatabaseStockRepository databaseStockRepository;
+    private final SqlClientStockRepository sqlClientStockRepository;
+    private final StockSearchRepository searchRepository;
+    private final StockSnapshotStore stockSnapshotStore;
+    private final StockAliasPort stockAliasPort;
 
-    public StockPersistenceAdapter(StockMapper stockMapper, DatabaseStockRepository databaseStockRepository) {
+    /**
+     * While app.suggestions.stock-index.enabled is true (the default), every
+     * suggestion read - typeahead candidates, identifier and ISIN listing
+     * lookups, advanced searches, browse pages and streams - is answered from
+     * the in-memory stock snapshot, and facet counts always are. Only the
+     * snapshot matches query words against name words and adds listings
+     * named through an alias; the database path matches substrings.
+     * <p>
+     * With the index disabled those reads go to the database: through the
+     * reactive PG client with a projection of the requested fields, or
+     * through the Panache repository when app.suggestions.sql-client.enabled
+     * is false. Streaming from the database needs a cursor, which only the PG
+     * client offers, so it uses the PG client either way. Writes always go
+     * through Panache.
+     */
+    public StockPersistenceAdapter(StockMapper stockMapper,
+                                   DatabaseStockRepository databaseStockRepository,
+                                   SqlClientStockRepository sqlClientStockRepository,
+                                   StockSnapshotStore stockSnapshotStore,
+                                   StockAliasPort stockAliasPort,
+                                   @ConfigProperty(name = "app.suggestions.sql-client.enabled", defaultValue = "true")
+                                   boolean sqlClientEnabled) {
         this.stockMapper = stockMapper;
         this.databaseStockRepository = databaseStockRepository;
+        this.sqlClientStockRepository = sqlClientStockRepository;
+        this.searchRepository = sqlClientEnabled ? sqlClientStockRepository : databaseStockRepository;
+        this.stockSnapshotStore = stockSnapshotStore;
+        this.stockAliasPort = stockAliasPort;
+        Log.infof("Suggestion read path: %s",
+                stockSnapshotStore.enabled() ? "in-memory stock index"
+                        : sqlClientEnabled ? "reactive PG client" : "Hibernate Reactive Panache");
     }
 
     @Override
@@ -80,18 +128,85 @@ public class StockPersistenceAdapter implements StockPort {
 
     @Override
     @CacheResult(cacheName = "stock-suggestions")
-    @WithSession
-    public Uni<List<Stock>> findCandidateStocks(String query, int limit) {
-        return databaseStockRepository.findCandidateStocks(query, limit)
-                .map(stockMapper::toStocks);
+    public Uni<List<Stock>> findCandidateStocks(String query, int limit, Set<SuggestionField> fields) {
+        if (stockSnapshotStore.enabled()) {
+            int maxLimit = Math.max(1, Math.min(limit, StockSearchRepository.MAX_CANDIDATE_LIMIT));
+            return stockSnapshotStore.snapshot()
+                    .map(snapshot -> snapshot.candidates(query, stockAliasPort.symbolsFor(query), maxLimit));
+        }
+        return searchRepository.findCandidateStocks(query, limit, StockProjection.of(fields));
+    }
+
+    @Override
+    @CacheResult(cacheName = "stock-suggestions")
+    public Uni<List<Stock>> findByIdentifier(SecurityIdentifier identifier, Set<SuggestionField> fields) {
+        if (stockSnapshotStore.enabled()) {
+            return stockSnapshotStore.snapshot().map(snapshot -> snapshot.identifier(identifier));
+        }
+        return searchRepository.findByIdentifier(identifier, StockProjection.of(fields));
+    }
+
+    @Override
+    @CacheResult(cacheName = "stock-suggestions")
+    public Uni<Map<String, List<Stock>>> findListingsByIsin(Set<String> isins, Set<SuggestionField> fields) {
+        if (isins.isEmpty()) {
+            return Uni.createFrom().item(Map.of());
+        }
+        if (stockSnapshotStore.enabled()) {
+            return stockSnapshotStore.snapshot().map(snapshot -> snapshot.listingsByIsin(isins));
+        }
+        return searchRepository.findByIsins(isins, StockProjection.of(fields))
+                .map(StockPersistenceAdapter::groupByIsin);
     }
 
     @Override
     @CacheResult(cacheName = "stock-advanced-search")
-    @WithSession
-    public Uni<List<Stock>> findByAdvancedSearch(String symbol, String companyName, String exchange, String country, String currency, String isin, int limit) {
-        return databaseStockRepository.findByAdvancedSearch(symbol, companyName, exchange, country, currency, isin, limit)
-                .map(stockMapper::toStocks);
+    public Uni<List<Stock>> findByAdvancedSearch(String symbol, String companyName, String exchange, String country, String currency, String isin,
+                                                 int limit, Set<SuggestionField> fields) {
+        if (stockSnapshotStore.enabled()) {
+            int maxLimit = Math.max(1, Math.min(limit, StockSearchRepository.MAX_ADVANCED_SEARCH_LIMIT));
+            return stockSnapshotStore.snapshot()
+                    .map(snapshot -> snapshot.search(symbol, companyName, exchange, country, currency, isin, maxLimit));
+        }
+        return searchRepository.findByAdvancedSearch(symbol, companyName, exchange, country, currency, isin, limit,
+                StockProjection.of(fields));
+    }
+
+    /**
+     * Not cached: pages are walked once by bulk consumers, and caching every
+     * cursor position would crowd out the typeahead results
+     */
+    @Override
+    public Uni<StockPage> findPageByAdvancedSearch(String symbol, String companyName, String exchange, String country,
+                                                   String currency, String isin, StockCursor after, int limit,
+                                                   Set<SuggestionField> fields) {
+        if (stockSnapshotStore.enabled()) {
+            int pageSize = Math.max(1, Math.min(limit, StockSearchRepository.MAX_ADVANCED_SEARCH_LIMIT));
+            return stockSnapshotStore.snapshot()
+                    .map(snapshot -> snapshot.page(symbol, companyName, exchange, country, currency, isin, after, pageSize));
+        }
+        return searchRepository.findPageByAdvancedSearch(symbol, companyName, exchange, country, currency, isin, after,
+                limit, StockProjection.of(fields));
+    }
+
+    @Override
+    public Multi<Stock> streamByAdvancedSearch(String symbol, String companyName, String exchange, String country,
+                                               String currency, String isin, StockCursor after,
+                                               Set<SuggestionField> fields) {
+        // Same source as the pages, so a page's nextCursor continues the stream in the same order
+        if (stockSnapshotStore.enabled()) {
+            return stockSnapshotStore.snapshot().onItem().transformToMulti(snapshot -> Multi.createFrom()
+                    .iterable(snapshot.stream(symbol, companyName, exchange, country, currency, isin, after)));
+        }
+        return sqlClientStockRepository.streamByAdvancedSearch(symbol, companyName, exchange, country, currency, isin,
+                after, StockProjection.of(fields));
+    }
+
+    @Override
+    public Uni<StockFacets> countFacets(String symbol, String companyName, String exchange, String country,
+                                        String currency, String isin) {
+        return stockSnapshotStore.snapshot()
+                .map(snapshot -> snapshot.facets(symbol, companyName, exchange, country, currency, isin));
     }
 
     @Override
@@ -111,4 +226,17 @@ public class StockPersistenceAdapter implements StockPort {
                     return null;
                 });
     }
+
+    /**
+     * Rows already in popularity order, grouped by upper-case ISIN without reordering
+     */
+    private static Map<String, List<Stock>> groupByIsin(List<Stock> listings) {
+        Map<String, List<Stock>> grouped = new LinkedHashMap<>();
+        for (Stock listing : listings) {
+            if (listing.isin() != null) {
+                grouped.computeIfAbsent(listing.isin().toUpperCase(Locale.ROOT), ignored -> new ArrayList<>()).add(listing);
+            }
+        }
+        return grouped;
+    }
 }
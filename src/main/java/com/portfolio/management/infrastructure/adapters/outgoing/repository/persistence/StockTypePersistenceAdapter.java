@@ -2,9 +2,8 @@ package com.portfolio.management.infrastructure.adapters.outgoing.repository.per
 
 import com.portfolio.management.domain.model.StockType;
 import com.portfolio.management.domain.port.outgoing.StockTypeRepository;
-import com.portfolio.management.infrastructure.adapters.outgoing.repository.DatabaseStockTypeRepository;
-import com.portfolio.management.infrastructure.adapters.outgoing.repository.mapper.CategoryMapper;
-import io.quarkus.hibernate.reactive.panache.common.WithSession;
+import com.portfolio.management.infrastructure.adapters.outgoing.repository.snapshot.ReferenceDataStore;
+import com.portfolio.management.infrastructure.adapters.outgoing.repository.snapshot.StockTypeSnapshot;
 import io.smallrye.mutiny.Uni;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Named;
@@ -13,57 +12,41 @@ import java.util.List;
 import java.util.Optional;
 
 /**
- * Persistence adapter for StockType repository following hexagonal architecture
+ * Persistence adapter for StockType repository following hexagonal architecture.
+ * Every read is answered from the in-memory stock type snapshot.
  */
 @ApplicationScoped
 @Named("database-stocktype-repository")
 public class StockTypePersistenceAdapter implements StockTypeRepository {
 
-    private final DatabaseStockTypeRepository stockTypeRepository;
-    private final CategoryMapper categoryMapper;
+    private final ReferenceDataStore referenceDataStore;
 
-    public StockTypePersistenceAdapter(
-            DatabaseStockTypeRepository stockTypeRepository,
-            CategoryMapper categoryMapper) {
-        this.stockTypeRepository = stockTypeRepository;
-        this.categoryMapper = categoryMapper;
+    public StockTypePersistenceAdapter(ReferenceDataStore referenceDataStore) {
+        this.referenceDataStore = referenceDataStore;
     }
 
     @Override
-    @WithSession
     public Uni<List<StockType>> findAll() {
-        return stockTypeRepository.findAllActive()
-                .map(entities -> entities.stream()
-                        .map(categoryMapper::toStockType)
-                        .toList());
+        return referenceDataStore.stockTypes().map(StockTypeSnapshot::all);
     }
 
     @Override
-    @WithSession
     public Uni<List<StockType>> search(String query) {
-        return stockTypeRepository.searchActive(query)
-                .map(entities -> entities.stream()
-                        .map(categoryMapper::toStockType)
-                        .toList());
+        return referenceDataStore.stockTypes().map(snapshot -> snapshot.search(query));
     }
 
     @Override
-    @WithSession
     public Uni<Optional<StockType>> findByCode(String code) {
-        return stockTypeRepository.findActiveByCode(code)
-                .map(optEntity -> optEntity.map(categoryMapper::toStockType));
+        return referenceDataStore.stockTypes().map(snapshot -> snapshot.byCode(code));
     }
 
     @Override
-    @WithSession
     public Uni<Optional<StockType>> findById(Long id) {
-        return stockTypeRepository.findActiveById(id)
-                .map(optEntity -> optEntity.map(categoryMapper::toStockType));
+        return referenceDataStore.stockTypes().map(snapshot -> snapshot.byId(id));
     }
 
     @Override
-    @WithSession
     public Uni<Long> count() {
-        return stockTypeRepository.countActive();
+        return referenceDataStore.stockTypes().map(StockTypeSnapshot::count);
     }
 }
@@ -39,6 +39,9 @@ public class ExchangeEntity extends PanacheEntityBase {
     
     @Column(name = "currency_code", length = 10)
     private String currencyCode;
+
+    @Column(name = "region", length = 32)
+    private String region;
     
     @Column(name = "is_active", nullable = false)
     private Boolean isActive = true;
@@ -82,6 +85,10 @@ public class ExchangeEntity extends PanacheEntityBase {
     public String getCurrencyCode() {
         return currencyCode;
     }
+
+    public String getRegion() {
+        return region;
+    }
     
     public Boolean getIsActive() {
         return isActive;
@@ -115,6 +122,10 @@ public class ExchangeEntity extends PanacheEntityBase {
     public void setCurrencyCode(String currencyCode) {
         this.currencyCode = currencyCode;
     }
+
+    public void setRegion(String region) {
+        this.region = region;
+    }
     
     public void setIsActive(Boolean isActive) {
         this.isActive = isActive;
@@ -133,6 +144,7 @@ public class ExchangeEntity extends PanacheEntityBase {
                ", country='" + country + '\'' +
                ", timezone='" + timezone + '\'' +
                ", currencyCode='" + currencyCode + '\'' +
+               ", region='" + region + '\'' +
                ", isActive=" + isActive +
                ", createdAt=" + createdAt +
                '}';
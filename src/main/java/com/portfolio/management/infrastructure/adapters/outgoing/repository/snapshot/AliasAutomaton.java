@@ -0,0 +1,152 @@
+package com.portfolio.management.infrastructure.adapters.outgoing.repository.snapshot;
+
+import com.portfolio.management.domain.model.StockAlias;
+import com.portfolio.management.domain.strategy.priority.util.NameTokenizer;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+
+/**
+ * Aho-Corasick automaton over the alias dictionary: finds every alias
+ * occurring in a query in one left-to-right pass, however many aliases there
+ * are.
+ * <p>
+ * Aliases and queries are normalized the same way (lower-case words joined
+ * by single spaces), and a hit only counts on word boundaries, so "att"
+ * names AT&T but "matt" does not. Overlapping hits are resolved leftmost
+ * longest: "berkshire b" is the class B alias, not "berkshire" followed by a
+ * stray "b".
+ */
+final class AliasAutomaton {
+
+    static final AliasAutomaton EMPTY = of(List.of());
+
+    private final List<Map<Character, Integer>> edges;
+    private final int[] failure;
+    private final List<List<Integer>> outputs;
+    private final List<String> aliases;
+    private final List<Set<String>> symbols;
+
+    private AliasAutomaton(List<Map<Character, Integer>> edges, int[] failure, List<List<Integer>> outputs,
+                           List<String> aliases, List<Set<String>> symbols) {
+        this.edges = edges;
+        this.failure = failure;
+        this.outputs = outputs;
+        this.aliases = aliases;
+        this.symbols = symbols;
+    }
+
+    static AliasAutomaton of(List<StockAlias> dictionary) {
+        Map<String, Set<String>> symbolsByAlias = new LinkedHashMap<>();
+        for (StockAlias entry : dictionary) {
+            String alias = normalize(entry.alias());
+            if (!alias.isEmpty() && entry.symbol() != null) {
+                symbolsByAlias.computeIfAbsent(alias, ignored -> new LinkedHashSet<>())
+                        .add(entry.symbol().toUpperCase(Locale.ROOT));
+            }
+        }
+        List<String> aliases = List.copyOf(symbolsByAlias.keySet());
+        // Set.copyOf would lose the dictionary order the symbols are reported in
+        List<Set<String>> symbols = aliases.stream()
+                .map(alias -> Collections.unmodifiableSet(symbolsByAlias.get(alias)))
+                .toList();
+
+        // Trie of every alias
+        List<Map<Character, Integer>> edges = new ArrayList<>();
+        List<List<Integer>> outputs = new ArrayList<>();
+        edges.add(new HashMap<>());
+        outputs.add(new ArrayList<>());
+        for (int id = 0; id < aliases.size(); id++) {
+            int state = 0;
+            for (char c : aliases.get(id).toCharArray()) {
+                Integer next = edges.get(state).get(c);
+                if (next == null) {
+                    next = edges.size();
+                    edges.get(state).put(c, next);
+                    edges.add(new HashMap<>());
+                    outputs.add(new ArrayList<>());
+                }
+                state = next;
+            }
+            outputs.get(state).add(id);
+        }
+
+        // Failure links breadth first: the longest proper suffix that is also a
+        // trie path; each state inherits the aliases ending at its failure state
+        int[] failure = new int[edges.size()];
+        Queue<Integer> queue = new ArrayDeque<>(edges.getFirst().values());
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (Map.Entry<Character, Integer> edge : edges.get(state).entrySet()) {
+                int child = edge.getValue();
+                int fallback = failure[state];
+                while (fallback != 0 && !edges.get(fallback).containsKey(edge.getKey())) {
+                    fallback = failure[fallback];
+                }
+                Integer target = edges.get(fallback).get(edge.getKey());
+                failure[child] = target != null && target != child ? target : 0;
+                outputs.get(child).addAll(outputs.get(failure[child]));
+                queue.add(child);
+            }
+        }
+        return new AliasAutomaton(edges, failure, outputs, aliases, symbols);
+    }
+
+    int size() {
+        return aliases.size();
+    }
+
+    /**
+     * Symbols named by the aliases in {@code query}, in query order
+     */
+    Set<String> symbolsFor(String query) {
+        if (aliases.isEmpty()) {
+            return Set.of();
+        }
+        String text = normalize(query);
+        // Longest whole-word hit starting at each position
+        int[] longest = new int[text.length()];
+        int[] aliasAt = new int[text.length()];
+        int state = 0;
+        for (int end = 0; end < text.length(); end++) {
+            char c = text.charAt(end);
+            while (state != 0 && !edges.get(state).containsKey(c)) {
+                state = failure[state];
+            }
+            state = edges.get(state).getOrDefault(c, 0);
+            for (int id : outputs.get(state)) {
+                int length = aliases.get(id).length();
+                int start = end - length + 1;
+                boolean wholeWords = (start == 0 || text.charAt(start - 1) == ' ')
+                        && (end + 1 == text.length() || text.charAt(end + 1) == ' ');
+                if (wholeWords && length > longest[start]) {
+                    longest[start] = length;
+                    aliasAt[start] = id;
+                }
+            }
+        }
+        Set<String> named = new LinkedHashSet<>();
+        for (int start = 0; start < text.length(); ) {
+            if (longest[start] > 0) {
+                named.addAll(symbols.get(aliasAt[start]));
+                start += longest[start];
+            } else {
+                start++;
+            }
+        }
+        return Collections.unmodifiableSet(named);
+    }
+
+    private static String normalize(String text) {
+        return String.join(" ", NameTokenizer.tokens(text));
+    }
+}
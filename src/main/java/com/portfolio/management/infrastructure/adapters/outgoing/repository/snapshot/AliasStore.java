@@ -0,0 +1,62 @@
+package com.portfolio.management.infrastructure.adapters.outgoing.repository.snapshot;
+
+import com.portfolio.management.domain.port.outgoing.StockAliasPort;
+import com.portfolio.management.infrastructure.adapters.outgoing.repository.SqlClientStockRepository;
+import io.quarkus.logging.Log;
+import io.quarkus.runtime.StartupEvent;
+import io.quarkus.scheduler.Scheduled;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Holds the alias dictionary compiled into an {@link AliasAutomaton}, managed
+ * like the reference-data snapshots: loaded at startup with one query,
+ * swapped atomically on rebuild, rebuilt on the reference-data interval and
+ * whenever stock_aliases is known to have changed, through a
+ * {@link SnapshotLoader} so overlapping notifications share one reload.
+ * <p>
+ * Lookups are synchronous, so until the first load succeeds they find no
+ * alias rather than waiting on the database; the scheduled refresh retries.
+ */
+@ApplicationScoped
+public class AliasStore implements StockAliasPort {
+
+    private final SnapshotLoader<AliasAutomaton> automaton;
+
+    public AliasStore(SqlClientStockRepository stockRepository) {
+        this.automaton = new SnapshotLoader<>(() -> stockRepository.findAllAliases()
+                .map(AliasAutomaton::of)
+                .invoke(rebuilt -> Log.debugf("Stock alias automaton rebuilt: %d aliases", rebuilt.size())),
+                Duration.ZERO);
+    }
+
+    void onStart(@Observes StartupEvent event) {
+        refresh().subscribe().with(
+                loaded -> Log.infof("Stock aliases loaded: %d", loaded.size()),
+                failure -> Log.warnf(failure, "Failed to preload stock aliases; the scheduled refresh will retry"));
+    }
+
+    @Scheduled(every = "${app.reference-data.refresh-interval:PT10M}",
+            delayed = "${app.reference-data.refresh-interval:PT10M}",
+            concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    Uni<Void> scheduledRefresh() {
+        return refresh()
+                .replaceWithVoid()
+                .onFailure().invoke(failure -> Log.warnf(failure, "Scheduled stock alias refresh failed"))
+                .onFailure().recoverWithNull();
+    }
+
+    @Override
+    public Set<String> symbolsFor(String query) {
+        AliasAutomaton current = automaton.current();
+        return query == null || current == null ? Set.of() : current.symbolsFor(query);
+    }
+
+    public Uni<AliasAutomaton> refresh() {
+        return automaton.refresh();
+    }
+}
@@ -0,0 +1,110 @@
+package com.portfolio.management.infrastructure.adapters.outgoing.repository.snapshot;
+
+import com.portfolio.management.domain.model.Currency;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Immutable view of every active currency with the indexes the currency
+ * endpoints read from; see {@link ExchangeSnapshot} for the conventions.
+ * The full list is ordered by popularity then code, everything else by code.
+ */
+public final class CurrencySnapshot {
+
+    static final Comparator<Currency> BY_POPULARITY = Comparator
+            .comparing(Currency::popularityScore, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(Currency::code, Comparator.nullsLast(Comparator.naturalOrder()));
+    static final Comparator<Currency> BY_CODE =
+            Comparator.comparing(Currency::code, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final List<Currency> byPopularity;
+    private final String[] searchText;
+    private final Map<Long, Currency> byId;
+    private final Map<String, Currency> byCode;
+    private final Map<String, List<Currency>> byCountryCode;
+    private final List<Currency> major;
+
+    private CurrencySnapshot(List<Currency> active) {
+        this.byPopularity = active.stream().sorted(BY_POPULARITY).toList();
+        this.searchText = byPopularity.stream()
+                .map(currency -> ExchangeSnapshot.searchText(currency.code(), currency.name(), currency.countryCode()))
+                .toArray(String[]::new);
+
+        Map<Long, Currency> ids = new HashMap<>();
+        Map<String, Currency> codes = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        Map<String, List<Currency>> countries = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (Currency currency : byPopularity) {
+            if (currency.id() != null) {
+                ids.put(currency.id(), currency);
+            }
+            if (currency.code() != null) {
+                codes.putIfAbsent(currency.code(), currency);
+            }
+            if (currency.countryCode() != null) {
+                countries.computeIfAbsent(currency.countryCode(), ignored -> new ArrayList<>()).add(currency);
+            }
+        }
+        countries.replaceAll((ignored, group) -> group.stream().sorted(BY_CODE).toList());
+
+        this.byId = Map.copyOf(ids);
+        this.byCode = Collections.unmodifiableMap(codes);
+        this.byCountryCode = Collections.unmodifiableMap(countries);
+        this.major = byPopularity.stream().filter(Currency::isMajorCurrency).sorted(BY_CODE).toList();
+    }
+
+    /**
+     * Builds a snapshot from active currencies; inactive ones are dropped.
+     */
+    public static CurrencySnapshot of(List<Currency> currencies) {
+        return new CurrencySnapshot(currencies.stream().filter(Currency::isActive).toList());
+    }
+
+    public List<Currency> all() {
+        return byPopularity;
+    }
+
+    /**
+     * Case-insensitive substring match on code, name or country code, in popularity order
+     */
+    public List<Currency> search(String query) {
+        if (query == null || query.trim().isEmpty()) {
+            return byPopularity;
+        }
+        String needle = query.toLowerCase(Locale.ROOT);
+        List<Currency> matches = new ArrayList<>();
+        for (int i = 0; i < searchText.length; i++) {
+            if (searchText[i].contains(needle)) {
+                matches.add(byPopularity.get(i));
+            }
+        }
+        return Collections.unmodifiableList(matches);
+    }
+
+    public Optional<Currency> byId(Long id) {
+        return id == null ? Optional.empty() : Optional.ofNullable(byId.get(id));
+    }
+
+    public Optional<Currency> byCode(String code) {
+        return code == null ? Optional.empty() : Optional.ofNullable(byCode.get(code));
+    }
+
+    public List<Currency> byCountryCode(String countryCode) {
+        return countryCode == null ? List.of() : byCountryCode.getOrDefault(countryCode, List.of());
+    }
+
+    public List<Currency> major() {
+        return major;
+    }
+
+    public long count() {
+        return byPopularity.size();
+    }
+}
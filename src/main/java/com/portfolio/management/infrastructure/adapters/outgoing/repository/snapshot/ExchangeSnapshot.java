@@ -0,0 +1,176 @@
+package com.portfolio.management.infrastructure.adapters.outgoing.repository.snapshot;
+
+import com.portfolio.management.domain.model.Exchange;
+import com.portfolio.management.domain.port.incoming.GetExchangesUseCase.RegionFilter;
+import io.quarkus.logging.Log;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * Immutable view of every active exchange with the indexes the exchange
+ * endpoints read from. Code, country and currency keys are case-insensitive
+ * (TreeMap with CASE_INSENSITIVE_ORDER), so lookups never allocate a
+ * normalised key; every list returned is a precomputed unmodifiable list.
+ * <p>
+ * Orderings mirror the SQL the repository used to run: the full list by
+ * popularity then name, everything else by name. Region membership comes
+ * from the exchanges.region column and is grouped once into an EnumMap, so
+ * a region query is a single lookup.
+ */
+public final class ExchangeSnapshot {
+
+    static final Comparator<Exchange> BY_POPULARITY = Comparator
+            .comparing(Exchange::popularityScore, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(Exchange::name, Comparator.nullsLast(Comparator.naturalOrder()));
+    static final Comparator<Exchange> BY_NAME =
+            Comparator.comparing(Exchange::name, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final List<Exchange> byPopularity;
+    private final String[] searchText;
+    private final Map<Long, Exchange> byId;
+    private final Map<String, Exchange> byCode;
+    private final Map<String, List<Exchange>> byCountry;
+    private final Map<String, List<Exchange>> byCurrency;
+    private final Map<RegionFilter, List<Exchange>> byRegion;
+
+    private ExchangeSnapshot(List<Exchange> active) {
+        this.byPopularity = active.stream().sorted(BY_POPULARITY).toList();
+        this.searchText = byPopularity.stream()
+                .map(exchange -> searchText(exchange.code(), exchange.name(), exchange.country()))
+                .toArray(String[]::new);
+
+        Map<Long, Exchange> ids = new HashMap<>();
+        Map<String, Exchange> codes = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (Exchange exchange : byPopularity) {
+            if (exchange.id() != null) {
+                ids.put(exchange.id(), exchange);
+            }
+            if (exchange.code() != null) {
+                codes.putIfAbsent(exchange.code(), exchange);
+            }
+        }
+        this.byId = Map.copyOf(ids);
+        this.byCode = Collections.unmodifiableMap(codes);
+        this.byCountry = groupByName(byPopularity, Exchange::country);
+        this.byCurrency = groupByName(byPopularity, Exchange::currencyCode);
+        this.byRegion = groupByRegion(byPopularity);
+    }
+
+    /**
+     * Builds a snapshot from active exchanges; inactive ones are dropped.
+     */
+    public static ExchangeSnapshot of(List<Exchange> exchanges) {
+        return new ExchangeSnapshot(exchanges.stream().filter(Exchange::isActive).toList());
+    }
+
+    public List<Exchange> all() {
+        return byPopularity;
+    }
+
+    /**
+     * Case-insensitive substring match on code, name or country, in popularity order
+     */
+    public List<Exchange> search(String query) {
+        if (query == null || query.trim().isEmpty()) {
+            return byPopularity;
+        }
+        String needle = query.toLowerCase(Locale.ROOT);
+        List<Exchange> matches = new ArrayList<>();
+        for (int i = 0; i < searchText.length; i++) {
+            if (searchText[i].contains(needle)) {
+                matches.add(byPopularity.get(i));
+            }
+        }
+        return Collections.unmodifiableList(matches);
+    }
+
+    public Optional<Exchange> byId(Long id) {
+        return id == null ? Optional.empty() : Optional.ofNullable(byId.get(id));
+    }
+
+    public Optional<Exchange> byCode(String code) {
+        return code == null ? Optional.empty() : Optional.ofNullable(byCode.get(code));
+    }
+
+    public List<Exchange> byCountry(String country) {
+        return country == null ? List.of() : byCountry.getOrDefault(country, List.of());
+    }
+
+    public List<Exchange> byCurrencyCode(String currencyCode) {
+        return currencyCode == null ? List.of() : byCurrency.getOrDefault(currencyCode, List.of());
+    }
+
+    public List<Exchange> byRegion(RegionFilter region) {
+        return region == null ? List.of() : byRegion.get(region);
+    }
+
+    public long count() {
+        return byPopularity.size();
+    }
+
+    static String searchText(String... fields) {
+        StringBuilder text = new StringBuilder();
+        for (String field : fields) {
+            if (field != null) {
+                // Separator keeps a needle from matching across two fields
+                text.append(field.toLowerCase(Locale.ROOT)).append('\u0000');
+            }
+        }
+        return text.toString();
+    }
+
+    private static Map<String, List<Exchange>> groupByName(List<Exchange> exchanges, Function<Exchange, String> key) {
+        Map<String, List<Exchange>> groups = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (Exchange exchange : exchanges) {
+            String value = key.apply(exchange);
+            if (value != null) {
+                groups.computeIfAbsent(value, ignored -> new ArrayList<>()).add(exchange);
+            }
+        }
+        groups.replaceAll((ignored, group) -> group.stream().sorted(BY_NAME).toList());
+        return Collections.unmodifiableMap(groups);
+    }
+
+    /**
+     * Every region gets an entry, empty when no exchange is assigned to it, so
+     * lookups never miss. Region values that match no RegionFilter (a region
+     * added to the data before the API exposes it) are logged and left out.
+     */
+    private static Map<RegionFilter, List<Exchange>> groupByRegion(List<Exchange> exchanges) {
+        Map<RegionFilter, List<Exchange>> groups = new EnumMap<>(RegionFilter.class);
+        for (RegionFilter region : RegionFilter.values()) {
+            groups.put(region, new ArrayList<>());
+        }
+        for (Exchange exchange : exchanges) {
+            if (exchange.regionCode() == null) {
+                continue;
+            }
+            RegionFilter region = parseRegion(exchange.regionCode());
+            if (region == null) {
+                Log.debugf("Exchange %s has region %s, which is not queryable", exchange.code(), exchange.regionCode());
+                continue;
+            }
+            groups.get(region).add(exchange);
+        }
+        groups.replaceAll((ignored, group) -> group.stream().sorted(BY_NAME).toList());
+        return Collections.unmodifiableMap(groups);
+    }
+
+    private static RegionFilter parseRegion(String region) {
+        try {
+            return RegionFilter.valueOf(region.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.portfolio.management.infrastructure.adapters.outgoing.repository.snapshot;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Every lower-case name of a snapshot packed into one contiguous UTF-8 byte
+ * array, names separated by a zero byte, so a substring query is one scan of
+ * that array instead of a {@code contains} per name.
+ * <p>
+ * The scan tests eight positions per step, SWAR style: it reads the eight
+ * bytes where a match would start and the eight where it would end as two
+ * longs, and keeps the positions holding both the query's first and last
+ * byte. Only those are compared in full, so most of the array is passed over
+ * eight bytes at a time. The last few positions, too close to the end for a
+ * long read, are tested one by one.
+ * <p>
+ * UTF-8 never encodes one character as part of another, so a byte match is
+ * exactly a {@link String#contains} match, and the zero separator, which no
+ * query holds, keeps a match from running across two names.
+ */
+final class PackedNames {
+
+    private static final VarHandle LONGS = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final long ONES = 0x0101010101010101L;
+    private static final long LOW_SEVEN = 0x7F7F7F7F7F7F7F7FL;
+
+    private final byte[] bytes;
+    /**
+     * End of each ordinal's name, exclusive: the offset of its separator
+     */
+    private final int[] ends;
+    private final StockBitmap named;
+
+    private PackedNames(byte[] bytes, int[] ends, StockBitmap named) {
+        this.bytes = bytes;
+        this.ends = ends;
+        this.named = named;
+    }
+
+    /**
+     * Packs {@code names}, one per ordinal, already lower-cased; null names
+     * take no bytes and match nothing
+     */
+    static PackedNames of(String[] names) {
+        byte[][] encoded = new byte[names.length][];
+        int size = 0;
+        StockBitmap.Builder named = StockBitmap.builder();
+        for (int ordinal = 0; ordinal < names.length; ordinal++) {
+            if (names[ordinal] != null) {
+                encoded[ordinal] = names[ordinal].getBytes(StandardCharsets.UTF_8);
+                size += encoded[ordinal].length + 1;
+                named.add(ordinal);
+            }
+        }
+        byte[] bytes = new byte[size];
+        int[] ends = new int[names.length];
+        int position = 0;
+        for (int ordinal = 0; ordinal < names.length; ordinal++) {
+            if (encoded[ordinal] != null) {
+                System.arraycopy(encoded[ordinal], 0, bytes, position, encoded[ordinal].length);
+                position += encoded[ordinal].length;
+                ends[ordinal] = position++;
+            } else {
+                ends[ordinal] = position;
+            }
+        }
+        return new PackedNames(bytes, ends, named.build());
+    }
+
+    int byteSize() {
+        return bytes.length;
+    }
+
+    /**
+     * Every ordinal whose name contains {@code needle} (lower-case)
+     */
+    StockBitmap containing(String needle) {
+        if (needle.isEmpty()) {
+            return named;
+        }
+        byte[] pattern = needle.getBytes(StandardCharsets.UTF_8);
+        StockBitmap.Builder matches = StockBitmap.builder();
+        for (byte b : pattern) {
+            if (b == 0) {
+                return matches.build();
+            }
+        }
+        int last = pattern.length - 1;
+        long firstBytes = broadcast(pattern[0]);
+        long lastBytes = broadcast(pattern[last]);
+        // Names are visited in ordinal order, so the owner of a match only ever moves forward
+        int ordinal = 0;
+        int position = 0;
+        int wordEnd = bytes.length - last - Long.BYTES;
+        while (position <= wordEnd) {
+            long candidates = zeroBytes((long) LONGS.get(bytes, position) ^ firstBytes)
+                    & zeroBytes((long) LONGS.get(bytes, position + last) ^ lastBytes);
+            int next = position + Long.BYTES;
+            while (candidates != 0) {
+                int start = position + (Long.numberOfTrailingZeros(candidates) >>> 3);
+                candidates &= candidates - 1;
+                if (matchesAt(pattern, start)) {
+                    ordinal = owner(ordinal, start);
+                    matches.add(ordinal);
+                    // One match per name is enough: resume at the next name, which may start inside this word
+                    next = ends[ordinal] + 1;
+                    break;
+                }
+            }
+            position = next;
+        }
+        for (int end = bytes.length - last; position < end; position++) {
+            if (bytes[position] == pattern[0] && bytes[position + last] == pattern[last] && matchesAt(pattern, position)) {
+                ordinal = owner(ordinal, position);
+                matches.add(ordinal);
+                position = ends[ordinal];
+            }
+        }
+        return matches.build();
+    }
+
+    private boolean matchesAt(byte[] pattern, int start) {
+        return Arrays.equals(bytes, start, start + pattern.length, pattern, 0, pattern.length);
+    }
+
+    /**
+     * Ordinal whose name holds byte {@code position}, searching forward from
+     * {@code from}: the first to end after it, since a match never starts on
+     * a separator
+     */
+    private int owner(int from, int position) {
+        int ordinal = from;
+        while (ends[ordinal] <= position) {
+            ordinal++;
+        }
+        return ordinal;
+    }
+
+    private static long broadcast(byte value) {
+        return (value & 0xFFL) * ONES;
+    }
+
+    /**
+     * 0x80 in every byte of {@code word} that is zero, nothing elsewhere; the
+     * low seven bits are added separately so no carry crosses into the next byte
+     */
+    private static long zeroBytes(long word) {
+        return ~(((word & LOW_SEVEN) + LOW_SEVEN) | word | LOW_SEVEN);
+    }
+}
@@ -0,0 +1,101 @@
+package com.portfolio.management.infrastructure.adapters.outgoing.repository.snapshot;
+
+import com.portfolio.management.infrastructure.adapters.outgoing.repository.DatabaseCurrencyRepository;
+import com.portfolio.management.infrastructure.adapters.outgoing.repository.DatabaseExchangeRepository;
+import com.portfolio.management.infrastructure.adapters.outgoing.repository.DatabaseStockTypeRepository;
+import com.portfolio.management.infrastructure.adapters.outgoing.repository.mapper.CategoryMapper;
+import io.quarkus.logging.Log;
+import io.quarkus.runtime.StartupEvent;
+import io.quarkus.scheduler.Scheduled;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+
+import java.time.Duration;
+
+/**
+ * Holds one immutable snapshot per reference-data table (exchanges,
+ * currencies, stock types). Each table is read with a single query and
+ * indexed once; every repository read afterwards is served from memory.
+ * <p>
+ * Snapshots are loaded at startup, rebuilt on a fixed interval as a safety
+ * net, and can be rebuilt on demand when a table is known to have changed.
+ * A rebuild swaps the reference atomically, so readers always see one
+ * consistent version. If the startup load fails (database not ready), the
+ * first read loads the table instead.
+ * <p>
+ * Each table loads through its own {@link SnapshotLoader}: one load at a
+ * time, refreshes requested during a load folded into one rerun, and an
+ * older load never installed over a newer one.
+ */
+@ApplicationScoped
+public class ReferenceDataStore {
+
+    private final SnapshotLoader<ExchangeSnapshot> exchanges;
+    private final SnapshotLoader<CurrencySnapshot> currencies;
+    private final SnapshotLoader<StockTypeSnapshot> stockTypes;
+
+    public ReferenceDataStore(DatabaseExchangeRepository exchangeRepository,
+                              DatabaseCurrencyRepository currencyRepository,
+                              DatabaseStockTypeRepository stockTypeRepository,
+                              CategoryMapper categoryMapper) {
+        this.exchanges = new SnapshotLoader<>(() -> exchangeRepository.findAllActive()
+                .map(entities -> ExchangeSnapshot.of(entities.stream().map(categoryMapper::toExchange).toList()))
+                .invoke(snapshot -> Log.debugf("Exchange snapshot rebuilt: %d active", snapshot.count())),
+                Duration.ZERO);
+        this.currencies = new SnapshotLoader<>(() -> currencyRepository.findAllActive()
+                .map(entities -> CurrencySnapshot.of(entities.stream().map(categoryMapper::toCurrency).toList()))
+                .invoke(snapshot -> Log.debugf("Currency snapshot rebuilt: %d active", snapshot.count())),
+                Duration.ZERO);
+        this.stockTypes = new SnapshotLoader<>(() -> stockTypeRepository.findAllActive()
+                .map(entities -> StockTypeSnapshot.of(entities.stream().map(categoryMapper::toStockType).toList()))
+                .invoke(snapshot -> Log.debugf("Stock type snapshot rebuilt: %d active", snapshot.count())),
+                Duration.ZERO);
+    }
+
+    void onStart(@Observes StartupEvent event) {
+        refreshAll().subscribe().with(
+                ignored -> Log.info("Reference data snapshots loaded"),
+                failure -> Log.warnf(failure, "Failed to preload reference data; it will load on first use"));
+    }
+
+    @Scheduled(every = "${app.reference-data.refresh-interval:PT10M}",
+            delayed = "${app.reference-data.refresh-interval:PT10M}",
+            concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    Uni<Void> scheduledRefresh() {
+        return refreshAll()
+                .onFailure().invoke(failure -> Log.warnf(failure, "Scheduled reference data refresh failed"))
+                .onFailure().recoverWithNull();
+    }
+
+    public Uni<ExchangeSnapshot> exchanges() {
+        return exchanges.get();
+    }
+
+    public Uni<CurrencySnapshot> currencies() {
+        return currencies.get();
+    }
+
+    public Uni<StockTypeSnapshot> stockTypes() {
+        return stockTypes.get();
+    }
+
+    public Uni<Void> refreshAll() {
+        return refreshExchanges()
+                .chain(this::refreshCurrencies)
+                .chain(this::refreshStockTypes)
+                .replaceWithVoid();
+    }
+
+    public Uni<ExchangeSnapshot> refreshExchanges() {
+        return exchanges.refresh();
+    }
+
+    public Uni<CurrencySnapshot> refreshCurrencies() {
+        return currencies.refresh();
+    }
+
+    public Uni<StockTypeSnapshot> refreshStockTypes() {
+        return stockTypes.refresh();
+    }
+}
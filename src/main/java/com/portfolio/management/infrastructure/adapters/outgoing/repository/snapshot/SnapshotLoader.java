@@ -0,0 +1,127 @@
+package com.portfolio.management.infrastructure.adapters.outgoing.repository.snapshot;
+
+import io.smallrye.mutiny.Uni;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Loads and holds one snapshot, running at most one load at a time.
+ * <p>
+ * A refresh requested while a load runs does not start another: it marks
+ * one rerun, which starts when the running load ends, and every request made
+ * meanwhile shares it. A burst of change notifications (an ingestion commits
+ * one batch per transaction, each with its own NOTIFY) thus costs the load in
+ * progress plus one more, and that last load started after every change it
+ * was asked for. Requested refreshes wait {@code debounce} before loading, so
+ * a burst arriving while nothing runs is folded in as well.
+ * <p>
+ * Loads are numbered as they start, and a result is only installed over one
+ * from an earlier load, so a slow load can never replace a newer snapshot.
+ * A failed load keeps the previous snapshot.
+ */
+final class SnapshotLoader<T> {
+
+    private final Supplier<Uni<T>> load;
+    private final Duration debounce;
+
+    private volatile T current;
+    private long installed;
+    private long started;
+    private CompletableFuture<T> running;
+    private CompletableFuture<T> rerun;
+
+    /**
+     * @param load     Reads and builds a new snapshot; called once per load
+     * @param debounce Wait before a requested refresh loads
+     */
+    SnapshotLoader(Supplier<Uni<T>> load, Duration debounce) {
+        this.load = load;
+        this.debounce = debounce;
+    }
+
+    /**
+     * The installed snapshot, or null before the first load succeeds
+     */
+    T current() {
+        return current;
+    }
+
+    /**
+     * The installed snapshot, or the result of the load in flight (starting
+     * one at once when none is) when there is none yet
+     */
+    Uni<T> get() {
+        T loaded = current;
+        if (loaded != null) {
+            return Uni.createFrom().item(loaded);
+        }
+        synchronized (this) {
+            if (current != null) {
+                return Uni.createFrom().item(current);
+            }
+            CompletableFuture<T> result = running;
+            if (result == null) {
+                result = running = new CompletableFuture<>();
+                start(Duration.ZERO, result);
+            }
+            return Uni.createFrom().completionStage(result);
+        }
+    }
+
+    /**
+     * A snapshot loaded after this call: a new load when none runs, otherwise
+     * the shared rerun that follows the running one
+     */
+    synchronized Uni<T> refresh() {
+        if (running == null) {
+            // A load that completes synchronously clears running before start returns
+            CompletableFuture<T> result = running = new CompletableFuture<>();
+            start(debounce, result);
+            return Uni.createFrom().completionStage(result);
+        }
+        if (rerun == null) {
+            rerun = new CompletableFuture<>();
+        }
+        return Uni.createFrom().completionStage(rerun);
+    }
+
+    /**
+     * Whether a snapshot is installed or being loaded
+     */
+    synchronized boolean inUse() {
+        return current != null || running != null;
+    }
+
+    private void start(Duration delay, CompletableFuture<T> result) {
+        long sequence = ++started;
+        Uni<Void> wait = delay.isZero()
+                ? Uni.createFrom().voidItem()
+                : Uni.createFrom().voidItem().onItem().delayIt().by(delay);
+        wait.chain(ignored -> load.get())
+                .subscribe().with(
+                        loaded -> finish(sequence, result, loaded, null),
+                        failure -> finish(sequence, result, null, failure));
+    }
+
+    private void finish(long sequence, CompletableFuture<T> result, T loaded, Throwable failure) {
+        synchronized (this) {
+            if (failure == null && sequence > installed) {
+                installed = sequence;
+                current = loaded;
+            }
+            CompletableFuture<T> next = rerun;
+            running = next;
+            rerun = null;
+            if (next != null) {
+                start(debounce, next);
+            }
+        }
+        if (failure == null) {
+            result.complete(loaded);
+        } else {
+            result.completeExceptionally(failure);
+        }
+    }
+}
@@ -0,0 +1,401 @@
+package com.portfolio.management.infrastructure.adapters.outgoing.repository.snapshot;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Immutable compressed set of stock ordinals, laid out like a Roaring bitmap:
+ * ordinals are split on their high 16 bits into chunks of 65536, and each
+ * chunk keeps its low 16 bits either as a sorted char array (up to 4096
+ * members, 2 bytes each) or as a 1024-word bitset (8 KiB, whatever the
+ * count). A facet value held by a handful of stocks therefore costs a few
+ * bytes, and one held by most of them costs at most 8 KiB per 65536 ordinals.
+ * <p>
+ * Intersections work chunk by chunk on matching keys only, with a
+ * merge, probe or word-AND depending on the two container kinds, so they cost
+ * what the smaller side holds rather than the size of the universe.
+ */
+public final class StockBitmap {
+
+    static final int ARRAY_MAX = 4096;
+    private static final int WORDS = 1024;
+
+    static final StockBitmap EMPTY = new StockBitmap(new char[0], new Container[0]);
+
+    private final char[] keys;
+    private final Container[] containers;
+    private final int cardinality;
+
+    private StockBitmap(char[] keys, Container[] containers) {
+        this.keys = keys;
+        this.containers = containers;
+        int total = 0;
+        for (Container container : containers) {
+            total += container.cardinality();
+        }
+        this.cardinality = total;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Every ordinal from 0 (inclusive) to {@code size} (exclusive)
+     */
+    public static StockBitmap range(int size) {
+        Builder builder = builder();
+        for (int ordinal = 0; ordinal < size; ordinal++) {
+            builder.add(ordinal);
+        }
+        return builder.build();
+    }
+
+    public int cardinality() {
+        return cardinality;
+    }
+
+    public boolean isEmpty() {
+        return cardinality == 0;
+    }
+
+    public boolean contains(int ordinal) {
+        int index = Arrays.binarySearch(keys, high(ordinal));
+        return index >= 0 && containers[index].contains(low(ordinal));
+    }
+
+    /**
+     * The smallest member that is at least {@code from}, or -1 when there is none
+     */
+    public int next(int from) {
+        if (from < 0) {
+            from = 0;
+        }
+        int index = Arrays.binarySearch(keys, high(from));
+        int low = low(from);
+        if (index < 0) {
+            index = -index - 1;
+            low = 0;
+        }
+        for (; index < keys.length; index++, low = 0) {
+            int found = containers[index].next(low);
+            if (found >= 0) {
+                return (keys[index] << 16) | found;
+            }
+        }
+        return -1;
+    }
+
+    public StockBitmap and(StockBitmap other) {
+        char[] resultKeys = new char[Math.min(keys.length, other.keys.length)];
+        Container[] resultContainers = new Container[resultKeys.length];
+        int size = 0;
+        for (int i = 0, j = 0; i < keys.length && j < other.keys.length; ) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (keys[i] > other.keys[j]) {
+                j++;
+            } else {
+                Container container = containers[i++].and(other.containers[j++]);
+                if (container.cardinality() > 0) {
+                    resultKeys[size] = keys[i - 1];
+                    resultContainers[size++] = container;
+                }
+            }
+        }
+        return new StockBitmap(Arrays.copyOf(resultKeys, size), Arrays.copyOf(resultContainers, size));
+    }
+
+    /**
+     * Size of the intersection, without building it
+     */
+    public int andCardinality(StockBitmap other) {
+        int total = 0;
+        for (int i = 0, j = 0; i < keys.length && j < other.keys.length; ) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (keys[i] > other.keys[j]) {
+                j++;
+            } else {
+                total += containers[i++].andCardinality(other.containers[j++]);
+            }
+        }
+        return total;
+    }
+
+    public static StockBitmap or(List<StockBitmap> bitmaps) {
+        if (bitmaps.isEmpty()) {
+            return EMPTY;
+        }
+        if (bitmaps.size() == 1) {
+            return bitmaps.getFirst();
+        }
+        SortedMap<Character, long[]> chunks = new TreeMap<>();
+        for (StockBitmap bitmap : bitmaps) {
+            for (int i = 0; i < bitmap.keys.length; i++) {
+                bitmap.containers[i].orInto(chunks.computeIfAbsent(bitmap.keys[i], ignored -> new long[WORDS]));
+            }
+        }
+        Builder builder = builder();
+        chunks.forEach((key, words) -> builder.addChunk(key, Container.of(words)));
+        return builder.build();
+    }
+
+    private static char high(int ordinal) {
+        return (char) (ordinal >>> 16);
+    }
+
+    private static char low(int ordinal) {
+        return (char) ordinal;
+    }
+
+    /**
+     * Collects ordinals in strictly ascending order, which is how the snapshot
+     * walks its stocks
+     */
+    public static final class Builder {
+
+        private char[] keys = new char[4];
+        private Container[] containers = new Container[4];
+        private int size;
+
+        private int currentKey = -1;
+        private char[] values = new char[16];
+        private long[] words;
+        private int count;
+        private int last = -1;
+
+        private Builder() {
+        }
+
+        public Builder add(int ordinal) {
+            if (ordinal <= last) {
+                throw new IllegalArgumentException("Ordinals must be added in ascending order: " + ordinal + " after " + last);
+            }
+            last = ordinal;
+            if (high(ordinal) != currentKey) {
+                flush();
+                currentKey = high(ordinal);
+            }
+            char low = low(ordinal);
+            if (words != null) {
+                words[low >>> 6] |= 1L << low;
+            } else if (count == ARRAY_MAX) {
+                words = new long[WORDS];
+                for (int i = 0; i < count; i++) {
+                    words[values[i] >>> 6] |= 1L << values[i];
+                }
+                words[low >>> 6] |= 1L << low;
+            } else {
+                if (count == values.length) {
+                    values = Arrays.copyOf(values, Math.min(ARRAY_MAX, count * 2));
+                }
+                values[count] = low;
+            }
+            count++;
+            return this;
+        }
+
+        public StockBitmap build() {
+            flush();
+            return size == 0 ? EMPTY : new StockBitmap(Arrays.copyOf(keys, size), Arrays.copyOf(containers, size));
+        }
+
+        private void addChunk(char key, Container container) {
+            if (container.cardinality() == 0) {
+                return;
+            }
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, size * 2);
+                containers = Arrays.copyOf(containers, size * 2);
+            }
+            keys[size] = key;
+            containers[size++] = container;
+        }
+
+        private void flush() {
+            if (currentKey >= 0 && count > 0) {
+                addChunk((char) currentKey, words != null
+                        ? new BitmapContainer(words, count)
+                        : new ArrayContainer(Arrays.copyOf(values, count)));
+            }
+            words = null;
+            count = 0;
+        }
+    }
+
+    private sealed interface Container permits ArrayContainer, BitmapContainer {
+
+        int cardinality();
+
+        boolean contains(char low);
+
+        /**
+         * Smallest member at least {@code from}, or -1
+         */
+        int next(int from);
+
+        Container and(Container other);
+
+        int andCardinality(Container other);
+
+        void orInto(long[] words);
+
+        /**
+         * Array form when the bits fit in one, bitmap form otherwise
+         */
+        static Container of(long[] words) {
+            int cardinality = 0;
+            for (long word : words) {
+                cardinality += Long.bitCount(word);
+            }
+            if (cardinality > ARRAY_MAX) {
+                return new BitmapContainer(words, cardinality);
+            }
+            char[] values = new char[cardinality];
+            int n = 0;
+            for (int w = 0; w < words.length; w++) {
+                for (long word = words[w]; word != 0; word &= word - 1) {
+                    values[n++] = (char) ((w << 6) | Long.numberOfTrailingZeros(word));
+                }
+            }
+            return new ArrayContainer(values);
+        }
+    }
+
+    private record ArrayContainer(char[] values) implements Container {
+
+        @Override
+        public int cardinality() {
+            return values.length;
+        }
+
+        @Override
+        public boolean contains(char low) {
+            return Arrays.binarySearch(values, low) >= 0;
+        }
+
+        @Override
+        public int next(int from) {
+            int index = Arrays.binarySearch(values, (char) from);
+            if (index < 0) {
+                index = -index - 1;
+            }
+            return index < values.length ? values[index] : -1;
+        }
+
+        @Override
+        public Container and(Container other) {
+            char[] result = new char[values.length];
+            int n = 0;
+            if (other instanceof ArrayContainer(char[] others)) {
+                for (int i = 0, j = 0; i < values.length && j < others.length; ) {
+                    if (values[i] < others[j]) {
+                        i++;
+                    } else if (values[i] > others[j]) {
+                        j++;
+                    } else {
+                        result[n++] = values[i++];
+                        j++;
+                    }
+                }
+            } else {
+                for (char value : values) {
+                    if (other.contains(value)) {
+                        result[n++] = value;
+                    }
+                }
+            }
+            return new ArrayContainer(Arrays.copyOf(result, n));
+        }
+
+        @Override
+        public int andCardinality(Container other) {
+            int n = 0;
+            if (other instanceof ArrayContainer(char[] others)) {
+                for (int i = 0, j = 0; i < values.length && j < others.length; ) {
+                    if (values[i] < others[j]) {
+                        i++;
+                    } else if (values[i] > others[j]) {
+                        j++;
+                    } else {
+                        n++;
+                        i++;
+                        j++;
+                    }
+                }
+            } else {
+                for (char value : values) {
+                    if (other.contains(value)) {
+                        n++;
+                    }
+                }
+            }
+            return n;
+        }
+
+        @Override
+        public void orInto(long[] words) {
+            for (char value : values) {
+                words[value >>> 6] |= 1L << value;
+            }
+        }
+    }
+
+    private record BitmapContainer(long[] words, int cardinality) implements Container {
+
+        @Override
+        public boolean contains(char low) {
+            return (words[low >>> 6] & (1L << low)) != 0;
+        }
+
+        @Override
+        public int next(int from) {
+            int w = from >>> 6;
+            if (w >= WORDS) {
+                return -1;
+            }
+            long word = words[w] & (-1L << from);
+            while (word == 0) {
+                if (++w == WORDS) {
+                    return -1;
+                }
+                word = words[w];
+            }
+            return (w << 6) | Long.numberOfTrailingZeros(word);
+        }
+
+        @Override
+        public Container and(Container other) {
+            if (other instanceof BitmapContainer(long[] others, int ignored)) {
+                long[] result = new long[WORDS];
+                for (int w = 0; w < WORDS; w++) {
+                    result[w] = words[w] & others[w];
+                }
+                return Container.of(result);
+            }
+            return other.and(this);
+        }
+
+        @Override
+        public int andCardinality(Container other) {
+            if (other instanceof BitmapContainer(long[] others, int ignored)) {
+                int n = 0;
+                for (int w = 0; w < WORDS; w++) {
+                    n += Long.bitCount(words[w] & others[w]);
+                }
+                return n;
+            }
+            return other.andCardinality(this);
+        }
+
+        @Override
+        public void orInto(long[] target) {
+            for (int w = 0; w < WORDS; w++) {
+                target[w] |= words[w];
+            }
+        }
+    }
+}
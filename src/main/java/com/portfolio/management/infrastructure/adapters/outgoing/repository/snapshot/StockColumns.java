@@ -0,0 +1,250 @@
+package com.portfolio.management.infrastructure.adapters.outgoing.repository.snapshot;
+
+import com.portfolio.management.domain.model.Stock;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * The stocks of a snapshot stored column by column, one array entry per
+ * ordinal, instead of as an array of {@link Stock} records.
+ * <p>
+ * Id, data version and popularity score are primitive columns, so no boxed
+ * Long or Double is kept per stock. Exchange, MIC, country, currency, type
+ * and CFI code take a few hundred distinct values at most; each is a
+ * {@link Dictionary} of those values with one short code per stock. Symbols
+ * and names go through a string pool while loading, so listings of one
+ * company share a single name instance, as do the lower-case copies used for
+ * matching. A {@link Stock} is rebuilt from the columns only for the stocks a
+ * search actually returns.
+ */
+final class StockColumns {
+
+    /**
+     * Id column value for a stock without one; it sorts last, as browse order puts a missing id
+     */
+    private static final long NO_ID = Long.MAX_VALUE;
+    /**
+     * Data version column value for a stock without one
+     */
+    private static final long NO_VERSION = Long.MIN_VALUE;
+
+    private final long[] ids;
+    private final double[] scores;
+    private final long[] dataVersions;
+    private final String[] symbols;
+    private final String[] names;
+    private final String[] lowerSymbols;
+    private final String[] lowerNames;
+    private final Dictionary exchanges;
+    private final Dictionary micCodes;
+    private final Dictionary countries;
+    private final Dictionary currencies;
+    private final Dictionary types;
+    private final Dictionary cfiCodes;
+    private final String[] figiCodes;
+    private final String[] isins;
+    private final String[] cusips;
+
+    private StockColumns(Stock[] stocks) {
+        int size = stocks.length;
+        this.ids = new long[size];
+        this.scores = new double[size];
+        this.dataVersions = new long[size];
+        this.symbols = new String[size];
+        this.names = new String[size];
+        this.lowerSymbols = new String[size];
+        this.lowerNames = new String[size];
+        this.figiCodes = new String[size];
+        this.isins = new String[size];
+        this.cusips = new String[size];
+        Map<String, String> pool = new HashMap<>();
+        Map<String, String> lowerPool = new HashMap<>();
+        for (int ordinal = 0; ordinal < size; ordinal++) {
+            Stock stock = stocks[ordinal];
+            ids[ordinal] = stock.id() == null ? NO_ID : stock.id();
+            scores[ordinal] = stock.popularityScore() == null ? Double.NaN : stock.popularityScore();
+            dataVersions[ordinal] = stock.dataVersion() == null ? NO_VERSION : stock.dataVersion();
+            symbols[ordinal] = pooled(pool, stock.symbol());
+            names[ordinal] = pooled(pool, stock.name());
+            lowerSymbols[ordinal] = lowerPooled(lowerPool, symbols[ordinal]);
+            lowerNames[ordinal] = lowerPooled(lowerPool, names[ordinal]);
+            figiCodes[ordinal] = stock.figiCode();
+            isins[ordinal] = stock.isin();
+            cusips[ordinal] = stock.cusip();
+        }
+        this.exchanges = Dictionary.of(stocks, Stock::exchange);
+        this.micCodes = Dictionary.of(stocks, Stock::micCode);
+        this.countries = Dictionary.of(stocks, Stock::country);
+        this.currencies = Dictionary.of(stocks, Stock::currency);
+        this.types = Dictionary.of(stocks, Stock::type);
+        this.cfiCodes = Dictionary.of(stocks, Stock::cfiCode);
+    }
+
+    /**
+     * Columns of {@code stocks}, ordinals in array order
+     */
+    static StockColumns of(Stock[] stocks) {
+        return new StockColumns(stocks);
+    }
+
+    int size() {
+        return ids.length;
+    }
+
+    long id(int ordinal) {
+        return ids[ordinal];
+    }
+
+    /**
+     * Popularity score, 0 for a stock without one, as browse order ranks it
+     */
+    double score(int ordinal) {
+        double score = scores[ordinal];
+        return Double.isNaN(score) ? 0.0 : score;
+    }
+
+    String symbol(int ordinal) {
+        return symbols[ordinal];
+    }
+
+    /**
+     * Lower-case symbols, one per ordinal; null where a stock has none
+     */
+    String[] lowerSymbols() {
+        return lowerSymbols;
+    }
+
+    /**
+     * Lower-case names, one per ordinal; null where a stock has none
+     */
+    String[] lowerNames() {
+        return lowerNames;
+    }
+
+    Dictionary exchanges() {
+        return exchanges;
+    }
+
+    Dictionary countries() {
+        return countries;
+    }
+
+    Dictionary currencies() {
+        return currencies;
+    }
+
+    Dictionary types() {
+        return types;
+    }
+
+    String[] figiCodes() {
+        return figiCodes;
+    }
+
+    String[] isins() {
+        return isins;
+    }
+
+    String[] cusips() {
+        return cusips;
+    }
+
+    /**
+     * The stock at {@code ordinal}, rebuilt from its columns
+     */
+    Stock stock(int ordinal) {
+        double score = scores[ordinal];
+        long dataVersion = dataVersions[ordinal];
+        long id = ids[ordinal];
+        return new Stock(id == NO_ID ? null : id, symbols[ordinal], names[ordinal], currencies.value(ordinal),
+                exchanges.value(ordinal), micCodes.value(ordinal), countries.value(ordinal), types.value(ordinal),
+                figiCodes[ordinal], cfiCodes.value(ordinal), isins[ordinal], cusips[ordinal],
+                dataVersion == NO_VERSION ? null : dataVersion, Double.isNaN(score) ? null : score);
+    }
+
+    private static String pooled(Map<String, String> pool, String value) {
+        return value == null ? null : pool.computeIfAbsent(value, Function.identity());
+    }
+
+    private static String lowerPooled(Map<String, String> pool, String value) {
+        return value == null ? null : pool.computeIfAbsent(value, StockSnapshot::lower);
+    }
+
+    /**
+     * Distinct values of one low-cardinality attribute, exactly as stored,
+     * with each stock's value as a short code into them; -1 where a stock has
+     * no value
+     */
+    static final class Dictionary {
+
+        private final String[] values;
+        private final short[] codes;
+
+        private Dictionary(String[] values, short[] codes) {
+            this.values = values;
+            this.codes = codes;
+        }
+
+        static Dictionary of(Stock[] stocks, Function<Stock, String> attribute) {
+            Map<String, Short> codeByValue = new HashMap<>();
+            List<String> values = new ArrayList<>();
+            short[] codes = new short[stocks.length];
+            for (int ordinal = 0; ordinal < stocks.length; ordinal++) {
+                String value = attribute.apply(stocks[ordinal]);
+                if (value == null) {
+                    codes[ordinal] = -1;
+                    continue;
+                }
+                Short code = codeByValue.get(value);
+                if (code == null) {
+                    if (values.size() > Short.MAX_VALUE) {
+                        throw new IllegalArgumentException("More than " + (Short.MAX_VALUE + 1)
+                                + " distinct values in a dictionary-encoded stock column");
+                    }
+                    code = (short) values.size();
+                    codeByValue.put(value, code);
+                    values.add(value);
+                }
+                codes[ordinal] = code;
+            }
+            return new Dictionary(values.toArray(String[]::new), codes);
+        }
+
+        /**
+         * Number of distinct values
+         */
+        int size() {
+            return values.length;
+        }
+
+        /**
+         * Number of stocks coded
+         */
+        int ordinals() {
+            return codes.length;
+        }
+
+        /**
+         * The value with code {@code code}
+         */
+        String decode(int code) {
+            return values[code];
+        }
+
+        /**
+         * Code of the stock at {@code ordinal}, or -1 when it has no value
+         */
+        int code(int ordinal) {
+            return codes[ordinal];
+        }
+
+        String value(int ordinal) {
+            short code = codes[ordinal];
+            return code < 0 ? null : values[code];
+        }
+    }
+}
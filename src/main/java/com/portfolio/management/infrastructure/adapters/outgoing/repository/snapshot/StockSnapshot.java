@@ -0,0 +1,546 @@
+package com.portfolio.management.infrastructure.adapters.outgoing.repository.snapshot;
+
+import com.portfolio.management.domain.model.SecurityIdentifier;
+import com.portfolio.management.domain.model.Stock;
+import com.portfolio.management.domain.model.StockCursor;
+import com.portfolio.management.domain.model.StockFacets;
+import com.portfolio.management.domain.model.StockPage;
+import com.portfolio.management.domain.strategy.priority.util.LevenshteinAutomaton;
+import com.portfolio.management.domain.strategy.priority.util.NameTokenizer;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+/**
+ * Immutable, indexed copy of every active stock, answering advanced searches
+ * without a database round trip.
+ * <p>
+ * Stocks are numbered (their ordinal) in browse order: popularity score
+ * descending, then symbol, then id, and held as {@link StockColumns}: every
+ * search below runs on primitive and dictionary-coded columns, and only the
+ * stocks it returns are rebuilt as {@link Stock} records. Exchange, country,
+ * currency and type each get one {@link StockBitmap} per distinct value over
+ * those ordinals. A
+ * facet criterion is a case-insensitive substring, like the SQL it replaces,
+ * so it selects every value containing it; there are only a few hundred
+ * values, and their bitmaps are OR-ed and then AND-ed across facets. ISIN,
+ * CUSIP and FIGI are exact lookups; the ISIN bitmaps double as the listing
+ * groups that suggestions grouped by ISIN are folded with. The symbol and
+ * company-name criteria are checked only against stocks left after that,
+ * walked in ordinal order, so the first {@code limit} found are already the
+ * top of the ranking.
+ * <p>
+ * Typeahead candidates are ranked in tiers like the database candidate
+ * query, with one more tier the SQL cannot serve: names whose words start
+ * with the query's words, answered by a {@link TokenIndex}. Exact and prefix
+ * tiers come from a {@link ValueIndex} over symbols and one over names, so
+ * only the substring tier visits stocks one by one, and only when the tiers
+ * before it leave room. After that, a fuzzy tier adds stocks whose symbol or
+ * name words are a small edit distance from the query's words.
+ * <p>
+ * Substring criteria are matched literally: a % or _ typed by the caller is
+ * not a wildcard here. With packed names, company-name substrings are found
+ * by one scan of {@link PackedNames} up front, and the stocks it selects are
+ * a bitmap like any facet; otherwise each visited name is checked on its own.
+ */
+public final class StockSnapshot {
+
+    static final Comparator<Stock> BROWSE_ORDER = Comparator
+            .comparingDouble(StockSnapshot::score).reversed()
+            .thenComparing(Stock::symbol, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(Stock::id, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final StockColumns columns;
+    private final String[] symbols;
+    private final String[] names;
+    private final StockBitmap all;
+    private final Facet exchanges;
+    private final Facet countries;
+    private final Facet currencies;
+    private final Facet types;
+    private final Map<String, StockBitmap> byIsin;
+    private final Map<String, StockBitmap> byCusip;
+    private final Map<String, StockBitmap> byFigi;
+    private final TokenIndex nameTokens;
+    private final TokenIndex symbolTokens;
+    private final ValueIndex symbolValues;
+    private final ValueIndex nameValues;
+    private final PackedNames packedNames;
+
+    private StockSnapshot(List<Stock> active, boolean packNames) {
+        this.columns = StockColumns.of(active.stream().sorted(BROWSE_ORDER).toArray(Stock[]::new));
+        this.symbols = columns.lowerSymbols();
+        this.names = columns.lowerNames();
+        this.all = StockBitmap.range(columns.size());
+        this.exchanges = Facet.of(columns.exchanges());
+        this.countries = Facet.of(columns.countries());
+        this.currencies = Facet.of(columns.currencies());
+        this.types = Facet.of(columns.types());
+        this.byIsin = identifierIndex(columns.isins());
+        this.byCusip = identifierIndex(columns.cusips());
+        this.byFigi = identifierIndex(columns.figiCodes());
+        this.nameTokens = TokenIndex.of(names);
+        this.symbolTokens = TokenIndex.of(symbols);
+        this.symbolValues = ValueIndex.of(symbols);
+        this.nameValues = ValueIndex.of(names);
+        this.packedNames = packNames ? PackedNames.of(names) : null;
+    }
+
+    /**
+     * Builds a snapshot from active stocks; each must carry id, symbol and popularity score
+     */
+    public static StockSnapshot of(List<Stock> active) {
+        return new StockSnapshot(active, false);
+    }
+
+    /**
+     * Builds a snapshot that also packs every company name into one byte
+     * array, answering name substrings with a {@link PackedNames} scan
+     */
+    public static StockSnapshot of(List<Stock> active, boolean packNames) {
+        return new StockSnapshot(active, packNames);
+    }
+
+    public int count() {
+        return columns.size();
+    }
+
+    /**
+     * Up to {@code limit} typeahead candidates for {@code query}: exact symbol
+     * or a symbol named through an alias ({@code aliasSymbols}, upper-case),
+     * exact name, symbol prefix, name prefix, every query word starting a name
+     * word, then any other symbol or name substring, each tier in browse order.
+     * Only when those come to fewer than {@code limit}, stocks with a symbol
+     * or name word within edit distance of every query word follow, closest
+     * first.
+     */
+    public List<Stock> candidates(String query, Set<String> aliasSymbols, int limit) {
+        String needle = query.trim().toLowerCase(Locale.ROOT);
+        List<String> queryTokens = NameTokenizer.tokens(needle);
+
+        // Ordinals only, in tier order: the stocks are rebuilt once the tiers are cut to the limit.
+        // Each tier is only looked up while the ones before it leave room.
+        int width = Math.min(limit, columns.size());
+        Set<Integer> taken = new LinkedHashSet<>();
+        take(taken, width, () -> exactSymbols(needle, aliasSymbols));
+        take(taken, width, () -> nameValues.exact(needle));
+        take(taken, width, () -> symbolValues.prefixed(needle));
+        take(taken, width, () -> nameValues.prefixed(needle));
+        take(taken, width, () -> queryTokens.isEmpty() ? StockBitmap.EMPTY : nameTokens.matchingAll(queryTokens));
+        if (taken.size() < width) {
+            takeSubstrings(taken, width, needle);
+        }
+
+        List<Stock> candidates = new ArrayList<>(width);
+        taken.forEach(ordinal -> candidates.add(columns.stock(ordinal)));
+        if (candidates.size() < limit) {
+            candidates.addAll(fuzzyCandidates(queryTokens, taken, limit - candidates.size()));
+        }
+        return Collections.unmodifiableList(candidates);
+    }
+
+    /**
+     * Stocks whose symbol is the query or one of the (upper-case) alias symbols
+     */
+    private StockBitmap exactSymbols(String needle, Set<String> aliasSymbols) {
+        List<StockBitmap> matches = new ArrayList<>(aliasSymbols.size() + 1);
+        matches.add(symbolValues.exact(needle));
+        aliasSymbols.forEach(symbol -> matches.add(symbolValues.exact(symbol.toLowerCase(Locale.ROOT))));
+        return StockBitmap.or(matches);
+    }
+
+    /**
+     * Adds the tier's stocks not taken by an earlier tier, in browse order,
+     * until {@code width} are taken; the tier is not looked up once they are
+     */
+    private static void take(Set<Integer> taken, int width, Supplier<StockBitmap> tier) {
+        if (taken.size() >= width) {
+            return;
+        }
+        StockBitmap matches = tier.get();
+        for (int ordinal = matches.next(0); ordinal >= 0 && taken.size() < width; ordinal = matches.next(ordinal + 1)) {
+            taken.add(ordinal);
+        }
+    }
+
+    /**
+     * The last strict tier: any other stock whose symbol or name contains the
+     * query, found by walking the stocks in browse order, with the names
+     * taken from one packed scan when there is one
+     */
+    private void takeSubstrings(Set<Integer> taken, int width, String needle) {
+        StockBitmap nameMatches = packedNames == null ? null : packedNames.containing(needle);
+        for (int ordinal = 0; ordinal < columns.size() && taken.size() < width; ordinal++) {
+            String symbol = symbols[ordinal];
+            String name = names[ordinal];
+            if ((symbol != null && symbol.contains(needle))
+                    || (nameMatches != null ? nameMatches.contains(ordinal) : name != null && name.contains(needle))) {
+                taken.add(ordinal);
+            }
+        }
+    }
+
+    /**
+     * Stocks outside the strict tiers where every query word is within its
+     * edit budget of (or a prefix of) a symbol or name word, by total
+     * distance then browse order; empty when no query word is long enough to
+     * allow an edit
+     */
+    private List<Stock> fuzzyCandidates(List<String> queryTokens, Set<Integer> strict, int limit) {
+        List<StockBitmap[]> distances = new ArrayList<>(queryTokens.size());
+        List<StockBitmap> reachable = new ArrayList<>(queryTokens.size());
+        boolean fuzzy = false;
+        for (String token : new LinkedHashSet<>(queryTokens)) {
+            var automaton = new LevenshteinAutomaton(token, LevenshteinAutomaton.maxEdits(token.length()));
+            fuzzy |= automaton.maxEdits() > 0;
+            StockBitmap[] byName = nameTokens.within(automaton);
+            StockBitmap[] bySymbol = symbolTokens.within(automaton);
+            StockBitmap[] byDistance = new StockBitmap[byName.length];
+            for (int distance = 0; distance < byDistance.length; distance++) {
+                byDistance[distance] = distance == 0
+                        ? StockBitmap.or(List.of(byName[0], bySymbol[0], nameTokens.prefixed(token), symbolTokens.prefixed(token)))
+                        : StockBitmap.or(List.of(byName[distance], bySymbol[distance]));
+            }
+            distances.add(byDistance);
+            reachable.add(StockBitmap.or(List.of(byDistance)));
+        }
+        if (!fuzzy) {
+            return List.of();
+        }
+        reachable.sort(Comparator.comparingInt(StockBitmap::cardinality));
+        StockBitmap matches = reachable.getFirst();
+        for (int i = 1; i < reachable.size() && !matches.isEmpty(); i++) {
+            matches = matches.and(reachable.get(i));
+        }
+
+        List<int[]> scored = new ArrayList<>();
+        for (int ordinal = matches.next(0); ordinal >= 0; ordinal = matches.next(ordinal + 1)) {
+            if (strict.contains(ordinal)) {
+                continue;
+            }
+            int total = 0;
+            for (StockBitmap[] byDistance : distances) {
+                int distance = 0;
+                while (!byDistance[distance].contains(ordinal)) {
+                    distance++;
+                }
+                total += distance;
+            }
+            scored.add(new int[]{total, ordinal});
+        }
+        scored.sort(Comparator.<int[]>comparingInt(entry -> entry[0]).thenComparingInt(entry -> entry[1]));
+        return scored.stream().limit(limit).map(entry -> columns.stock(entry[1])).toList();
+    }
+
+    /**
+     * Up to {@code limit} stocks matching every non-blank criterion, in browse order
+     */
+    public List<Stock> search(String symbol, String companyName, String exchange, String country, String currency,
+                              String isin, int limit) {
+        Criteria criteria = criteria(symbol, companyName, exchange, country, currency, isin);
+        List<Stock> matches = new ArrayList<>(Math.min(limit, criteria.candidates().cardinality()));
+        for (int ordinal = criteria.candidates().next(0); ordinal >= 0 && matches.size() < limit;
+             ordinal = criteria.candidates().next(ordinal + 1)) {
+            if (matchesText(criteria, ordinal)) {
+                matches.add(columns.stock(ordinal));
+            }
+        }
+        return Collections.unmodifiableList(matches);
+    }
+
+    /**
+     * Every stock carrying the (upper-case) identifier, in browse order
+     */
+    public List<Stock> identifier(SecurityIdentifier identifier) {
+        Map<String, StockBitmap> index = switch (identifier.kind()) {
+            case ISIN -> byIsin;
+            case CUSIP -> byCusip;
+            case FIGI -> byFigi;
+        };
+        return listings(index.getOrDefault(identifier.value(), StockBitmap.EMPTY));
+    }
+
+    /**
+     * Every listing of each (upper-case) ISIN, keyed by that ISIN, in browse
+     * order; ISINs nothing is listed under are left out. The ISIN index is
+     * built with the snapshot, so this costs the listings returned.
+     */
+    public Map<String, List<Stock>> listingsByIsin(Collection<String> isins) {
+        Map<String, List<Stock>> listings = new HashMap<>();
+        for (String isin : isins) {
+            StockBitmap matches = byIsin.get(isin);
+            if (matches != null) {
+                listings.put(isin, listings(matches));
+            }
+        }
+        return Collections.unmodifiableMap(listings);
+    }
+
+    private List<Stock> listings(StockBitmap matches) {
+        List<Stock> listings = new ArrayList<>(matches.cardinality());
+        for (int ordinal = matches.next(0); ordinal >= 0; ordinal = matches.next(ordinal + 1)) {
+            listings.add(columns.stock(ordinal));
+        }
+        return Collections.unmodifiableList(listings);
+    }
+
+    /**
+     * One page of matches in browse order, starting after {@code after} or at
+     * the top, with the same lookahead as the database page
+     */
+    public StockPage page(String symbol, String companyName, String exchange, String country, String currency,
+                          String isin, StockCursor after, int limit) {
+        Criteria criteria = criteria(symbol, companyName, exchange, country, currency, isin);
+        List<Stock> rows = new ArrayList<>(limit + 1);
+        for (int ordinal = criteria.candidates().next(after == null ? 0 : firstAfter(after));
+             ordinal >= 0 && rows.size() <= limit;
+             ordinal = criteria.candidates().next(ordinal + 1)) {
+            if (matchesText(criteria, ordinal)) {
+                rows.add(columns.stock(ordinal));
+            }
+        }
+        return StockPage.fromLookahead(rows, limit);
+    }
+
+    /**
+     * Every match after {@code after} (or from the top) in browse order, the
+     * same order and cursor semantics as {@link #page}, each stock rebuilt
+     * only when the iteration reaches it. The walk stays on this snapshot, so
+     * one stream never mixes two versions.
+     */
+    public Iterable<Stock> stream(String symbol, String companyName, String exchange, String country, String currency,
+                                  String isin, StockCursor after) {
+        Criteria criteria = criteria(symbol, companyName, exchange, country, currency, isin);
+        int start = after == null ? 0 : firstAfter(after);
+        return () -> new Iterator<>() {
+            private int next = matchFrom(criteria, start);
+
+            @Override
+            public boolean hasNext() {
+                return next >= 0;
+            }
+
+            @Override
+            public Stock next() {
+                if (next < 0) {
+                    throw new NoSuchElementException();
+                }
+                Stock stock = columns.stock(next);
+                next = matchFrom(criteria, next + 1);
+                return stock;
+            }
+        };
+    }
+
+    /**
+     * First ordinal from {@code from} on matching the criteria, or -1
+     */
+    private int matchFrom(Criteria criteria, int from) {
+        int ordinal = criteria.candidates().next(from);
+        while (ordinal >= 0 && !matchesText(criteria, ordinal)) {
+            ordinal = criteria.candidates().next(ordinal + 1);
+        }
+        return ordinal;
+    }
+
+    /**
+     * Per-value counts over the stocks matching the criteria; every criterion
+     * may be blank, which counts the whole universe. When only facet criteria
+     * are given, every count is an intersection cardinality and no stock is
+     * visited.
+     */
+    public StockFacets facets(String symbol, String companyName, String exchange, String country, String currency,
+                              String isin) {
+        Criteria criteria = criteria(symbol, companyName, exchange, country, currency, isin);
+        StockBitmap matches = criteria.candidates();
+        if (criteria.hasText()) {
+            StockBitmap.Builder builder = StockBitmap.builder();
+            for (int ordinal = matches.next(0); ordinal >= 0; ordinal = matches.next(ordinal + 1)) {
+                if (matchesText(criteria, ordinal)) {
+                    builder.add(ordinal);
+                }
+            }
+            matches = builder.build();
+        }
+        return new StockFacets(matches.cardinality(),
+                exchanges.counts(matches), countries.counts(matches), currencies.counts(matches), types.counts(matches));
+    }
+
+    private Criteria criteria(String symbol, String companyName, String exchange, String country, String currency,
+                              String isin) {
+        List<StockBitmap> filters = new ArrayList<>(4);
+        if (!isBlank(exchange)) {
+            filters.add(exchanges.containing(exchange.trim()));
+        }
+        if (!isBlank(country)) {
+            filters.add(countries.containing(country.trim()));
+        }
+        if (!isBlank(currency)) {
+            filters.add(currencies.containing(currency.trim()));
+        }
+        if (!isBlank(isin)) {
+            filters.add(byIsin.getOrDefault(isin.trim().toUpperCase(Locale.ROOT), StockBitmap.EMPTY));
+        }
+        String name = needle(companyName);
+        if (name != null && packedNames != null) {
+            filters.add(packedNames.containing(name));
+            name = null;
+        }
+        // Smallest first, so every intersection is bounded by the most selective facet
+        filters.sort(Comparator.comparingInt(StockBitmap::cardinality));
+        StockBitmap candidates = filters.isEmpty() ? all : filters.getFirst();
+        for (int i = 1; i < filters.size() && !candidates.isEmpty(); i++) {
+            candidates = candidates.and(filters.get(i));
+        }
+        return new Criteria(candidates, needle(symbol), name);
+    }
+
+    /**
+     * Ordinal of the first stock strictly after the cursor in browse order
+     */
+    private int firstAfter(StockCursor cursor) {
+        int low = 0;
+        int high = columns.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compareToCursor(mid, cursor) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int compareToCursor(int ordinal, StockCursor cursor) {
+        int byScore = Double.compare(cursor.popularityScore(), columns.score(ordinal));
+        if (byScore != 0) {
+            return byScore;
+        }
+        int bySymbol = columns.symbol(ordinal).compareTo(cursor.symbol());
+        return bySymbol != 0 ? bySymbol : Long.compare(columns.id(ordinal), cursor.id());
+    }
+
+    /**
+     * Ordinals per upper-cased identifier value, from one value per ordinal
+     */
+    private static Map<String, StockBitmap> identifierIndex(String[] values) {
+        Map<String, StockBitmap.Builder> builders = new HashMap<>();
+        for (int ordinal = 0; ordinal < values.length; ordinal++) {
+            String value = values[ordinal];
+            if (value != null) {
+                builders.computeIfAbsent(value.toUpperCase(Locale.ROOT), ignored -> StockBitmap.builder()).add(ordinal);
+            }
+        }
+        Map<String, StockBitmap> bitmaps = new HashMap<>();
+        builders.forEach((value, builder) -> bitmaps.put(value, builder.build()));
+        return Map.copyOf(bitmaps);
+    }
+
+    private static double score(Stock stock) {
+        return stock.popularityScore() == null ? 0.0 : stock.popularityScore();
+    }
+
+    private static String needle(String value) {
+        return isBlank(value) ? null : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    static String lower(String value) {
+        return value == null ? null : value.toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.trim().isEmpty();
+    }
+
+    private record Criteria(StockBitmap candidates, String symbol, String name) {
+
+        boolean hasText() {
+            return symbol != null || name != null;
+        }
+    }
+
+    private boolean matchesText(Criteria criteria, int ordinal) {
+        return (criteria.symbol() == null || (symbols[ordinal] != null && symbols[ordinal].contains(criteria.symbol())))
+                && (criteria.name() == null || (names[ordinal] != null && names[ordinal].contains(criteria.name())));
+    }
+
+    /**
+     * One bitmap per distinct value of a stock attribute, values compared case-insensitively
+     */
+    private static final class Facet {
+
+        private final Map<String, StockBitmap> bitmaps;
+        private final String[] values;
+        private final String[] lowerValues;
+
+        private Facet(Map<String, StockBitmap> bitmaps) {
+            this.bitmaps = bitmaps;
+            this.values = bitmaps.keySet().toArray(String[]::new);
+            this.lowerValues = new String[values.length];
+            for (int i = 0; i < values.length; i++) {
+                lowerValues[i] = values[i].toLowerCase(Locale.ROOT);
+            }
+        }
+
+        static Facet of(StockColumns.Dictionary column) {
+            // One builder per dictionary code; codes differing only in case share one
+            Map<String, StockBitmap.Builder> builders = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            StockBitmap.Builder[] byCode = new StockBitmap.Builder[column.size()];
+            for (int code = 0; code < byCode.length; code++) {
+                byCode[code] = builders.computeIfAbsent(column.decode(code), ignored -> StockBitmap.builder());
+            }
+            int size = column.ordinals();
+            for (int ordinal = 0; ordinal < size; ordinal++) {
+                int code = column.code(ordinal);
+                if (code >= 0) {
+                    byCode[code].add(ordinal);
+                }
+            }
+            Map<String, StockBitmap> bitmaps = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            builders.forEach((value, builder) -> bitmaps.put(value, builder.build()));
+            return new Facet(Collections.unmodifiableMap(bitmaps));
+        }
+
+        /**
+         * Every stock whose value contains {@code needle}, ignoring case
+         */
+        StockBitmap containing(String needle) {
+            String lowerNeedle = needle.toLowerCase(Locale.ROOT);
+            List<StockBitmap> matching = new ArrayList<>();
+            for (int i = 0; i < values.length; i++) {
+                if (lowerValues[i].contains(lowerNeedle)) {
+                    matching.add(bitmaps.get(values[i]));
+                }
+            }
+            return StockBitmap.or(matching);
+        }
+
+        Map<String, Integer> counts(StockBitmap within) {
+            List<Map.Entry<String, Integer>> counts = new ArrayList<>();
+            for (String value : values) {
+                int count = bitmaps.get(value).andCardinality(within);
+                if (count > 0) {
+                    counts.add(Map.entry(value, count));
+                }
+            }
+            counts.sort(Map.Entry.<String, Integer>comparingByValue().reversed());
+            Map<String, Integer> ordered = new LinkedHashMap<>();
+            counts.forEach(entry -> ordered.put(entry.getKey(), entry.getValue()));
+            return Collections.unmodifiableMap(ordered);
+        }
+    }
+}
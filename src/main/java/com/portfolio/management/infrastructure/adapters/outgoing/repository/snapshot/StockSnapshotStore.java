@@ -0,0 +1,103 @@
+package com.portfolio.management.infrastructure.adapters.outgoing.repository.snapshot;
+
+import com.portfolio.management.infrastructure.adapters.outgoing.repository.SqlClientStockRepository;
+import io.quarkus.logging.Log;
+import io.quarkus.runtime.StartupEvent;
+import io.quarkus.scheduler.Scheduled;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+
+/**
+ * Holds the current {@link StockSnapshot}, managed like the reference-data
+ * snapshots in {@link ReferenceDataStore}: loaded with one query, swapped
+ * atomically on rebuild, rebuilt on a fixed interval and whenever the stocks
+ * table is known to have changed, and loaded by the first read if the startup
+ * load failed.
+ * <p>
+ * Loads go through a {@link SnapshotLoader}: one at a time, change
+ * notifications arriving during a load folded into a single rerun after
+ * app.suggestions.stock-index.reload-debounce, and first reads sharing the
+ * load in flight. The snapshot is built on a worker thread, since sorting
+ * and indexing the whole universe would otherwise hold up the event loop
+ * that delivered the rows.
+ * <p>
+ * With app.suggestions.stock-index.enabled=false searches stay on the
+ * database and nothing is loaded at startup; facet counts, which have no
+ * database equivalent, still load the snapshot on first use.
+ * app.suggestions.stock-index.packed-names=true also packs company names for
+ * {@link PackedNames} substring scans.
+ */
+@ApplicationScoped
+public class StockSnapshotStore {
+
+    private final boolean enabled;
+    private final SnapshotLoader<StockSnapshot> loader;
+
+    public StockSnapshotStore(SqlClientStockRepository stockRepository,
+                              @ConfigProperty(name = "app.suggestions.stock-index.enabled", defaultValue = "true")
+                              boolean enabled,
+                              @ConfigProperty(name = "app.suggestions.stock-index.packed-names", defaultValue = "false")
+                              boolean packNames,
+                              @ConfigProperty(name = "app.suggestions.stock-index.reload-debounce", defaultValue = "PT2S")
+                              Duration reloadDebounce) {
+        this.enabled = enabled;
+        this.loader = new SnapshotLoader<>(() -> stockRepository.findAllActive()
+                .emitOn(Infrastructure.getDefaultWorkerPool())
+                .map(active -> StockSnapshot.of(active, packNames))
+                .invoke(rebuilt -> Log.debugf("Stock snapshot rebuilt: %d active", rebuilt.count())),
+                reloadDebounce);
+    }
+
+    void onStart(@Observes StartupEvent event) {
+        if (!enabled) {
+            return;
+        }
+        refresh().subscribe().with(
+                loaded -> Log.infof("Stock snapshot loaded: %d active stocks", loaded.count()),
+                failure -> Log.warnf(failure, "Failed to preload the stock snapshot; it will load on first use"));
+    }
+
+    @Scheduled(every = "${app.suggestions.stock-index.refresh-interval:PT10M}",
+            delayed = "${app.suggestions.stock-index.refresh-interval:PT10M}",
+            concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    Uni<Void> scheduledRefresh() {
+        if (!enabled && !loader.inUse()) {
+            return Uni.createFrom().voidItem();
+        }
+        return refresh()
+                .replaceWithVoid()
+                .onFailure().invoke(failure -> Log.warnf(failure, "Scheduled stock snapshot refresh failed"))
+                .onFailure().recoverWithNull();
+    }
+
+    /**
+     * Whether searches should be answered from the snapshot
+     */
+    public boolean enabled() {
+        return enabled;
+    }
+
+    public Uni<StockSnapshot> snapshot() {
+        return loader.get();
+    }
+
+    /**
+     * Rebuilds the snapshot if one is in use, so a change notification does
+     * not load the whole table into an instance that never reads it
+     */
+    public Uni<Void> refreshIfLoaded() {
+        return loader.inUse() ? refresh().replaceWithVoid() : Uni.createFrom().voidItem();
+    }
+
+    /**
+     * A snapshot loaded after this call, sharing any reload already queued
+     */
+    public Uni<StockSnapshot> refresh() {
+        return loader.refresh();
+    }
+}
@@ -0,0 +1,88 @@
+package com.portfolio.management.infrastructure.adapters.outgoing.repository.snapshot;
+
+import com.portfolio.management.domain.model.StockType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Immutable view of every active stock type, ordered by name, indexed by id
+ * and case-insensitive code; see {@link ExchangeSnapshot} for the conventions.
+ */
+public final class StockTypeSnapshot {
+
+    static final Comparator<StockType> BY_NAME =
+            Comparator.comparing(StockType::name, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final List<StockType> byName;
+    private final String[] searchText;
+    private final Map<Long, StockType> byId;
+    private final Map<String, StockType> byCode;
+
+    private StockTypeSnapshot(List<StockType> active) {
+        this.byName = active.stream().sorted(BY_NAME).toList();
+        this.searchText = byName.stream()
+                .map(stockType -> ExchangeSnapshot.searchText(stockType.code(), stockType.name()))
+                .toArray(String[]::new);
+
+        Map<Long, StockType> ids = new HashMap<>();
+        Map<String, StockType> codes = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (StockType stockType : byName) {
+            if (stockType.id() != null) {
+                ids.put(stockType.id(), stockType);
+            }
+            if (stockType.code() != null) {
+                codes.putIfAbsent(stockType.code(), stockType);
+            }
+        }
+        this.byId = Map.copyOf(ids);
+        this.byCode = Collections.unmodifiableMap(codes);
+    }
+
+    /**
+     * Builds a snapshot from active stock types; inactive ones are dropped.
+     */
+    public static StockTypeSnapshot of(List<StockType> stockTypes) {
+        return new StockTypeSnapshot(stockTypes.stream().filter(StockType::isActive).toList());
+    }
+
+    public List<StockType> all() {
+        return byName;
+    }
+
+    /**
+     * Case-insensitive substring match on code or name, in name order
+     */
+    public List<StockType> search(String query) {
+        if (query == null || query.trim().isEmpty()) {
+            return byName;
+        }
+        String needle = query.toLowerCase(Locale.ROOT);
+        List<StockType> matches = new ArrayList<>();
+        for (int i = 0; i < searchText.length; i++) {
+            if (searchText[i].contains(needle)) {
+                matches.add(byName.get(i));
+            }
+        }
+        return Collections.unmodifiableList(matches);
+    }
+
+    public Optional<StockType> byId(Long id) {
+        return id == null ? Optional.empty() : Optional.ofNullable(byId.get(id));
+    }
+
+    public Optional<StockType> byCode(String code) {
+        return code == null ? Optional.empty() : Optional.ofNullable(byCode.get(code));
+    }
+
+    public long count() {
+        return byName.size();
+    }
+}
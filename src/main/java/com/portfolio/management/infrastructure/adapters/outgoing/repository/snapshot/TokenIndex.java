@@ -0,0 +1,168 @@
+package com.portfolio.management.infrastructure.adapters.outgoing.repository.snapshot;
+
+import com.portfolio.management.domain.strategy.priority.util.LevenshteinAutomaton;
+import com.portfolio.management.domain.strategy.priority.util.NameTokenizer;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Word-level inverted index over one text attribute (company names, symbols):
+ * every distinct lower-case token, sorted, with the ordinals of the stocks
+ * whose text holds it.
+ * <p>
+ * The tokens a query word is a prefix of form one contiguous range of the
+ * sorted array, found with two binary searches, so "amer" costs the OR of
+ * the postings of america, american, ameris... and never a scan of names.
+ * A multi-word query intersects one such union per word, smallest first.
+ * <p>
+ * Typo-tolerant lookups walk the sorted tokens with a
+ * {@link LevenshteinAutomaton}, reusing its state across shared prefixes and
+ * skipping the whole range under any prefix the automaton rejects, so only a
+ * small fraction of the dictionary is ever compared.
+ */
+final class TokenIndex {
+
+    private final String[] tokens;
+    private final StockBitmap[] postings;
+    private final int maxTokenLength;
+
+    private TokenIndex(String[] tokens, StockBitmap[] postings) {
+        this.tokens = tokens;
+        this.postings = postings;
+        int longest = 0;
+        for (String token : tokens) {
+            longest = Math.max(longest, token.length());
+        }
+        this.maxTokenLength = longest;
+    }
+
+    /**
+     * Indexes {@code texts}, one per ordinal; null texts hold no tokens
+     */
+    static TokenIndex of(String[] texts) {
+        Map<String, StockBitmap.Builder> builders = new TreeMap<>();
+        for (int ordinal = 0; ordinal < texts.length; ordinal++) {
+            // A word repeated within one text is still one posting
+            for (String token : new LinkedHashSet<>(NameTokenizer.tokens(texts[ordinal]))) {
+                builders.computeIfAbsent(token, ignored -> StockBitmap.builder()).add(ordinal);
+            }
+        }
+        String[] tokens = builders.keySet().toArray(String[]::new);
+        StockBitmap[] postings = new StockBitmap[tokens.length];
+        for (int i = 0; i < tokens.length; i++) {
+            postings[i] = builders.get(tokens[i]).build();
+        }
+        return new TokenIndex(tokens, postings);
+    }
+
+    int tokenCount() {
+        return tokens.length;
+    }
+
+    /**
+     * Stocks with a name word starting with {@code prefix} (lower-case)
+     */
+    StockBitmap prefixed(String prefix) {
+        int from = lowerBound(prefix);
+        int to = lowerBound(prefix + Character.MAX_VALUE);
+        return StockBitmap.or(List.of(postings).subList(from, to));
+    }
+
+    /**
+     * Stocks whose name has, for every query token, a word starting with it
+     */
+    StockBitmap matchingAll(List<String> queryTokens) {
+        List<StockBitmap> matches = new ArrayList<>(queryTokens.size());
+        for (String queryToken : new LinkedHashSet<>(queryTokens)) {
+            StockBitmap prefixed = prefixed(queryToken);
+            if (prefixed.isEmpty()) {
+                return StockBitmap.EMPTY;
+            }
+            matches.add(prefixed);
+        }
+        matches.sort(Comparator.comparingInt(StockBitmap::cardinality));
+        StockBitmap result = matches.isEmpty() ? StockBitmap.EMPTY : matches.getFirst();
+        for (int i = 1; i < matches.size() && !result.isEmpty(); i++) {
+            result = result.and(matches.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * Stocks by the distance of their closest token to the automaton's query
+     * word: element d unions the postings of every token at distance d. A
+     * stock may appear at several distances through different tokens.
+     */
+    StockBitmap[] within(LevenshteinAutomaton automaton) {
+        List<List<StockBitmap>> levels = new ArrayList<>(automaton.maxEdits() + 1);
+        for (int distance = 0; distance <= automaton.maxEdits(); distance++) {
+            levels.add(new ArrayList<>());
+        }
+        // rows[d] is the automaton state after the first d characters of path
+        int[][] rows = new int[maxTokenLength + 1][];
+        rows[0] = automaton.start();
+        String path = "";
+        int i = 0;
+        while (i < tokens.length) {
+            String token = tokens[i];
+            int depth = commonPrefixLength(path, token);
+            boolean rejected = false;
+            while (depth < token.length()) {
+                rows[depth + 1] = automaton.step(rows[depth], token.charAt(depth));
+                depth++;
+                if (!automaton.canMatch(rows[depth])) {
+                    rejected = true;
+                    break;
+                }
+            }
+            if (rejected) {
+                // No token under this prefix can come back within the budget
+                path = token.substring(0, depth);
+                i = lowerBound(path + Character.MAX_VALUE);
+                continue;
+            }
+            path = token;
+            int distance = automaton.distance(rows[depth]);
+            if (distance <= automaton.maxEdits()) {
+                levels.get(distance).add(postings[i]);
+            }
+            i++;
+        }
+        StockBitmap[] byDistance = new StockBitmap[levels.size()];
+        for (int distance = 0; distance < byDistance.length; distance++) {
+            byDistance[distance] = StockBitmap.or(levels.get(distance));
+        }
+        return byDistance;
+    }
+
+    private static int commonPrefixLength(String a, String b) {
+        int length = Math.min(a.length(), b.length());
+        int i = 0;
+        while (i < length && a.charAt(i) == b.charAt(i)) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Index of the first token not less than {@code key}
+     */
+    private int lowerBound(String key) {
+        int low = 0;
+        int high = tokens.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (tokens[mid].compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,86 @@
+package com.portfolio.management.infrastructure.adapters.outgoing.repository.snapshot;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.stream.IntStream;
+
+/**
+ * Whole-value index over one text attribute (lower-case symbols, names): the
+ * ordinals of every stock holding a value, sorted by that value and then by
+ * ordinal.
+ * <p>
+ * The stocks holding one value, or a value starting with a given prefix, form
+ * one contiguous run of that array, found with two binary searches, so exact
+ * and prefix lookups cost the stocks they return and never a scan of the
+ * values. The index is one int per stock, and the values themselves are the
+ * snapshot's own column.
+ */
+final class ValueIndex {
+
+    private final String[] values;
+    private final int[] ordinals;
+
+    private ValueIndex(String[] values, int[] ordinals) {
+        this.values = values;
+        this.ordinals = ordinals;
+    }
+
+    /**
+     * Indexes {@code values}, one per ordinal; null values are left out
+     */
+    static ValueIndex of(String[] values) {
+        // A stable sort, so ordinals holding the same value stay ascending
+        int[] ordinals = IntStream.range(0, values.length)
+                .filter(ordinal -> values[ordinal] != null)
+                .boxed()
+                .sorted(Comparator.comparing(ordinal -> values[ordinal]))
+                .mapToInt(Integer::intValue)
+                .toArray();
+        return new ValueIndex(values, ordinals);
+    }
+
+    /**
+     * Stocks whose value is exactly {@code value} (lower-case)
+     */
+    StockBitmap exact(String value) {
+        int from = lowerBound(value);
+        int to = lowerBound(value + Character.MIN_VALUE);
+        StockBitmap.Builder matches = StockBitmap.builder();
+        for (int i = from; i < to; i++) {
+            matches.add(ordinals[i]);
+        }
+        return matches.build();
+    }
+
+    /**
+     * Stocks whose value starts with {@code prefix} (lower-case)
+     */
+    StockBitmap prefixed(String prefix) {
+        int from = lowerBound(prefix);
+        int to = lowerBound(prefix + Character.MAX_VALUE);
+        int[] run = Arrays.copyOfRange(ordinals, from, to);
+        Arrays.sort(run);
+        StockBitmap.Builder matches = StockBitmap.builder();
+        for (int ordinal : run) {
+            matches.add(ordinal);
+        }
+        return matches.build();
+    }
+
+    /**
+     * Position of the first ordinal whose value is not less than {@code key}
+     */
+    private int lowerBound(String key) {
+        int low = 0;
+        int high = ordinals.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values[ordinals[mid]].compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,82 @@
+package com.portfolio.management.infrastructure.adapters.outgoing.trending;
+
+import com.portfolio.management.domain.model.TrendingStock;
+import com.portfolio.management.domain.model.TrendingWindow;
+import com.portfolio.management.domain.port.outgoing.TrendingPort;
+import io.quarkus.logging.Log;
+import jakarta.enterprise.context.ApplicationScoped;
+
+import java.time.Clock;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * In-process trending tracker: one sliding-window sketch per TrendingWindow.
+ * <p>
+ * Per-replica state, but not a per-replica sample: every replica is fed every
+ * event by TrendingStreamReader, which reads the stream outside the consumer
+ * group, so each one answers with the same counts without any shared-state
+ * round trip.
+ * <p>
+ * Ranked snapshots are cached per window for a short interval, so a burst of
+ * trending requests costs one merge of the sketch's candidates, not one each.
+ */
+@ApplicationScoped
+public class InMemoryTrendingAdapter implements TrendingPort {
+
+    static final int SKETCH_WIDTH = 1024;
+    static final int CANDIDATE_SLOTS = 128;
+    static final int MAX_TOP_K = 50;
+    static final long SNAPSHOT_TTL_MILLIS = 1_000;
+
+    private final Clock clock;
+    private final Map<TrendingWindow, SlidingWindowSketch> sketches = new EnumMap<>(TrendingWindow.class);
+    private final Map<TrendingWindow, AtomicReference<Snapshot>> snapshots = new EnumMap<>(TrendingWindow.class);
+
+    public InMemoryTrendingAdapter() {
+        this(Clock.systemUTC());
+    }
+
+    InMemoryTrendingAdapter(Clock clock) {
+        this.clock = clock;
+        long totalBytes = 0;
+        for (TrendingWindow window : TrendingWindow.values()) {
+            SlidingWindowSketch sketch = new SlidingWindowSketch(
+                    window.buckets(), window.bucketMillis(), SKETCH_WIDTH, CANDIDATE_SLOTS);
+            sketches.put(window, sketch);
+            snapshots.put(window, new AtomicReference<>(Snapshot.EMPTY));
+            totalBytes += sketch.memoryBytes();
+        }
+        Log.debugf("Trending sketches allocated: ~%d KiB across %d windows", totalBytes / 1024, sketches.size());
+    }
+
+    @Override
+    public void recordUsage(String symbol) {
+        if (symbol == null || symbol.isBlank()) {
+            return;
+        }
+        long now = clock.millis();
+        for (SlidingWindowSketch sketch : sketches.values()) {
+            sketch.record(symbol, now);
+        }
+    }
+
+    @Override
+    public List<TrendingStock> topTrending(TrendingWindow window, int limit) {
+        long now = clock.millis();
+        AtomicReference<Snapshot> cached = snapshots.get(window);
+        Snapshot snapshot = cached.get();
+        if (now - snapshot.takenAtMillis() >= SNAPSHOT_TTL_MILLIS) {
+            snapshot = new Snapshot(sketches.get(window).topK(MAX_TOP_K, now), now);
+            cached.set(snapshot);
+        }
+        List<TrendingStock> ranked = snapshot.ranked();
+        return ranked.size() > limit ? ranked.subList(0, limit) : ranked;
+    }
+
+    private record Snapshot(List<TrendingStock> ranked, long takenAtMillis) {
+        private static final Snapshot EMPTY = new Snapshot(List.of(), Long.MIN_VALUE / 2);
+    }
+}
@@ -0,0 +1,222 @@
+package com.portfolio.management.infrastructure.adapters.outgoing.trending;
+
+import com.portfolio.management.domain.model.TrendingStock;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Fixed-memory heavy-hitters sketch over a sliding window. The window is a ring
+ * of time buckets; each bucket holds a Count-Min sketch for frequency estimates
+ * plus a small Space-Saving style candidate table remembering which keys are
+ * heavy, since a Count-Min sketch alone cannot enumerate its keys.
+ * <p>
+ * Updates are lock-free (atomic increments and CAS on candidate slots). Races
+ * between concurrent writers, or with a bucket being recycled, can lose a few
+ * counts; that is acceptable for a ranking signal and the trending stream
+ * reader is a single writer in practice.
+ */
+class SlidingWindowSketch {
+
+    private static final int DEPTH = 4;
+    private static final int CANDIDATE_PROBES = 8;
+    private static final long[] SEEDS = {
+            0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L
+    };
+
+    private final long bucketMillis;
+    private final int widthMask;
+    private final int candidateMask;
+    private final Bucket[] buckets;
+
+    /**
+     * @param bucketCount    buckets in the ring; the window spans bucketCount * bucketMillis
+     * @param width          Count-Min counters per row, rounded up to a power of two
+     * @param candidateSlots heavy-hitter candidates tracked per bucket, rounded up to a power of two
+     */
+    SlidingWindowSketch(int bucketCount, long bucketMillis, int width, int candidateSlots) {
+        if (bucketCount <= 0 || bucketMillis <= 0) {
+            throw new IllegalArgumentException("Bucket count and bucket length must be positive");
+        }
+        int roundedWidth = nextPowerOfTwo(width);
+        int roundedSlots = nextPowerOfTwo(candidateSlots);
+        this.bucketMillis = bucketMillis;
+        this.widthMask = roundedWidth - 1;
+        this.candidateMask = roundedSlots - 1;
+        this.buckets = new Bucket[bucketCount];
+        for (int i = 0; i < bucketCount; i++) {
+            buckets[i] = new Bucket(DEPTH * roundedWidth, roundedSlots);
+        }
+    }
+
+    void record(String key, long nowMillis) {
+        long epoch = nowMillis / bucketMillis;
+        Bucket bucket = bucketFor(epoch);
+        if (bucket == null) {
+            return;
+        }
+
+        long hash = mix(key.hashCode());
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            long count = bucket.counters.incrementAndGet(counterIndex(hash, row));
+            estimate = Math.min(estimate, count);
+        }
+        offerCandidate(bucket, key, hash, estimate);
+    }
+
+    /**
+     * Merges the live buckets' candidates and ranks them by their summed
+     * Count-Min estimate across the window.
+     */
+    List<TrendingStock> topK(int k, long nowMillis) {
+        long currentEpoch = nowMillis / bucketMillis;
+        List<Bucket> live = new ArrayList<>(buckets.length);
+        Set<String> candidates = new HashSet<>();
+        for (Bucket bucket : buckets) {
+            long epoch = bucket.epoch.get();
+            if (epoch > currentEpoch - buckets.length && epoch <= currentEpoch) {
+                live.add(bucket);
+                for (int slot = 0; slot <= candidateMask; slot++) {
+                    String candidate = bucket.candidates.get(slot);
+                    if (candidate != null) {
+                        candidates.add(candidate);
+                    }
+                }
+            }
+        }
+
+        List<TrendingStock> ranked = new ArrayList<>(candidates.size());
+        for (String candidate : candidates) {
+            long hash = mix(candidate.hashCode());
+            long total = 0;
+            for (Bucket bucket : live) {
+                total += estimate(bucket, hash);
+            }
+            if (total > 0) {
+                ranked.add(new TrendingStock(candidate, total));
+            }
+        }
+        ranked.sort(Comparator.comparingLong(TrendingStock::count).reversed()
+                .thenComparing(TrendingStock::symbol));
+        return ranked.size() > k ? List.copyOf(ranked.subList(0, k)) : List.copyOf(ranked);
+    }
+
+    /**
+     * Approximate heap footprint of the counters and candidate slot references
+     */
+    long memoryBytes() {
+        long perBucket = (long) DEPTH * (widthMask + 1) * Long.BYTES + (long) (candidateMask + 1) * 4;
+        return perBucket * buckets.length;
+    }
+
+    /**
+     * Returns the ring bucket for an epoch, recycling it if it still holds an
+     * older epoch. Returns null for an epoch older than the bucket's (a clock
+     * step backwards), which is simply dropped.
+     */
+    private Bucket bucketFor(long epoch) {
+        Bucket bucket = buckets[(int) Math.floorMod(epoch, (long) buckets.length)];
+        long current = bucket.epoch.get();
+        while (current != epoch) {
+            if (current > epoch) {
+                return null;
+            }
+            if (bucket.epoch.compareAndSet(current, epoch)) {
+                bucket.clear();
+                break;
+            }
+            current = bucket.epoch.get();
+        }
+        return bucket;
+    }
+
+    private void offerCandidate(Bucket bucket, String key, long hash, long estimate) {
+        int start = (int) hash & candidateMask;
+        int weakestSlot = -1;
+        String weakestKey = null;
+        long weakestEstimate = Long.MAX_VALUE;
+
+        for (int probe = 0; probe < CANDIDATE_PROBES && probe <= candidateMask; probe++) {
+            int slot = (start + probe) & candidateMask;
+            String occupant = bucket.candidates.get(slot);
+            if (occupant == null) {
+                if (bucket.candidates.compareAndSet(slot, null, key)) {
+                    return;
+                }
+                occupant = bucket.candidates.get(slot);
+            }
+            if (key.equals(occupant)) {
+                return;
+            }
+            long occupantEstimate = estimate(bucket, mix(occupant.hashCode()));
+            if (occupantEstimate < weakestEstimate) {
+                weakestEstimate = occupantEstimate;
+                weakestSlot = slot;
+                weakestKey = occupant;
+            }
+        }
+
+        // Space-Saving eviction: displace the lightest probed candidate once this key outweighs it.
+        if (weakestSlot >= 0 && estimate > weakestEstimate) {
+            bucket.candidates.compareAndSet(weakestSlot, weakestKey, key);
+        }
+    }
+
+    private long estimate(Bucket bucket, long hash) {
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            estimate = Math.min(estimate, bucket.counters.get(counterIndex(hash, row)));
+        }
+        return estimate;
+    }
+
+    private int counterIndex(long hash, int row) {
+        long rowHash = mix(hash ^ SEEDS[row]);
+        return row * (widthMask + 1) + ((int) rowHash & widthMask);
+    }
+
+    /**
+     * MurmurHash3 64-bit finalizer
+     */
+    private static long mix(long value) {
+        long h = value;
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private static int nextPowerOfTwo(int value) {
+        int v = Math.max(2, value);
+        return Integer.highestOneBit(v - 1) << 1;
+    }
+
+    private static final class Bucket {
+        private final AtomicLong epoch = new AtomicLong(Long.MIN_VALUE);
+        private final AtomicLongArray counters;
+        private final AtomicReferenceArray<String> candidates;
+
+        private Bucket(int counterCount, int candidateSlots) {
+            this.counters = new AtomicLongArray(counterCount);
+            this.candidates = new AtomicReferenceArray<>(candidateSlots);
+        }
+
+        private void clear() {
+            for (int i = 0; i < counters.length(); i++) {
+                counters.set(i, 0);
+            }
+            for (int i = 0; i < candidates.length(); i++) {
+                candidates.set(i, null);
+            }
+        }
+    }
+}
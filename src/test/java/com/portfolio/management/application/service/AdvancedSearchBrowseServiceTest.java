@@ -0,0 +1,120 @@
+package com.portfolio.management.application.service;
+
+import com.portfolio.management.domain.model.Stock;
+import com.portfolio.management.domain.model.StockCursor;
+import com.portfolio.management.domain.model.StockPage;
+import com.portfolio.management.domain.model.SuggestionField;
+import com.portfolio.management.domain.port.incoming.BrowseAdvancedSearchUseCase;
+import com.portfolio.management.domain.port.incoming.GetSuggestionsAdvancedUseCase;
+import com.portfolio.management.domain.port.outgoing.StockPort;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AdvancedSearchBrowseService Tests")
+class AdvancedSearchBrowseServiceTest {
+
+    @Mock
+    StockPort mockStockPort;
+
+    private AdvancedSearchBrowseService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new AdvancedSearchBrowseService(mockStockPort);
+    }
+
+    @Test
+    @DisplayName("Should return the page in repository order with its next cursor, loading the cursor fields")
+    void returnsPageWithNextCursor() {
+        var stocks = List.of(stock(3L, "NVDA", 9.0), stock(1L, "AAPL", 7.5));
+        var next = new StockCursor(7.5, "AAPL", 1L);
+        var after = new StockCursor(10.0, "MSFT", 2L);
+        when(mockStockPort.findPageByAdvancedSearch(isNull(), isNull(), isNull(), eq("US"), isNull(), isNull(),
+                eq(after), eq(2), eq(SuggestionField.withRanking(EnumSet.of(SuggestionField.CURRENCY)))))
+                .thenReturn(Uni.createFrom().item(new StockPage(stocks, next)));
+
+        var result = service.execute(query("US", 2, EnumSet.of(SuggestionField.CURRENCY), after))
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .getItem();
+
+        assertThat(result).isInstanceOfSatisfying(BrowseAdvancedSearchUseCase.Result.Success.class, success -> {
+            assertThat(success.suggestions()).isEqualTo(stocks);
+            assertThat(success.next()).isEqualTo(next);
+            assertThat(success.count()).isEqualTo(2);
+            assertThat(success.query()).isEqualTo("Advanced search country:US");
+        });
+    }
+
+    @Test
+    @DisplayName("Should reject a browse without search criteria")
+    void rejectsMissingCriteria() {
+        var result = service.execute(query(null, 10, null, null))
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .getItem();
+
+        assertThat(result).isInstanceOf(BrowseAdvancedSearchUseCase.Result.ValidationError.class);
+        verifyNoInteractions(mockStockPort);
+    }
+
+    @Test
+    @DisplayName("Should map repository failures to a system error")
+    void mapsRepositoryFailure() {
+        when(mockStockPort.findPageByAdvancedSearch(any(), any(), any(), any(), any(), any(), any(), anyInt(), any()))
+                .thenReturn(Uni.createFrom().failure(new RuntimeException("connection reset")));
+
+        var result = service.execute(query("US", 10, null, null))
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .getItem();
+
+        assertThat(result).isInstanceOf(BrowseAdvancedSearchUseCase.Result.SystemError.class);
+    }
+
+    @Test
+    @DisplayName("Should stream every match from the cursor with only the requested fields")
+    void streamsMatches() {
+        var after = new StockCursor(1.0, "A", 1L);
+        var fields = EnumSet.of(SuggestionField.SYMBOL);
+        when(mockStockPort.streamByAdvancedSearch(isNull(), isNull(), isNull(), eq("US"), isNull(), isNull(),
+                eq(after), eq(fields)))
+                .thenReturn(Multi.createFrom().items(stock(1L, "B", 1.0), stock(2L, "C", 0.5)));
+
+        var items = service.stream(query("US", 10, fields, after))
+                .subscribe().withSubscriber(AssertSubscriber.create(10))
+                .awaitCompletion()
+                .getItems();
+
+        assertThat(items).extracting(Stock::symbol).containsExactly("B", "C");
+    }
+
+    private static BrowseAdvancedSearchUseCase.Query query(String country, int limit, Set<SuggestionField> fields,
+                                                           StockCursor after) {
+        return new BrowseAdvancedSearchUseCase.Query(
+                new GetSuggestionsAdvancedUseCase.Query(null, null, null, country, null, null, limit, fields), after);
+    }
+
+    private static Stock stock(Long id, String symbol, double popularity) {
+        return new Stock(id, symbol, symbol + " Inc.", "USD", "NASDAQ", null, "United States", "Common Stock",
+                null, null, null, null, null, popularity);
+    }
+}
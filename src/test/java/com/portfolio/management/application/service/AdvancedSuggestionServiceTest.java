@@ -2,6 +2,7 @@ package com.portfolio.management.application.service;
 
 import com.portfolio.management.domain.model.Stock;
 import com.portfolio.management.domain.port.incoming.GetSuggestionsAdvancedUseCase;
+import com.portfolio.management.domain.port.outgoing.PopularityOverlayPort;
 import com.portfolio.management.domain.port.outgoing.StockPort;
 import com.portfolio.management.domain.strategy.priority.PriorityStrategy;
 import com.portfolio.management.domain.strategy.priority.SearchField;
@@ -39,6 +40,9 @@ class AdvancedSuggestionServiceTest {
     @Mock(lenient = true)
     PriorityStrategy mockNameStrategy;
 
+    @Mock(lenient = true)
+    PopularityOverlayPort mockPopularityOverlayPort;
+
     private AdvancedSuggestionService service;
     private List<Stock> testStocks;
 
@@ -55,7 +59,11 @@ class AdvancedSuggestionServiceTest {
 
         lenient().when(mockStrategyInstances.stream()).thenReturn(Stream.of(mockSymbolStrategy, mockNameStrategy));
 
-        service = new AdvancedSuggestionService(mockStockPort, mockStrategyInstances);
+        // Overlay holds nothing by default: every stock ranks on its stored score
+        lenient().when(mockPopularityOverlayPort.scoreOr(anyString(), any(), anyDouble()))
+                .thenAnswer(invocation -> invocation.getArgument(2));
+
+        service = new AdvancedSuggestionService(mockStockPort, mockStrategyInstances, mockPopularityOverlayPort);
 
         // Test data
         testStocks = List.of(
@@ -77,7 +85,7 @@ class AdvancedSuggestionServiceTest {
         // Given
         GetSuggestionsAdvancedUseCase.Query query = createAdvancedQuery("AAPL", null, null, null, null, 10);
 
-        when(mockStockPort.findByAdvancedSearch(eq("AAPL"), isNull(), isNull(), isNull(), isNull(), isNull(), eq(20)))
+        when(mockStockPort.findByAdvancedSearch(eq("AAPL"), isNull(), isNull(), isNull(), isNull(), isNull(), eq(20), any()))
                 .thenReturn(Uni.createFrom().item(testStocks));
 
         when(mockSymbolStrategy.matches(eq(testStocks), eq("AAPL")))
@@ -110,7 +118,7 @@ class AdvancedSuggestionServiceTest {
         // Given
         GetSuggestionsAdvancedUseCase.Query query = createAdvancedQuery("NONEXISTENT", null, null, null, null, 10);
 
-        when(mockStockPort.findByAdvancedSearch(eq("NONEXISTENT"), isNull(), isNull(), isNull(), isNull(), isNull(), eq(20)))
+        when(mockStockPort.findByAdvancedSearch(eq("NONEXISTENT"), isNull(), isNull(), isNull(), isNull(), isNull(), eq(20), any()))
                 .thenReturn(Uni.createFrom().item(List.of()));
 
         // When
@@ -175,7 +183,7 @@ class AdvancedSuggestionServiceTest {
         // Given
         GetSuggestionsAdvancedUseCase.Query query = createAdvancedQuery("AAPL", null, null, null, null, 10);
 
-        when(mockStockPort.findByAdvancedSearch(anyString(), any(), any(), any(), any(), any(), anyInt()))
+        when(mockStockPort.findByAdvancedSearch(anyString(), any(), any(), any(), any(), any(), anyInt(), any()))
                 .thenReturn(Uni.createFrom().failure(new RuntimeException("Database connection failed")));
 
         // When
@@ -202,7 +210,7 @@ class AdvancedSuggestionServiceTest {
         // Given
         GetSuggestionsAdvancedUseCase.Query query = createAdvancedQuery("AAPL", "Apple", null, null, null, 10);
 
-        when(mockStockPort.findByAdvancedSearch(eq("AAPL"), eq("Apple"), isNull(), isNull(), isNull(), isNull(), eq(20)))
+        when(mockStockPort.findByAdvancedSearch(eq("AAPL"), eq("Apple"), isNull(), isNull(), isNull(), isNull(), eq(20), any()))
                 .thenReturn(Uni.createFrom().item(testStocks));
 
         when(mockSymbolStrategy.matches(eq(testStocks), eq("AAPL")))
@@ -240,7 +248,7 @@ class AdvancedSuggestionServiceTest {
 
         GetSuggestionsAdvancedUseCase.Query query = createAdvancedQuery("APP", null, null, null, null, 2);
 
-        when(mockStockPort.findByAdvancedSearch(eq("APP"), isNull(), isNull(), isNull(), isNull(), isNull(), eq(4)))
+        when(mockStockPort.findByAdvancedSearch(eq("APP"), isNull(), isNull(), isNull(), isNull(), isNull(), eq(4), any()))
                 .thenReturn(Uni.createFrom().item(manyStocks));
 
         when(mockSymbolStrategy.matches(eq(manyStocks), eq("APP")))
@@ -268,7 +276,7 @@ class AdvancedSuggestionServiceTest {
         // Given
         GetSuggestionsAdvancedUseCase.Query query = createAdvancedQuery("AAPL", null, null, null, null, 10);
 
-        when(mockStockPort.findByAdvancedSearch(eq("AAPL"), isNull(), isNull(), isNull(), isNull(), isNull(), eq(20)))
+        when(mockStockPort.findByAdvancedSearch(eq("AAPL"), isNull(), isNull(), isNull(), isNull(), isNull(), eq(20), any()))
                 .thenReturn(Uni.createFrom().item(testStocks));
 
         when(mockSymbolStrategy.matches(eq(testStocks), eq("AAPL")))
@@ -121,7 +121,7 @@ class ExchangeServiceTest {
         );
         var query = GetExchangesUseCase.Query.byRegion(GetExchangesUseCase.RegionFilter.US);
         
-        when(mockRepository.findUSExchanges()).thenReturn(Uni.createFrom().item(usExchanges));
+        when(mockRepository.findByRegion(GetExchangesUseCase.RegionFilter.US)).thenReturn(Uni.createFrom().item(usExchanges));
 
         // When
         GetExchangesUseCase.Result result = exchangeService.execute(query)
@@ -135,7 +135,7 @@ class ExchangeServiceTest {
         assertThat(successResult.exchanges()).hasSize(2);
         assertThat(successResult.exchanges()).allMatch(exchange -> exchange.isUSExchange());
         
-        verify(mockRepository).findUSExchanges();
+        verify(mockRepository).findByRegion(GetExchangesUseCase.RegionFilter.US);
     }
 
     @Test
@@ -225,7 +225,7 @@ class ExchangeServiceTest {
         );
         var query = GetExchangesUseCase.Query.byRegion(GetExchangesUseCase.RegionFilter.EUROPE);
         
-        when(mockRepository.findEuropeanExchanges()).thenReturn(Uni.createFrom().item(europeanExchanges));
+        when(mockRepository.findByRegion(GetExchangesUseCase.RegionFilter.EUROPE)).thenReturn(Uni.createFrom().item(europeanExchanges));
 
         // When
         GetExchangesUseCase.Result result = exchangeService.execute(query)
@@ -239,7 +239,7 @@ class ExchangeServiceTest {
         assertThat(successResult.exchanges()).hasSize(2);
         assertThat(successResult.exchanges()).allMatch(exchange -> exchange.isEuropeanExchange());
         
-        verify(mockRepository).findEuropeanExchanges();
+        verify(mockRepository).findByRegion(GetExchangesUseCase.RegionFilter.EUROPE);
     }
 
     @Test
@@ -1,5 +1,6 @@
 package com.portfolio.management.application.service;
 
+import com.portfolio.management.domain.model.PopularityRecomputeReport;
 import com.portfolio.management.domain.model.Stock;
 import com.portfolio.management.domain.model.StockFilter;
 import com.portfolio.management.domain.port.incoming.FetchAndStoreStockDataUseCase;
@@ -78,7 +79,7 @@ class FetchAndStoreStockDataServiceTest {
                 .thenReturn(Uni.createFrom().item(fetchedStocks));
         when(stockPort.deleteAll()).thenReturn(Uni.createFrom().item(2L));
         when(stockPort.saveBatch(any())).thenReturn(Uni.createFrom().item(new StocksBatchProcessingResult(2, 0)));
-        when(popularityPort.recomputeStockScores()).thenReturn(Uni.createFrom().voidItem());
+        when(popularityPort.recomputeStockScores()).thenReturn(Uni.createFrom().item(PopularityRecomputeReport.empty()));
         when(stockPort.analyzeTable()).thenReturn(Uni.createFrom().voidItem());
 
         FetchAndStoreStockDataUseCase.Result result = stockDataService.fetchAndStoreStocks(requestFilter)
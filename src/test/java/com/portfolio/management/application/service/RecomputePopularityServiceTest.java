@@ -0,0 +1,76 @@
+package com.portfolio.management.application.service;
+
+import com.portfolio.management.domain.model.PopularityRecomputeReport;
+import com.portfolio.management.domain.port.incoming.RecomputePopularityUseCase;
+import com.portfolio.management.domain.port.outgoing.PopularityPort;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RecomputePopularityServiceTest {
+
+    @Mock
+    PopularityPort popularityPort;
+
+    private RecomputePopularityService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new RecomputePopularityService(popularityPort);
+    }
+
+    @Test
+    @DisplayName("Should run the dirty pass and return its report")
+    void shouldReturnDirtyPassReport() {
+        PopularityRecomputeReport report = new PopularityRecomputeReport(1200, 40, 3, 512);
+        when(popularityPort.recomputeDirtyStockScores()).thenReturn(Uni.createFrom().item(report));
+
+        RecomputePopularityUseCase.Result result = service.execute()
+                .subscribe()
+                .withSubscriber(UniAssertSubscriber.create())
+                .getItem();
+
+        assertThat(result).isEqualTo(new RecomputePopularityUseCase.Result.Success(report));
+        verify(popularityPort).recomputeDirtyStockScores();
+    }
+
+    @Test
+    @DisplayName("Should return error when the dirty pass fails")
+    void shouldReturnErrorWhenPassFails() {
+        when(popularityPort.recomputeDirtyStockScores())
+                .thenReturn(Uni.createFrom().failure(new RuntimeException("DB unavailable")));
+
+        RecomputePopularityUseCase.Result result = service.execute()
+                .subscribe()
+                .withSubscriber(UniAssertSubscriber.create())
+                .getItem();
+
+        assertThat(result).isInstanceOf(RecomputePopularityUseCase.Result.Error.class);
+        assertThat(((RecomputePopularityUseCase.Result.Error) result).message()).contains("DB unavailable");
+    }
+
+    @Test
+    @DisplayName("Should derive skipped rows and avoided bytes from the report counts")
+    void shouldDeriveBloatAvoided() {
+        PopularityRecomputeReport first = new PopularityRecomputeReport(5000, 120, 1, 0);
+        PopularityRecomputeReport second = new PopularityRecomputeReport(3000, 80, 1, 0);
+
+        PopularityRecomputeReport total = first.plus(second).withApproxRowBytes(400);
+
+        assertThat(total.rowsScanned()).isEqualTo(8000);
+        assertThat(total.rowsUpdated()).isEqualTo(200);
+        assertThat(total.chunks()).isEqualTo(2);
+        assertThat(total.rowsSkipped()).isEqualTo(7800);
+        assertThat(total.estimatedBytesAvoided()).isEqualTo(7800L * 400);
+    }
+}
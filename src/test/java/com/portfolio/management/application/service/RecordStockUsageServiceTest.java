@@ -1,6 +1,9 @@
 package com.portfolio.management.application.service;
 
+import com.portfolio.management.domain.model.ListingPopularity;
 import com.portfolio.management.domain.port.incoming.RecordStockUsageUseCase;
+import com.portfolio.management.domain.port.outgoing.PopularityBroadcastPort;
+import com.portfolio.management.domain.port.outgoing.PopularityOverlayPort;
 import com.portfolio.management.domain.port.outgoing.PopularityPort;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
@@ -11,6 +14,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
@@ -23,18 +28,25 @@ class RecordStockUsageServiceTest {
     @Mock
     PopularityPort popularityPort;
 
+    @Mock
+    PopularityOverlayPort popularityOverlayPort;
+
+    @Mock
+    PopularityBroadcastPort popularityBroadcastPort;
+
     private RecordStockUsageService service;
 
     @BeforeEach
     void setUp() {
-        service = new RecordStockUsageService(popularityPort);
+        service = new RecordStockUsageService(popularityPort, popularityOverlayPort, popularityBroadcastPort);
     }
 
     @Test
     @DisplayName("Should record usage and normalize ticker to uppercase")
     void shouldRecordUsage() {
+        List<ListingPopularity> scores = List.of(new ListingPopularity("AAPL", "NASDAQ", 42.5));
         when(popularityPort.incrementUsage(eq("AAPL"), eq("NASDAQ"), eq("USD")))
-                .thenReturn(Uni.createFrom().voidItem());
+                .thenReturn(Uni.createFrom().item(scores));
 
         RecordStockUsageUseCase.Result result = service.execute(new RecordStockUsageUseCase.Command("aapl", "NASDAQ", "USD"))
                 .subscribe()
@@ -43,6 +55,8 @@ class RecordStockUsageServiceTest {
 
         assertThat(result).isInstanceOf(RecordStockUsageUseCase.Result.Success.class);
         verify(popularityPort).incrementUsage("AAPL", "NASDAQ", "USD");
+        verify(popularityOverlayPort).update(scores);
+        verify(popularityBroadcastPort).publish(scores);
     }
 
     @Test
@@ -54,7 +68,7 @@ class RecordStockUsageServiceTest {
                 .getItem();
 
         assertThat(result).isInstanceOf(RecordStockUsageUseCase.Result.Ignored.class);
-        verifyNoInteractions(popularityPort);
+        verifyNoInteractions(popularityPort, popularityOverlayPort, popularityBroadcastPort);
     }
 
     @Test
@@ -70,5 +84,6 @@ class RecordStockUsageServiceTest {
 
         assertThat(result).isInstanceOf(RecordStockUsageUseCase.Result.Error.class);
         assertThat(((RecordStockUsageUseCase.Result.Error) result).message()).contains("DB unavailable");
+        verifyNoInteractions(popularityOverlayPort, popularityBroadcastPort);
     }
 }
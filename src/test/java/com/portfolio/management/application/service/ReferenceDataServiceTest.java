@@ -0,0 +1,77 @@
+package com.portfolio.management.application.service;
+
+import com.portfolio.management.domain.model.Currency;
+import com.portfolio.management.domain.model.Exchange;
+import com.portfolio.management.domain.model.ReferenceData;
+import com.portfolio.management.domain.model.StockType;
+import com.portfolio.management.domain.port.incoming.GetReferenceDataUseCase;
+import com.portfolio.management.domain.port.outgoing.CurrencyRepository;
+import com.portfolio.management.domain.port.outgoing.ExchangeRepository;
+import com.portfolio.management.domain.port.outgoing.StockTypeRepository;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReferenceDataServiceTest {
+
+    @Mock
+    ExchangeRepository exchangeRepository;
+    @Mock
+    CurrencyRepository currencyRepository;
+    @Mock
+    StockTypeRepository stockTypeRepository;
+
+    private ReferenceDataService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ReferenceDataService(exchangeRepository, currencyRepository, stockTypeRepository);
+    }
+
+    @Test
+    @DisplayName("Should bundle the full lists of all three repositories")
+    void shouldBundleAllLists() {
+        List<Exchange> exchanges = List.of(Exchange.of(1L, "NYSE", "New York Stock Exchange", "United States", "EST", "USD", true));
+        List<Currency> currencies = List.of(Currency.of(1L, "USD", "US Dollar", "$", "US", true));
+        List<StockType> stockTypes = List.of(StockType.of(1L, "ETF", "Exchange-Traded Fund", "Fund", true));
+        when(exchangeRepository.findAll()).thenReturn(Uni.createFrom().item(exchanges));
+        when(currencyRepository.findAll()).thenReturn(Uni.createFrom().item(currencies));
+        when(stockTypeRepository.findAll()).thenReturn(Uni.createFrom().item(stockTypes));
+
+        GetReferenceDataUseCase.Result result = service.execute()
+                .subscribe()
+                .withSubscriber(UniAssertSubscriber.create())
+                .getItem();
+
+        assertThat(result).isEqualTo(new GetReferenceDataUseCase.Result.Success(
+                new ReferenceData(exchanges, currencies, stockTypes)));
+    }
+
+    @Test
+    @DisplayName("Should return system error when any repository fails")
+    void shouldReturnSystemErrorOnFailure() {
+        when(exchangeRepository.findAll()).thenReturn(Uni.createFrom().item(List.of()));
+        when(currencyRepository.findAll()).thenReturn(Uni.createFrom().failure(new IllegalStateException("boom")));
+
+        GetReferenceDataUseCase.Result result = service.execute()
+                .subscribe()
+                .withSubscriber(UniAssertSubscriber.create())
+                .getItem();
+
+        assertThat(result).isInstanceOf(GetReferenceDataUseCase.Result.SystemError.class);
+        verify(stockTypeRepository, never()).findAll();
+    }
+}
@@ -0,0 +1,57 @@
+package com.portfolio.management.application.service;
+
+import com.portfolio.management.domain.model.StockFacets;
+import com.portfolio.management.domain.port.incoming.GetStockFacetsUseCase;
+import com.portfolio.management.domain.port.outgoing.StockPort;
+import io.smallrye.mutiny.Uni;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class StockFacetServiceTest {
+
+    @Mock
+    private StockPort stockPort;
+
+    private StockFacetService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new StockFacetService(stockPort);
+    }
+
+    @Test
+    @DisplayName("Should return the facet counts for the criteria")
+    void returnsFacets() {
+        var facets = new StockFacets(2, Map.of("NASDAQ", 2), Map.of("United States", 2), Map.of("USD", 2),
+                Map.of("Common Stock", 2));
+        when(stockPort.countFacets(null, null, "nas", null, "usd", null)).thenReturn(Uni.createFrom().item(facets));
+
+        var result = service.execute(new GetStockFacetsUseCase.Query(null, null, "nas", null, "usd", null))
+                .await().indefinitely();
+
+        assertThat(result).isEqualTo(new GetStockFacetsUseCase.Result.Success(facets));
+    }
+
+    @Test
+    @DisplayName("Should map a failure to load the stock index to a system error")
+    void mapsFailure() {
+        when(stockPort.countFacets(null, null, null, null, null, null))
+                .thenReturn(Uni.createFrom().failure(new RuntimeException("connection refused")));
+
+        var result = service.execute(new GetStockFacetsUseCase.Query(null, null, null, null, null, null))
+                .await().indefinitely();
+
+        assertThat(result).isInstanceOfSatisfying(GetStockFacetsUseCase.Result.SystemError.class,
+                error -> assertThat(error.errors().errors().getFirst().code()).isEqualTo("REPOSITORY_ERROR"));
+    }
+}
@@ -1,10 +1,14 @@
 package com.portfolio.management.application.service;
 
+import com.portfolio.management.domain.model.SecurityIdentifier;
 import com.portfolio.management.domain.model.Stock;
 import com.portfolio.management.domain.port.incoming.GetSuggestionsUseCase;
+import com.portfolio.management.domain.port.outgoing.PopularityOverlayPort;
 import com.portfolio.management.domain.port.outgoing.StockPort;
 import com.portfolio.management.domain.strategy.priority.PriorityStrategy;
 import com.portfolio.management.domain.strategy.priority.SearchField;
+import com.portfolio.management.domain.strategy.ranking.RankingMode;
+import com.portfolio.management.domain.strategy.ranking.RelevanceWeights;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
 import jakarta.enterprise.inject.Instance;
@@ -16,11 +20,15 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -39,6 +47,15 @@ class SuggestionServiceTest {
     @Mock(lenient = true)
     PriorityStrategy mockNameStrategy;
 
+    @Mock(lenient = true)
+    PopularityOverlayPort mockPopularityOverlayPort;
+
+    @Mock(lenient = true)
+    RankingConfig mockRankingConfig;
+
+    @Mock(lenient = true)
+    RankingConfig.Weights mockRankingWeights;
+
     private SuggestionService service;
     private List<Stock> testStocks;
 
@@ -53,9 +70,18 @@ class SuggestionServiceTest {
         lenient().when(mockNameStrategy.searchField()).thenReturn(SearchField.NAME);
         lenient().when(mockNameStrategy.description()).thenReturn("Exact name match");
 
-        lenient().when(mockStrategyInstances.stream()).thenReturn(Stream.of(mockSymbolStrategy, mockNameStrategy));
+        lenient().when(mockStrategyInstances.stream())
+                .thenAnswer(invocation -> Stream.of(mockSymbolStrategy, mockNameStrategy));
+
+        // Overlay holds nothing by default: every stock ranks on its stored score
+        lenient().when(mockPopularityOverlayPort.scoreOr(anyString(), any(), anyDouble()))
+                .thenAnswer(invocation -> invocation.getArgument(2));
 
-        service = new SuggestionService(mockStockPort, mockStrategyInstances);
+        lenient().when(mockRankingConfig.mode()).thenReturn(RankingMode.TIERED);
+        lenient().when(mockRankingConfig.weights()).thenReturn(mockRankingWeights);
+        lenient().when(mockRankingWeights.toRelevanceWeights()).thenReturn(RelevanceWeights.DEFAULTS);
+
+        service = new SuggestionService(mockStockPort, mockStrategyInstances, mockPopularityOverlayPort, mockRankingConfig);
 
         // Test data
         testStocks = List.of(
@@ -71,7 +97,7 @@ class SuggestionServiceTest {
         // Given
         GetSuggestionsUseCase.Query query = new GetSuggestionsUseCase.Query("AAPL", 10);
 
-        when(mockStockPort.findCandidateStocks(eq("AAPL"), eq(20))) // 10 * 2 (FETCH_MULTIPLIER)
+        when(mockStockPort.findCandidateStocks(eq("AAPL"), eq(20), any())) // 10 * 2 (FETCH_MULTIPLIER)
                 .thenReturn(Uni.createFrom().item(testStocks));
 
         when(mockSymbolStrategy.matches(eq(testStocks), eq("AAPL")))
@@ -104,7 +130,7 @@ class SuggestionServiceTest {
         // Given
         GetSuggestionsUseCase.Query query = new GetSuggestionsUseCase.Query("NONEXISTENT", 10);
 
-        when(mockStockPort.findCandidateStocks(eq("NONEXISTENT"), eq(20)))
+        when(mockStockPort.findCandidateStocks(eq("NONEXISTENT"), eq(20), any()))
                 .thenReturn(Uni.createFrom().item(List.of()));
 
         // When
@@ -135,7 +161,7 @@ class SuggestionServiceTest {
 
         GetSuggestionsUseCase.Query query = new GetSuggestionsUseCase.Query("APP", 2);
 
-        when(mockStockPort.findCandidateStocks(eq("APP"), eq(4))) // 2 * 2
+        when(mockStockPort.findCandidateStocks(eq("APP"), eq(4), any())) // 2 * 2
                 .thenReturn(Uni.createFrom().item(manyStocks));
 
         when(mockSymbolStrategy.matches(eq(manyStocks), eq("APP")))
@@ -163,7 +189,7 @@ class SuggestionServiceTest {
         // Given
         GetSuggestionsUseCase.Query query = new GetSuggestionsUseCase.Query("Apple", 10);
 
-        when(mockStockPort.findCandidateStocks(eq("Apple"), eq(20)))
+        when(mockStockPort.findCandidateStocks(eq("Apple"), eq(20), any()))
                 .thenReturn(Uni.createFrom().item(testStocks));
 
         when(mockSymbolStrategy.matches(eq(testStocks), eq("Apple")))
@@ -234,7 +260,7 @@ class SuggestionServiceTest {
         // Given
         GetSuggestionsUseCase.Query query = new GetSuggestionsUseCase.Query("AAPL", 10);
 
-        when(mockStockPort.findCandidateStocks(anyString(), anyInt()))
+        when(mockStockPort.findCandidateStocks(anyString(), anyInt(), any()))
                 .thenReturn(Uni.createFrom().failure(new RuntimeException("Database connection failed")));
 
         // When
@@ -261,7 +287,7 @@ class SuggestionServiceTest {
         // Given
         GetSuggestionsUseCase.Query query = new GetSuggestionsUseCase.Query("AAPL", 3);
 
-        when(mockStockPort.findCandidateStocks(eq("AAPL"), eq(6))) // 3 * 2 (FETCH_MULTIPLIER)
+        when(mockStockPort.findCandidateStocks(eq("AAPL"), eq(6), any())) // 3 * 2 (FETCH_MULTIPLIER)
                 .thenReturn(Uni.createFrom().item(testStocks));
 
         when(mockSymbolStrategy.matches(eq(testStocks), eq("AAPL")))
@@ -283,7 +309,7 @@ class SuggestionServiceTest {
         // Given
         GetSuggestionsUseCase.Query query = new GetSuggestionsUseCase.Query("  AAPL  ", 10);
 
-        when(mockStockPort.findCandidateStocks(eq("AAPL"), eq(20))) // Note: trimmed input
+        when(mockStockPort.findCandidateStocks(eq("AAPL"), eq(20), any())) // Note: trimmed input
                 .thenReturn(Uni.createFrom().item(testStocks));
 
         when(mockSymbolStrategy.matches(eq(testStocks), eq("AAPL")))
@@ -315,7 +341,7 @@ class SuggestionServiceTest {
 
         GetSuggestionsUseCase.Query query = new GetSuggestionsUseCase.Query("Apple", 10);
 
-        when(mockStockPort.findCandidateStocks(eq("Apple"), eq(20)))
+        when(mockStockPort.findCandidateStocks(eq("Apple"), eq(20), any()))
                 .thenReturn(Uni.createFrom().item(candidates));
 
         // Both match the same (name) strategy tier, in "database order" (less popular first)
@@ -339,6 +365,40 @@ class SuggestionServiceTest {
         assertThat(successResult.suggestions().get(1).symbol()).isEqualTo("APPH");
     }
 
+    @Test
+    @DisplayName("Should rank on the live overlay score over the stale score a cached candidate carries")
+    void shouldRankOnOverlayScoreOverStoredScore() {
+        // Given
+        Stock lessPopular = createStockWithPopularity("APPH", "Apple Hospitality REIT", 10.0);
+        Stock morePopular = createStockWithPopularity("AAPL", "Apple Inc.", 120.0);
+        List<Stock> candidates = List.of(morePopular, lessPopular);
+
+        GetSuggestionsUseCase.Query query = new GetSuggestionsUseCase.Query("Apple", 10);
+
+        when(mockStockPort.findCandidateStocks(eq("Apple"), eq(20), any()))
+                .thenReturn(Uni.createFrom().item(candidates));
+        when(mockSymbolStrategy.matches(eq(candidates), eq("Apple")))
+                .thenReturn(List.of());
+        when(mockNameStrategy.matches(eq(candidates), eq("Apple")))
+                .thenReturn(List.of(morePopular, lessPopular));
+        when(mockPopularityOverlayPort.scoreOr(eq("APPH"), eq("NYSE"), anyDouble()))
+                .thenReturn(150.0);
+
+        // When
+        GetSuggestionsUseCase.Result result = service.execute(query)
+                .subscribe()
+                .withSubscriber(UniAssertSubscriber.create())
+                .getItem();
+
+        // Then
+        GetSuggestionsUseCase.Result.Success successResult =
+                (GetSuggestionsUseCase.Result.Success) result;
+
+        assertThat(successResult.suggestions())
+                .extracting(Stock::symbol)
+                .containsExactly("APPH", "AAPL");
+    }
+
     @Test
     @DisplayName("Should never let a popular fuzzy match outrank an exact match from a higher-priority tier")
     void shouldNeverLetPopularityOverrideMatchQualityPriority() {
@@ -349,7 +409,7 @@ class SuggestionServiceTest {
         List<Stock> candidates = List.of(exactMatch, popularFuzzyMatch);
         GetSuggestionsUseCase.Query query = new GetSuggestionsUseCase.Query("APP", 10);
 
-        when(mockStockPort.findCandidateStocks(eq("APP"), eq(20)))
+        when(mockStockPort.findCandidateStocks(eq("APP"), eq(20), any()))
                 .thenReturn(Uni.createFrom().item(candidates));
 
         // Symbol strategy (priority 1) matches only the unpopular exact match
@@ -374,6 +434,148 @@ class SuggestionServiceTest {
         assertThat(successResult.suggestions().get(1).symbol()).isEqualTo("AAPL");
     }
 
+    @Test
+    @DisplayName("Should let a popular lower-tier match outrank an obscure exact match in composite mode")
+    void shouldRankOnCompositeScoreWhenConfigured() {
+        // Given
+        when(mockRankingConfig.mode()).thenReturn(RankingMode.COMPOSITE);
+        service = new SuggestionService(mockStockPort, mockStrategyInstances, mockPopularityOverlayPort, mockRankingConfig);
+
+        Stock exactMatch = createStockWithPopularity("APP", "App Inc.", 0.0);
+        Stock popularMatch = createStockWithPopularity("AAPL", "Apple Inc.", 100.0);
+        List<Stock> candidates = List.of(exactMatch, popularMatch);
+        GetSuggestionsUseCase.Query query = new GetSuggestionsUseCase.Query("APP", 10);
+
+        when(mockStockPort.findCandidateStocks(eq("APP"), eq(20), any()))
+                .thenReturn(Uni.createFrom().item(candidates));
+        when(mockSymbolStrategy.matches(eq(candidates), eq("APP"))).thenReturn(List.of(exactMatch));
+        when(mockNameStrategy.matches(eq(candidates), eq("APP"))).thenReturn(List.of(popularMatch));
+
+        // When
+        GetSuggestionsUseCase.Result result = service.execute(query)
+                .subscribe()
+                .withSubscriber(UniAssertSubscriber.create())
+                .getItem();
+
+        // Then
+        assertThat(((GetSuggestionsUseCase.Result.Success) result).suggestions())
+                .extracting(Stock::symbol).containsExactly("AAPL", "APP");
+    }
+
+    @Test
+    @DisplayName("Should look up a pasted ISIN by key and skip the LIKE search")
+    void shouldLookUpIdentifierWithoutTextSearch() {
+        Stock primary = createStockWithPopularity("AAPL", "Apple Inc.", 90.0);
+        Stock secondary = createStockWithPopularity("APC", "Apple Inc.", 10.0);
+        GetSuggestionsUseCase.Query query = new GetSuggestionsUseCase.Query(" us0378331005 ", 10);
+
+        when(mockStockPort.findByIdentifier(
+                eq(new SecurityIdentifier(SecurityIdentifier.Kind.ISIN, "US0378331005")), any()))
+                .thenReturn(Uni.createFrom().item(List.of(secondary, primary)));
+
+        GetSuggestionsUseCase.Result result = service.execute(query)
+                .subscribe()
+                .withSubscriber(UniAssertSubscriber.create())
+                .getItem();
+
+        assertThat(result).isInstanceOf(GetSuggestionsUseCase.Result.Success.class);
+        assertThat(((GetSuggestionsUseCase.Result.Success) result).suggestions())
+                .extracting(Stock::symbol).containsExactly("AAPL", "APC");
+        verify(mockStockPort, never()).findCandidateStocks(anyString(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("Should fall back to text search when no listing carries the identifier")
+    void shouldFallBackToTextSearchWhenIdentifierIsUnlisted() {
+        GetSuggestionsUseCase.Query query = new GetSuggestionsUseCase.Query("037833100", 10);
+
+        when(mockStockPort.findByIdentifier(any(), any())).thenReturn(Uni.createFrom().item(List.of()));
+        when(mockStockPort.findCandidateStocks(eq("037833100"), eq(20), any()))
+                .thenReturn(Uni.createFrom().item(List.of()));
+
+        GetSuggestionsUseCase.Result result = service.execute(query)
+                .subscribe()
+                .withSubscriber(UniAssertSubscriber.create())
+                .getItem();
+
+        assertThat(result).isInstanceOf(GetSuggestionsUseCase.Result.Success.class);
+        verify(mockStockPort).findCandidateStocks(eq("037833100"), eq(20), any());
+    }
+
+    @Test
+    @DisplayName("Should keep one suggestion per ISIN and fill the freed slots with other instruments")
+    void shouldGroupListingsByIsin() {
+        Stock nasdaq = createListing("AAPL", "NASDAQ", "US0378331005", 120.0);
+        Stock xetra = createListing("APC", "XETR", "US0378331005", 20.0);
+        Stock other = createListing("APLE", "NYSE", "US03784Y2000", 5.0);
+        List<Stock> candidates = List.of(xetra, nasdaq, other);
+        GetSuggestionsUseCase.Query query = new GetSuggestionsUseCase.Query("apple", 2, null, true);
+
+        when(mockStockPort.findCandidateStocks(eq("apple"), eq(8), any())) // 2 * 4 (GROUPED_FETCH_MULTIPLIER)
+                .thenReturn(Uni.createFrom().item(candidates));
+        when(mockSymbolStrategy.matches(eq(candidates), eq("apple"))).thenReturn(List.of());
+        when(mockNameStrategy.matches(eq(candidates), eq("apple"))).thenReturn(candidates);
+        when(mockStockPort.findListingsByIsin(eq(Set.of("US0378331005", "US03784Y2000")), any()))
+                .thenReturn(Uni.createFrom().item(Map.of(
+                        "US0378331005", List.of(nasdaq, xetra),
+                        "US03784Y2000", List.of(other))));
+
+        GetSuggestionsUseCase.Result result = service.execute(query)
+                .subscribe()
+                .withSubscriber(UniAssertSubscriber.create())
+                .getItem();
+
+        GetSuggestionsUseCase.Result.Success successResult = (GetSuggestionsUseCase.Result.Success) result;
+        assertThat(successResult.suggestions()).extracting(Stock::symbol).containsExactly("AAPL", "APLE");
+        assertThat(successResult.otherListings()).containsOnlyKeys("US0378331005");
+        assertThat(successResult.otherListings().get("US0378331005")).containsExactly(xetra);
+    }
+
+    @Test
+    @DisplayName("Should put the most popular listing of a group in the slot a secondary listing earned")
+    void shouldPromoteMostPopularListingOfGroup() {
+        Stock nasdaq = createListing("AAPL", "NASDAQ", "US0378331005", 120.0);
+        Stock munich = createListing("APC", "Munich", "US0378331005", 5.0);
+        Stock xetra = createListing("APC", "XETR", "US0378331005", 20.0);
+        List<Stock> candidates = List.of(munich, xetra);
+        GetSuggestionsUseCase.Query query = new GetSuggestionsUseCase.Query("APC", 10, null, true);
+
+        when(mockStockPort.findCandidateStocks(eq("APC"), eq(40), any()))
+                .thenReturn(Uni.createFrom().item(candidates));
+        when(mockSymbolStrategy.matches(eq(candidates), eq("APC"))).thenReturn(candidates);
+        when(mockNameStrategy.matches(eq(candidates), eq("APC"))).thenReturn(List.of());
+        when(mockStockPort.findListingsByIsin(eq(Set.of("US0378331005")), any()))
+                .thenReturn(Uni.createFrom().item(Map.of("US0378331005", List.of(munich, nasdaq, xetra))));
+
+        GetSuggestionsUseCase.Result result = service.execute(query)
+                .subscribe()
+                .withSubscriber(UniAssertSubscriber.create())
+                .getItem();
+
+        GetSuggestionsUseCase.Result.Success successResult = (GetSuggestionsUseCase.Result.Success) result;
+        assertThat(successResult.suggestions()).containsExactly(nasdaq);
+        assertThat(successResult.otherListings().get("US0378331005")).containsExactly(xetra, munich);
+    }
+
+    @Test
+    @DisplayName("Should not look up listing groups when not grouping by ISIN")
+    void shouldNotLookUpListingsWhenUngrouped() {
+        GetSuggestionsUseCase.Query query = new GetSuggestionsUseCase.Query("AAPL", 10);
+
+        when(mockStockPort.findCandidateStocks(eq("AAPL"), eq(20), any()))
+                .thenReturn(Uni.createFrom().item(testStocks));
+        when(mockSymbolStrategy.matches(eq(testStocks), eq("AAPL"))).thenReturn(testStocks);
+        when(mockNameStrategy.matches(eq(testStocks), eq("AAPL"))).thenReturn(List.of());
+
+        GetSuggestionsUseCase.Result result = service.execute(query)
+                .subscribe()
+                .withSubscriber(UniAssertSubscriber.create())
+                .getItem();
+
+        assertThat(((GetSuggestionsUseCase.Result.Success) result).otherListings()).isEmpty();
+        verify(mockStockPort, never()).findListingsByIsin(any(), any());
+    }
+
     private Stock createStock(String symbol, String name) {
         return Stock.of(1L, symbol, name, "USD", "NYSE", "MIC", "US", "CS", "FIGI", "CFI", "ISIN", "CUSIP", 1L);
     }
@@ -381,4 +583,9 @@ class SuggestionServiceTest {
     private Stock createStockWithPopularity(String symbol, String name, double popularityScore) {
         return new Stock(1L, symbol, name, "USD", "NYSE", "MIC", "US", "CS", "FIGI", "CFI", "ISIN", "CUSIP", 1L, popularityScore);
     }
-}
\ No newline at end of file
+
+    private Stock createListing(String symbol, String exchange, String isin, double popularityScore) {
+        return new Stock(null, symbol, "Apple Inc.", "USD", exchange, "MIC", "US", "CS", "FIGI", "CFI", isin, "CUSIP", 1L,
+                popularityScore);
+    }
+}
@@ -0,0 +1,81 @@
+package com.portfolio.management.application.service;
+
+import com.portfolio.management.domain.model.TrendingStock;
+import com.portfolio.management.domain.model.TrendingWindow;
+import com.portfolio.management.domain.port.incoming.GetTrendingStocksUseCase;
+import com.portfolio.management.domain.port.incoming.RecordTrendingUsageUseCase;
+import com.portfolio.management.domain.port.outgoing.TrendingPort;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TrendingServiceTest {
+
+    @Mock
+    TrendingPort trendingPort;
+
+    private TrendingService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new TrendingService(trendingPort);
+    }
+
+    @Test
+    @DisplayName("Should return the port's ranking for the requested window")
+    void shouldReturnRanking() {
+        List<TrendingStock> ranking = List.of(new TrendingStock("NVDA", 12), new TrendingStock("AAPL", 7));
+        when(trendingPort.topTrending(TrendingWindow.FIVE_MINUTES, 5)).thenReturn(ranking);
+
+        GetTrendingStocksUseCase.Result result = service.execute(new GetTrendingStocksUseCase.Query(TrendingWindow.FIVE_MINUTES, 5))
+                .subscribe()
+                .withSubscriber(UniAssertSubscriber.create())
+                .getItem();
+
+        assertThat(result).isEqualTo(new GetTrendingStocksUseCase.Result.Success(ranking, TrendingWindow.FIVE_MINUTES, 2));
+    }
+
+    @Test
+    @DisplayName("Should return system error when the port fails")
+    void shouldReturnSystemErrorOnFailure() {
+        when(trendingPort.topTrending(TrendingWindow.ONE_HOUR, 10)).thenThrow(new IllegalStateException("boom"));
+
+        GetTrendingStocksUseCase.Result result = service.execute(new GetTrendingStocksUseCase.Query(TrendingWindow.ONE_HOUR, 10))
+                .subscribe()
+                .withSubscriber(UniAssertSubscriber.create())
+                .getItem();
+
+        assertThat(result).isInstanceOf(GetTrendingStocksUseCase.Result.SystemError.class);
+    }
+
+    @Test
+    @DisplayName("Should record usage under the normalized ticker and ignore blank ones")
+    void shouldRecordUsage() {
+        service.execute(new RecordTrendingUsageUseCase.Command(" nvda "));
+        service.execute(new RecordTrendingUsageUseCase.Command("  "));
+        service.execute(new RecordTrendingUsageUseCase.Command(null));
+
+        verify(trendingPort).recordUsage("NVDA");
+    }
+
+    @Test
+    @DisplayName("Should reject out-of-range limits when building the query")
+    void shouldRejectInvalidLimit() {
+        assertThatThrownBy(() -> new GetTrendingStocksUseCase.Query(TrendingWindow.ONE_HOUR, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new GetTrendingStocksUseCase.Query(TrendingWindow.ONE_HOUR, 51))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
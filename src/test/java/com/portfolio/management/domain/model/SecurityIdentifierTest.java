@@ -0,0 +1,64 @@
+package com.portfolio.management.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SecurityIdentifierTest {
+
+    @Test
+    @DisplayName("Should recognise ISINs with a valid Luhn check digit")
+    void shouldRecogniseIsin() {
+        assertThat(SecurityIdentifier.parse("US0378331005"))
+                .contains(new SecurityIdentifier(SecurityIdentifier.Kind.ISIN, "US0378331005"));
+        assertThat(SecurityIdentifier.parse("DE0007164600"))
+                .contains(new SecurityIdentifier(SecurityIdentifier.Kind.ISIN, "DE0007164600"));
+        assertThat(SecurityIdentifier.parse("GB0002634946"))
+                .contains(new SecurityIdentifier(SecurityIdentifier.Kind.ISIN, "GB0002634946"));
+    }
+
+    @Test
+    @DisplayName("Should recognise CUSIPs with a valid check digit")
+    void shouldRecogniseCusip() {
+        assertThat(SecurityIdentifier.parse("037833100"))
+                .contains(new SecurityIdentifier(SecurityIdentifier.Kind.CUSIP, "037833100"));
+        assertThat(SecurityIdentifier.parse("38259P508"))
+                .contains(new SecurityIdentifier(SecurityIdentifier.Kind.CUSIP, "38259P508"));
+    }
+
+    @Test
+    @DisplayName("Should recognise FIGIs ahead of ISINs, which share their length")
+    void shouldRecogniseFigi() {
+        assertThat(SecurityIdentifier.parse("BBG000B9XRY4"))
+                .contains(new SecurityIdentifier(SecurityIdentifier.Kind.FIGI, "BBG000B9XRY4"));
+        assertThat(SecurityIdentifier.parse("BBG000BLNNH6"))
+                .contains(new SecurityIdentifier(SecurityIdentifier.Kind.FIGI, "BBG000BLNNH6"));
+    }
+
+    @Test
+    @DisplayName("Should trim and upper-case the input")
+    void shouldNormaliseInput() {
+        assertThat(SecurityIdentifier.parse("  us0378331005 "))
+                .contains(new SecurityIdentifier(SecurityIdentifier.Kind.ISIN, "US0378331005"));
+    }
+
+    @Test
+    @DisplayName("Should reject identifier shapes whose check digit is wrong")
+    void shouldRejectBadCheckDigit() {
+        assertThat(SecurityIdentifier.parse("US0378331006")).isEmpty();
+        assertThat(SecurityIdentifier.parse("037833101")).isEmpty();
+        assertThat(SecurityIdentifier.parse("BBG000B9XRY5")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should leave tickers, names and wrong-length input to text search")
+    void shouldRejectOrdinaryQueries() {
+        assertThat(SecurityIdentifier.parse("AAPL")).isEmpty();
+        assertThat(SecurityIdentifier.parse("Apple Inc.")).isEmpty();
+        assertThat(SecurityIdentifier.parse("MICROSOFT")).isEmpty();
+        assertThat(SecurityIdentifier.parse("US037833100")).isEmpty();
+        assertThat(SecurityIdentifier.parse("")).isEmpty();
+        assertThat(SecurityIdentifier.parse(null)).isEmpty();
+    }
+}
@@ -0,0 +1,76 @@
+package com.portfolio.management.domain.strategy.priority;
+
+import com.portfolio.management.domain.model.Stock;
+import com.portfolio.management.domain.port.outgoing.StockAliasPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AliasMatchStrategy Tests")
+class AliasMatchStrategyTest {
+
+    @Mock
+    private StockAliasPort stockAliasPort;
+
+    private AliasMatchStrategy strategy;
+    private List<Stock> testStocks;
+
+    @BeforeEach
+    void setUp() {
+        strategy = new AliasMatchStrategy(stockAliasPort);
+        testStocks = List.of(
+                createStock("GOOGL", "Alphabet Inc."),
+                createStock("goog", "Alphabet Inc."),
+                createStock("META", "Meta Platforms Inc."),
+                createStock("AAPL", "Apple Inc.")
+        );
+    }
+
+    @Test
+    @DisplayName("Should return every candidate whose symbol the alias names, ignoring case")
+    void shouldReturnAliasedSymbols() {
+        // Given
+        when(stockAliasPort.symbolsFor("google")).thenReturn(Set.of("GOOGL", "GOOG"));
+
+        // When
+        List<Stock> result = strategy.matches(testStocks, "google");
+
+        // Then
+        assertThat(result).extracting(Stock::symbol).containsExactly("GOOGL", "goog");
+    }
+
+    @Test
+    @DisplayName("Should return empty list when the query names no alias")
+    void shouldReturnEmptyListWithoutAlias() {
+        // Given
+        when(stockAliasPort.symbolsFor("apple")).thenReturn(Set.of());
+
+        // Then
+        assertThat(strategy.matches(testStocks, "apple")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should rank right after exact symbol matches")
+    void shouldReturnCorrectPriority() {
+        // Then
+        assertThat(strategy.priority()).isEqualTo(2);
+        assertThat(strategy.priority())
+                .isGreaterThan(new ExactSymbolMatchStrategy().priority())
+                .isLessThan(new ExactNameMatchStrategy().priority());
+        assertThat(strategy.searchField()).isEqualTo(SearchField.SYMBOL);
+    }
+
+    private Stock createStock(String symbol, String name) {
+        return Stock.of(1L, symbol, name, "USD", "NASDAQ", "MIC", "US", "CS", "FIGI", "CFI", "ISIN", "CUSIP", 1L);
+    }
+}
@@ -138,7 +138,7 @@ class ExactNameMatchStrategyTest {
     @DisplayName("Should return correct priority")
     void shouldReturnCorrectPriority() {
         // Then
-        assertThat(strategy.priority()).isEqualTo(2);
+        assertThat(strategy.priority()).isEqualTo(3);
     }
 
     @Test
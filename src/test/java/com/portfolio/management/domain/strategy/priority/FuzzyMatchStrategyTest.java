@@ -0,0 +1,76 @@
+package com.portfolio.management.domain.strategy.priority;
+
+import com.portfolio.management.domain.model.Stock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("FuzzyMatchStrategy Tests")
+class FuzzyMatchStrategyTest {
+
+    private FuzzyMatchStrategy strategy;
+    private List<Stock> testStocks;
+
+    @BeforeEach
+    void setUp() {
+        strategy = new FuzzyMatchStrategy();
+        testStocks = List.of(
+                createStock("MSFT", "Microsoft Corporation"),
+                createStock("NVDA", "NVIDIA Corporation"),
+                createStock("BAC", "Bank of America Corporation"),
+                createStock("AAPL", "Apple Inc.")
+        );
+    }
+
+    @Test
+    @DisplayName("Should match a misspelt name word within two edits")
+    void shouldMatchMisspeltName() {
+        // When
+        List<Stock> result = strategy.matches(testStocks, "microsfot");
+
+        // Then
+        assertThat(result).extracting(Stock::symbol).containsExactly("MSFT");
+    }
+
+    @Test
+    @DisplayName("Should match a short query against symbol and name words within one edit")
+    void shouldMatchSymbolOrName() {
+        // When
+        List<Stock> result = strategy.matches(testStocks, "nvida");
+
+        // Then
+        assertThat(result).extracting(Stock::symbol).containsExactly("NVDA");
+    }
+
+    @Test
+    @DisplayName("Should require every query word to match, allowing exact prefixes")
+    void shouldRequireEveryWord() {
+        // Then
+        assertThat(strategy.matches(testStocks, "bank amrica")).extracting(Stock::symbol).containsExactly("BAC");
+        assertThat(strategy.matches(testStocks, "bank micro")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should not run for queries too short to allow an edit")
+    void shouldSkipShortQueries() {
+        // Then
+        assertThat(strategy.matches(testStocks, "ap")).isEmpty();
+        assertThat(strategy.matches(testStocks, "   ")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should rank after every strict strategy")
+    void shouldReturnCorrectPriority() {
+        // Then
+        assertThat(strategy.priority()).isGreaterThan(new NameContainsStrategy().priority());
+        assertThat(strategy.searchField()).isEqualTo(SearchField.NAME);
+    }
+
+    private Stock createStock(String symbol, String name) {
+        return Stock.of(1L, symbol, name, "USD", "NYSE", "MIC", "US", "CS", "FIGI", "CFI", "ISIN", "CUSIP", 1L);
+    }
+}
@@ -187,7 +187,7 @@ class NameContainsStrategyTest {
     @DisplayName("Should return correct priority")
     void shouldReturnCorrectPriority() {
         // Then
-        assertThat(strategy.priority()).isEqualTo(6);
+        assertThat(strategy.priority()).isEqualTo(8);
     }
 
     @Test
@@ -154,7 +154,7 @@ class NameStartsWithStrategyTest {
     @DisplayName("Should return correct priority")
     void shouldReturnCorrectPriority() {
         // Then
-        assertThat(strategy.priority()).isEqualTo(4);
+        assertThat(strategy.priority()).isEqualTo(5);
     }
 
     @Test
@@ -0,0 +1,102 @@
+package com.portfolio.management.domain.strategy.priority;
+
+import com.portfolio.management.domain.model.Stock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("NameTokenPrefixStrategy Tests")
+class NameTokenPrefixStrategyTest {
+
+    private NameTokenPrefixStrategy strategy;
+    private List<Stock> testStocks;
+
+    @BeforeEach
+    void setUp() {
+        strategy = new NameTokenPrefixStrategy();
+        testStocks = List.of(
+                createStock("BAC", "Bank of America Corporation"),
+                createStock("GM", "General Motors Company"),
+                createStock("GE", "General Electric Company"),
+                createStock("AXP", "American Express Company"),
+                createStock("T", "AT&T Inc."),
+                createStock("NONAME", null)
+        );
+    }
+
+    @Test
+    @DisplayName("Should match every query word against the start of some name word")
+    void shouldMatchWordPrefixes() {
+        // When
+        List<Stock> result = strategy.matches(testStocks, "bank amer");
+
+        // Then
+        assertThat(result).extracting(Stock::symbol).containsExactly("BAC");
+    }
+
+    @Test
+    @DisplayName("Should match query words in any order and ignore case")
+    void shouldMatchWordsInAnyOrder() {
+        // When
+        List<Stock> result = strategy.matches(testStocks, "MOTORS gen");
+
+        // Then
+        assertThat(result).extracting(Stock::symbol).containsExactly("GM");
+    }
+
+    @Test
+    @DisplayName("Should match a single word against any name word, not only the first")
+    void shouldMatchInnerWord() {
+        // When
+        List<Stock> result = strategy.matches(testStocks, "amer");
+
+        // Then
+        assertThat(result).extracting(Stock::symbol).containsExactly("BAC", "AXP");
+    }
+
+    @Test
+    @DisplayName("Should not match a query word found only inside a name word")
+    void shouldNotMatchInsideWords() {
+        // When
+        List<Stock> result = strategy.matches(testStocks, "merica");
+
+        // Then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should split on punctuation in both query and name")
+    void shouldSplitOnPunctuation() {
+        // When
+        List<Stock> result = strategy.matches(testStocks, "at&t");
+
+        // Then
+        assertThat(result).extracting(Stock::symbol).containsExactly("T");
+    }
+
+    @Test
+    @DisplayName("Should return empty list for a query without words")
+    void shouldReturnEmptyListForQueryWithoutWords() {
+        // Then
+        assertThat(strategy.matches(testStocks, "   ")).isEmpty();
+        assertThat(strategy.matches(testStocks, "&.")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should rank between the starts-with and the contains tiers")
+    void shouldReturnCorrectPriority() {
+        // Then
+        assertThat(strategy.priority())
+                .isGreaterThan(new NameStartsWithStrategy().priority())
+                .isLessThan(new SymbolContainsStrategy().priority());
+        assertThat(strategy.searchField()).isEqualTo(SearchField.NAME);
+    }
+
+    private Stock createStock(String symbol, String name) {
+        return Stock.of(1L, symbol, name, "USD", "NYSE", "MIC", "US", "CS", "FIGI", "CFI", "ISIN", "CUSIP", 1L);
+    }
+}
@@ -176,7 +176,7 @@ class SymbolContainsStrategyTest {
     @DisplayName("Should return correct priority")
     void shouldReturnCorrectPriority() {
         // Then
-        assertThat(strategy.priority()).isEqualTo(5);
+        assertThat(strategy.priority()).isEqualTo(7);
     }
 
     @Test
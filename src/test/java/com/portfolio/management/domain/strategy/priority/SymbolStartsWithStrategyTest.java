@@ -138,7 +138,7 @@ class SymbolStartsWithStrategyTest {
     @DisplayName("Should return correct priority")
     void shouldReturnCorrectPriority() {
         // Then
-        assertThat(strategy.priority()).isEqualTo(3);
+        assertThat(strategy.priority()).isEqualTo(4);
     }
 
     @Test
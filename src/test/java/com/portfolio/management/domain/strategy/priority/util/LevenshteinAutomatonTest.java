@@ -0,0 +1,52 @@
+package com.portfolio.management.domain.strategy.priority.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LevenshteinAutomatonTest {
+
+    @Test
+    @DisplayName("Should measure insertions, deletions and substitutions within the budget")
+    void measuresEdits() {
+        var automaton = new LevenshteinAutomaton("microsfot", 2);
+
+        assertThat(automaton.distance("microsfot")).isZero();
+        assertThat(automaton.distance("microsoft")).isEqualTo(2);
+        assertThat(automaton.distance("microsofts")).isEqualTo(3);
+        assertThat(new LevenshteinAutomaton("nvida", 1).distance("nvidia")).isEqualTo(1);
+        assertThat(new LevenshteinAutomaton("nvida", 1).distance("nvda")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should cap distances one past the budget")
+    void capsDistance() {
+        var automaton = new LevenshteinAutomaton("apple", 1);
+
+        assertThat(automaton.distance("amazon")).isEqualTo(2);
+        assertThat(automaton.distance("a")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should reject a prefix once no continuation can come back within the budget")
+    void rejectsDeadPrefix() {
+        var automaton = new LevenshteinAutomaton("tesla", 1);
+        int[] state = automaton.start();
+        for (char c : "tx".toCharArray()) {
+            state = automaton.step(state, c);
+        }
+        assertThat(automaton.canMatch(state)).isTrue();
+        state = automaton.step(state, 'q');
+        assertThat(automaton.canMatch(state)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should allow no edit below three characters, one up to five and two from six")
+    void scalesBudgetWithLength() {
+        assertThat(LevenshteinAutomaton.maxEdits(2)).isZero();
+        assertThat(LevenshteinAutomaton.maxEdits(3)).isEqualTo(1);
+        assertThat(LevenshteinAutomaton.maxEdits(5)).isEqualTo(1);
+        assertThat(LevenshteinAutomaton.maxEdits(6)).isEqualTo(2);
+    }
+}
@@ -0,0 +1,78 @@
+package com.portfolio.management.domain.strategy.ranking;
+
+import com.portfolio.management.domain.model.Stock;
+import com.portfolio.management.domain.strategy.priority.ExactNameMatchStrategy;
+import com.portfolio.management.domain.strategy.priority.ExactSymbolMatchStrategy;
+import com.portfolio.management.domain.strategy.priority.NameContainsStrategy;
+import com.portfolio.management.domain.strategy.priority.NameStartsWithStrategy;
+import com.portfolio.management.domain.strategy.priority.PriorityStrategy;
+import com.portfolio.management.domain.strategy.priority.SymbolStartsWithStrategy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CompositeRanker Tests")
+class CompositeRankerTest {
+
+    private final List<PriorityStrategy> strategies = List.of(new NameContainsStrategy(), new ExactSymbolMatchStrategy(),
+            new ExactNameMatchStrategy(), new SymbolStartsWithStrategy(), new NameStartsWithStrategy());
+
+    private final CompositeRanker ranker =
+            new CompositeRanker(strategies, stock -> stock.popularityScore(), RelevanceWeights.DEFAULTS);
+
+    @Test
+    @DisplayName("Should let a popular prefix match outrank an obscure exact name match")
+    void popularPrefixBeatsObscureExactName() {
+        Stock obscure = createStock("APPX", "App", 0.0);
+        Stock apple = createStock("AAPL", "Apple Inc.", 120.0);
+
+        assertThat(ranker.rank(List.of(obscure, apple), "app", 10)).containsExactly(apple, obscure);
+    }
+
+    @Test
+    @DisplayName("Should keep the better tier first when popularity is equal")
+    void tierDecidesAtEqualPopularity() {
+        Stock contains = createStock("HAPP", "Happy Apps Corp", 10.0);
+        Stock exactSymbol = createStock("APP", "AppLovin Corporation", 10.0);
+        Stock prefix = createStock("APPN", "Appian Corporation", 10.0);
+
+        assertThat(ranker.rank(List.of(contains, prefix, exactSymbol), "app", 10))
+                .extracting(Stock::symbol).containsExactly("APP", "APPN", "HAPP");
+    }
+
+    @Test
+    @DisplayName("Should return only matched candidates, at most limit, best first, ties by symbol")
+    void boundedTopK() {
+        var unweighted = new CompositeRanker(strategies, Stock::popularityScore,
+                new RelevanceWeights(1.0, 0.0, 0.0, 0.0, 50.0));
+        List<Stock> candidates = List.of(
+                createStock("ABCD", "Alpha Beta", 1.0),
+                createStock("ABCC", "Alpha Gamma", 2.0),
+                createStock("ABCB", "Alpha Delta", 3.0),
+                createStock("XYZ", "Unrelated", 99.0));
+
+        assertThat(unweighted.rank(candidates, "abc", 2)).extracting(Stock::symbol).containsExactly("ABCB", "ABCC");
+        assertThat(unweighted.rank(candidates, "abc", 0)).isEmpty();
+        assertThat(unweighted.rank(List.of(), "abc", 5)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should score unknown or non-finite popularity as zero")
+    void ignoresMissingPopularity() {
+        Stock unscored = createStock("APPA", "Apparel One", null);
+        Stock scored = createStock("APPB", "Apparel One", 5.0);
+        var overlay = new CompositeRanker(strategies,
+                stock -> stock.popularityScore() == null ? Double.NEGATIVE_INFINITY : stock.popularityScore(),
+                RelevanceWeights.DEFAULTS);
+
+        assertThat(overlay.rank(List.of(unscored, scored), "app", 10)).containsExactly(scored, unscored);
+    }
+
+    private static Stock createStock(String symbol, String name, Double popularityScore) {
+        return new Stock(1L, symbol, name, "USD", "NYSE", "MIC", "US", "CS", "FIGI", "CFI", "ISIN", "CUSIP", 1L,
+                popularityScore);
+    }
+}
@@ -0,0 +1,123 @@
+package com.portfolio.management.infrastructure.adapters.incoming.postgres;
+
+import com.portfolio.management.infrastructure.adapters.outgoing.repository.snapshot.AliasStore;
+import com.portfolio.management.infrastructure.adapters.outgoing.repository.snapshot.ReferenceDataStore;
+import com.portfolio.management.infrastructure.adapters.outgoing.repository.snapshot.StockSnapshotStore;
+import io.quarkus.cache.Cache;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TableChangeHandlerTest {
+
+    @Mock
+    private ReferenceDataStore referenceDataStore;
+    @Mock
+    private StockSnapshotStore stockSnapshotStore;
+    @Mock
+    private AliasStore aliasStore;
+    @Mock
+    private Cache suggestionsCache;
+    @Mock
+    private Cache advancedSearchCache;
+
+    private TableChangeHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        handler = new TableChangeHandler(referenceDataStore, stockSnapshotStore, aliasStore, suggestionsCache, advancedSearchCache);
+    }
+
+    @Test
+    @DisplayName("Should rebuild only the exchange snapshot when exchanges change")
+    void exchangesRebuildExchangeSnapshotOnly() {
+        when(referenceDataStore.refreshExchanges()).thenReturn(Uni.createFrom().nullItem());
+
+        handler.onTableChanged("exchanges").subscribe().withSubscriber(UniAssertSubscriber.create()).assertCompleted();
+
+        verify(referenceDataStore).refreshExchanges();
+        verifyNoMoreInteractions(referenceDataStore);
+        verifyNoInteractions(suggestionsCache, advancedSearchCache);
+    }
+
+    @Test
+    @DisplayName("Should route currencies and stock_types to their own snapshots")
+    void routesOtherReferenceTables() {
+        when(referenceDataStore.refreshCurrencies()).thenReturn(Uni.createFrom().nullItem());
+        when(referenceDataStore.refreshStockTypes()).thenReturn(Uni.createFrom().nullItem());
+
+        handler.onTableChanged("currencies").await().indefinitely();
+        handler.onTableChanged("stock_types").await().indefinitely();
+
+        verify(referenceDataStore).refreshCurrencies();
+        verify(referenceDataStore).refreshStockTypes();
+        verifyNoMoreInteractions(referenceDataStore);
+    }
+
+    @Test
+    @DisplayName("Should rebuild the stock snapshot, then drop both suggestion caches when stocks change")
+    void stocksInvalidateSuggestionCaches() {
+        when(stockSnapshotStore.refreshIfLoaded()).thenReturn(Uni.createFrom().voidItem());
+        when(suggestionsCache.invalidateAll()).thenReturn(Uni.createFrom().voidItem());
+        when(advancedSearchCache.invalidateAll()).thenReturn(Uni.createFrom().voidItem());
+
+        handler.onTableChanged("stocks").subscribe().withSubscriber(UniAssertSubscriber.create()).assertCompleted();
+
+        var order = inOrder(stockSnapshotStore, suggestionsCache, advancedSearchCache);
+        order.verify(stockSnapshotStore).refreshIfLoaded();
+        order.verify(suggestionsCache).invalidateAll();
+        order.verify(advancedSearchCache).invalidateAll();
+        verifyNoInteractions(referenceDataStore);
+    }
+
+    @Test
+    @DisplayName("Should recompile the alias automaton, then drop both suggestion caches when aliases change")
+    void aliasesInvalidateSuggestionCaches() {
+        when(aliasStore.refresh()).thenReturn(Uni.createFrom().nullItem());
+        when(suggestionsCache.invalidateAll()).thenReturn(Uni.createFrom().voidItem());
+        when(advancedSearchCache.invalidateAll()).thenReturn(Uni.createFrom().voidItem());
+
+        handler.onTableChanged("stock_aliases").subscribe().withSubscriber(UniAssertSubscriber.create()).assertCompleted();
+
+        var order = inOrder(aliasStore, suggestionsCache, advancedSearchCache);
+        order.verify(aliasStore).refresh();
+        order.verify(suggestionsCache).invalidateAll();
+        order.verify(advancedSearchCache).invalidateAll();
+        verifyNoInteractions(referenceDataStore, stockSnapshotStore);
+    }
+
+    @Test
+    @DisplayName("Should ignore unknown and null table names")
+    void ignoresUnknownTables() {
+        handler.onTableChanged("popularity_dirty_keys").await().indefinitely();
+        handler.onTableChanged(null).await().indefinitely();
+
+        verifyNoInteractions(referenceDataStore, stockSnapshotStore, aliasStore, suggestionsCache, advancedSearchCache);
+    }
+
+    @Test
+    @DisplayName("Should refresh everything after missed notifications")
+    void missedNotificationsRefreshEverything() {
+        when(referenceDataStore.refreshAll()).thenReturn(Uni.createFrom().voidItem());
+        when(aliasStore.refresh()).thenReturn(Uni.createFrom().nullItem());
+        when(stockSnapshotStore.refreshIfLoaded()).thenReturn(Uni.createFrom().voidItem());
+        when(suggestionsCache.invalidateAll()).thenReturn(Uni.createFrom().voidItem());
+        when(advancedSearchCache.invalidateAll()).thenReturn(Uni.createFrom().voidItem());
+
+        handler.onMissedNotifications().subscribe().withSubscriber(UniAssertSubscriber.create()).assertCompleted();
+
+        verify(referenceDataStore).refreshAll();
+        verify(aliasStore).refresh();
+        verify(stockSnapshotStore).refreshIfLoaded();
+        verify(suggestionsCache).invalidateAll();
+        verify(advancedSearchCache).invalidateAll();
+    }
+}
@@ -0,0 +1,72 @@
+package com.portfolio.management.infrastructure.adapters.incoming.postgres;
+
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.core.Vertx;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TableChangeListenerTest {
+
+    @Mock
+    private Vertx vertx;
+    @Mock
+    private TableChangeHandler tableChangeHandler;
+
+    private TableChangeListener listener;
+
+    @BeforeEach
+    void setUp() {
+        listener = new TableChangeListener(vertx, tableChangeHandler, true,
+                "postgresql://localhost:5434/suggestions_db", "postgres", "secret");
+    }
+
+    @Test
+    @DisplayName("Should hand each notification payload to the handler")
+    void dispatchesNotification() {
+        when(tableChangeHandler.onTableChanged("stocks")).thenReturn(Uni.createFrom().voidItem());
+
+        listener.onNotification("stocks");
+
+        verify(tableChangeHandler).onTableChanged("stocks");
+    }
+
+    @Test
+    @DisplayName("Should not refresh on the first subscribe but refresh on every re-subscribe")
+    void refreshesOnlyOnResubscribe() {
+        when(tableChangeHandler.onMissedNotifications()).thenReturn(Uni.createFrom().voidItem());
+
+        listener.onSubscribed();
+        verify(tableChangeHandler, never()).onMissedNotifications();
+
+        listener.onSubscribed();
+        listener.onSubscribed();
+        verify(tableChangeHandler, times(2)).onMissedNotifications();
+    }
+
+    @Test
+    @DisplayName("Should swallow handler failures so the channel keeps listening")
+    void swallowsHandlerFailure() {
+        when(tableChangeHandler.onTableChanged("exchanges"))
+                .thenReturn(Uni.createFrom().failure(new RuntimeException("connection reset")));
+
+        listener.onNotification("exchanges");
+
+        verify(tableChangeHandler).onTableChanged("exchanges");
+    }
+
+    @Test
+    @DisplayName("Should back off exponentially up to the cap")
+    void reconnectBackoff() {
+        assertThat(TableChangeListener.reconnectDelay(0)).isEqualTo(500L);
+        assertThat(TableChangeListener.reconnectDelay(3)).isEqualTo(4_000L);
+        assertThat(TableChangeListener.reconnectDelay(10)).isEqualTo(30_000L);
+    }
+}
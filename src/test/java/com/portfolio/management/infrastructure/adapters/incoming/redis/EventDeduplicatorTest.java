@@ -0,0 +1,153 @@
+package com.portfolio.management.infrastructure.adapters.incoming.redis;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EventDeduplicatorTest {
+
+    private static final Clock FIXED_CLOCK = Clock.fixed(Instant.parse("2026-07-23T10:00:00Z"), ZoneOffset.UTC);
+
+    @Test
+    @DisplayName("Should accept an id the first time and reject it afterwards")
+    void shouldRejectRepeatedId() {
+        EventDeduplicator deduplicator = new EventDeduplicator(true, 1_000, 0.001, Duration.ofHours(1), FIXED_CLOCK);
+        UUID eventId = UUID.randomUUID();
+
+        assertThat(deduplicator.markSeen(eventId)).isTrue();
+        assertThat(deduplicator.markSeen(eventId)).isFalse();
+        assertThat(deduplicator.markSeen(eventId)).isFalse();
+        assertThat(deduplicator.stats().duplicatesDropped()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should always accept null ids and everything when disabled")
+    void shouldPassThroughNullIdsAndWhenDisabled() {
+        EventDeduplicator enabled = new EventDeduplicator(true, 1_000, 0.001, Duration.ofHours(1), FIXED_CLOCK);
+        EventDeduplicator disabled = new EventDeduplicator(false, 1_000, 0.001, Duration.ofHours(1), FIXED_CLOCK);
+        UUID eventId = UUID.randomUUID();
+
+        assertThat(enabled.markSeen(null)).isTrue();
+        assertThat(enabled.markSeen(null)).isTrue();
+        assertThat(disabled.markSeen(eventId)).isTrue();
+        assertThat(disabled.markSeen(eventId)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should remember ids for one extra generation after rotating, then forget them")
+    void shouldRememberAcrossOneRotation() {
+        EventDeduplicator deduplicator = new EventDeduplicator(true, 100, 0.001, Duration.ofHours(1), FIXED_CLOCK);
+        UUID early = UUID.randomUUID();
+        deduplicator.markSeen(early);
+
+        fill(deduplicator, 99);
+        fill(deduplicator, 50);
+        assertThat(deduplicator.markSeen(early)).as("still in the previous generation").isFalse();
+
+        fill(deduplicator, 100);
+        assertThat(deduplicator.markSeen(early)).as("aged out after two rotations").isTrue();
+    }
+
+    @Test
+    @DisplayName("Should rotate a generation once it outlives its TTL")
+    void shouldRotateOnTtl() {
+        MutableClock clock = new MutableClock(Instant.parse("2026-07-23T10:00:00Z"));
+        EventDeduplicator deduplicator = new EventDeduplicator(true, 1_000, 0.001, Duration.ofMinutes(10), clock);
+        UUID eventId = UUID.randomUUID();
+        deduplicator.markSeen(eventId);
+
+        clock.advance(Duration.ofMinutes(10));
+        assertThat(deduplicator.markSeen(eventId)).isFalse();
+
+        clock.advance(Duration.ofMinutes(10));
+        assertThat(deduplicator.markSeen(eventId)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should keep the observed false positive rate near the design rate at capacity")
+    void shouldStayNearDesignFalsePositiveRate() {
+        EventDeduplicator deduplicator = new EventDeduplicator(true, 10_000, 0.01, Duration.ofHours(1), FIXED_CLOCK);
+        fill(deduplicator, 9_999);
+
+        int falsePositives = 0;
+        int probes = 20_000;
+        List<UUID> fresh = new ArrayList<>(probes);
+        for (int i = 0; i < probes; i++) {
+            fresh.add(UUID.randomUUID());
+        }
+        for (UUID id : fresh) {
+            if (!deduplicator.markSeen(id)) {
+                falsePositives++;
+            }
+        }
+
+        // Both generations end up near capacity, so the combined bound is ~2x the design rate
+        assertThat((double) falsePositives / probes).isLessThan(0.03);
+        assertThat(deduplicator.stats().estimatedFalsePositiveRate()).isBetween(0.005, 0.03);
+    }
+
+    @Test
+    @DisplayName("Should size the bit arrays from the expected events and target rate")
+    void shouldSizeFromConfiguration() {
+        long bits = EventDeduplicator.optimalBits(100_000, 0.0001);
+
+        assertThat(bits % Long.SIZE).isZero();
+        assertThat(bits).isBetween(1_917_000L, 1_917_100L);
+        assertThat(EventDeduplicator.optimalHashFunctions(100_000, bits)).isEqualTo(13);
+
+        EventDeduplicator deduplicator = new EventDeduplicator(true, 100_000, 0.0001, Duration.ofHours(1), FIXED_CLOCK);
+        assertThat(deduplicator.stats().memoryBytes()).isEqualTo(2 * bits / 8);
+    }
+
+    @Test
+    @DisplayName("Should reject invalid sizing")
+    void shouldRejectInvalidSizing() {
+        assertThatThrownBy(() -> new EventDeduplicator(true, 0, 0.01, Duration.ofHours(1), FIXED_CLOCK))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new EventDeduplicator(true, 100, 1.0, Duration.ofHours(1), FIXED_CLOCK))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static void fill(EventDeduplicator deduplicator, int count) {
+        for (int i = 0; i < count; i++) {
+            deduplicator.markSeen(UUID.randomUUID());
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -2,22 +2,32 @@ package com.portfolio.management.infrastructure.adapters.incoming.redis;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.portfolio.management.domain.port.incoming.RecordStockUsageUseCase;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.quarkus.redis.datasource.ReactiveRedisDataSource;
 import io.quarkus.redis.datasource.stream.ReactiveStreamCommands;
 import io.quarkus.redis.datasource.stream.StreamMessage;
+
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import io.vertx.mutiny.redis.client.Response;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -32,14 +42,16 @@ class TransactionCreatedConsumerTest {
     private static final String STREAM = "transaction:created";
     private static final String GROUP = "suggestions-consumers";
 
+    private ReactiveRedisDataSource redisDataSource;
     private ReactiveStreamCommands<String, String, String> streamCommands;
     private RecordStockUsageUseCase recordStockUsageUseCase;
+    private SimpleMeterRegistry meterRegistry;
     private TransactionCreatedConsumer consumer;
 
     @BeforeEach
     @SuppressWarnings("unchecked")
     void setUp() {
-        ReactiveRedisDataSource redisDataSource = mock(ReactiveRedisDataSource.class);
+        redisDataSource = mock(ReactiveRedisDataSource.class);
         streamCommands = (ReactiveStreamCommands<String, String, String>) mock(ReactiveStreamCommands.class);
         recordStockUsageUseCase = mock(RecordStockUsageUseCase.class);
         RedisStreamConfig config = mock(RedisStreamConfig.class);
@@ -48,9 +60,17 @@ class TransactionCreatedConsumerTest {
         when(config.group()).thenReturn(GROUP);
         when(streamCommands.xack(anyString(), anyString(), anyString()))
                 .thenReturn(Uni.createFrom().item(1));
+        when(redisDataSource.execute(eq("SET"), any(String[].class)))
+                .thenReturn(Uni.createFrom().item(mock(Response.class)));
 
         ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
-        consumer = new TransactionCreatedConsumer(recordStockUsageUseCase, config, objectMapper, redisDataSource);
+        EventDeduplicator deduplicator = new EventDeduplicator(true, 1_000, 0.001, Duration.ofHours(1), Clock.systemUTC());
+        meterRegistry = new SimpleMeterRegistry();
+        TransactionConsumerMetrics metrics = new TransactionConsumerMetrics(meterRegistry, deduplicator,
+                Clock.fixed(Instant.parse("2026-07-23T10:00:01Z"), ZoneOffset.UTC));
+        SharedEventLedger ledger = new SharedEventLedger(redisDataSource, true, Duration.ofHours(6));
+        consumer = new TransactionCreatedConsumer(
+                recordStockUsageUseCase, config, objectMapper, redisDataSource, deduplicator, ledger, metrics);
         consumer.init();
     }
 
@@ -131,4 +151,128 @@ class TransactionCreatedConsumerTest {
         verifyNoInteractions(recordStockUsageUseCase);
         verify(streamCommands).xack(STREAM, GROUP, "4-0");
     }
+
+    @Test
+    @DisplayName("Should acknowledge a redelivered event without recording usage twice")
+    void shouldSkipRedeliveredEvent() {
+        String payload = """
+                {"eventId":"22222222-2222-2222-2222-222222222222","occurredAt":"2026-07-23T10:00:00Z",
+                 "messageCreatedAt":"2026-07-23T10:00:00Z","eventType":"TRANSACTION_CREATED",
+                 "payload":{"ticker":"SHOP","exchange":"NYSE","currency":"USD"}}
+                """;
+        when(recordStockUsageUseCase.execute(any()))
+                .thenReturn(Uni.createFrom().item(new RecordStockUsageUseCase.Result.Success()));
+
+        consumer.processMessage(new StreamMessage<>(STREAM, "5-0", Map.of("payload", payload)))
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertItem("5-0");
+        String redeliveredAck = consumer.processMessage(new StreamMessage<>(STREAM, "6-0", Map.of("payload", payload)))
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .getItem();
+
+        assertThat(redeliveredAck).isEqualTo("6-0");
+        verify(recordStockUsageUseCase, times(1)).execute(any());
+        verify(streamCommands).xack(STREAM, GROUP, "6-0");
+    }
+
+    @Test
+    @DisplayName("Should skip an event another consumer or an earlier run already claimed in Redis")
+    void shouldSkipEventClaimedElsewhere() {
+        String payload = """
+                {"eventId":"44444444-4444-4444-4444-444444444444","occurredAt":"2026-07-23T10:00:00Z",
+                 "messageCreatedAt":"2026-07-23T10:00:00Z","eventType":"TRANSACTION_CREATED",
+                 "payload":{"ticker":"SHOP","exchange":"NYSE","currency":"USD"}}
+                """;
+        when(redisDataSource.execute(eq("SET"), any(String[].class)))
+                .thenReturn(Uni.createFrom().nullItem());
+
+        consumer.processMessage(new StreamMessage<>(STREAM, "11-0", Map.of("payload", payload)))
+                .subscribe().withSubscriber(UniAssertSubscriber.create()).assertItem("11-0");
+
+        verify(redisDataSource).execute("SET", SharedEventLedger.KEY_PREFIX + "44444444-4444-4444-4444-444444444444",
+                "1", "NX", "EX", "21600");
+        verifyNoInteractions(recordStockUsageUseCase);
+        assertThat(messages("duplicate")).isEqualTo(1);
+        verify(streamCommands).xack(STREAM, GROUP, "11-0");
+    }
+
+    @Test
+    @DisplayName("Should still record an event when the Redis claim fails")
+    void shouldRecordWhenClaimFails() {
+        String payload = """
+                {"eventId":"55555555-5555-5555-5555-555555555555","occurredAt":"2026-07-23T10:00:00Z",
+                 "messageCreatedAt":"2026-07-23T10:00:00Z","eventType":"TRANSACTION_CREATED",
+                 "payload":{"ticker":"SHOP","exchange":"NYSE","currency":"USD"}}
+                """;
+        when(redisDataSource.execute(eq("SET"), any(String[].class)))
+                .thenReturn(Uni.createFrom().failure(new IllegalStateException("connection reset")));
+        when(recordStockUsageUseCase.execute(any()))
+                .thenReturn(Uni.createFrom().item(new RecordStockUsageUseCase.Result.Success()));
+
+        consumer.processMessage(new StreamMessage<>(STREAM, "12-0", Map.of("payload", payload)))
+                .subscribe().withSubscriber(UniAssertSubscriber.create()).assertItem("12-0");
+
+        verify(recordStockUsageUseCase).execute(any());
+        assertThat(meterRegistry.get(TransactionConsumerMetrics.FAILURES).tag("operation", "dedup").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should count outcomes and time each stage of a processed message")
+    void shouldRecordMetricsForProcessedMessages() {
+        String payload = """
+                {"eventId":"33333333-3333-3333-3333-333333333333","occurredAt":"2026-07-23T10:00:00Z",
+                 "messageCreatedAt":"2026-07-23T10:00:00Z","eventType":"TRANSACTION_CREATED",
+                 "payload":{"ticker":"SHOP","exchange":"NYSE","currency":"USD"}}
+                """;
+        when(recordStockUsageUseCase.execute(any()))
+                .thenReturn(Uni.createFrom().item(new RecordStockUsageUseCase.Result.Success()));
+
+        consumer.processMessage(new StreamMessage<>(STREAM, "7-0", Map.of("payload", payload)))
+                .subscribe().withSubscriber(UniAssertSubscriber.create()).assertItem("7-0");
+        consumer.processMessage(new StreamMessage<>(STREAM, "8-0", Map.of("payload", payload)))
+                .subscribe().withSubscriber(UniAssertSubscriber.create()).assertItem("8-0");
+        consumer.processMessage(new StreamMessage<>(STREAM, "9-0", Map.of("payload", "not valid json")))
+                .subscribe().withSubscriber(UniAssertSubscriber.create()).assertItem("9-0");
+
+        assertThat(messages("success")).isEqualTo(1);
+        assertThat(messages("duplicate")).isEqualTo(1);
+        assertThat(messages("unparseable")).isEqualTo(1);
+        assertThat(stageCount("parse")).isEqualTo(3);
+        assertThat(stageCount("record")).isEqualTo(1);
+        assertThat(stageCount("ack")).isEqualTo(3);
+        assertThat(meterRegistry.get(TransactionConsumerMetrics.LAG).timer().totalTime(TimeUnit.MILLISECONDS))
+                .isEqualTo(1_000);
+    }
+
+    @Test
+    @DisplayName("Should count acknowledgement failures and still emit the message id")
+    void shouldCountAckFailures() {
+        when(streamCommands.xack(anyString(), anyString(), anyString()))
+                .thenReturn(Uni.createFrom().failure(new IllegalStateException("connection reset")));
+
+        consumer.processMessage(new StreamMessage<>(STREAM, "10-0", Map.of("someOtherField", "x")))
+                .subscribe().withSubscriber(UniAssertSubscriber.create()).assertItem("10-0");
+
+        assertThat(meterRegistry.get(TransactionConsumerMetrics.FAILURES).tag("operation", "ack").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not poll pending depth before the consumer is started")
+    void shouldSkipPendingPollWhenNotRunning() {
+        consumer.samplePendingDepth()
+                .subscribe().withSubscriber(UniAssertSubscriber.create()).assertCompleted();
+
+        verify(streamCommands, times(0)).xpending(anyString(), anyString());
+        assertThat(meterRegistry.get(TransactionConsumerMetrics.PENDING).gauge().value()).isZero();
+    }
+
+    private double messages(String outcome) {
+        return meterRegistry.get(TransactionConsumerMetrics.MESSAGES).tag("outcome", outcome).counter().count();
+    }
+
+    private long stageCount(String stage) {
+        return meterRegistry.get(TransactionConsumerMetrics.STAGE_LATENCY).tag("stage", stage).timer().count();
+    }
 }
@@ -0,0 +1,57 @@
+package com.portfolio.management.infrastructure.adapters.incoming.redis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.management.domain.port.incoming.RecordTrendingUsageUseCase;
+import io.quarkus.redis.datasource.ReactiveRedisDataSource;
+import io.quarkus.redis.datasource.stream.StreamMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * Tests record directly rather than the infinite XREAD polling loop, like
+ * TransactionCreatedConsumerTest does for processMessage.
+ */
+class TrendingStreamReaderTest {
+
+    private static final String STREAM = "transaction:created";
+
+    private RecordTrendingUsageUseCase recordTrendingUsageUseCase;
+    private TrendingStreamReader reader;
+
+    @BeforeEach
+    void setUp() {
+        recordTrendingUsageUseCase = mock(RecordTrendingUsageUseCase.class);
+        reader = new TrendingStreamReader(recordTrendingUsageUseCase, mock(RedisStreamConfig.class),
+                new ObjectMapper().findAndRegisterModules(), mock(ReactiveRedisDataSource.class));
+    }
+
+    @Test
+    @DisplayName("Should count the ticker of every message it reads")
+    void shouldRecordTicker() {
+        String payload = """
+                {"eventId":"11111111-1111-1111-1111-111111111111","occurredAt":"2026-07-23T10:00:00Z",
+                 "messageCreatedAt":"2026-07-23T10:00:00Z","eventType":"TRANSACTION_CREATED",
+                 "payload":{"ticker":"SHOP","exchange":"NYSE","currency":"USD"}}
+                """;
+
+        reader.record(new StreamMessage<>(STREAM, "1-0", Map.of("payload", payload)));
+
+        verify(recordTrendingUsageUseCase).execute(new RecordTrendingUsageUseCase.Command("SHOP"));
+    }
+
+    @Test
+    @DisplayName("Should skip messages without a parseable payload")
+    void shouldSkipUnparseableMessages() {
+        reader.record(new StreamMessage<>(STREAM, "2-0", Map.of("payload", "not valid json")));
+        reader.record(new StreamMessage<>(STREAM, "3-0", Map.of("someOtherField", "x")));
+
+        verifyNoInteractions(recordTrendingUsageUseCase);
+    }
+}
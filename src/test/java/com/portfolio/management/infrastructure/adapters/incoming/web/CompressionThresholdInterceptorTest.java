@@ -0,0 +1,141 @@
+package com.portfolio.management.infrastructure.adapters.incoming.web;
+
+import jakarta.ws.rs.container.ResourceInfo;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.WriterInterceptorContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CompressionThresholdInterceptorTest {
+
+    private final CompressionConfig config = mock(CompressionConfig.class);
+    private final ResourceInfo resourceInfo = mock(ResourceInfo.class);
+    private final MultivaluedMap<String, Object> headers = new MultivaluedHashMap<>();
+    private final ByteArrayOutputStream wire = new ByteArrayOutputStream();
+
+    private CompressionThresholdInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        when(config.defaultMinSize()).thenReturn(1024);
+        when(config.minSize()).thenReturn(Map.of("suggestions", 100));
+        when(config.minSizeFor(any())).thenCallRealMethod();
+        when(resourceInfo.getResourceMethod())
+                .thenReturn(SuggestionsResource.class.getMethod("getSuggestions", String.class, int.class, String.class,
+                        String.class));
+
+        interceptor = new CompressionThresholdInterceptor(config);
+        interceptor.resourceInfo = resourceInfo;
+    }
+
+    @Test
+    @DisplayName("Should mark bodies below the group threshold as identity before writing them")
+    void smallBodyIsNotCompressed() throws IOException {
+        byte[] body = "x".repeat(99).getBytes();
+
+        interceptor.aroundWriteTo(context(body));
+
+        assertThat(headers.getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo(CompressionThresholdInterceptor.IDENTITY);
+        assertThat(wire.toByteArray()).isEqualTo(body);
+    }
+
+    @Test
+    @DisplayName("Should leave bodies at or above the threshold to the HTTP layer's compression")
+    void largeBodyStreamsThrough() throws IOException {
+        byte[] body = "x".repeat(100).getBytes();
+
+        interceptor.aroundWriteTo(context(body));
+
+        assertThat(headers).doesNotContainKey(HttpHeaders.CONTENT_ENCODING);
+        assertThat(wire.toByteArray()).isEqualTo(body);
+    }
+
+    @Test
+    @DisplayName("Should fall back to the default threshold for unconfigured groups")
+    void unconfiguredGroupUsesDefault() throws IOException {
+        Method getExchanges = Arrays.stream(ExchangeController.class.getMethods())
+                .filter(method -> method.getName().equals("getExchanges"))
+                .findFirst()
+                .orElseThrow();
+        when(resourceInfo.getResourceMethod()).thenReturn(getExchanges);
+
+        interceptor.aroundWriteTo(context("x".repeat(500).getBytes()));
+
+        assertThat(headers.getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo(CompressionThresholdInterceptor.IDENTITY);
+    }
+
+    @Test
+    @DisplayName("Should not touch bodies that already carry a content coding")
+    void precompressedBodyPassesThrough() throws IOException {
+        headers.putSingle(HttpHeaders.CONTENT_ENCODING, "gzip");
+
+        interceptor.aroundWriteTo(context(new byte[]{1, 2, 3}));
+
+        assertThat(headers.getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(wire.toByteArray()).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    @DisplayName("Should hold back flushes until the threshold is reached")
+    void flushDeferredWhileBuffering() throws IOException {
+        var flushed = new AtomicReference<>(false);
+        OutputStream target = new OutputStream() {
+            @Override
+            public void write(int b) {
+            }
+
+            @Override
+            public void flush() {
+                flushed.set(true);
+            }
+        };
+        var stream = new CompressionThresholdInterceptor.ThresholdOutputStream(target, 10, () -> {
+        });
+
+        stream.write(new byte[5]);
+        stream.flush();
+        assertThat(flushed.get()).isFalse();
+        assertThat(stream.buffering()).isTrue();
+
+        stream.write(new byte[5]);
+        stream.flush();
+        assertThat(flushed.get()).isTrue();
+        assertThat(stream.buffering()).isFalse();
+    }
+
+    private WriterInterceptorContext context(byte[] body) throws IOException {
+        WriterInterceptorContext context = mock(WriterInterceptorContext.class);
+        AtomicReference<OutputStream> out = new AtomicReference<>(wire);
+        when(context.getHeaders()).thenReturn(headers);
+        when(context.getOutputStream()).thenAnswer(invocation -> out.get());
+        doAnswer(invocation -> {
+            out.set(invocation.getArgument(0));
+            return null;
+        }).when(context).setOutputStream(any());
+        doAnswer(invocation -> {
+            // Jackson writes in chunks; split to exercise the switch mid-body
+            int half = body.length / 2;
+            out.get().write(body, 0, half);
+            out.get().write(body, half, body.length - half);
+            return null;
+        }).when(context).proceed();
+        return context;
+    }
+}
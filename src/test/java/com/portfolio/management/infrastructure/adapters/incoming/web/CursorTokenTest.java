@@ -0,0 +1,33 @@
+package com.portfolio.management.infrastructure.adapters.incoming.web;
+
+import com.portfolio.management.domain.model.StockCursor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CursorTokenTest {
+
+    @Test
+    @DisplayName("Should round-trip the exact score, symbol and id through a URL-safe token")
+    void roundTrips() {
+        var cursor = new StockCursor(0.1 + 0.2, "BRK/B ü", 9_007_199_254_740_993L);
+
+        String token = CursorToken.encode(cursor);
+
+        assertThat(token).matches("[A-Za-z0-9_-]+");
+        assertThat(CursorToken.decode(token)).contains(cursor);
+    }
+
+    @Test
+    @DisplayName("Should reject tokens it did not produce")
+    void rejectsForeignTokens() {
+        assertThat(CursorToken.decode("not a token")).isEmpty();
+        assertThat(CursorToken.decode("AAAA")).isEmpty();
+        byte[] wrongVersion = Base64.getUrlDecoder().decode(CursorToken.encode(new StockCursor(1.0, "A", 1L)));
+        wrongVersion[0] = 9;
+        assertThat(CursorToken.decode(Base64.getUrlEncoder().encodeToString(wrongVersion))).isEmpty();
+    }
+}
@@ -1,5 +1,6 @@
 package com.portfolio.management.infrastructure.adapters.incoming.web;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.portfolio.management.domain.model.Exchange;
 import com.portfolio.management.domain.model.Errors;
 import com.portfolio.management.domain.port.incoming.GetExchangeUseCase;
@@ -9,6 +10,7 @@ import com.portfolio.management.infrastructure.adapters.incoming.web.mapper.Erro
 import com.portfolio.management.infrastructure.adapters.incoming.web.mapper.ExchangeWebMapper;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.Response;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -23,6 +25,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -49,7 +52,8 @@ class ExchangeResourceTest {
                 mockGetExchangesUseCase,
                 mockGetExchangeUseCase,
                 mockExchangeMapper,
-                mockErrorMapper
+                mockErrorMapper,
+                new PrecompressedBodyCache(new WireFormatMappers(new ObjectMapper()))
         );
     }
 
@@ -72,7 +76,7 @@ class ExchangeResourceTest {
         when(mockExchangeMapper.toExchangeResponse(anyList())).thenReturn(exchangeResponse);
 
         // When
-        Response result = exchangeResource.getExchanges(search, country, currency, region)
+        Response result = exchangeResource.getExchanges(search, country, currency, region, null, null, null)
                 .subscribe()
                 .withSubscriber(UniAssertSubscriber.create())
                 .getItem();
@@ -155,7 +159,7 @@ class ExchangeResourceTest {
         when(mockExchangeMapper.toExchangeResponse(anyList())).thenReturn(exchangeResponse);
 
         // When
-        Response result = exchangeResource.getExchanges(null, country, null, null)
+        Response result = exchangeResource.getExchanges(null, country, null, null, null, null, null)
                 .subscribe()
                 .withSubscriber(UniAssertSubscriber.create())
                 .getItem();
@@ -174,7 +178,7 @@ class ExchangeResourceTest {
         String invalidRegion = "INVALID_REGION";
 
         // When
-        Response result = exchangeResource.getExchanges(null, null, null, invalidRegion)
+        Response result = exchangeResource.getExchanges(null, null, null, invalidRegion, null, null, null)
                 .subscribe()
                 .withSubscriber(UniAssertSubscriber.create())
                 .getItem();
@@ -183,7 +187,7 @@ class ExchangeResourceTest {
         assertThat(result).isNotNull();
         assertThat(result.getStatus()).isEqualTo(Response.Status.BAD_REQUEST.getStatusCode());
         
-        verify(mockErrorMapper).toErrorResponse(eq("country"), anyString(), eq("INVALID_REGION"));
+        verify(mockErrorMapper).toErrorResponse(eq("region"), anyString(), eq("INVALID_REGION"));
     }
 
     @Test
@@ -233,7 +237,7 @@ class ExchangeResourceTest {
                 .thenReturn(Uni.createFrom().item(systemErrorResult));
 
         // When
-        Response result = exchangeResource.getExchanges(search, null, null, null)
+        Response result = exchangeResource.getExchanges(search, null, null, null, null, null, null)
                 .subscribe()
                 .withSubscriber(UniAssertSubscriber.create())
                 .getItem();
@@ -280,7 +284,7 @@ class ExchangeResourceTest {
                 .thenReturn(Uni.createFrom().item(validationErrorResult));
 
         // When
-        Response result = exchangeResource.getExchanges(search, null, null, null)
+        Response result = exchangeResource.getExchanges(search, null, null, null, null, null, null)
                 .subscribe()
                 .withSubscriber(UniAssertSubscriber.create())
                 .getItem();
@@ -308,7 +312,7 @@ class ExchangeResourceTest {
         when(mockExchangeMapper.toExchangeResponse(anyList())).thenReturn(exchangeResponse);
 
         // When
-        Response result = exchangeResource.getExchanges(null, null, null, region)
+        Response result = exchangeResource.getExchanges(null, null, null, region, null, null, null)
                 .subscribe()
                 .withSubscriber(UniAssertSubscriber.create())
                 .getItem();
@@ -320,4 +324,53 @@ class ExchangeResourceTest {
         verify(mockGetExchangesUseCase).execute(any(GetExchangesUseCase.Query.class));
         verify(mockExchangeMapper).toExchangeResponse(eq(exchanges));
     }
+
+    @Test
+    void shouldRenderUnfilteredListOnceAndServeItWithEtag() {
+        // Given
+        var exchanges = List.of(
+                Exchange.of(1L, "NYSE", "New York Stock Exchange", "United States", "America/New_York", "USD", true)
+        );
+        var successResult = new GetExchangesUseCase.Result.Success(exchanges, 1);
+
+        when(mockGetExchangesUseCase.execute(any(GetExchangesUseCase.Query.class)))
+                .thenReturn(Uni.createFrom().item(successResult));
+        when(mockExchangeMapper.toExchangeResponse(anyList())).thenReturn(new ExchangeResponse(List.of(), 1));
+
+        // When
+        Response first = exchangeResource.getExchanges(null, null, null, null, null, null, null)
+                .await().indefinitely();
+        Response second = exchangeResource.getExchanges(null, null, null, null, null, null, null)
+                .await().indefinitely();
+
+        // Then
+        assertThat(first.getStatus()).isEqualTo(Response.Status.OK.getStatusCode());
+        assertThat(first.getEntity()).isInstanceOf(byte[].class);
+        assertThat(first.getHeaderString(HttpHeaders.ETAG)).startsWith("\"");
+        assertThat(second.getHeaderString(HttpHeaders.ETAG)).isEqualTo(first.getHeaderString(HttpHeaders.ETAG));
+        assertThat(second.getEntity()).isSameAs(first.getEntity());
+        verify(mockExchangeMapper, times(1)).toExchangeResponse(eq(exchanges));
+    }
+
+    @Test
+    void shouldReturnNotModifiedWhenEtagMatches() {
+        // Given
+        var exchanges = List.of(
+                Exchange.of(1L, "NYSE", "New York Stock Exchange", "United States", "America/New_York", "USD", true)
+        );
+        when(mockGetExchangesUseCase.execute(any(GetExchangesUseCase.Query.class)))
+                .thenReturn(Uni.createFrom().item(new GetExchangesUseCase.Result.Success(exchanges, 1)));
+        when(mockExchangeMapper.toExchangeResponse(anyList())).thenReturn(new ExchangeResponse(List.of(), 1));
+        String etag = exchangeResource.getExchanges(null, null, null, null, null, null, null)
+                .await().indefinitely()
+                .getHeaderString(HttpHeaders.ETAG);
+
+        // When
+        Response result = exchangeResource.getExchanges(null, null, null, null, etag, null, null)
+                .await().indefinitely();
+
+        // Then
+        assertThat(result.getStatus()).isEqualTo(Response.Status.NOT_MODIFIED.getStatusCode());
+        assertThat(result.getEntity()).isNull();
+    }
 }
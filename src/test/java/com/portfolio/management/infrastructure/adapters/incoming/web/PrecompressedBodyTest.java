@@ -0,0 +1,68 @@
+package com.portfolio.management.infrastructure.adapters.incoming.web;
+
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrecompressedBodyTest {
+
+    private static final byte[] JSON = ("{\"exchanges\":[" + "{\"code\":\"NYSE\",\"name\":\"New York Stock Exchange\"},".repeat(20)
+            + "{}],\"count\":21}").getBytes(StandardCharsets.UTF_8);
+
+    private final PrecompressedBody body = PrecompressedBody.of(JSON);
+
+    @Test
+    @DisplayName("Should serve the gzip variant only to clients that accept it")
+    void negotiatesGzip() throws IOException {
+        Response plain = body.toResponse(null, null);
+        Response gzipped = body.toResponse(null, "br;q=1.0, gzip;q=0.8");
+
+        assertThat(plain.getEntity()).isEqualTo(JSON);
+        assertThat(plain.getHeaderString(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(gzipped.getHeaderString(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(gzipped.getHeaderString(HttpHeaders.VARY)).contains(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
+        assertThat(gzipped.getHeaderString(HttpHeaders.ETAG)).isNotEqualTo(plain.getHeaderString(HttpHeaders.ETAG));
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream((byte[]) gzipped.getEntity()))) {
+            assertThat(in.readAllBytes()).isEqualTo(JSON);
+        }
+    }
+
+    @Test
+    @DisplayName("Should honour q=0 and wildcard in Accept-Encoding")
+    void parsesAcceptEncoding() {
+        assertThat(PrecompressedBody.acceptsGzip("gzip;q=0")).isFalse();
+        assertThat(PrecompressedBody.acceptsGzip("identity")).isFalse();
+        assertThat(PrecompressedBody.acceptsGzip("*")).isTrue();
+        assertThat(PrecompressedBody.acceptsGzip("deflate, GZIP")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should answer 304 for either variant's ETag, weak or strong, and for *")
+    void matchesEitherVariant() {
+        String plainEtag = body.toResponse(null, null).getHeaderString(HttpHeaders.ETAG);
+        String gzipEtag = body.toResponse(null, "gzip").getHeaderString(HttpHeaders.ETAG);
+
+        assertThat(body.toResponse(gzipEtag, null).getStatus()).isEqualTo(304);
+        assertThat(body.toResponse("\"other\", W/" + plainEtag, "gzip").getStatus()).isEqualTo(304);
+        assertThat(body.toResponse("*", null).getStatus()).isEqualTo(304);
+        assertThat(body.toResponse("\"other\"", null).getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("Should derive the ETag from content so replicas agree, and skip gzip when it does not help")
+    void contentDerivedEtag() {
+        assertThat(PrecompressedBody.of(JSON.clone()).etag()).isEqualTo(body.etag());
+
+        PrecompressedBody tiny = PrecompressedBody.of("{}".getBytes(StandardCharsets.UTF_8));
+        assertThat(tiny.gzipLength()).isEqualTo(-1);
+        assertThat(tiny.toResponse(null, "gzip").getHeaderString(HttpHeaders.CONTENT_ENCODING)).isNull();
+    }
+}
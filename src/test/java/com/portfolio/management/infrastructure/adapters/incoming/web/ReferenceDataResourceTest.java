@@ -0,0 +1,131 @@
+package com.portfolio.management.infrastructure.adapters.incoming.web;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.management.domain.model.Currency;
+import com.portfolio.management.domain.model.Errors;
+import com.portfolio.management.domain.model.Exchange;
+import com.portfolio.management.domain.model.ReferenceData;
+import com.portfolio.management.domain.model.StockType;
+import com.portfolio.management.domain.port.incoming.GetReferenceDataUseCase;
+import com.portfolio.management.infrastructure.adapters.incoming.web.mapper.CurrencyWebMapper;
+import com.portfolio.management.infrastructure.adapters.incoming.web.mapper.ErrorMapper;
+import com.portfolio.management.infrastructure.adapters.incoming.web.mapper.ExchangeWebMapper;
+import com.portfolio.management.infrastructure.adapters.incoming.web.mapper.StockTypeWebMapper;
+import io.smallrye.mutiny.Uni;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReferenceDataResourceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Mock
+    private GetReferenceDataUseCase getReferenceDataUseCase;
+    @Mock
+    private ErrorMapper errorMapper;
+
+    private ReferenceDataResource resource;
+
+    private final List<Exchange> exchanges = List.of(
+            Exchange.of(1L, "NYSE", "New York Stock Exchange", "United States", "America/New_York", "USD", true));
+    private final List<Currency> currencies = List.of(Currency.of(1L, "USD", "US Dollar", "$", "US", true));
+    private final List<StockType> stockTypes = List.of(StockType.of(1L, "ETF", "Exchange-Traded Fund", "Fund", true));
+
+    @BeforeEach
+    void setUp() {
+        resource = new ReferenceDataResource(
+                getReferenceDataUseCase,
+                Mappers.getMapper(ExchangeWebMapper.class),
+                Mappers.getMapper(CurrencyWebMapper.class),
+                Mappers.getMapper(StockTypeWebMapper.class),
+                errorMapper,
+                new PrecompressedBodyCache(new WireFormatMappers(objectMapper)));
+    }
+
+    @Test
+    @DisplayName("Should bundle all three lists in the shape of their own endpoints")
+    void shouldBundleAllSections() throws Exception {
+        when(getReferenceDataUseCase.execute()).thenReturn(success(exchanges, currencies, stockTypes));
+
+        Response response = resource.getReferenceData(null, null, null).await().indefinitely();
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeaderString(HttpHeaders.ETAG)).isNotBlank();
+        JsonNode body = objectMapper.readTree((byte[]) response.getEntity());
+        assertThat(body.at("/exchanges/exchanges/0/code").asText()).isEqualTo("NYSE");
+        assertThat(body.at("/currencies/count").asInt()).isEqualTo(1);
+        assertThat(body.at("/stockTypes/stockTypes/0/code").asText()).isEqualTo("ETF");
+    }
+
+    @Test
+    @DisplayName("Should answer 304 while unchanged and a new ETag once any section changes")
+    void shouldRevalidateAgainstDataVersion() {
+        when(getReferenceDataUseCase.execute())
+                .thenReturn(success(exchanges, currencies, stockTypes))
+                .thenReturn(success(exchanges, currencies, stockTypes))
+                .thenReturn(success(exchanges, new ArrayList<>(List.of(
+                        Currency.of(1L, "USD", "US Dollar", "$", "US", true),
+                        Currency.of(2L, "EUR", "Euro", "€", "EU", true))), stockTypes));
+
+        String etag = resource.getReferenceData(null, null, null).await().indefinitely().getHeaderString(HttpHeaders.ETAG);
+        Response unchanged = resource.getReferenceData(etag, null, null).await().indefinitely();
+        Response changed = resource.getReferenceData(etag, null, null).await().indefinitely();
+
+        assertThat(unchanged.getStatus()).isEqualTo(304);
+        assertThat(changed.getStatus()).isEqualTo(200);
+        assertThat(changed.getHeaderString(HttpHeaders.ETAG)).isNotEqualTo(etag);
+    }
+
+    @Test
+    @DisplayName("Should serve the same document as CBOR when the caller prefers it, under its own ETag")
+    void shouldNegotiateCbor() throws Exception {
+        when(getReferenceDataUseCase.execute()).thenReturn(success(exchanges, currencies, stockTypes));
+        WireFormatMappers mappers = new WireFormatMappers(objectMapper);
+
+        Response json = resource.getReferenceData(null, null, null).await().indefinitely();
+        Response cbor = resource.getReferenceData(null, null, "application/json;q=0.5, application/cbor")
+                .await().indefinitely();
+
+        assertThat(cbor.getMediaType()).isEqualTo(WireFormat.CBOR.mediaType());
+        assertThat(cbor.getHeaderString(HttpHeaders.ETAG)).isNotEqualTo(json.getHeaderString(HttpHeaders.ETAG));
+        assertThat(mappers.mapper(WireFormat.CBOR).readTree((byte[]) cbor.getEntity()))
+                .isEqualTo(objectMapper.readTree((byte[]) json.getEntity()));
+    }
+
+    @Test
+    @DisplayName("Should return 500 on system error")
+    void shouldReturnServerErrorOnSystemError() {
+        Errors errors = Errors.of("system", "boom", "SYSTEM_ERROR");
+        when(getReferenceDataUseCase.execute())
+                .thenReturn(Uni.createFrom().item(new GetReferenceDataUseCase.Result.SystemError(errors)));
+
+        Response response = resource.getReferenceData(null, null, null).await().indefinitely();
+
+        assertThat(response.getStatus()).isEqualTo(500);
+        verify(errorMapper).toErrorResponse(any(Errors.class));
+    }
+
+    private static Uni<GetReferenceDataUseCase.Result> success(List<Exchange> exchanges,
+                                                                List<Currency> currencies,
+                                                                List<StockType> stockTypes) {
+        return Uni.createFrom().item(new GetReferenceDataUseCase.Result.Success(
+                new ReferenceData(exchanges, currencies, stockTypes)));
+    }
+}
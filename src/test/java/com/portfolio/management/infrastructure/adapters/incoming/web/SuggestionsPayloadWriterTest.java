@@ -0,0 +1,144 @@
+package com.portfolio.management.infrastructure.adapters.incoming.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.management.domain.model.Stock;
+import com.portfolio.management.domain.model.SuggestionField;
+import com.portfolio.management.infrastructure.adapters.incoming.web.dto.SuggestionsPayload;
+import com.portfolio.management.infrastructure.adapters.incoming.web.dto.SuggestionsResponse;
+import com.portfolio.management.infrastructure.adapters.incoming.web.mapper.StockMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SuggestionsPayloadWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final StockMapper stockMapper = Mappers.getMapper(StockMapper.class);
+    private final SuggestionsPayloadWriter writer = new SuggestionsPayloadWriter(new WireFormatMappers(objectMapper));
+
+    @Test
+    @DisplayName("Should write byte-for-byte what Jackson writes for SuggestionsResponse")
+    void matchesDtoSerialization() throws IOException {
+        List<Stock> stocks = new ArrayList<>();
+        stocks.add(Stock.of(1L, "AAPL", "Apple Inc.", "USD", "NASDAQ", "XNGS", "United States",
+                "Common Stock", "BBG000B9XRY4", "ESVUFR", "US0378331005", "037833100", 3L));
+        stocks.add(Stock.of(2L, "NESN", "Nestlé \"S.A.\" \\ Ünïcode   ✓", "CHF", "SIX", null, "Switzerland",
+                null, null, null, null, null, 1L));
+        stocks.add(Stock.of(null, "X", null, null, null, null, null, null, null, null, null, null, null));
+
+        assertSameJson(new SuggestionsPayload(stocks, "a\tquery", 3));
+    }
+
+    @Test
+    @DisplayName("Should write empty and null values the way Jackson does")
+    void matchesDtoSerializationForEdgeCases() throws IOException {
+        assertSameJson(new SuggestionsPayload(List.of(), "", 0));
+        assertSameJson(new SuggestionsPayload(List.of(), null, 0));
+    }
+
+    @Test
+    @DisplayName("Should write the same document as CBOR and Smile")
+    void writesBinaryFormats() throws IOException {
+        WireFormatMappers mappers = new WireFormatMappers(objectMapper);
+        var payload = new SuggestionsPayload(List.of(Stock.of(1L, "AAPL", "Apple Inc.", "USD", "NASDAQ", "XNGS",
+                "United States", "Common Stock", null, null, "US0378331005", null, 1L)), "apple", 1);
+        var json = new ByteArrayOutputStream();
+        writer.write(payload, WireFormat.JSON, json);
+
+        for (WireFormat format : List.of(WireFormat.CBOR, WireFormat.SMILE)) {
+            var out = new ByteArrayOutputStream();
+            writer.write(payload, format, out);
+
+            assertThat(out.size()).isLessThan(json.size());
+            assertThat(mappers.mapper(format).readTree(out.toByteArray()))
+                    .isEqualTo(objectMapper.readTree(json.toByteArray()));
+        }
+    }
+
+    @Test
+    @DisplayName("Should write only the requested stock fields, in schema order")
+    void writesRequestedFieldsOnly() throws IOException {
+        var stock = Stock.of(1L, "AAPL", "Apple Inc.", "USD", "NASDAQ", "XNGS", "United States",
+                "Common Stock", null, null, null, null, 1L);
+        var payload = new SuggestionsPayload(List.of(stock), "apple", 1,
+                EnumSet.of(SuggestionField.ISIN, SuggestionField.NAME, SuggestionField.SYMBOL));
+        var out = new ByteArrayOutputStream();
+
+        writer.write(payload, WireFormat.JSON, out);
+
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "{\"suggestions\":[{\"symbol\":\"AAPL\",\"name\":\"Apple Inc.\",\"isin\":null}],"
+                        + "\"query\":\"apple\",\"count\":1}");
+    }
+
+    @Test
+    @DisplayName("Should attach other listings of a grouped suggestion with the requested listing fields only")
+    void writesOtherListings() throws IOException {
+        var nasdaq = Stock.of(1L, "AAPL", "Apple Inc.", "USD", "NASDAQ", "XNGS", "United States",
+                "Common Stock", null, null, "US0378331005", null, 1L);
+        var xetra = Stock.of(2L, "APC", "Apple Inc.", "EUR", "XETR", "XETR", "Germany",
+                "Common Stock", null, null, "us0378331005", null, 1L);
+        var single = Stock.of(3L, "SAP", "SAP SE", "EUR", "XETR", "XETR", "Germany",
+                "Common Stock", null, null, "DE0007164600", null, 1L);
+        var payload = new SuggestionsPayload(List.of(nasdaq, single), "a", 2,
+                EnumSet.of(SuggestionField.SYMBOL, SuggestionField.NAME, SuggestionField.EXCHANGE), null,
+                Map.of("US0378331005", List.of(xetra)));
+        var out = new ByteArrayOutputStream();
+
+        writer.write(payload, WireFormat.JSON, out);
+
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "{\"suggestions\":[{\"symbol\":\"AAPL\",\"name\":\"Apple Inc.\",\"exchange\":\"NASDAQ\","
+                        + "\"otherListings\":[{\"symbol\":\"APC\",\"exchange\":\"XETR\"}]},"
+                        + "{\"symbol\":\"SAP\",\"name\":\"SAP SE\",\"exchange\":\"XETR\"}],"
+                        + "\"query\":\"a\",\"count\":2}");
+    }
+
+    @Test
+    @DisplayName("Should write nextCursor after count only when there is a next page")
+    void writesNextCursor() throws IOException {
+        var out = new ByteArrayOutputStream();
+
+        writer.write(new SuggestionsPayload(List.of(), "q", 0, SuggestionField.ALL, "AQID"), WireFormat.JSON, out);
+
+        assertThat(out.toString(StandardCharsets.UTF_8))
+                .isEqualTo("{\"suggestions\":[],\"query\":\"q\",\"count\":0,\"nextCursor\":\"AQID\"}");
+    }
+
+    @Test
+    @DisplayName("Should leave the response stream open for the container")
+    void doesNotCloseStream() throws IOException {
+        var closed = new boolean[1];
+        OutputStream out = new ByteArrayOutputStream() {
+            @Override
+            public void close() {
+                closed[0] = true;
+            }
+        };
+
+        writer.write(new SuggestionsPayload(List.of(), "q", 0), WireFormat.JSON, out);
+
+        assertThat(closed[0]).isFalse();
+    }
+
+    private void assertSameJson(SuggestionsPayload payload) throws IOException {
+        var expected = objectMapper.writeValueAsString(new SuggestionsResponse(
+                stockMapper.toTickerSuggestionDtoList(payload.suggestions()), payload.query(), payload.count()));
+        var out = new ByteArrayOutputStream();
+
+        writer.write(payload, WireFormat.JSON, out);
+
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(expected);
+    }
+}
@@ -1,12 +1,27 @@
 package com.portfolio.management.infrastructure.adapters.incoming.web;
 
 import com.portfolio.management.domain.model.Errors;
+import com.portfolio.management.domain.model.Stock;
+import com.portfolio.management.domain.model.StockCursor;
+import com.portfolio.management.domain.model.StockFacets;
+import com.portfolio.management.domain.model.SuggestionField;
+import com.portfolio.management.domain.model.TrendingStock;
+import com.portfolio.management.domain.model.TrendingWindow;
+import com.portfolio.management.domain.port.incoming.BrowseAdvancedSearchUseCase;
+import com.portfolio.management.domain.port.incoming.GetStockFacetsUseCase;
 import com.portfolio.management.domain.port.incoming.GetSuggestionsAdvancedUseCase;
 import com.portfolio.management.domain.port.incoming.GetSuggestionsUseCase;
+import com.portfolio.management.domain.port.incoming.GetTrendingStocksUseCase;
 import com.portfolio.management.infrastructure.adapters.incoming.web.mapper.ErrorMapper;
-import com.portfolio.management.infrastructure.adapters.incoming.web.mapper.StockMapper;
+import com.portfolio.management.infrastructure.adapters.incoming.web.mapper.TrendingWebMapper;
+import com.portfolio.management.infrastructure.adapters.incoming.web.dto.TrendingResponse;
 import com.portfolio.management.infrastructure.adapters.incoming.web.dto.ErrorResponse;
+import com.portfolio.management.infrastructure.adapters.incoming.web.dto.StockFacetsResponse;
+import com.portfolio.management.infrastructure.adapters.incoming.web.dto.SuggestionsPayload;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
+import jakarta.ws.rs.BadRequestException;
 import jakarta.ws.rs.core.Response;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -15,8 +30,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -32,7 +51,16 @@ class SuggestionsResourceTest {
     GetSuggestionsAdvancedUseCase mockGetSuggestionsAdvancedUseCase;
 
     @Mock
-    StockMapper mockSuggestionMapper;
+    BrowseAdvancedSearchUseCase mockBrowseAdvancedSearchUseCase;
+
+    @Mock
+    GetStockFacetsUseCase mockGetStockFacetsUseCase;
+
+    @Mock
+    GetTrendingStocksUseCase mockGetTrendingStocksUseCase;
+
+    @Mock
+    TrendingWebMapper mockTrendingMapper;
 
     @Mock
     ErrorMapper mockErrorMapper;
@@ -45,9 +73,13 @@ class SuggestionsResourceTest {
     void setUp() {
         suggestionsResource = new SuggestionsResource(
             mockGetSuggestionsUseCase, 
-            mockGetSuggestionsAdvancedUseCase, 
-            mockSuggestionMapper, 
-            mockErrorMapper
+            mockGetSuggestionsAdvancedUseCase,
+            mockBrowseAdvancedSearchUseCase,
+            mockGetStockFacetsUseCase,
+            mockGetTrendingStocksUseCase,
+            mockTrendingMapper,
+            mockErrorMapper,
+            new StockLineEncoder(new ObjectMapper())
         );
     }
 
@@ -65,7 +97,7 @@ class SuggestionsResourceTest {
             .thenReturn(mockErrorDetails);
 
         // When
-        Uni<Response> response = suggestionsResource.advancedSearch("AAPL", null, null, null, null, null, 10);
+        Uni<Response> response = suggestionsResource.advancedSearch("AAPL", null, null, null, null, null, 10, null);
         Response result = response.await().atMost(Duration.ofSeconds(5));
 
         // Then
@@ -88,7 +120,7 @@ class SuggestionsResourceTest {
             .thenReturn(Uni.createFrom().failure(new RuntimeException("Service unavailable")));
 
         // When
-        Uni<Response> response = suggestionsResource.advancedSearch("AAPL", null, null, null, null, null, 10);
+        Uni<Response> response = suggestionsResource.advancedSearch("AAPL", null, null, null, null, null, 10, null);
         Response result = response.await().atMost(Duration.ofSeconds(5));
 
         // Then
@@ -99,4 +131,206 @@ class SuggestionsResourceTest {
         assertNotNull(errorResponse);
         assertEquals("An unexpected error occurred", errorResponse.message());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should hand the domain stocks to the payload writer without a DTO copy")
+    void testGetSuggestions_Success() {
+        // Given
+        List<Stock> stocks = List.of(Stock.of(1L, "AAPL", "Apple Inc.", "USD", "NASDAQ", "XNGS", "United States",
+                "Common Stock", null, null, "US0378331005", null, 1L));
+        when(mockGetSuggestionsUseCase.execute(any(GetSuggestionsUseCase.Query.class)))
+            .thenReturn(Uni.createFrom().item(new GetSuggestionsUseCase.Result.Success(stocks, "apple", 1)));
+
+        // When
+        Response result = suggestionsResource.getSuggestions("apple", 10, null, null).await().atMost(Duration.ofSeconds(5));
+
+        // Then
+        assertEquals(Response.Status.OK.getStatusCode(), result.getStatus());
+        SuggestionsPayload payload = (SuggestionsPayload) result.getEntity();
+        assertSame(stocks, payload.suggestions());
+        assertEquals("apple", payload.query());
+        assertEquals(1, payload.count());
+    }
+
+    @Test
+    @DisplayName("Should pass the requested fields to the use case and the payload")
+    void testGetSuggestions_Fields() {
+        // Given
+        Set<SuggestionField> fields = EnumSet.of(SuggestionField.SYMBOL, SuggestionField.NAME);
+        when(mockGetSuggestionsUseCase.execute(new GetSuggestionsUseCase.Query("apple", 10, fields)))
+            .thenReturn(Uni.createFrom().item(new GetSuggestionsUseCase.Result.Success(List.of(), "apple", 0)));
+
+        // When
+        Response result = suggestionsResource.getSuggestions("apple", 10, " Symbol, name,,", null).await().atMost(Duration.ofSeconds(5));
+
+        // Then
+        assertEquals(Response.Status.OK.getStatusCode(), result.getStatus());
+        assertEquals(fields, ((SuggestionsPayload) result.getEntity()).fields());
+    }
+
+    @Test
+    @DisplayName("Should group by ISIN on request, pass the other listings on and reject other groupings")
+    void testGetSuggestions_GroupByIsin() {
+        // Given
+        Stock nasdaq = Stock.of(1L, "AAPL", "Apple Inc.", "USD", "NASDAQ", "XNGS", "United States",
+                "Common Stock", null, null, "US0378331005", null, 1L);
+        Stock xetra = Stock.of(2L, "APC", "Apple Inc.", "EUR", "XETR", "XETR", "Germany",
+                "Common Stock", null, null, "US0378331005", null, 1L);
+        var otherListings = Map.of("US0378331005", List.of(xetra));
+        when(mockGetSuggestionsUseCase.execute(new GetSuggestionsUseCase.Query("apple", 10, SuggestionField.ALL, true)))
+            .thenReturn(Uni.createFrom().item(
+                    new GetSuggestionsUseCase.Result.Success(List.of(nasdaq), "apple", 1, otherListings)));
+
+        // When
+        Response grouped = suggestionsResource.getSuggestions("apple", 10, null, " ISIN ").await().atMost(Duration.ofSeconds(5));
+        Response rejected = suggestionsResource.getSuggestions("apple", 10, null, "cusip").await().atMost(Duration.ofSeconds(5));
+
+        // Then
+        assertEquals(Response.Status.OK.getStatusCode(), grouped.getStatus());
+        assertEquals(otherListings, ((SuggestionsPayload) grouped.getEntity()).otherListings());
+        assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), rejected.getStatus());
+        verify(mockGetSuggestionsUseCase, times(1)).execute(any(GetSuggestionsUseCase.Query.class));
+    }
+
+    @Test
+    @DisplayName("Should reject unknown fields before searching")
+    void testGetSuggestions_InvalidFields() {
+        // Given
+        when(mockErrorMapper.toErrorResponse(eq("fields"), anyString(), eq("INVALID_FIELDS")))
+            .thenReturn(ErrorResponse.of("Invalid fields"));
+
+        // When
+        Response result = suggestionsResource.getSuggestions("apple", 10, "symbol,price", null).await().atMost(Duration.ofSeconds(5));
+        Response advanced = suggestionsResource.advancedSearch("AAPL", null, null, null, null, null, 10, "figi")
+            .await().atMost(Duration.ofSeconds(5));
+
+        // Then
+        assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), result.getStatus());
+        assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), advanced.getStatus());
+        verifyNoInteractions(mockGetSuggestionsUseCase, mockGetSuggestionsAdvancedUseCase);
+    }
+
+    @Test
+    @DisplayName("Should continue a browse from the cursor and hand back the next one as a token")
+    void testBrowseSearch_Pages() {
+        // Given
+        var after = new StockCursor(9.5, "MSFT", 2L);
+        var next = new StockCursor(7.0, "AAPL", 1L);
+        List<Stock> stocks = List.of(Stock.of(1L, "AAPL", "Apple Inc.", "USD", "NASDAQ", "XNGS", "United States",
+                "Common Stock", null, null, null, null, 1L));
+        when(mockBrowseAdvancedSearchUseCase.execute(new BrowseAdvancedSearchUseCase.Query(
+                new GetSuggestionsAdvancedUseCase.Query(null, null, null, "US", null, null, 1, SuggestionField.ALL), after)))
+            .thenReturn(Uni.createFrom().item(
+                new BrowseAdvancedSearchUseCase.Result.Success(stocks, "Advanced search country:US", next, 1)));
+
+        // When
+        Response result = suggestionsResource.browseSearch(null, null, null, "US", null, null,
+                CursorToken.encode(after), 1, null).await().atMost(Duration.ofSeconds(5));
+
+        // Then
+        assertEquals(Response.Status.OK.getStatusCode(), result.getStatus());
+        SuggestionsPayload payload = (SuggestionsPayload) result.getEntity();
+        assertSame(stocks, payload.suggestions());
+        assertEquals(next, CursorToken.decode(payload.nextCursor()).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Should reject a cursor that was not issued by the API")
+    void testBrowseSearch_InvalidCursor() {
+        // Given
+        when(mockErrorMapper.toErrorResponse(eq("cursor"), anyString(), eq("INVALID_CURSOR")))
+            .thenReturn(ErrorResponse.of("Invalid cursor"));
+
+        // When
+        Response result = suggestionsResource.browseSearch(null, null, null, "US", null, null, "bogus!", 10, null)
+            .await().atMost(Duration.ofSeconds(5));
+
+        // Then
+        assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), result.getStatus());
+        verifyNoInteractions(mockBrowseAdvancedSearchUseCase);
+    }
+
+    @Test
+    @DisplayName("Should stream one JSON object per stock with only the requested fields")
+    void testStreamSearch_Lines() {
+        // Given
+        when(mockBrowseAdvancedSearchUseCase.stream(any(BrowseAdvancedSearchUseCase.Query.class)))
+            .thenReturn(Multi.createFrom().items(
+                Stock.of(1L, "AAPL", "Apple Inc.", "USD", "NASDAQ", null, null, null, null, null, null, null, 1L),
+                Stock.of(2L, "MSFT", "Microsoft Corporation", "USD", "NASDAQ", null, null, null, null, null, null, null, 1L)));
+
+        // When
+        List<String> lines = suggestionsResource.streamSearch(null, null, "NASDAQ", null, null, null, null, "symbol,name")
+            .map(bytes -> new String(bytes, StandardCharsets.UTF_8))
+            .collect().asList()
+            .await().atMost(Duration.ofSeconds(5));
+
+        // Then
+        assertEquals(List.of(
+                "{\"symbol\":\"AAPL\",\"name\":\"Apple Inc.\"}",
+                "{\"symbol\":\"MSFT\",\"name\":\"Microsoft Corporation\"}"), lines);
+    }
+
+    @Test
+    @DisplayName("Should fail a stream without search criteria before the first line")
+    void testStreamSearch_NoCriteria() {
+        // When
+        Throwable failure = suggestionsResource.streamSearch(null, null, null, null, null, null, null, null)
+            .collect().asList()
+            .onItemOrFailure().transform((items, error) -> error)
+            .await().atMost(Duration.ofSeconds(5));
+
+        // Then
+        assertEquals(Response.Status.BAD_REQUEST.getStatusCode(),
+                ((BadRequestException) failure).getResponse().getStatus());
+        verifyNoInteractions(mockBrowseAdvancedSearchUseCase);
+    }
+
+    @Test
+    @DisplayName("Should return facet counts, with no criteria required")
+    void testSearchFacets_Success() {
+        // Given
+        var facets = new StockFacets(3, Map.of("NASDAQ", 3), Map.of("United States", 3), Map.of("USD", 3),
+                Map.of("Common Stock", 3));
+        when(mockGetStockFacetsUseCase.execute(new GetStockFacetsUseCase.Query(null, null, null, null, null, null)))
+            .thenReturn(Uni.createFrom().item(new GetStockFacetsUseCase.Result.Success(facets)));
+
+        // When
+        Response result = suggestionsResource.searchFacets(null, null, null, null, null, null)
+            .await().atMost(Duration.ofSeconds(5));
+
+        // Then
+        assertEquals(Response.Status.OK.getStatusCode(), result.getStatus());
+        assertEquals(new StockFacetsResponse(3, Map.of("NASDAQ", 3), Map.of("United States", 3), Map.of("USD", 3),
+                Map.of("Common Stock", 3)), result.getEntity());
+    }
+
+    @Test
+    @DisplayName("Should return trending tickers for a valid window")
+    void testGetTrending_Success() {
+        // Given
+        List<TrendingStock> trending = List.of(new TrendingStock("NVDA", 42));
+        TrendingResponse trendingResponse = new TrendingResponse("5m", List.of(new TrendingResponse.TrendingTickerDto("NVDA", 42)), 1);
+        when(mockGetTrendingStocksUseCase.execute(new GetTrendingStocksUseCase.Query(TrendingWindow.FIVE_MINUTES, 10)))
+            .thenReturn(Uni.createFrom().item(new GetTrendingStocksUseCase.Result.Success(trending, TrendingWindow.FIVE_MINUTES, 1)));
+        when(mockTrendingMapper.toTrendingResponse(TrendingWindow.FIVE_MINUTES, trending)).thenReturn(trendingResponse);
+
+        // When
+        Response result = suggestionsResource.getTrending("5M", 10).await().atMost(Duration.ofSeconds(5));
+
+        // Then
+        assertEquals(Response.Status.OK.getStatusCode(), result.getStatus());
+        assertSame(trendingResponse, result.getEntity());
+    }
+
+    @Test
+    @DisplayName("Should return bad request for an unknown trending window")
+    void testGetTrending_InvalidWindow_BadRequest() {
+        // When
+        Response result = suggestionsResource.getTrending("7d", 10).await().atMost(Duration.ofSeconds(5));
+
+        // Then
+        assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), result.getStatus());
+        verifyNoInteractions(mockGetTrendingStocksUseCase);
+    }
+}
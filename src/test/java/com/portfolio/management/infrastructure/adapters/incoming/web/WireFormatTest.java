@@ -0,0 +1,37 @@
+package com.portfolio.management.infrastructure.adapters.incoming.web;
+
+import jakarta.ws.rs.core.MediaType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WireFormatTest {
+
+    @Test
+    @DisplayName("Should default to JSON for missing, wildcard and unknown Accept headers")
+    void defaultsToJson() {
+        assertThat(WireFormat.negotiate(null)).isEqualTo(WireFormat.JSON);
+        assertThat(WireFormat.negotiate("*/*")).isEqualTo(WireFormat.JSON);
+        assertThat(WireFormat.negotiate("text/html, application/xml")).isEqualTo(WireFormat.JSON);
+        assertThat(WireFormat.negotiate("application/cbor;q=0")).isEqualTo(WireFormat.JSON);
+    }
+
+    @Test
+    @DisplayName("Should pick the binary format with the highest quality")
+    void picksHighestQuality() {
+        assertThat(WireFormat.negotiate("application/cbor")).isEqualTo(WireFormat.CBOR);
+        assertThat(WireFormat.negotiate("application/json;q=0.9, application/x-jackson-smile")).isEqualTo(WireFormat.SMILE);
+        assertThat(WireFormat.negotiate("application/cbor;q=0.5, */*;q=0.8")).isEqualTo(WireFormat.JSON);
+        assertThat(WireFormat.negotiate("APPLICATION/CBOR, application/json")).isEqualTo(WireFormat.CBOR);
+    }
+
+    @Test
+    @DisplayName("Should map a selected writer media type back to its format")
+    void mapsMediaType() {
+        assertThat(WireFormat.of(MediaType.valueOf("application/cbor"))).isEqualTo(WireFormat.CBOR);
+        assertThat(WireFormat.of(MediaType.valueOf("application/x-jackson-smile"))).isEqualTo(WireFormat.SMILE);
+        assertThat(WireFormat.of(MediaType.APPLICATION_JSON_TYPE.withCharset("UTF-8"))).isEqualTo(WireFormat.JSON);
+        assertThat(WireFormat.of(MediaType.WILDCARD_TYPE)).isEqualTo(WireFormat.JSON);
+    }
+}
@@ -0,0 +1,49 @@
+package com.portfolio.management.infrastructure.adapters.incoming.web.mapper;
+
+import com.portfolio.management.domain.model.TrendingStock;
+import com.portfolio.management.domain.model.TrendingWindow;
+import com.portfolio.management.infrastructure.adapters.incoming.web.dto.TrendingResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TrendingWebMapperTest {
+
+    private TrendingWebMapper trendingWebMapper;
+
+    @BeforeEach
+    void setUp() {
+        trendingWebMapper = Mappers.getMapper(TrendingWebMapper.class);
+    }
+
+    @Test
+    void shouldMapTrendingStocksToResponse() {
+        // Given
+        List<TrendingStock> trending = List.of(new TrendingStock("NVDA", 42), new TrendingStock("AAPL", 31));
+
+        // When
+        TrendingResponse response = trendingWebMapper.toTrendingResponse(TrendingWindow.ONE_HOUR, trending);
+
+        // Then
+        assertThat(response.window()).isEqualTo("1h");
+        assertThat(response.count()).isEqualTo(2);
+        assertThat(response.trending()).containsExactly(
+                new TrendingResponse.TrendingTickerDto("NVDA", 42),
+                new TrendingResponse.TrendingTickerDto("AAPL", 31));
+    }
+
+    @Test
+    void shouldMapEmptyTrendingList() {
+        // When
+        TrendingResponse response = trendingWebMapper.toTrendingResponse(TrendingWindow.FIVE_MINUTES, List.of());
+
+        // Then
+        assertThat(response.window()).isEqualTo("5m");
+        assertThat(response.trending()).isEmpty();
+        assertThat(response.count()).isZero();
+    }
+}
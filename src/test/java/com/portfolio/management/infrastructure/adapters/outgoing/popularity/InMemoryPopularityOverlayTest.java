@@ -0,0 +1,120 @@
+package com.portfolio.management.infrastructure.adapters.outgoing.popularity;
+
+import com.portfolio.management.domain.model.ListingPopularity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryPopularityOverlayTest {
+
+    private MutableClock clock;
+    private InMemoryPopularityOverlay overlay;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2026-07-23T10:00:00Z"));
+        overlay = new InMemoryPopularityOverlay(Duration.ofMinutes(2), clock);
+    }
+
+    @Test
+    @DisplayName("Should return the fallback for listings the overlay has never seen")
+    void shouldReturnFallbackForUnknownListing() {
+        assertThat(overlay.scoreOr("AAPL", "NASDAQ", 12.0)).isEqualTo(12.0);
+        assertThat(overlay.scoreOr(null, "NASDAQ", 12.0)).isEqualTo(12.0);
+    }
+
+    @Test
+    @DisplayName("Should key scores by symbol and exchange and overwrite on update")
+    void shouldKeyBySymbolAndExchange() {
+        overlay.update(List.of(
+                new ListingPopularity("SHOP", "NYSE", 40.0),
+                new ListingPopularity("SHOP", "TSX", 30.0)));
+        overlay.update(List.of(new ListingPopularity("SHOP", "NYSE", 41.0)));
+
+        assertThat(overlay.scoreOr("SHOP", "NYSE", 0.0)).isEqualTo(41.0);
+        assertThat(overlay.scoreOr("SHOP", "TSX", 0.0)).isEqualTo(30.0);
+        assertThat(overlay.scoreOr("SHOP", "LSE", 5.0)).isEqualTo(5.0);
+        assertThat(overlay.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should fall back to the stored score once an entry outlives the cache TTL")
+    void shouldExpireEntries() {
+        overlay.update(List.of(new ListingPopularity("AAPL", "NASDAQ", 99.0)));
+
+        clock.advance(Duration.ofMinutes(2).minusMillis(1));
+        assertThat(overlay.scoreOr("AAPL", "NASDAQ", 1.0)).isEqualTo(99.0);
+
+        clock.advance(Duration.ofMillis(1));
+        assertThat(overlay.scoreOr("AAPL", "NASDAQ", 1.0)).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should grow past its initial capacity and drop expired entries when rebuilding")
+    void shouldGrowAndDropExpiredOnRebuild() {
+        overlay.update(batch("OLD", 40));
+        clock.advance(Duration.ofMinutes(3));
+
+        overlay.update(batch("NEW", 500));
+
+        assertThat(overlay.size()).isEqualTo(500);
+        for (int i = 0; i < 500; i++) {
+            assertThat(overlay.scoreOr("NEW" + i, "NYSE", -1.0)).isEqualTo(i);
+        }
+        assertThat(overlay.scoreOr("OLD0", "NYSE", -1.0)).isEqualTo(-1.0);
+    }
+
+    @Test
+    @DisplayName("Should tolerate a null exchange")
+    void shouldTolerateNullExchange() {
+        overlay.update(List.of(new ListingPopularity("BRK.B", null, 7.0)));
+
+        assertThat(overlay.scoreOr("BRK.B", null, 0.0)).isEqualTo(7.0);
+        assertThat(overlay.scoreOr("BRK.B", "NYSE", 0.0)).isEqualTo(0.0);
+    }
+
+    private static List<ListingPopularity> batch(String prefix, int count) {
+        List<ListingPopularity> scores = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            scores.add(new ListingPopularity(prefix + i, "NYSE", i));
+        }
+        return scores;
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
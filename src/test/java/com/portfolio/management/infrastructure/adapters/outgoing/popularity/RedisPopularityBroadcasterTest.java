@@ -0,0 +1,57 @@
+package com.portfolio.management.infrastructure.adapters.outgoing.popularity;
+
+import com.portfolio.management.domain.model.ListingPopularity;
+import io.quarkus.redis.datasource.pubsub.ReactivePubSubCommands;
+import io.smallrye.mutiny.Uni;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class RedisPopularityBroadcasterTest {
+
+    private static final String CHANNEL = "suggestions:popularity";
+
+    @SuppressWarnings("unchecked")
+    private final ReactivePubSubCommands<List<ListingPopularity>> pubSub = mock(ReactivePubSubCommands.class);
+
+    @Test
+    @DisplayName("Should publish recomputed scores on the broadcast channel")
+    void publishesScores() {
+        List<ListingPopularity> scores = List.of(new ListingPopularity("AAPL", "NASDAQ", 42.5));
+        when(pubSub.publish(anyString(), any())).thenReturn(Uni.createFrom().voidItem());
+
+        new RedisPopularityBroadcaster(pubSub, CHANNEL, true).publish(scores);
+
+        verify(pubSub).publish(CHANNEL, scores);
+    }
+
+    @Test
+    @DisplayName("Should publish nothing for empty scores or when Redis is disabled")
+    void skipsEmptyScoresAndDisabled() {
+        new RedisPopularityBroadcaster(pubSub, CHANNEL, true).publish(List.of());
+        new RedisPopularityBroadcaster(pubSub, CHANNEL, false)
+                .publish(List.of(new ListingPopularity("AAPL", "NASDAQ", 42.5)));
+
+        verifyNoInteractions(pubSub);
+    }
+
+    @Test
+    @DisplayName("Should swallow a failed publish so recording usage never fails on it")
+    void swallowsPublishFailure() {
+        when(pubSub.publish(anyString(), any()))
+                .thenReturn(Uni.createFrom().failure(new IllegalStateException("connection reset")));
+
+        assertThatCode(() -> new RedisPopularityBroadcaster(pubSub, CHANNEL, true)
+                .publish(List.of(new ListingPopularity("AAPL", "NASDAQ", 42.5))))
+                .doesNotThrowAnyException();
+    }
+}
@@ -0,0 +1,211 @@
+package com.portfolio.management.infrastructure.adapters.outgoing.repository;
+
+import com.portfolio.management.domain.model.SecurityIdentifier;
+import com.portfolio.management.domain.model.Stock;
+import com.portfolio.management.domain.model.StockCursor;
+import com.portfolio.management.domain.model.StockPage;
+import com.portfolio.management.domain.model.SuggestionField;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import io.vertx.mutiny.pgclient.PgPool;
+import io.vertx.mutiny.sqlclient.PreparedQuery;
+import io.vertx.mutiny.sqlclient.Row;
+import io.vertx.mutiny.sqlclient.RowIterator;
+import io.vertx.mutiny.sqlclient.RowSet;
+import io.vertx.mutiny.sqlclient.Tuple;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SqlClientStockRepositoryTest {
+
+    @Mock
+    private PgPool pool;
+
+    @Mock
+    private PreparedQuery<RowSet<Row>> preparedQuery;
+
+    @Mock
+    private RowSet<Row> rowSet;
+
+    private SqlClientStockRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new SqlClientStockRepository(pool);
+        when(pool.preparedQuery(anyString())).thenReturn(preparedQuery);
+        when(preparedQuery.execute(any(Tuple.class))).thenReturn(Uni.createFrom().item(rowSet));
+    }
+
+    @Test
+    @DisplayName("Should run the ranked candidate query with LIKE, exact and prefix parameters and map rows to stocks")
+    void findsCandidates() {
+        var projection = StockProjection.of(EnumSet.of(SuggestionField.ID, SuggestionField.SYMBOL));
+        Row row = row(7L, "AAPL", 4.0);
+        givenRows(row);
+
+        List<Stock> stocks = repository.findCandidateStocks(" Apple ", 20, projection)
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .getItem();
+
+        var sql = ArgumentCaptor.forClass(String.class);
+        var parameters = ArgumentCaptor.forClass(Tuple.class);
+        verify(pool).preparedQuery(sql.capture());
+        verify(preparedQuery).execute(parameters.capture());
+        assertThat(sql.getValue())
+                .startsWith("SELECT id, symbol, popularity_score FROM stocks")
+                .contains("lower(symbol) LIKE $1 OR lower(name) LIKE $1")
+                .endsWith("LIMIT $4\n");
+        assertThat(tupleValues(parameters.getValue())).containsExactly("%apple%", "APPLE", "apple%", 20);
+        assertThat(stocks).singleElement().satisfies(stock -> {
+            assertThat(stock.id()).isEqualTo(7L);
+            assertThat(stock.symbol()).isEqualTo("AAPL");
+            assertThat(stock.popularityScore()).isEqualTo(4.0);
+            assertThat(stock.name()).isNull();
+        });
+    }
+
+    @Test
+    @DisplayName("Should reuse the same statement text for the same projection")
+    void reusesCandidateStatement() {
+        givenRows();
+        var projection = StockProjection.of(SuggestionField.ALL);
+
+        repository.findCandidateStocks("a", 5, projection).await().indefinitely();
+        repository.findCandidateStocks("b", 5, StockProjection.of(SuggestionField.ALL)).await().indefinitely();
+
+        var sql = ArgumentCaptor.forClass(String.class);
+        verify(pool, times(2)).preparedQuery(sql.capture());
+        assertThat(sql.getAllValues().get(0)).isSameAs(sql.getAllValues().get(1));
+    }
+
+    @Test
+    @DisplayName("Should render advanced criteria in fixed column order with numbered parameters and a capped limit")
+    void findsByAdvancedSearch() {
+        givenRows();
+
+        repository.findByAdvancedSearch(null, "apple", null, null, "usd", "us0378331005", 500,
+                StockProjection.of(SuggestionField.RANKING)).await().indefinitely();
+
+        var sql = ArgumentCaptor.forClass(String.class);
+        var parameters = ArgumentCaptor.forClass(Tuple.class);
+        verify(pool).preparedQuery(sql.capture());
+        verify(preparedQuery).execute(parameters.capture());
+        assertThat(sql.getValue()).isEqualTo(
+                "SELECT id, symbol, name, exchange, isin, popularity_score FROM stocks WHERE is_active = true"
+                        + " AND lower(name) LIKE lower($1) AND lower(currency) LIKE lower($2) AND upper(isin) = upper($3)"
+                        + " ORDER BY popularity_score DESC, symbol ASC LIMIT $4");
+        assertThat(tupleValues(parameters.getValue()))
+                .containsExactly("%apple%", "%usd%", "us0378331005", StockSearchRepository.MAX_ADVANCED_SEARCH_LIMIT);
+    }
+
+    @Test
+    @DisplayName("Should look an identifier up by equality on its own column, not by LIKE")
+    void findsByIdentifier() {
+        givenRows(row(7L, "AAPL", 4.0));
+
+        List<Stock> stocks = repository.findByIdentifier(
+                        new SecurityIdentifier(SecurityIdentifier.Kind.FIGI, "BBG000B9XRY4"),
+                        StockProjection.of(EnumSet.of(SuggestionField.ID, SuggestionField.SYMBOL)))
+                .await().indefinitely();
+
+        var sql = ArgumentCaptor.forClass(String.class);
+        var parameters = ArgumentCaptor.forClass(Tuple.class);
+        verify(pool).preparedQuery(sql.capture());
+        verify(preparedQuery).execute(parameters.capture());
+        assertThat(sql.getValue()).isEqualTo(
+                "SELECT id, symbol, popularity_score FROM stocks WHERE is_active = true AND upper(figi_code) = $1"
+                        + " ORDER BY popularity_score DESC, symbol ASC LIMIT $2");
+        assertThat(tupleValues(parameters.getValue()))
+                .containsExactly("BBG000B9XRY4", StockSearchRepository.MAX_CANDIDATE_LIMIT);
+        assertThat(stocks).extracting(Stock::symbol).containsExactly("AAPL");
+    }
+
+    @Test
+    @DisplayName("Should load the listings of several ISINs in one array-bound query")
+    void findsByIsins() {
+        givenRows(row(7L, "AAPL", 4.0), row(8L, "APC", 1.0));
+
+        List<Stock> stocks = repository.findByIsins(List.of("US0378331005", "DE0007164600"),
+                        StockProjection.of(EnumSet.of(SuggestionField.ID, SuggestionField.SYMBOL)))
+                .await().indefinitely();
+
+        var sql = ArgumentCaptor.forClass(String.class);
+        var parameters = ArgumentCaptor.forClass(Tuple.class);
+        verify(pool).preparedQuery(sql.capture());
+        verify(preparedQuery).execute(parameters.capture());
+        assertThat(sql.getValue()).isEqualTo(
+                "SELECT id, symbol, popularity_score FROM stocks WHERE is_active = true AND upper(isin) = ANY($1)"
+                        + " ORDER BY popularity_score DESC, symbol ASC LIMIT $2");
+        assertThat((String[]) parameters.getValue().getValue(0)).containsExactly("US0378331005", "DE0007164600");
+        assertThat(stocks).extracting(Stock::symbol).containsExactly("AAPL", "APC");
+    }
+
+    @Test
+    @DisplayName("Should continue a browse after the cursor and read one row ahead to find the next page")
+    void findsPageAfterCursor() {
+        givenRows(row(3L, "IBM", 5.0), row(4L, "INTC", 4.0));
+
+        StockPage page = repository.findPageByAdvancedSearch(null, null, "nyse", null, null, null,
+                        new StockCursor(9.5, "HD", 2L), 1, StockProjection.of(EnumSet.of(SuggestionField.ID, SuggestionField.SYMBOL)))
+                .await().indefinitely();
+
+        var sql = ArgumentCaptor.forClass(String.class);
+        var parameters = ArgumentCaptor.forClass(Tuple.class);
+        verify(pool).preparedQuery(sql.capture());
+        verify(preparedQuery).execute(parameters.capture());
+        assertThat(sql.getValue()).isEqualTo(
+                "SELECT id, symbol, popularity_score FROM stocks WHERE is_active = true AND lower(exchange) LIKE lower($1)"
+                        + " AND (popularity_score < $2 OR (popularity_score = $2 AND (symbol > $3 OR (symbol = $3 AND id > $4))))"
+                        + " ORDER BY popularity_score DESC, symbol ASC, id ASC LIMIT $5");
+        assertThat(tupleValues(parameters.getValue())).containsExactly("%nyse%", 9.5, "HD", 2L, 2);
+        assertThat(page.stocks()).extracting(Stock::symbol).containsExactly("IBM");
+        assertThat(page.next()).isEqualTo(new StockCursor(5.0, "IBM", 3L));
+    }
+
+    private void givenRows(Row... rows) {
+        @SuppressWarnings("unchecked")
+        RowIterator<Row> iterator = mock(RowIterator.class);
+        var remaining = new ArrayDeque<>(List.of(rows));
+        when(iterator.hasNext()).thenAnswer(invocation -> !remaining.isEmpty());
+        if (rows.length > 0) {
+            when(iterator.next()).thenAnswer(invocation -> remaining.poll());
+        }
+        when(rowSet.iterator()).thenReturn(iterator);
+        when(rowSet.size()).thenReturn(rows.length);
+    }
+
+    private static Row row(Object... values) {
+        Row row = mock(Row.class);
+        when(row.size()).thenReturn(values.length);
+        when(row.getValue(anyInt())).thenAnswer(invocation -> values[(int) invocation.getArgument(0)]);
+        return row;
+    }
+
+    private static List<Object> tupleValues(Tuple tuple) {
+        List<Object> values = new ArrayList<>();
+        for (int i = 0; i < tuple.size(); i++) {
+            values.add(tuple.getValue(i));
+        }
+        return values;
+    }
+}
@@ -0,0 +1,55 @@
+package com.portfolio.management.infrastructure.adapters.outgoing.repository;
+
+import com.portfolio.management.domain.model.Stock;
+import com.portfolio.management.domain.model.SuggestionField;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StockProjectionTest {
+
+    @Test
+    @DisplayName("Should select only the projected columns plus popularity")
+    void selectsProjectedColumns() {
+        var projection = StockProjection.of(EnumSet.of(SuggestionField.SYMBOL, SuggestionField.ISIN));
+
+        assertThat(projection.select("from StockEntity where isActive = true"))
+                .isEqualTo("select symbol, isin, popularityScore from StockEntity where isActive = true");
+    }
+
+    @Test
+    @DisplayName("Should map a row to a Stock with unprojected components null")
+    void mapsRowToStock() {
+        var projection = StockProjection.of(EnumSet.of(SuggestionField.ID, SuggestionField.SYMBOL,
+                SuggestionField.EXCHANGE));
+
+        Stock stock = projection.toStock(new Object[]{7L, "AAPL", "NASDAQ", 2.5});
+
+        assertThat(stock.id()).isEqualTo(7L);
+        assertThat(stock.symbol()).isEqualTo("AAPL");
+        assertThat(stock.exchange()).isEqualTo("NASDAQ");
+        assertThat(stock.popularityScore()).isEqualTo(2.5);
+        assertThat(stock.name()).isNull();
+        assertThat(stock.currency()).isNull();
+        assertThat(stock.isin()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should select every response column for all fields")
+    void selectsAllColumns() {
+        assertThat(StockProjection.of(SuggestionField.ALL).select("from StockEntity"))
+                .isEqualTo("select id, symbol, name, currency, exchange, country, type, isin, popularityScore from StockEntity");
+    }
+
+    @Test
+    @DisplayName("Should render the same projection with table column names for native SQL")
+    void selectsNativeColumns() {
+        var projection = StockProjection.of(EnumSet.of(SuggestionField.ID, SuggestionField.COUNTRY));
+
+        assertThat(projection.sqlSelect("FROM stocks"))
+                .isEqualTo("SELECT id, country, popularity_score FROM stocks");
+    }
+}
@@ -109,6 +109,7 @@ class CategoryMapperTest {
         // Given
         ExchangeEntity entity = new ExchangeEntity("NYSE", "New York Stock Exchange", "United States", "EST", "USD");
         entity.id = 5L;
+        entity.setRegion("US");
 
         // When
         Exchange result = mapper.toExchange(entity);
@@ -121,6 +122,7 @@ class CategoryMapperTest {
         assertEquals("United States", result.country());
         assertEquals("EST", result.timezone());
         assertEquals("USD", result.currencyCode());
+        assertEquals("US", result.regionCode());
         assertTrue(result.isActive());
         assertTrue(result.isUSExchange());
         assertFalse(result.isEuropeanExchange());
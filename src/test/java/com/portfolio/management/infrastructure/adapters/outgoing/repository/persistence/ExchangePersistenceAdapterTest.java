@@ -1,9 +1,9 @@
 package com.portfolio.management.infrastructure.adapters.outgoing.repository.persistence;
 
 import com.portfolio.management.domain.model.Exchange;
-import com.portfolio.management.infrastructure.adapters.outgoing.repository.DatabaseExchangeRepository;
-import com.portfolio.management.infrastructure.adapters.outgoing.repository.mapper.CategoryMapper;
-import com.portfolio.management.infrastructure.adapters.outgoing.repository.persistence.entity.ExchangeEntity;
+import com.portfolio.management.domain.port.incoming.GetExchangesUseCase;
+import com.portfolio.management.infrastructure.adapters.outgoing.repository.snapshot.ExchangeSnapshot;
+import com.portfolio.management.infrastructure.adapters.outgoing.repository.snapshot.ReferenceDataStore;
 import io.smallrye.mutiny.Uni;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -17,316 +17,163 @@ import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class ExchangePersistenceAdapterTest {
 
     @Mock
-    private DatabaseExchangeRepository mockRepository;
-
-    @Mock
-    private CategoryMapper mockMapper;
+    private ReferenceDataStore mockReferenceDataStore;
 
     private ExchangePersistenceAdapter adapter;
-    private List<ExchangeEntity> mockEntities;
-    private List<Exchange> mockDomainObjects;
 
     @BeforeEach
     void setUp() {
-        adapter = new ExchangePersistenceAdapter(mockRepository, mockMapper);
-        
-        mockEntities = List.of(
-            createExchangeEntity(1L, "NYSE", "New York Stock Exchange", "United States", "EST", "USD"),
-            createExchangeEntity(2L, "NASDAQ", "NASDAQ", "United States", "EST", "USD"),
-            createExchangeEntity(3L, "LSE", "London Stock Exchange", "United Kingdom", "GMT", "GBP")
-        );
-        
-        mockDomainObjects = List.of(
-            Exchange.of(1L, "NYSE", "New York Stock Exchange", "United States", "EST", "USD", true),
-            Exchange.of(2L, "NASDAQ", "NASDAQ", "United States", "EST", "USD", true),
-            Exchange.of(3L, "LSE", "London Stock Exchange", "United Kingdom", "GMT", "GBP", true)
-        );
+        adapter = new ExchangePersistenceAdapter(mockReferenceDataStore);
+
+        ExchangeSnapshot snapshot = ExchangeSnapshot.of(List.of(
+            new Exchange(1L, "NYSE", "New York Stock Exchange", "United States", "EST", "USD", true, 90.0, "US"),
+            new Exchange(2L, "NASDAQ", "NASDAQ", "United States", "EST", "USD", true, 95.0, "US"),
+            new Exchange(3L, "LSE", "London Stock Exchange", "United Kingdom", "GMT", "GBP", true, 50.0, "EUROPE"),
+            new Exchange(4L, "TSE", "Tokyo Stock Exchange", "Japan", "JST", "JPY", true, 40.0, "ASIA")
+        ));
+        lenient().when(mockReferenceDataStore.exchanges()).thenReturn(Uni.createFrom().item(snapshot));
     }
 
     @Test
     @DisplayName("Should find all active exchanges")
     void testFindAll_Success() {
-        // Given
-        when(mockRepository.findAllActive()).thenReturn(Uni.createFrom().item(mockEntities));
-        when(mockMapper.toExchange(any(ExchangeEntity.class)))
-            .thenReturn(mockDomainObjects.get(0))
-            .thenReturn(mockDomainObjects.get(1))
-            .thenReturn(mockDomainObjects.get(2));
-
         // When
         List<Exchange> result = adapter.findAll()
             .await().atMost(Duration.ofSeconds(5));
 
         // Then
-        assertNotNull(result);
-        assertEquals(3, result.size());
-        assertEquals("NYSE", result.get(0).code());
-        assertEquals("NASDAQ", result.get(1).code());
-        assertEquals("LSE", result.get(2).code());
-        
-        verify(mockRepository).findAllActive();
-        verify(mockMapper, times(3)).toExchange(any(ExchangeEntity.class));
+        assertEquals(List.of("NASDAQ", "NYSE", "LSE", "TSE"), result.stream().map(Exchange::code).toList());
+        verify(mockReferenceDataStore).exchanges();
     }
 
     @Test
     @DisplayName("Should search exchanges by query")
     void testSearch_Success() {
-        // Given
-        String query = "NASDAQ";
-        List<ExchangeEntity> filteredEntities = List.of(mockEntities.get(1));
-        
-        when(mockRepository.searchActive(query)).thenReturn(Uni.createFrom().item(filteredEntities));
-        when(mockMapper.toExchange(mockEntities.get(1))).thenReturn(mockDomainObjects.get(1));
-
         // When
-        List<Exchange> result = adapter.search(query)
+        List<Exchange> result = adapter.search("stock exchange")
             .await().atMost(Duration.ofSeconds(5));
 
         // Then
-        assertNotNull(result);
-        assertEquals(1, result.size());
-        assertEquals("NASDAQ", result.get(0).code());
-        assertTrue(result.get(0).isUSExchange());
-        
-        verify(mockRepository).searchActive(query);
-        verify(mockMapper).toExchange(mockEntities.get(1));
+        assertEquals(List.of("NYSE", "LSE", "TSE"), result.stream().map(Exchange::code).toList());
     }
 
     @Test
     @DisplayName("Should find exchange by code")
     void testFindByCode_Found() {
-        // Given
-        String code = "LSE";
-        ExchangeEntity entity = mockEntities.get(2);
-        Exchange domainObject = mockDomainObjects.get(2);
-        
-        when(mockRepository.findActiveByCode(code)).thenReturn(Uni.createFrom().item(Optional.of(entity)));
-        when(mockMapper.toExchange(entity)).thenReturn(domainObject);
-
         // When
-        Optional<Exchange> result = adapter.findByCode(code)
+        Optional<Exchange> result = adapter.findByCode("nyse")
             .await().atMost(Duration.ofSeconds(5));
 
         // Then
         assertTrue(result.isPresent());
-        assertEquals("LSE", result.get().code());
-        assertEquals("London Stock Exchange", result.get().name());
-        assertEquals("Europe", result.get().getRegion());
-        
-        verify(mockRepository).findActiveByCode(code);
-        verify(mockMapper).toExchange(entity);
+        assertEquals(1L, result.get().id());
     }
 
     @Test
     @DisplayName("Should find exchange by ID")
     void testFindById_Found() {
-        // Given
-        Long id = 1L;
-        ExchangeEntity entity = mockEntities.get(0);
-        Exchange domainObject = mockDomainObjects.get(0);
-        
-        when(mockRepository.findActiveById(id)).thenReturn(Uni.createFrom().item(Optional.of(entity)));
-        when(mockMapper.toExchange(entity)).thenReturn(domainObject);
-
         // When
-        Optional<Exchange> result = adapter.findById(id)
+        Optional<Exchange> result = adapter.findById(3L)
             .await().atMost(Duration.ofSeconds(5));
 
         // Then
         assertTrue(result.isPresent());
-        assertEquals("NYSE", result.get().code());
-        assertEquals(Long.valueOf(1L), result.get().id());
-        
-        verify(mockRepository).findActiveById(id);
-        verify(mockMapper).toExchange(entity);
+        assertEquals("LSE", result.get().code());
     }
 
     @Test
     @DisplayName("Should find exchanges by country")
     void testFindByCountry_Success() {
-        // Given
-        String country = "United States";
-        List<ExchangeEntity> usEntities = mockEntities.subList(0, 2); // NYSE, NASDAQ
-        
-        when(mockRepository.findActiveByCountry(country)).thenReturn(Uni.createFrom().item(usEntities));
-        when(mockMapper.toExchange(mockEntities.get(0))).thenReturn(mockDomainObjects.get(0));
-        when(mockMapper.toExchange(mockEntities.get(1))).thenReturn(mockDomainObjects.get(1));
-
         // When
-        List<Exchange> result = adapter.findByCountry(country)
+        List<Exchange> result = adapter.findByCountry("united states")
             .await().atMost(Duration.ofSeconds(5));
 
         // Then
-        assertNotNull(result);
-        assertEquals(2, result.size());
-        assertEquals("NYSE", result.get(0).code());
-        assertEquals("NASDAQ", result.get(1).code());
-        assertTrue(result.get(0).isUSExchange());
-        assertTrue(result.get(1).isUSExchange());
-        
-        verify(mockRepository).findActiveByCountry(country);
-        verify(mockMapper, times(2)).toExchange(any(ExchangeEntity.class));
+        assertEquals(List.of("NASDAQ", "NYSE"), result.stream().map(Exchange::code).toList());
     }
 
     @Test
     @DisplayName("Should find exchanges by currency code")
     void testFindByCurrencyCode_Success() {
-        // Given
-        String currencyCode = "USD";
-        List<ExchangeEntity> usdEntities = mockEntities.subList(0, 2); // NYSE, NASDAQ
-        
-        when(mockRepository.findActiveByCurrencyCode(currencyCode)).thenReturn(Uni.createFrom().item(usdEntities));
-        when(mockMapper.toExchange(mockEntities.get(0))).thenReturn(mockDomainObjects.get(0));
-        when(mockMapper.toExchange(mockEntities.get(1))).thenReturn(mockDomainObjects.get(1));
-
         // When
-        List<Exchange> result = adapter.findByCurrencyCode(currencyCode)
+        List<Exchange> result = adapter.findByCurrencyCode("GBP")
             .await().atMost(Duration.ofSeconds(5));
 
         // Then
-        assertNotNull(result);
-        assertEquals(2, result.size());
-        assertEquals("NYSE", result.get(0).code());
-        assertEquals("NASDAQ", result.get(1).code());
-        assertEquals("USD", result.get(0).currencyCode());
-        assertEquals("USD", result.get(1).currencyCode());
-        
-        verify(mockRepository).findActiveByCurrencyCode(currencyCode);
-        verify(mockMapper, times(2)).toExchange(any(ExchangeEntity.class));
+        assertEquals(List.of("LSE"), result.stream().map(Exchange::code).toList());
     }
 
     @Test
     @DisplayName("Should find US exchanges")
     void testFindUSExchanges_Success() {
-        // Given
-        List<ExchangeEntity> usEntities = mockEntities.subList(0, 2); // NYSE, NASDAQ
-        
-        when(mockRepository.findUSExchanges()).thenReturn(Uni.createFrom().item(usEntities));
-        when(mockMapper.toExchange(mockEntities.get(0))).thenReturn(mockDomainObjects.get(0));
-        when(mockMapper.toExchange(mockEntities.get(1))).thenReturn(mockDomainObjects.get(1));
-
         // When
-        List<Exchange> result = adapter.findUSExchanges()
+        List<Exchange> result = adapter.findByRegion(GetExchangesUseCase.RegionFilter.US)
             .await().atMost(Duration.ofSeconds(5));
 
         // Then
-        assertNotNull(result);
-        assertEquals(2, result.size());
-        assertTrue(result.get(0).isUSExchange());
-        assertTrue(result.get(1).isUSExchange());
-        assertEquals("North America", result.get(0).getRegion());
-        assertEquals("North America", result.get(1).getRegion());
-        
-        verify(mockRepository).findUSExchanges();
-        verify(mockMapper, times(2)).toExchange(any(ExchangeEntity.class));
+        assertEquals(List.of("NASDAQ", "NYSE"), result.stream().map(Exchange::code).toList());
     }
 
     @Test
     @DisplayName("Should find European exchanges")
     void testFindEuropeanExchanges_Success() {
-        // Given
-        List<ExchangeEntity> europeanEntities = List.of(mockEntities.get(2)); // LSE
-        
-        when(mockRepository.findEuropeanExchanges()).thenReturn(Uni.createFrom().item(europeanEntities));
-        when(mockMapper.toExchange(mockEntities.get(2))).thenReturn(mockDomainObjects.get(2));
-
         // When
-        List<Exchange> result = adapter.findEuropeanExchanges()
+        List<Exchange> result = adapter.findByRegion(GetExchangesUseCase.RegionFilter.EUROPE)
             .await().atMost(Duration.ofSeconds(5));
 
         // Then
-        assertNotNull(result);
-        assertEquals(1, result.size());
-        assertEquals("LSE", result.get(0).code());
-        assertTrue(result.get(0).isEuropeanExchange());
-        
-        verify(mockRepository).findEuropeanExchanges();
-        verify(mockMapper).toExchange(mockEntities.get(2));
+        assertEquals(List.of("LSE"), result.stream().map(Exchange::code).toList());
     }
 
     @Test
     @DisplayName("Should find Asian exchanges")
     void testFindAsianExchanges_Success() {
-        // Given
-        List<ExchangeEntity> asianEntities = List.of(); // Empty for this test
-        
-        when(mockRepository.findAsianExchanges()).thenReturn(Uni.createFrom().item(asianEntities));
-
         // When
-        List<Exchange> result = adapter.findAsianExchanges()
+        List<Exchange> result = adapter.findByRegion(GetExchangesUseCase.RegionFilter.ASIA)
             .await().atMost(Duration.ofSeconds(5));
 
         // Then
-        assertNotNull(result);
-        assertEquals(0, result.size());
-        
-        verify(mockRepository).findAsianExchanges();
-        verify(mockMapper, never()).toExchange(any(ExchangeEntity.class));
+        assertEquals(List.of("TSE"), result.stream().map(Exchange::code).toList());
     }
 
     @Test
     @DisplayName("Should return empty optional when exchange not found")
     void testFindByCode_NotFound() {
-        // Given
-        String code = "UNKNOWN";
-        
-        when(mockRepository.findActiveByCode(code)).thenReturn(Uni.createFrom().item(Optional.empty()));
-
         // When
-        Optional<Exchange> result = adapter.findByCode(code)
+        Optional<Exchange> result = adapter.findByCode("NONEXISTENT")
             .await().atMost(Duration.ofSeconds(5));
 
         // Then
         assertFalse(result.isPresent());
-        
-        verify(mockRepository).findActiveByCode(code);
-        verify(mockMapper, never()).toExchange(any(ExchangeEntity.class));
     }
 
     @Test
     @DisplayName("Should count active exchanges")
     void testCount_Success() {
-        // Given
-        long expectedCount = 3L;
-        
-        when(mockRepository.countActive()).thenReturn(Uni.createFrom().item(expectedCount));
-
         // When
         Long result = adapter.count()
             .await().atMost(Duration.ofSeconds(5));
 
         // Then
-        assertEquals(expectedCount, result);
-        
-        verify(mockRepository).countActive();
+        assertEquals(4L, result);
     }
 
     @Test
-    @DisplayName("Should handle repository failure")
-    void testFindAll_RepositoryFailure() {
+    @DisplayName("Should handle snapshot load failure")
+    void testFindAll_LoadFailure() {
         // Given
-        RuntimeException repositoryException = new RuntimeException("Database connection failed");
-        when(mockRepository.findAllActive()).thenReturn(Uni.createFrom().failure(repositoryException));
+        RuntimeException loadException = new RuntimeException("Database connection failed");
+        when(mockReferenceDataStore.exchanges()).thenReturn(Uni.createFrom().failure(loadException));
 
         // When & Then
-        assertThrows(RuntimeException.class, () -> 
+        assertThrows(RuntimeException.class, () ->
             adapter.findAll().await().atMost(Duration.ofSeconds(5))
         );
-        
-        verify(mockRepository).findAllActive();
-        verify(mockMapper, never()).toExchange(any(ExchangeEntity.class));
-    }
-
-    private ExchangeEntity createExchangeEntity(Long id, String code, String name, String country, String timezone, String currencyCode) {
-        ExchangeEntity entity = new ExchangeEntity(code, name, country, timezone, currencyCode);
-        entity.id = id;
-        return entity;
     }
 }
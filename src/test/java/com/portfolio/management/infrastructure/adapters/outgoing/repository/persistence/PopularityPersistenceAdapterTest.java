@@ -0,0 +1,32 @@
+package com.portfolio.management.infrastructure.adapters.outgoing.repository.persistence;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PopularityPersistenceAdapterTest {
+
+    @Test
+    @DisplayName("Should split the id space into half-open chunks covering every id exactly once")
+    void shouldSplitIdSpaceIntoChunks() {
+        List<long[]> ranges = PopularityPersistenceAdapter.idRanges(1, 12, 5);
+
+        assertThat(ranges).containsExactly(new long[]{0, 5}, new long[]{5, 10}, new long[]{10, 12});
+    }
+
+    @Test
+    @DisplayName("Should produce a single chunk when the table fits in one")
+    void shouldProduceSingleChunk() {
+        assertThat(PopularityPersistenceAdapter.idRanges(100, 150, 5000))
+                .containsExactly(new long[]{99, 150});
+    }
+
+    @Test
+    @DisplayName("Should produce no chunks for an empty table")
+    void shouldProduceNoChunksForEmptyTable() {
+        assertThat(PopularityPersistenceAdapter.idRanges(0, 0, 5000)).isEmpty();
+    }
+}
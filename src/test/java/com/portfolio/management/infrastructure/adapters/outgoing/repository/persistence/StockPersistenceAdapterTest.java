@@ -2,8 +2,13 @@ package com.portfolio.management.infrastructure.adapters.outgoing.repository.per
 
 import com.portfolio.management.domain.model.Stock;
 import com.portfolio.management.domain.model.StocksBatchProcessingResult;
+import com.portfolio.management.domain.model.SuggestionField;
+import com.portfolio.management.domain.port.outgoing.StockAliasPort;
 import com.portfolio.management.infrastructure.adapters.outgoing.repository.DatabaseStockRepository;
+import com.portfolio.management.infrastructure.adapters.outgoing.repository.SqlClientStockRepository;
+import com.portfolio.management.infrastructure.adapters.outgoing.repository.StockProjection;
 import com.portfolio.management.infrastructure.adapters.outgoing.repository.mapper.StockMapper;
+import com.portfolio.management.infrastructure.adapters.outgoing.repository.snapshot.StockSnapshotStore;
 import com.portfolio.management.infrastructure.adapters.outgoing.repository.persistence.entity.StockEntity;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
@@ -13,11 +18,16 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -26,14 +36,21 @@ class StockPersistenceAdapterTest {
     @Mock
     private DatabaseStockRepository mockDatabaseRepository;
 
+    @Mock
+    private SqlClientStockRepository mockSqlClientRepository;
+
     @Mock
     private StockMapper mockStockMapper;
 
+    @Mock
+    private StockAliasPort mockStockAliasPort;
+
     private StockPersistenceAdapter stockPersistenceAdapter;
 
     @BeforeEach
     void setUp() {
-        stockPersistenceAdapter = new StockPersistenceAdapter(mockStockMapper, mockDatabaseRepository);
+        stockPersistenceAdapter = new StockPersistenceAdapter(mockStockMapper, mockDatabaseRepository, mockSqlClientRepository,
+                new StockSnapshotStore(mockSqlClientRepository, false, false, Duration.ZERO), mockStockAliasPort, false);
     }
 
     @Test
@@ -46,15 +63,14 @@ class StockPersistenceAdapterTest {
         String currency = "USD";
         String isin = null;
         int limit = 25;
-        var stockEntities = List.of(createStockEntity("AAPL", "Apple Inc."));
+        var fields = SuggestionField.withRanking(Set.of(SuggestionField.CURRENCY));
         var expectedStocks = List.of(createStock("AAPL", "Apple Inc."));
 
-        when(mockDatabaseRepository.findByAdvancedSearch(symbol, companyName, exchange, country, currency, isin, limit))
-                .thenReturn(Uni.createFrom().item(stockEntities));
-        when(mockStockMapper.toStocks(stockEntities)).thenReturn(expectedStocks);
+        when(mockDatabaseRepository.findByAdvancedSearch(eq(symbol), eq(companyName), eq(exchange), eq(country), eq(currency), eq(isin), eq(limit), any(StockProjection.class)))
+                .thenReturn(Uni.createFrom().item(expectedStocks));
 
         // When
-        List<Stock> result = stockPersistenceAdapter.findByAdvancedSearch(symbol, companyName, exchange, country, currency, isin, limit)
+        List<Stock> result = stockPersistenceAdapter.findByAdvancedSearch(symbol, companyName, exchange, country, currency, isin, limit, fields)
                 .subscribe()
                 .withSubscriber(UniAssertSubscriber.create())
                 .getItem();
@@ -64,8 +80,79 @@ class StockPersistenceAdapterTest {
         assertThat(result).hasSize(1);
         assertThat(result.getFirst().symbol()).isEqualTo("AAPL");
 
-        verify(mockDatabaseRepository).findByAdvancedSearch(eq(symbol), eq(companyName), eq(exchange), eq(country), eq(currency), eq(isin), eq(limit));
-        verify(mockStockMapper).toStocks(eq(stockEntities));
+        verify(mockDatabaseRepository).findByAdvancedSearch(eq(symbol), eq(companyName), eq(exchange), eq(country), eq(currency), eq(isin), eq(limit), eq(StockProjection.of(fields)));
+    }
+
+    @Test
+    void shouldGroupDatabaseListingsByUpperCaseIsinInPopularityOrder() {
+        // Given
+        var adapter = new StockPersistenceAdapter(mockStockMapper, mockDatabaseRepository, mockSqlClientRepository,
+                new StockSnapshotStore(mockSqlClientRepository, false, false, Duration.ZERO), mockStockAliasPort, true);
+        var fields = SuggestionField.withRanking(SuggestionField.ALL);
+        var nasdaq = new Stock(1L, "AAPL", "Apple Inc.", "USD", "NASDAQ", null, "United States",
+                "Common Stock", null, null, "US0378331005", null, 1L, 9.0);
+        var xetra = new Stock(2L, "APC", "Apple Inc.", "EUR", "XETR", null, "Germany",
+                "Common Stock", null, null, "us0378331005", null, 1L, 1.0);
+        when(mockSqlClientRepository.findByIsins(Set.of("US0378331005"), StockProjection.of(fields)))
+                .thenReturn(Uni.createFrom().item(List.of(nasdaq, xetra)));
+
+        // When
+        Map<String, List<Stock>> result = adapter.findListingsByIsin(Set.of("US0378331005"), fields)
+                .await().indefinitely();
+
+        // Then
+        assertThat(result).containsOnlyKeys("US0378331005");
+        assertThat(result.get("US0378331005")).containsExactly(nasdaq, xetra);
+    }
+
+    @Test
+    void shouldReadCandidatesThroughSqlClientWhenEnabled() {
+        // Given
+        var adapter = new StockPersistenceAdapter(mockStockMapper, mockDatabaseRepository, mockSqlClientRepository,
+                new StockSnapshotStore(mockSqlClientRepository, false, false, Duration.ZERO), mockStockAliasPort, true);
+        var fields = SuggestionField.withRanking(SuggestionField.ALL);
+        var expectedStocks = List.of(createStock("AAPL", "Apple Inc."));
+
+        when(mockSqlClientRepository.findCandidateStocks("apple", 20, StockProjection.of(fields)))
+                .thenReturn(Uni.createFrom().item(expectedStocks));
+
+        // When
+        List<Stock> result = adapter.findCandidateStocks("apple", 20, fields)
+                .subscribe()
+                .withSubscriber(UniAssertSubscriber.create())
+                .getItem();
+
+        // Then
+        assertThat(result).isEqualTo(expectedStocks);
+        verifyNoInteractions(mockDatabaseRepository);
+    }
+
+    @Test
+    void shouldAnswerAdvancedSearchFromStockIndexWhenEnabled() {
+        // Given
+        var adapter = new StockPersistenceAdapter(mockStockMapper, mockDatabaseRepository, mockSqlClientRepository,
+                new StockSnapshotStore(mockSqlClientRepository, true, false, Duration.ZERO), mockStockAliasPort, true);
+        var apple = createStock("AAPL", "Apple Inc.");
+        var microsoft = new Stock(2L, "MSFT", "Microsoft Corporation", "USD", "NASDAQ", null, "United States",
+                "Common Stock", null, null, null, null, 1L, 9.0);
+        when(mockSqlClientRepository.findAllActive()).thenReturn(Uni.createFrom().item(List.of(apple, microsoft)));
+
+        // When
+        List<Stock> result = adapter.findByAdvancedSearch(null, null, "nasdaq", null, null, null, 500, SuggestionField.ALL)
+                .await().indefinitely();
+        var facets = adapter.countFacets(null, "apple", null, null, null, null).await().indefinitely();
+        var candidates = adapter.findCandidateStocks("corp micro", 20, SuggestionField.ALL).await().indefinitely();
+        when(mockStockAliasPort.symbolsFor("windows")).thenReturn(Set.of("MSFT"));
+        var aliased = adapter.findCandidateStocks("windows", 20, SuggestionField.ALL).await().indefinitely();
+
+        // Then
+        assertThat(result).containsExactly(microsoft, apple);
+        assertThat(facets.total()).isEqualTo(1);
+        assertThat(candidates).containsExactly(microsoft);
+        assertThat(aliased).containsExactly(microsoft);
+        verify(mockSqlClientRepository).findAllActive();
+        verify(mockSqlClientRepository, never()).findCandidateStocks(anyString(), anyInt(), any());
+        verifyNoInteractions(mockDatabaseRepository);
     }
 
     @Test
@@ -0,0 +1,55 @@
+package com.portfolio.management.infrastructure.adapters.outgoing.repository.snapshot;
+
+import com.portfolio.management.domain.model.StockAlias;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AliasAutomatonTest {
+
+    private final AliasAutomaton automaton = AliasAutomaton.of(List.of(
+            new StockAlias("google", "GOOGL"),
+            new StockAlias("Google", "goog"),
+            new StockAlias("facebook", "META"),
+            new StockAlias("berkshire", "BRK.B"),
+            new StockAlias("berkshire", "BRK.A"),
+            new StockAlias("berkshire b", "BRK.B"),
+            new StockAlias("att", "T"),
+            new StockAlias("j&j", "JNJ")
+    ));
+
+    @Test
+    @DisplayName("Should map an alias to every symbol it names, ignoring case")
+    void mapsAliasToSymbols() {
+        assertThat(automaton.size()).isEqualTo(6);
+        assertThat(automaton.symbolsFor("GOOGLE")).containsExactlyInAnyOrder("GOOGL", "GOOG");
+        assertThat(automaton.symbolsFor("berkshire")).containsExactlyInAnyOrder("BRK.B", "BRK.A");
+    }
+
+    @Test
+    @DisplayName("Should prefer the longest alias starting at a position")
+    void prefersLongestAlias() {
+        assertThat(automaton.symbolsFor("Berkshire B")).containsExactly("BRK.B");
+        assertThat(automaton.symbolsFor("berkshire-b")).containsExactly("BRK.B");
+    }
+
+    @Test
+    @DisplayName("Should find aliases anywhere in the query, but only as whole words")
+    void matchesWholeWordsOnly() {
+        assertThat(automaton.symbolsFor("facebook vs google")).containsExactly("META", "GOOGL", "GOOG");
+        assertThat(automaton.symbolsFor("att")).containsExactly("T");
+        assertThat(automaton.symbolsFor("matt")).isEmpty();
+        assertThat(automaton.symbolsFor("attic")).isEmpty();
+        assertThat(automaton.symbolsFor("googled")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should read punctuation as a word break in aliases and queries alike")
+    void normalizesPunctuation() {
+        assertThat(automaton.symbolsFor("J & J")).containsExactly("JNJ");
+        assertThat(AliasAutomaton.EMPTY.symbolsFor("google")).isEmpty();
+    }
+}
@@ -0,0 +1,68 @@
+package com.portfolio.management.infrastructure.adapters.outgoing.repository.snapshot;
+
+import com.portfolio.management.domain.model.Exchange;
+import com.portfolio.management.domain.port.incoming.GetExchangesUseCase.RegionFilter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExchangeSnapshotTest {
+
+    private final ExchangeSnapshot snapshot = ExchangeSnapshot.of(List.of(
+            new Exchange(1L, "NYSE", "New York Stock Exchange", "United States", "EST", "USD", true, 90.0, "US"),
+            new Exchange(2L, "OTC", "OTC Markets", "Global", "EST", "USD", true, 20.0, "US"),
+            new Exchange(3L, "XETRA", "Deutsche Boerse Xetra", "Germany", "CET", "EUR", true, 60.0, "EUROPE"),
+            new Exchange(4L, "HKEX", "Hong Kong Exchanges", "Hong Kong", "HKT", "HKD", true, 55.0, "asia"),
+            new Exchange(5L, "ASX", "Asia Pacific Board", "Asia Pacific", "AEST", "AUD", true, null, "ASIA"),
+            new Exchange(6L, "OLD", "Delisted Venue", "United States", "EST", "USD", false, 99.0, "US"),
+            new Exchange(7L, "BMV", "Bolsa Mexicana de Valores", "Mexico", "CST", "MXN", true, 5.0, "LATAM"),
+            new Exchange(8L, "NEO", "NEO Exchange", "Canada", "EST", "CAD", true, 4.0, null)
+    ));
+
+    @Test
+    @DisplayName("Should drop inactive exchanges and order the full list by popularity, nulls last")
+    void dropsInactiveAndOrdersByPopularity() {
+        assertThat(snapshot.all()).extracting(Exchange::code)
+                .containsExactly("NYSE", "XETRA", "HKEX", "OTC", "BMV", "NEO", "ASX");
+        assertThat(snapshot.count()).isEqualTo(7);
+        assertThat(snapshot.byCode("OLD")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should group exchanges by their region column, ordered by name")
+    void groupsByRegionColumn() {
+        assertThat(snapshot.byRegion(RegionFilter.US)).extracting(Exchange::code).containsExactly("NYSE", "OTC");
+        assertThat(snapshot.byRegion(RegionFilter.EUROPE)).extracting(Exchange::code).containsExactly("XETRA");
+        assertThat(snapshot.byRegion(RegionFilter.ASIA)).extracting(Exchange::code).containsExactly("ASX", "HKEX");
+    }
+
+    @Test
+    @DisplayName("Should leave out exchanges with no region or a region the API does not expose")
+    void ignoresUnqueryableRegions() {
+        assertThat(RegionFilter.values())
+                .flatExtracting(region -> snapshot.byRegion(region).stream().map(Exchange::code).toList())
+                .doesNotContain("BMV", "NEO", "OLD");
+        assertThat(snapshot.byRegion(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should look up code, country and currency case-insensitively")
+    void caseInsensitiveLookups() {
+        assertThat(snapshot.byCode("xetra")).map(Exchange::id).contains(3L);
+        assertThat(snapshot.byCountry("UNITED STATES")).extracting(Exchange::code).containsExactly("NYSE");
+        assertThat(snapshot.byCurrencyCode("usd")).extracting(Exchange::code).containsExactly("NYSE", "OTC");
+        assertThat(snapshot.byCountry("Atlantis")).isEmpty();
+        assertThat(snapshot.byCode(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should not match a search term across two fields")
+    void searchDoesNotSpanFields() {
+        assertThat(snapshot.search("hong kong")).extracting(Exchange::code).containsExactly("HKEX");
+        assertThat(snapshot.search("xetragermany")).isEmpty();
+        assertThat(snapshot.search("  ")).isSameAs(snapshot.all());
+    }
+}
@@ -0,0 +1,90 @@
+package com.portfolio.management.infrastructure.adapters.outgoing.repository.snapshot;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PackedNamesTest {
+
+    private static final String[] NAMES = {
+            "bank of america corporation",
+            "american express company",
+            null,
+            "nestlé s.a.",
+            "ab",
+            "general motors company",
+            "bank of bank holdings"
+    };
+
+    private final PackedNames packed = PackedNames.of(NAMES);
+
+    @Test
+    @DisplayName("Should find every name containing the query, once per name, skipping null names")
+    void findsContainingNames() {
+        assertThat(members(packed.containing("bank"))).containsExactly(0, 6);
+        assertThat(members(packed.containing("company"))).containsExactly(1, 5);
+        assertThat(members(packed.containing("a"))).containsExactly(0, 1, 3, 4, 5, 6);
+        assertThat(members(packed.containing("bank of bank holdings"))).containsExactly(6);
+        assertThat(members(packed.containing(""))).containsExactly(0, 1, 3, 4, 5, 6);
+        assertThat(packed.containing("zz").isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should never match across two names or on the separator")
+    void keepsMatchesWithinOneName() {
+        assertThat(packed.containing("companynestl").isEmpty()).isTrue();
+        assertThat(packed.containing("ab\u0000general").isEmpty()).isTrue();
+        assertThat(members(packed.containing("ab"))).containsExactly(4);
+    }
+
+    @Test
+    @DisplayName("Should match multi-byte characters like String.contains")
+    void matchesUtf8() {
+        assertThat(members(packed.containing("stlé"))).containsExactly(3);
+        assertThat(members(packed.containing("é"))).containsExactly(3);
+        assertThat(packed.containing("ste").isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should agree with String.contains on random names, at every offset and near the end of the array")
+    void agreesWithStringContains() {
+        var random = new Random(11);
+        String[] names = new String[500];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = i % 37 == 0 ? null : randomText(random, 1 + random.nextInt(20));
+        }
+        PackedNames randomPacked = PackedNames.of(names);
+
+        for (int query = 0; query < 300; query++) {
+            String needle = randomText(random, 1 + random.nextInt(4));
+            List<Integer> expected = new ArrayList<>();
+            for (int ordinal = 0; ordinal < names.length; ordinal++) {
+                if (names[ordinal] != null && names[ordinal].contains(needle)) {
+                    expected.add(ordinal);
+                }
+            }
+            assertThat(members(randomPacked.containing(needle))).as(needle).isEqualTo(expected);
+        }
+    }
+
+    private static String randomText(Random random, int length) {
+        var text = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            text.append("abcé ".charAt(random.nextInt(5)));
+        }
+        return text.toString();
+    }
+
+    private static List<Integer> members(StockBitmap bitmap) {
+        List<Integer> members = new ArrayList<>();
+        for (int ordinal = bitmap.next(0); ordinal >= 0; ordinal = bitmap.next(ordinal + 1)) {
+            members.add(ordinal);
+        }
+        return members;
+    }
+}
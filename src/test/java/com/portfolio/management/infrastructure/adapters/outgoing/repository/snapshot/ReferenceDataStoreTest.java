@@ -0,0 +1,106 @@
+package com.portfolio.management.infrastructure.adapters.outgoing.repository.snapshot;
+
+import com.portfolio.management.infrastructure.adapters.outgoing.repository.DatabaseCurrencyRepository;
+import com.portfolio.management.infrastructure.adapters.outgoing.repository.DatabaseExchangeRepository;
+import com.portfolio.management.infrastructure.adapters.outgoing.repository.DatabaseStockTypeRepository;
+import com.portfolio.management.infrastructure.adapters.outgoing.repository.mapper.CategoryMapper;
+import com.portfolio.management.infrastructure.adapters.outgoing.repository.persistence.entity.CurrencyEntity;
+import com.portfolio.management.infrastructure.adapters.outgoing.repository.persistence.entity.ExchangeEntity;
+import com.portfolio.management.infrastructure.adapters.outgoing.repository.persistence.entity.StockTypeEntity;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReferenceDataStoreTest {
+
+    @Mock
+    private DatabaseExchangeRepository exchangeRepository;
+    @Mock
+    private DatabaseCurrencyRepository currencyRepository;
+    @Mock
+    private DatabaseStockTypeRepository stockTypeRepository;
+
+    private ReferenceDataStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new ReferenceDataStore(exchangeRepository, currencyRepository, stockTypeRepository,
+                Mappers.getMapper(CategoryMapper.class));
+    }
+
+    @Test
+    @DisplayName("Should load a table once and serve later reads from the snapshot")
+    void loadsOnceThenServesFromMemory() {
+        when(exchangeRepository.findAllActive()).thenReturn(Uni.createFrom().item(List.of(exchange(1L, "NYSE"))));
+
+        ExchangeSnapshot first = store.exchanges().await().indefinitely();
+        ExchangeSnapshot second = store.exchanges().await().indefinitely();
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.byCode("NYSE")).isPresent();
+        verify(exchangeRepository, times(1)).findAllActive();
+    }
+
+    @Test
+    @DisplayName("Should swap in a new snapshot on refresh")
+    void refreshSwapsSnapshot() {
+        when(exchangeRepository.findAllActive())
+                .thenReturn(Uni.createFrom().item(List.of(exchange(1L, "NYSE"))))
+                .thenReturn(Uni.createFrom().item(List.of(exchange(1L, "NYSE"), exchange(2L, "LSE"))));
+
+        store.exchanges().await().indefinitely();
+        store.refreshExchanges().await().indefinitely();
+
+        assertThat(store.exchanges().await().indefinitely().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should keep serving the previous snapshot when a refresh fails")
+    void failedRefreshKeepsPreviousSnapshot() {
+        when(exchangeRepository.findAllActive())
+                .thenReturn(Uni.createFrom().item(List.of(exchange(1L, "NYSE"))))
+                .thenReturn(Uni.createFrom().failure(new RuntimeException("connection reset")));
+        store.exchanges().await().indefinitely();
+
+        store.refreshExchanges().subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertFailedWith(RuntimeException.class, "connection reset");
+
+        assertThat(store.exchanges().await().indefinitely().byCode("NYSE")).isPresent();
+    }
+
+    @Test
+    @DisplayName("Should refresh every table and swallow failures on the scheduled run")
+    void scheduledRefreshLoadsAllTables() {
+        when(exchangeRepository.findAllActive()).thenReturn(Uni.createFrom().item(List.of(exchange(1L, "NYSE"))));
+        CurrencyEntity usd = new CurrencyEntity("USD", "US Dollar", "$", "US");
+        usd.id = 1L;
+        when(currencyRepository.findAllActive()).thenReturn(Uni.createFrom().item(List.of(usd)));
+        when(stockTypeRepository.findAllActive())
+                .thenReturn(Uni.createFrom().failure(new RuntimeException("stock_types unavailable")));
+
+        store.scheduledRefresh().subscribe().withSubscriber(UniAssertSubscriber.create()).assertCompleted();
+
+        assertThat(store.currencies().await().indefinitely().byCode("usd")).isPresent();
+        verify(stockTypeRepository).findAllActive();
+    }
+
+    private static ExchangeEntity exchange(Long id, String code) {
+        ExchangeEntity entity = new ExchangeEntity(code, code + " Exchange", "United States", "EST", "USD");
+        entity.id = id;
+        entity.setIsActive(true);
+        entity.setPopularityScore(10.0);
+        return entity;
+    }
+}
@@ -0,0 +1,74 @@
+package com.portfolio.management.infrastructure.adapters.outgoing.repository.snapshot;
+
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SnapshotLoaderTest {
+
+    private final List<CompletableFuture<String>> loads = new ArrayList<>();
+    private final SnapshotLoader<String> loader = new SnapshotLoader<>(() -> {
+        var load = new CompletableFuture<String>();
+        loads.add(load);
+        return Uni.createFrom().completionStage(load);
+    }, Duration.ZERO);
+
+    @Test
+    @DisplayName("Should fold every refresh requested during a load into one rerun started after it")
+    void coalescesRefreshes() {
+        var first = loader.refresh().subscribe().withSubscriber(UniAssertSubscriber.create());
+        var second = loader.refresh().subscribe().withSubscriber(UniAssertSubscriber.create());
+        var third = loader.refresh().subscribe().withSubscriber(UniAssertSubscriber.create());
+
+        assertThat(loads).hasSize(1);
+        loads.get(0).complete("v1");
+        first.assertItem("v1");
+        assertThat(loads).hasSize(2);
+        second.assertNotTerminated();
+
+        loads.get(1).complete("v2");
+        second.assertItem("v2");
+        third.assertItem("v2");
+        assertThat(loads).hasSize(2);
+        assertThat(loader.current()).isEqualTo("v2");
+    }
+
+    @Test
+    @DisplayName("Should let first reads share the load in flight")
+    void firstReadsShareLoad() {
+        var first = loader.get().subscribe().withSubscriber(UniAssertSubscriber.create());
+        var second = loader.get().subscribe().withSubscriber(UniAssertSubscriber.create());
+
+        loads.get(0).complete("v1");
+
+        assertThat(loads).hasSize(1);
+        first.assertItem("v1");
+        second.assertItem("v1");
+        assertThat(loader.get().await().indefinitely()).isEqualTo("v1");
+    }
+
+    @Test
+    @DisplayName("Should keep the previous snapshot when a load fails and still run the queued rerun")
+    void failedLoadKeepsSnapshot() {
+        loader.refresh().subscribe().withSubscriber(UniAssertSubscriber.create());
+        loads.get(0).complete("v1");
+        var failed = loader.refresh().subscribe().withSubscriber(UniAssertSubscriber.create());
+        var queued = loader.refresh().subscribe().withSubscriber(UniAssertSubscriber.create());
+
+        loads.get(1).completeExceptionally(new RuntimeException("connection reset"));
+
+        failed.assertFailedWith(RuntimeException.class, "connection reset");
+        assertThat(loader.current()).isEqualTo("v1");
+        loads.get(2).complete("v3");
+        queued.assertItem("v3");
+        assertThat(loader.current()).isEqualTo("v3");
+    }
+}
@@ -0,0 +1,101 @@
+package com.portfolio.management.infrastructure.adapters.outgoing.repository.snapshot;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StockBitmapTest {
+
+    private static final int UNIVERSE = 200_000;
+
+    @Test
+    @DisplayName("Should agree with a plain BitSet on and, or, counts and iteration for sparse and dense sets")
+    void matchesBitSet() {
+        var random = new Random(42);
+        // 0.5% of ordinals stays in array chunks, 40% turns every chunk into a bitset
+        BitSet sparse = randomBits(random, 0.005);
+        BitSet dense = randomBits(random, 0.40);
+        BitSet medium = randomBits(random, 0.05);
+        StockBitmap sparseBitmap = bitmap(sparse);
+        StockBitmap denseBitmap = bitmap(dense);
+        StockBitmap mediumBitmap = bitmap(medium);
+
+        assertThat(members(sparseBitmap)).isEqualTo(sparse.stream().boxed().toList());
+        assertThat(denseBitmap.cardinality()).isEqualTo(dense.cardinality());
+
+        BitSet and = (BitSet) dense.clone();
+        and.and(medium);
+        assertThat(members(denseBitmap.and(mediumBitmap))).isEqualTo(and.stream().boxed().toList());
+        assertThat(denseBitmap.andCardinality(mediumBitmap)).isEqualTo(and.cardinality());
+        assertThat(sparseBitmap.andCardinality(denseBitmap)).isEqualTo(intersection(sparse, dense));
+
+        BitSet or = (BitSet) sparse.clone();
+        or.or(medium);
+        assertThat(members(StockBitmap.or(List.of(sparseBitmap, mediumBitmap)))).isEqualTo(or.stream().boxed().toList());
+    }
+
+    @Test
+    @DisplayName("Should find the next member across chunk boundaries and report none past the last")
+    void nextCrossesChunks() {
+        StockBitmap bitmap = StockBitmap.builder().add(3).add(65_535).add(65_536).add(140_000).build();
+
+        assertThat(bitmap.next(0)).isEqualTo(3);
+        assertThat(bitmap.next(4)).isEqualTo(65_535);
+        assertThat(bitmap.next(65_537)).isEqualTo(140_000);
+        assertThat(bitmap.next(140_001)).isEqualTo(-1);
+        assertThat(bitmap.contains(65_536)).isTrue();
+        assertThat(bitmap.contains(65_537)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should reject ordinals that are not strictly ascending")
+    void rejectsUnorderedOrdinals() {
+        assertThatThrownBy(() -> StockBitmap.builder().add(5).add(5))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should treat an empty union and a range of zero as empty")
+    void emptyBitmaps() {
+        assertThat(StockBitmap.or(List.of()).isEmpty()).isTrue();
+        assertThat(StockBitmap.range(0).next(0)).isEqualTo(-1);
+        assertThat(StockBitmap.range(10).and(StockBitmap.EMPTY).cardinality()).isZero();
+    }
+
+    private static BitSet randomBits(Random random, double density) {
+        BitSet bits = new BitSet(UNIVERSE);
+        for (int i = 0; i < UNIVERSE; i++) {
+            if (random.nextDouble() < density) {
+                bits.set(i);
+            }
+        }
+        return bits;
+    }
+
+    private static StockBitmap bitmap(BitSet bits) {
+        StockBitmap.Builder builder = StockBitmap.builder();
+        bits.stream().forEach(builder::add);
+        return builder.build();
+    }
+
+    private static List<Integer> members(StockBitmap bitmap) {
+        List<Integer> members = new ArrayList<>(bitmap.cardinality());
+        for (int ordinal = bitmap.next(0); ordinal >= 0; ordinal = bitmap.next(ordinal + 1)) {
+            members.add(ordinal);
+        }
+        return members;
+    }
+
+    private static int intersection(BitSet a, BitSet b) {
+        BitSet and = (BitSet) a.clone();
+        and.and(b);
+        return and.cardinality();
+    }
+}
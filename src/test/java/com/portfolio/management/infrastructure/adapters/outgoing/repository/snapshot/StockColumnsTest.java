@@ -0,0 +1,42 @@
+package com.portfolio.management.infrastructure.adapters.outgoing.repository.snapshot;
+
+import com.portfolio.management.domain.model.Stock;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StockColumnsTest {
+
+    private final Stock[] stocks = {
+            new Stock(1L, "AAPL", "Apple Inc.", "USD", "NASDAQ", "XNAS", "United States", "Common Stock",
+                    "BBG000B9XRY4", "ESVUFR", "US0378331005", "037833100", 3L, 9.0),
+            new Stock(6L, "APC", new String("Apple Inc."), "EUR", "XETRA", "XETR", "Germany", "Common Stock",
+                    "BBG000BCZKQ1", "ESVUFR", "US0378331005", null, 1L, 1.0),
+            new Stock(null, "NEW", null, null, null, null, null, null, null, null, null, null, null, null)
+    };
+
+    private final StockColumns columns = StockColumns.of(stocks);
+
+    @Test
+    @DisplayName("Should rebuild every stock exactly, missing ids, versions and scores included")
+    void rebuildsStocks() {
+        assertThat(columns.size()).isEqualTo(3);
+        for (int ordinal = 0; ordinal < stocks.length; ordinal++) {
+            assertThat(columns.stock(ordinal)).isEqualTo(stocks[ordinal]);
+        }
+        assertThat(columns.score(2)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should code low-cardinality values once each and share pooled name instances")
+    void encodesDictionariesAndPoolsNames() {
+        assertThat(columns.types().size()).isEqualTo(1);
+        assertThat(columns.types().code(0)).isEqualTo(columns.types().code(1));
+        assertThat(columns.types().code(2)).isEqualTo(-1);
+        assertThat(columns.exchanges().decode(columns.exchanges().code(1))).isEqualTo("XETRA");
+        assertThat(columns.stock(1).name()).isSameAs(columns.stock(0).name());
+        assertThat(columns.lowerNames()[1]).isSameAs(columns.lowerNames()[0]).isEqualTo("apple inc.");
+        assertThat(columns.lowerNames()[2]).isNull();
+    }
+}
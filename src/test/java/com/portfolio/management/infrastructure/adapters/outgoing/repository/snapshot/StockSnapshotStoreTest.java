@@ -0,0 +1,67 @@
+package com.portfolio.management.infrastructure.adapters.outgoing.repository.snapshot;
+
+import com.portfolio.management.domain.model.Stock;
+import com.portfolio.management.infrastructure.adapters.outgoing.repository.SqlClientStockRepository;
+import io.smallrye.mutiny.Uni;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StockSnapshotStoreTest {
+
+    @Mock
+    private SqlClientStockRepository stockRepository;
+
+    @Test
+    @DisplayName("Should load the stocks once and serve later reads from the snapshot")
+    void loadsOnceThenServesFromMemory() {
+        var store = new StockSnapshotStore(stockRepository, true, false, Duration.ZERO);
+        when(stockRepository.findAllActive()).thenReturn(Uni.createFrom().item(List.of(stock(1L, "AAPL"))));
+
+        StockSnapshot first = store.snapshot().await().indefinitely();
+        StockSnapshot second = store.snapshot().await().indefinitely();
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.count()).isEqualTo(1);
+        verify(stockRepository, times(1)).findAllActive();
+    }
+
+    @Test
+    @DisplayName("Should not load the table on a change notification when no snapshot is in use")
+    void refreshIfLoadedSkipsUnusedSnapshot() {
+        var store = new StockSnapshotStore(stockRepository, false, false, Duration.ZERO);
+
+        store.refreshIfLoaded().await().indefinitely();
+        store.scheduledRefresh().await().indefinitely();
+
+        verifyNoInteractions(stockRepository);
+    }
+
+    @Test
+    @DisplayName("Should swap in a rebuilt snapshot once one is in use")
+    void refreshIfLoadedRebuilds() {
+        var store = new StockSnapshotStore(stockRepository, false, false, Duration.ZERO);
+        when(stockRepository.findAllActive())
+                .thenReturn(Uni.createFrom().item(List.of(stock(1L, "AAPL"))))
+                .thenReturn(Uni.createFrom().item(List.of(stock(1L, "AAPL"), stock(2L, "MSFT"))));
+        store.snapshot().await().indefinitely();
+
+        store.refreshIfLoaded().await().indefinitely();
+
+        assertThat(store.snapshot().await().indefinitely().count()).isEqualTo(2);
+    }
+
+    private static Stock stock(Long id, String symbol) {
+        return new Stock(id, symbol, symbol, "USD", "NASDAQ", null, "United States", "Common Stock",
+                null, null, null, null, 1L, 1.0);
+    }
+}
@@ -0,0 +1,192 @@
+package com.portfolio.management.infrastructure.adapters.outgoing.repository.snapshot;
+
+import com.portfolio.management.domain.model.SecurityIdentifier;
+import com.portfolio.management.domain.model.Stock;
+import com.portfolio.management.domain.model.StockCursor;
+import com.portfolio.management.domain.model.StockFacets;
+import com.portfolio.management.domain.model.StockPage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StockSnapshotTest {
+
+    private final StockSnapshot snapshot = StockSnapshot.of(List.of(
+            stock(1L, "AAPL", "Apple Inc.", "NASDAQ", "United States", "USD", "Common Stock", "US0378331005", 9.0),
+            stock(2L, "MSFT", "Microsoft Corporation", "NASDAQ", "United States", "USD", "Common Stock", null, 9.5),
+            stock(3L, "IBM", "International Business Machines", "NYSE", "United States", "USD", "Common Stock", null, 5.0),
+            stock(4L, "SPY", "SPDR S&P 500 ETF Trust", "NYSE ARCA", "United States", "USD", "ETF", null, 7.0),
+            stock(5L, "SAP", "SAP SE", "XETRA", "Germany", "EUR", "Common Stock", "DE0007164600", 5.0),
+            stock(6L, "APC", "Apple Inc.", "xetra", "Germany", "EUR", "Common Stock", null, 1.0)
+    ));
+
+    @Test
+    @DisplayName("Should match facet criteria as case-insensitive substrings of the value, like the SQL")
+    void facetCriteriaAreSubstrings() {
+        assertThat(snapshot.search(null, null, "nyse", null, null, null, 10))
+                .extracting(Stock::symbol).containsExactly("SPY", "IBM");
+        assertThat(snapshot.search(null, null, "XETRA", "germ", "eur", null, 10))
+                .extracting(Stock::symbol).containsExactly("SAP", "APC");
+        assertThat(snapshot.search(null, null, "LSE", null, null, null, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should check symbol and name only on the facet intersection and return the top of the browse order")
+    void textCriteriaOnIntersection() {
+        assertThat(snapshot.search(null, "apple", null, null, null, null, 10))
+                .extracting(Stock::symbol).containsExactly("AAPL", "APC");
+        assertThat(snapshot.search("a", null, "nasdaq", null, "usd", null, 1))
+                .extracting(Stock::symbol).containsExactly("AAPL");
+        assertThat(snapshot.search(null, null, null, null, null, "us0378331005", 10))
+                .extracting(Stock::symbol).containsExactly("AAPL");
+        assertThat(snapshot.search(null, null, null, null, null, "US0378", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should page in browse order from a cursor, ties broken by symbol")
+    void pagesFromCursor() {
+        StockPage first = snapshot.page(null, null, null, "united", null, null, null, 2);
+        StockPage second = snapshot.page(null, null, null, "united", null, null, first.next(), 2);
+
+        assertThat(first.stocks()).extracting(Stock::symbol).containsExactly("MSFT", "AAPL");
+        assertThat(second.stocks()).extracting(Stock::symbol).containsExactly("SPY", "IBM");
+        assertThat(second.hasNext()).isFalse();
+        assertThat(snapshot.page(null, null, null, null, "eur", null, new StockCursor(5.0, "IBM", 3L), 10).stocks())
+                .extracting(Stock::symbol).containsExactly("SAP", "APC");
+    }
+
+    @Test
+    @DisplayName("Should stream in the page order, continuing from a page's cursor")
+    void streamsFromPageCursor() {
+        StockPage first = snapshot.page(null, null, null, "united", null, null, null, 2);
+
+        assertThat(snapshot.stream(null, null, null, "united", null, null, first.next()))
+                .extracting(Stock::symbol).containsExactly("SPY", "IBM");
+        assertThat(snapshot.stream(null, "apple", null, null, null, null, null))
+                .extracting(Stock::symbol).containsExactly("AAPL", "APC");
+        assertThat(snapshot.stream(null, null, "LSE", null, null, null, null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should count matches per facet value, most first, grouping values that differ only in case")
+    void countsFacets() {
+        StockFacets all = snapshot.facets(null, null, null, null, null, null);
+        StockFacets apple = snapshot.facets(null, "apple", null, null, null, null);
+
+        assertThat(all.total()).isEqualTo(6);
+        assertThat(all.exchanges()).containsExactly(
+                Map.entry("NASDAQ", 2), Map.entry("XETRA", 2), Map.entry("NYSE", 1), Map.entry("NYSE ARCA", 1));
+        assertThat(all.types()).containsEntry("Common Stock", 5).containsEntry("ETF", 1);
+        assertThat(apple.total()).isEqualTo(2);
+        assertThat(apple.countries()).containsOnlyKeys("United States", "Germany");
+        assertThat(apple.types()).containsOnlyKeys("Common Stock");
+    }
+
+    @Test
+    @DisplayName("Should rank typeahead candidates in tiers, with word-prefix matches ahead of plain substrings")
+    void ranksCandidates() {
+        assertThat(snapshot.candidates("sap", Set.of(), 10))
+                .extracting(Stock::symbol).containsExactly("SAP");
+        assertThat(snapshot.candidates("AP", Set.of(), 10))
+                .extracting(Stock::symbol).containsExactly("APC", "AAPL", "SAP");
+        assertThat(snapshot.candidates("mach intern", Set.of(), 10))
+                .extracting(Stock::symbol).containsExactly("IBM");
+        assertThat(snapshot.candidates("corp", Set.of(), 10))
+                .extracting(Stock::symbol).containsExactly("MSFT");
+        assertThat(snapshot.candidates("icro", Set.of(), 10))
+                .extracting(Stock::symbol).containsExactly("MSFT");
+        assertThat(snapshot.candidates("s", Set.of(), 2))
+                .extracting(Stock::symbol).containsExactly("SPY", "SAP");
+    }
+
+    @Test
+    @DisplayName("Should rank listings named through an alias with exact symbol matches")
+    void ranksAliasCandidatesAsExact() {
+        assertThat(snapshot.candidates("big blue", Set.of("IBM"), 10))
+                .extracting(Stock::symbol).containsExactly("IBM");
+        assertThat(snapshot.candidates("ap", Set.of("MSFT"), 10))
+                .extracting(Stock::symbol).containsExactly("MSFT", "APC", "AAPL", "SAP");
+    }
+
+    @Test
+    @DisplayName("Should add typo-tolerant candidates, closest first, only after the strict tiers")
+    void addsFuzzyCandidates() {
+        assertThat(snapshot.candidates("microsfot", Set.of(), 10))
+                .extracting(Stock::symbol).containsExactly("MSFT");
+        assertThat(snapshot.candidates("aple", Set.of(), 10))
+                .extracting(Stock::symbol).containsExactly("AAPL", "APC");
+        assertThat(snapshot.candidates("intrnational busines", Set.of(), 10))
+                .extracting(Stock::symbol).containsExactly("IBM");
+        assertThat(snapshot.candidates("apple", Set.of(), 10))
+                .extracting(Stock::symbol).containsExactly("AAPL", "APC");
+        assertThat(snapshot.candidates("qq", Set.of(), 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should look listings up by ISIN, CUSIP or FIGI, ignoring stored case, in browse order")
+    void looksUpIdentifiers() {
+        StockSnapshot listed = StockSnapshot.of(List.of(
+                new Stock(1L, "AAPL", "Apple Inc.", "USD", "NASDAQ", null, "United States", "Common Stock",
+                        "BBG000B9XRY4", null, "US0378331005", "037833100", 1L, 9.0),
+                new Stock(6L, "APC", "Apple Inc.", "EUR", "XETRA", null, "Germany", "Common Stock",
+                        "BBG000BCZKQ1", null, "us0378331005", null, 1L, 1.0)));
+
+        assertThat(listed.identifier(new SecurityIdentifier(SecurityIdentifier.Kind.ISIN, "US0378331005")))
+                .extracting(Stock::symbol).containsExactly("AAPL", "APC");
+        assertThat(listed.identifier(new SecurityIdentifier(SecurityIdentifier.Kind.CUSIP, "037833100")))
+                .extracting(Stock::symbol).containsExactly("AAPL");
+        assertThat(listed.identifier(new SecurityIdentifier(SecurityIdentifier.Kind.FIGI, "BBG000BCZKQ1")))
+                .extracting(Stock::symbol).containsExactly("APC");
+        assertThat(listed.identifier(new SecurityIdentifier(SecurityIdentifier.Kind.FIGI, "BBG000B9XRY4")))
+                .extracting(Stock::symbol).containsExactly("AAPL");
+        assertThat(listed.identifier(new SecurityIdentifier(SecurityIdentifier.Kind.CUSIP, "38259P508"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should return every listing of each requested ISIN in browse order and skip unlisted ISINs")
+    void groupsListingsByIsin() {
+        StockSnapshot listed = StockSnapshot.of(List.of(
+                stock(6L, "APC", "Apple Inc.", "XETRA", "Germany", "EUR", "Common Stock", "us0378331005", 1.0),
+                stock(1L, "AAPL", "Apple Inc.", "NASDAQ", "United States", "USD", "Common Stock", "US0378331005", 9.0),
+                stock(5L, "SAP", "SAP SE", "XETRA", "Germany", "EUR", "Common Stock", "DE0007164600", 5.0)));
+
+        Map<String, List<Stock>> listings = listed.listingsByIsin(List.of("US0378331005", "DE0007164600", "US5949181045"));
+
+        assertThat(listings).containsOnlyKeys("US0378331005", "DE0007164600");
+        assertThat(listings.get("US0378331005")).extracting(Stock::symbol).containsExactly("AAPL", "APC");
+        assertThat(listings.get("DE0007164600")).extracting(Stock::symbol).containsExactly("SAP");
+    }
+
+    @Test
+    @DisplayName("Should answer name substrings from packed names exactly like the per-name check")
+    void packedNamesMatchPerNameCheck() {
+        List<Stock> universe = List.of(
+                stock(1L, "AAPL", "Apple Inc.", "NASDAQ", "United States", "USD", "Common Stock", null, 9.0),
+                stock(2L, "MSFT", "Microsoft Corporation", "NASDAQ", "United States", "USD", "Common Stock", null, 9.5),
+                stock(3L, "NESN", "Nestlé S.A.", "SIX", "Switzerland", "CHF", "Common Stock", null, 4.0),
+                stock(4L, "SPY", "SPDR S&P 500 ETF Trust", "NYSE ARCA", "United States", "USD", "ETF", null, 7.0),
+                stock(5L, "APC", "Apple Inc.", "XETRA", "Germany", "EUR", "Common Stock", null, 1.0));
+        StockSnapshot packed = StockSnapshot.of(universe, true);
+        StockSnapshot plain = StockSnapshot.of(universe);
+
+        for (String query : List.of("app", "ple inc", "c.", "stl", "nestlé", "corporation", "e", "inc.m", "zz")) {
+            assertThat(packed.candidates(query, Set.of(), 10)).as(query).isEqualTo(plain.candidates(query, Set.of(), 10));
+            assertThat(packed.search(null, query, null, null, null, null, 10)).as(query)
+                    .isEqualTo(plain.search(null, query, null, null, null, null, 10));
+            assertThat(packed.facets(null, query, null, null, null, null)).as(query)
+                    .isEqualTo(plain.facets(null, query, null, null, null, null));
+        }
+        assertThat(packed.search(null, "apple", "xetra", null, null, null, 10))
+                .extracting(Stock::symbol).containsExactly("APC");
+    }
+
+    private static Stock stock(Long id, String symbol, String name, String exchange, String country, String currency,
+                               String type, String isin, double popularity) {
+        return new Stock(id, symbol, name, currency, exchange, null, country, type, null, null, isin, null, 1L, popularity);
+    }
+}
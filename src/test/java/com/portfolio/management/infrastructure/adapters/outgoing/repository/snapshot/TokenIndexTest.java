@@ -0,0 +1,67 @@
+package com.portfolio.management.infrastructure.adapters.outgoing.repository.snapshot;
+
+import com.portfolio.management.domain.strategy.priority.util.LevenshteinAutomaton;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenIndexTest {
+
+    private final TokenIndex index = TokenIndex.of(new String[]{
+            "Bank of America Corporation",
+            "American Express Company",
+            "General Motors Company",
+            null,
+            "Bank of Bank Holdings"
+    });
+
+    @Test
+    @DisplayName("Should keep one posting per distinct word and skip null names")
+    void indexesDistinctWords() {
+        // bank, of, america, corporation, american, express, company, general, motors, holdings
+        assertThat(index.tokenCount()).isEqualTo(10);
+        assertThat(members(index.prefixed("bank"))).containsExactly(0, 4);
+    }
+
+    @Test
+    @DisplayName("Should union the postings of every word in a prefix's range")
+    void unionsPrefixRange() {
+        assertThat(members(index.prefixed("amer"))).containsExactly(0, 1);
+        assertThat(members(index.prefixed("american"))).containsExactly(1);
+        assertThat(members(index.prefixed("co"))).containsExactly(0, 1, 2);
+        assertThat(index.prefixed("zz").isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should intersect the unions of every query word")
+    void intersectsQueryWords() {
+        assertThat(members(index.matchingAll(List.of("bank", "amer")))).containsExactly(0);
+        assertThat(members(index.matchingAll(List.of("comp", "gen")))).containsExactly(2);
+        assertThat(index.matchingAll(List.of("bank", "motors")).isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should group stocks by the edit distance of their closest word, pruning rejected prefixes")
+    void findsWordsWithinDistance() {
+        StockBitmap[] byDistance = index.within(new LevenshteinAutomaton("amercan", 2));
+
+        assertThat(byDistance).hasSize(3);
+        assertThat(members(byDistance[0])).isEmpty();
+        assertThat(members(byDistance[1])).containsExactly(1);
+        assertThat(members(byDistance[2])).containsExactly(0);
+        assertThat(members(index.within(new LevenshteinAutomaton("motrs", 1))[1])).containsExactly(2);
+        assertThat(members(index.within(new LevenshteinAutomaton("zzzzz", 1))[1])).isEmpty();
+    }
+
+    private static List<Integer> members(StockBitmap bitmap) {
+        List<Integer> members = new ArrayList<>();
+        for (int ordinal = bitmap.next(0); ordinal >= 0; ordinal = bitmap.next(ordinal + 1)) {
+            members.add(ordinal);
+        }
+        return members;
+    }
+}
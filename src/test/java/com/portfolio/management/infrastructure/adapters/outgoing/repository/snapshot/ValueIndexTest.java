@@ -0,0 +1,47 @@
+package com.portfolio.management.infrastructure.adapters.outgoing.repository.snapshot;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ValueIndexTest {
+
+    private final ValueIndex index = ValueIndex.of(new String[]{
+            "shopify inc.",
+            "shop",
+            null,
+            "apple inc.",
+            "shop",
+            "shopping centers"
+    });
+
+    @Test
+    @DisplayName("Should return every stock holding exactly the value, in ordinal order")
+    void findsExactValues() {
+        assertThat(members(index.exact("shop"))).containsExactly(1, 4);
+        assertThat(members(index.exact("apple inc."))).containsExactly(3);
+        assertThat(index.exact("sho").isEmpty()).isTrue();
+        assertThat(index.exact("zz").isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should return every stock whose value starts with the prefix, in ordinal order, skipping nulls")
+    void findsPrefixedValues() {
+        assertThat(members(index.prefixed("shop"))).containsExactly(0, 1, 4, 5);
+        assertThat(members(index.prefixed("shopp"))).containsExactly(5);
+        assertThat(members(index.prefixed(""))).containsExactly(0, 1, 3, 4, 5);
+        assertThat(index.prefixed("zz").isEmpty()).isTrue();
+    }
+
+    private static List<Integer> members(StockBitmap bitmap) {
+        List<Integer> members = new ArrayList<>();
+        for (int ordinal = bitmap.next(0); ordinal >= 0; ordinal = bitmap.next(ordinal + 1)) {
+            members.add(ordinal);
+        }
+        return members;
+    }
+}
@@ -0,0 +1,101 @@
+package com.portfolio.management.infrastructure.adapters.outgoing.trending;
+
+import com.portfolio.management.domain.model.TrendingStock;
+import com.portfolio.management.domain.model.TrendingWindow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryTrendingAdapterTest {
+
+    private MutableClock clock;
+    private InMemoryTrendingAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2026-07-23T10:00:00Z"));
+        adapter = new InMemoryTrendingAdapter(clock);
+    }
+
+    @Test
+    @DisplayName("Should record usage into every window")
+    void shouldRecordIntoEveryWindow() {
+        adapter.recordUsage("AAPL");
+        adapter.recordUsage("AAPL");
+        adapter.recordUsage("MSFT");
+
+        for (TrendingWindow window : TrendingWindow.values()) {
+            assertThat(adapter.topTrending(window, 10))
+                    .containsExactly(new TrendingStock("AAPL", 2), new TrendingStock("MSFT", 1));
+        }
+    }
+
+    @Test
+    @DisplayName("Should age events out of the short window while the longer windows keep them")
+    void shouldAgeOutOfShortWindow() {
+        adapter.recordUsage("AAPL");
+        clock.advance(Duration.ofMinutes(10));
+
+        assertThat(adapter.topTrending(TrendingWindow.FIVE_MINUTES, 10)).isEmpty();
+        assertThat(adapter.topTrending(TrendingWindow.ONE_HOUR, 10)).extracting(TrendingStock::symbol).containsExactly("AAPL");
+    }
+
+    @Test
+    @DisplayName("Should serve a cached snapshot within the snapshot TTL")
+    void shouldServeCachedSnapshot() {
+        adapter.recordUsage("AAPL");
+        assertThat(adapter.topTrending(TrendingWindow.ONE_HOUR, 10)).hasSize(1);
+
+        adapter.recordUsage("MSFT");
+        assertThat(adapter.topTrending(TrendingWindow.ONE_HOUR, 10)).hasSize(1);
+
+        clock.advance(Duration.ofMillis(InMemoryTrendingAdapter.SNAPSHOT_TTL_MILLIS));
+        assertThat(adapter.topTrending(TrendingWindow.ONE_HOUR, 10)).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Should ignore blank symbols and honour the limit")
+    void shouldIgnoreBlankSymbolsAndHonourLimit() {
+        adapter.recordUsage(" ");
+        adapter.recordUsage(null);
+        adapter.recordUsage("AAPL");
+        adapter.recordUsage("MSFT");
+        adapter.recordUsage("MSFT");
+
+        assertThat(adapter.topTrending(TrendingWindow.ONE_DAY, 1)).containsExactly(new TrendingStock("MSFT", 2));
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
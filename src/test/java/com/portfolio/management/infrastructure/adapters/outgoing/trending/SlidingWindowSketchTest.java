@@ -0,0 +1,95 @@
+package com.portfolio.management.infrastructure.adapters.outgoing.trending;
+
+import com.portfolio.management.domain.model.TrendingStock;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlidingWindowSketchTest {
+
+    private static final long BUCKET_MILLIS = 30_000;
+
+    @Test
+    @DisplayName("Should rank keys by their count within the window")
+    void shouldRankHeavyHitters() {
+        SlidingWindowSketch sketch = new SlidingWindowSketch(10, BUCKET_MILLIS, 1024, 64);
+        long now = 1_000_000;
+
+        record(sketch, "NVDA", 30, now);
+        record(sketch, "AAPL", 20, now + 1_000);
+        record(sketch, "MSFT", 10, now + 2_000);
+
+        List<TrendingStock> top = sketch.topK(2, now + 3_000);
+
+        assertThat(top).extracting(TrendingStock::symbol).containsExactly("NVDA", "AAPL");
+        assertThat(top.get(0).count()).isGreaterThanOrEqualTo(30);
+    }
+
+    @Test
+    @DisplayName("Should sum counts across the live buckets of the window")
+    void shouldSumAcrossBuckets() {
+        SlidingWindowSketch sketch = new SlidingWindowSketch(10, BUCKET_MILLIS, 1024, 64);
+        long now = 1_000_000;
+
+        record(sketch, "TSLA", 5, now);
+        record(sketch, "TSLA", 7, now + BUCKET_MILLIS);
+        record(sketch, "TSLA", 9, now + 2 * BUCKET_MILLIS);
+
+        List<TrendingStock> top = sketch.topK(5, now + 2 * BUCKET_MILLIS);
+
+        assertThat(top).containsExactly(new TrendingStock("TSLA", 21));
+    }
+
+    @Test
+    @DisplayName("Should forget events once they slide out of the window")
+    void shouldExpireOldBuckets() {
+        SlidingWindowSketch sketch = new SlidingWindowSketch(10, BUCKET_MILLIS, 1024, 64);
+        long now = 1_000_000;
+
+        record(sketch, "GME", 50, now);
+        record(sketch, "AMC", 3, now + 10 * BUCKET_MILLIS);
+
+        List<TrendingStock> top = sketch.topK(5, now + 10 * BUCKET_MILLIS);
+
+        assertThat(top).extracting(TrendingStock::symbol).containsExactly("AMC");
+    }
+
+    @Test
+    @DisplayName("Should keep heavy keys as candidates even when many light keys compete for slots")
+    void shouldKeepHeavyKeysUnderSlotPressure() {
+        SlidingWindowSketch sketch = new SlidingWindowSketch(1, BUCKET_MILLIS, 1024, 16);
+        long now = 1_000_000;
+
+        for (int i = 0; i < 500; i++) {
+            sketch.record("LIGHT" + i, now);
+        }
+        record(sketch, "HEAVY", 40, now);
+        for (int i = 500; i < 1000; i++) {
+            sketch.record("LIGHT" + i, now);
+        }
+
+        assertThat(sketch.topK(1, now)).extracting(TrendingStock::symbol).containsExactly("HEAVY");
+    }
+
+    @Test
+    @DisplayName("Should report a fixed memory footprint independent of traffic")
+    void shouldReportFixedMemory() {
+        SlidingWindowSketch sketch = new SlidingWindowSketch(12, BUCKET_MILLIS, 1000, 100);
+        long before = sketch.memoryBytes();
+
+        for (int i = 0; i < 10_000; i++) {
+            sketch.record("SYM" + i, 1_000_000);
+        }
+
+        assertThat(sketch.memoryBytes()).isEqualTo(before).isEqualTo(12L * (4 * 1024 * 8 + 128 * 4));
+    }
+
+    private static void record(SlidingWindowSketch sketch, String key, int times, long at) {
+        for (int i = 0; i < times; i++) {
+            sketch.record(key, at);
+        }
+    }
+}